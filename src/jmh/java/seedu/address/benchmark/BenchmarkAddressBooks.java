@@ -0,0 +1,63 @@
+package seedu.address.benchmark;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import seedu.address.model.AddressBook;
+import seedu.address.model.appointment.Appointment;
+import seedu.address.model.person.Address;
+import seedu.address.model.person.Email;
+import seedu.address.model.person.Level;
+import seedu.address.model.person.Name;
+import seedu.address.model.person.Note;
+import seedu.address.model.person.Person;
+import seedu.address.model.person.Phone;
+import seedu.address.model.util.SampleDataUtil;
+
+/**
+ * Generates address books of a given size for the benchmarks.
+ */
+public final class BenchmarkAddressBooks {
+
+    private static final String[] DAYS = {"MON", "TUE", "WED", "THU", "FRI", "SAT", "SUN"};
+    private static final String[] SUBJECTS = {"ENGLISH", "MATH", "SCIENCE", "MT"};
+    private static final String[] TAGS = {"weekday", "weekend", "sibling", "exam", "new"};
+    private static final int SLOTS_PER_DAY = 23;
+
+    private BenchmarkAddressBooks() {}
+
+    /**
+     * Returns an address book with {@code size} distinct persons.
+     * Persons are given one-hour appointments, without overlaps, until every hour of the week is taken.
+     */
+    public static AddressBook withPersons(int size) {
+        List<Person> persons = new ArrayList<>(size);
+        List<Appointment> appointments = new ArrayList<>();
+        for (int i = 0; i < size; i++) {
+            Person person = createPerson(i);
+            persons.add(person);
+            person.getAppointments().forEach(appointments::add);
+        }
+        // the generated persons are distinct by construction, so checking them would only slow down the setup
+        return AddressBook.ofUncheckedPersons(persons, appointments);
+    }
+
+    /**
+     * Returns the {@code i}-th generated person.
+     */
+    public static Person createPerson(int i) {
+        String[] appointments = i < DAYS.length * SLOTS_PER_DAY
+                ? new String[] {String.format("%02d:00-%02d:00 %s", i % SLOTS_PER_DAY, i % SLOTS_PER_DAY + 1,
+                        DAYS[i / SLOTS_PER_DAY])}
+                : new String[0];
+        return new Person(new Name("Student " + i),
+                new Phone(String.valueOf(80000000 + i)),
+                new Email("student" + i + "@example.com"),
+                new Address("Block " + i + ", Clementi Ave " + (i % 7)),
+                new Note("Prefers lessons in the " + (i % 2 == 0 ? "morning" : "evening")),
+                SampleDataUtil.getTagSet(TAGS[i % TAGS.length]),
+                SampleDataUtil.getAppointmentList(appointments),
+                SampleDataUtil.getSubjectSet(SUBJECTS[i % SUBJECTS.length], SUBJECTS[(i / 4) % SUBJECTS.length]),
+                Level.of("P" + (i % 6 + 1)));
+    }
+}
@@ -0,0 +1,37 @@
+package seedu.address.benchmark;
+
+import seedu.address.model.AddressBook;
+
+/**
+ * Prints the heap retained by an address book of generated persons.
+ * Run with e.g. {@code java -cp <jmh classpath> seedu.address.benchmark.HeapFootprint 100000}.
+ */
+public final class HeapFootprint {
+
+    private HeapFootprint() {}
+
+    /**
+     * Builds an address book of as many persons as the first argument gives, 100000 by default,
+     * and prints the heap it retains.
+     */
+    public static void main(String[] args) throws InterruptedException {
+        int size = args.length > 0 ? Integer.parseInt(args[0]) : 100000;
+
+        long before = usedHeapAfterGc();
+        AddressBook addressBook = BenchmarkAddressBooks.withPersons(size);
+        addressBook.getPersonList().forEach(person -> person.getTags());
+        long after = usedHeapAfterGc();
+
+        System.out.printf("%d persons retain %.1f MiB (%d bytes per person)%n", addressBook.getPersonList().size(),
+                (after - before) / (1024.0 * 1024.0), (after - before) / size);
+    }
+
+    private static long usedHeapAfterGc() throws InterruptedException {
+        Runtime runtime = Runtime.getRuntime();
+        for (int i = 0; i < 5; i++) {
+            System.gc();
+            Thread.sleep(100);
+        }
+        return runtime.totalMemory() - runtime.freeMemory();
+    }
+}
@@ -0,0 +1,116 @@
+package seedu.address.model;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import seedu.address.benchmark.BenchmarkAddressBooks;
+import seedu.address.model.appointment.Appointment;
+import seedu.address.model.person.LessonGroup;
+import seedu.address.model.person.Level;
+import seedu.address.model.person.Person;
+import seedu.address.model.person.PersonFilter;
+import seedu.address.model.person.Subject;
+
+/**
+ * Compares grouping the P5 math students for lessons through the subject and level index of {@link AddressBook} and
+ * a bitmap of each student's taken minutes with testing every person and trying each hour of the teaching week
+ * against the appointments of every member of a group.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@State(Scope.Benchmark)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgsAppend = {"-Xmx2g"})
+public class LessonGroupBenchmark {
+
+    private static final int MAX_GROUP_SIZE = 5;
+
+    @Param({"1000", "10000", "100000"})
+    private int size;
+
+    private AddressBook addressBook;
+    private Subject subject;
+    private Level level;
+    private List<Appointment> lessonSlots;
+
+    /**
+     * Creates an address book of {@code size} persons, with its index already built.
+     */
+    @Setup
+    public void setUp() {
+        addressBook = new AddressBook(BenchmarkAddressBooks.withPersons(size));
+        subject = Subject.of("MATH");
+        level = Level.of("P5");
+        lessonSlots = new ArrayList<>();
+        for (int day = 0; day < 7; day++) {
+            for (int hour = 8; hour < 22; hour++) {
+                int start = day * Appointment.MINUTES_PER_DAY + hour * 60;
+                lessonSlots.add(Appointment.fromMinutesOfWeek(start, start + 60));
+            }
+        }
+        addressBook.getPersonsMatching(new PersonFilter(Set.of(), Set.of(subject), Set.of(level)));
+    }
+
+    @Benchmark
+    public List<LessonGroup> indexAndBitmaps() {
+        return addressBook.findLessonGroups(subject, level);
+    }
+
+    @Benchmark
+    public List<List<Person>> testEachPersonAndHour() {
+        List<Person> candidates = addressBook.getPersonList().stream()
+                .filter(person -> person.getSubjects().contains(subject) && person.getLevel().equals(level))
+                .collect(Collectors.toList());
+        List<List<Person>> groups = new ArrayList<>();
+        for (Person candidate : candidates) {
+            List<Person> joined = null;
+            for (List<Person> group : groups) {
+                if (group.size() < MAX_GROUP_SIZE && hasLessonSlot(group, candidate)) {
+                    joined = group;
+                    break;
+                }
+            }
+            if (joined != null) {
+                joined.add(candidate);
+            } else {
+                groups.add(new ArrayList<>(List.of(candidate)));
+            }
+        }
+        groups.removeIf(group -> group.size() < 2);
+        return groups;
+    }
+
+    private boolean hasLessonSlot(List<Person> group, Person candidate) {
+        for (Appointment slot : lessonSlots) {
+            if (isFree(candidate, slot) && group.stream().allMatch(member -> isFree(member, slot))) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static boolean isFree(Person person, Appointment slot) {
+        for (Appointment appointment : person.getAppointments()) {
+            if (appointment.overlapsWith(slot)) {
+                return false;
+            }
+        }
+        return true;
+    }
+}
@@ -0,0 +1,65 @@
+package seedu.address.model;
+
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import seedu.address.benchmark.BenchmarkAddressBooks;
+import seedu.address.model.person.Level;
+import seedu.address.model.person.Person;
+import seedu.address.model.person.PersonFilter;
+import seedu.address.model.person.Subject;
+import seedu.address.model.tag.Tag;
+
+/**
+ * Compares finding the persons that a {@link PersonFilter} accepts through the tag, subject and level index of
+ * {@link AddressBook} with testing every person, for a filter like "the P5 and P6 math students tagged exam".
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@State(Scope.Benchmark)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgsAppend = {"-Xmx2g"})
+public class PersonFilterBenchmark {
+
+    @Param({"1000", "10000", "100000"})
+    private int size;
+
+    private AddressBook addressBook;
+    private PersonFilter filter;
+
+    /**
+     * Creates an address book of {@code size} persons, with its index already built.
+     */
+    @Setup
+    public void setUp() {
+        addressBook = new AddressBook(BenchmarkAddressBooks.withPersons(size));
+        filter = new PersonFilter(Set.of(Tag.of("exam")), Set.of(Subject.of("MATH")),
+                Set.of(Level.of("P5"), Level.of("P6")));
+        addressBook.getPersonsMatching(filter);
+    }
+
+    @Benchmark
+    public List<Person> index() {
+        return addressBook.getPersonsMatching(filter);
+    }
+
+    @Benchmark
+    public List<Person> testEachPerson() {
+        return addressBook.getPersonList().stream().filter(filter).collect(Collectors.toList());
+    }
+}
@@ -0,0 +1,71 @@
+package seedu.address.model;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import seedu.address.benchmark.BenchmarkAddressBooks;
+import seedu.address.model.person.NameContainsKeywordsPredicate;
+import seedu.address.model.person.Person;
+import seedu.address.model.person.SearchKeywordsPredicate;
+
+/**
+ * Compares finding persons through the word index of {@link AddressBook} with testing every person against the
+ * same keywords, and with the whole-word name matching of {@code find}.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@State(Scope.Benchmark)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgsAppend = {"-Xmx2g"})
+public class PersonSearchBenchmark {
+
+    @Param({"1000", "10000", "100000"})
+    private int size;
+
+    private AddressBook addressBook;
+    private SearchKeywordsPredicate searchPredicate;
+    private NameContainsKeywordsPredicate findPredicate;
+
+    /**
+     * Creates an address book of {@code size} persons, with its index already built.
+     */
+    @Setup
+    public void setUp() {
+        addressBook = new AddressBook(BenchmarkAddressBooks.withPersons(size));
+        String number = String.valueOf(size / 100 + 1);
+        // the persons whose number starts with that of the first person after the first hundredth of the book,
+        // of whom only those on Clementi Ave 3 match
+        searchPredicate = new SearchKeywordsPredicate(List.of("stud", number, "clem", "3"));
+        findPredicate = new NameContainsKeywordsPredicate(List.of(number));
+        addressBook.getPersonsMatching(searchPredicate);
+    }
+
+    @Benchmark
+    public List<Person> index() {
+        return addressBook.getPersonsMatching(searchPredicate);
+    }
+
+    @Benchmark
+    public List<Person> testEachPerson() {
+        return addressBook.getPersonList().stream().filter(searchPredicate).collect(Collectors.toList());
+    }
+
+    @Benchmark
+    public List<Person> findByName() {
+        return addressBook.getPersonList().stream().filter(findPredicate).collect(Collectors.toList());
+    }
+}
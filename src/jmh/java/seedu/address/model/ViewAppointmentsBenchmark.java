@@ -0,0 +1,77 @@
+package seedu.address.model;
+
+import java.time.DayOfWeek;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import javafx.util.Pair;
+import seedu.address.benchmark.BenchmarkAddressBooks;
+import seedu.address.model.appointment.Appointment;
+import seedu.address.model.appointment.AppointmentIsDayOfWeekPredicate;
+
+/**
+ * Compares listing the appointments on some days of the week, with their owners, by walking the sorted appointments
+ * of the address book with listing them by collecting and sorting the appointments of every person shown.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@State(Scope.Benchmark)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgsAppend = {"-Xmx2g"})
+public class ViewAppointmentsBenchmark {
+
+    @Param({"1000", "10000", "100000"})
+    private int size;
+
+    private Model model;
+    private AppointmentIsDayOfWeekPredicate predicate;
+
+    /**
+     * Creates a model of {@code size} persons, with its index of appointment owners already built.
+     */
+    @Setup
+    public void setUp() {
+        model = new ModelManager(BenchmarkAddressBooks.withPersons(size), new UserPrefs());
+        predicate = new AppointmentIsDayOfWeekPredicate(List.of(DayOfWeek.MONDAY, DayOfWeek.WEDNESDAY));
+        appointmentIndex();
+    }
+
+    @Benchmark
+    public String appointmentIndex() {
+        StringBuilder sb = new StringBuilder();
+        for (Appointment appointment : model.getFilteredAppointmentsOn(predicate.getDays())) {
+            sb.append(model.getAppointmentOwner(appointment).getName()).append(": ").append(appointment).append("\n");
+        }
+        return sb.toString();
+    }
+
+    @Benchmark
+    public String sortAppointmentsOfEachPerson() {
+        List<String> appointments = model.getFilteredPersonList().stream()
+                .flatMap(person -> person.getAppointments().asUnmodifiableObservableList().stream()
+                        .filter(predicate)
+                        .map(appointment -> new Pair<>(appointment, person.getName().toString())))
+                .sorted((o1, o2) -> o1.getKey().compareTo(o2.getKey()))
+                .map(pair -> pair.getValue() + ": " + pair.getKey().toString())
+                .collect(Collectors.toList());
+        StringBuilder sb = new StringBuilder();
+        for (String appointment : appointments) {
+            sb.append(appointment).append("\n");
+        }
+        return sb.toString();
+    }
+}
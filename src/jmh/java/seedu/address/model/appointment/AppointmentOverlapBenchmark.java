@@ -0,0 +1,83 @@
+package seedu.address.model.appointment;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Compares the sweep in {@link Appointment#hasOverlapping} with comparing every pair of appointments, for
+ * timetables ranging from a single student's to a whole centre's.
+ * The appointments do not overlap, so every appointment has to be checked.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@State(Scope.Benchmark)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgsAppend = {"-Xmx2g"})
+public class AppointmentOverlapBenchmark {
+
+    private static final String[] DAYS = {"MON", "TUE", "WED", "THU", "FRI", "SAT", "SUN"};
+    private static final int MINUTES_PER_DAY = 24 * 60 - 1;
+
+    @Param({"10", "100", "1000"})
+    private int size;
+
+    private List<Appointment> appointments;
+
+    /**
+     * Splits the week into {@code size} back-to-back appointments, in random order.
+     */
+    @Setup
+    public void setUp() {
+        int perDay = (size + DAYS.length - 1) / DAYS.length;
+        int length = MINUTES_PER_DAY / perDay;
+        appointments = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            int start = (i % perDay) * length;
+            appointments.add(new Appointment(String.format("%s-%s %s", toTime(start), toTime(start + length),
+                    DAYS[i / perDay])));
+        }
+        Collections.shuffle(appointments, new Random(size));
+    }
+
+    private static String toTime(int minuteOfDay) {
+        return String.format("%02d:%02d", minuteOfDay / 60, minuteOfDay % 60);
+    }
+
+    @Benchmark
+    public boolean sweep() {
+        return Appointment.hasOverlapping(appointments);
+    }
+
+    @Benchmark
+    public boolean findConflicts() {
+        return Appointment.findConflicts(appointments).isEmpty();
+    }
+
+    @Benchmark
+    public boolean everyPair() {
+        for (int i = 0; i < appointments.size() - 1; i++) {
+            for (int j = i + 1; j < appointments.size(); j++) {
+                if (appointments.get(i).overlapsWith(appointments.get(j))) {
+                    return true;
+                }
+            }
+        }
+        return false;
+    }
+}
@@ -0,0 +1,85 @@
+package seedu.address.model.appointment;
+
+import java.time.LocalTime;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+/**
+ * Measures parsing the appointments of a bulk import, with {@link Appointment#of(String)}, with the
+ * {@link Appointment#Appointment(String) constructor}, and with the regular expression and {@code LocalTime}
+ * parsing that {@code Appointment} used before.
+ * Lessons mostly start on the hour or half hour, so many of the appointments are for the same slots.
+ * Run with {@code -prof gc} to also compare the allocations.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@State(Scope.Benchmark)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgsAppend = {"-Xmx2g"})
+public class AppointmentParseBenchmark {
+
+    private static final String[] DAYS = {"MON", "TUE", "WED", "THU", "FRI", "SAT", "SUN"};
+
+    @Param({"10000", "100000"})
+    private int size;
+
+    private String[] texts;
+
+    /**
+     * Generates the text of {@code size} appointments of one to two hours starting on the half hour.
+     */
+    @Setup
+    public void setUp() {
+        Random random = new Random(size);
+        texts = new String[size];
+        for (int i = 0; i < size; i++) {
+            int start = 8 * 60 + random.nextInt(24) * 30;
+            int end = start + 60 + random.nextInt(3) * 30;
+            texts[i] = String.format("%02d:%02d-%02d:%02d %s", start / 60, start % 60, end / 60, end % 60,
+                    DAYS[random.nextInt(DAYS.length)]);
+        }
+    }
+
+    @Benchmark
+    public void parseShared(Blackhole blackhole) {
+        for (String text : texts) {
+            blackhole.consume(Appointment.of(text));
+        }
+    }
+
+    @Benchmark
+    public void parseNew(Blackhole blackhole) {
+        for (String text : texts) {
+            blackhole.consume(new Appointment(text));
+        }
+    }
+
+    @Benchmark
+    public void parseWithRegex(Blackhole blackhole) {
+        for (String text : texts) {
+            if (!text.matches(Appointment.VALIDATION_REGEX)) {
+                throw new IllegalArgumentException(text);
+            }
+            // validating and then constructing parsed each time twice
+            for (int i = 0; i < 2; i++) {
+                blackhole.consume(LocalTime.parse(text.substring(0, 5)));
+                blackhole.consume(LocalTime.parse(text.substring(6, 11)));
+                blackhole.consume(Appointment.DAY_TO_DAY_OF_WEEK.get(text.substring(12).trim().toUpperCase()));
+            }
+        }
+    }
+}
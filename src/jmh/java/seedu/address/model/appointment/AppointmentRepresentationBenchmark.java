@@ -0,0 +1,139 @@
+package seedu.address.model.appointment;
+
+import java.time.DayOfWeek;
+import java.time.LocalTime;
+import java.util.Arrays;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Compares sorting and conflict-checking appointments held as minutes of the week with the same operations on
+ * appointments held as text, times and a day, as {@link Appointment} used to be.
+ * Run with {@code -prof gc} to also compare the allocations.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@State(Scope.Benchmark)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgsAppend = {"-Xmx2g"})
+public class AppointmentRepresentationBenchmark {
+
+    private static final String[] DAYS = {"MON", "TUE", "WED", "THU", "FRI", "SAT", "SUN"};
+
+    @Param({"100000"})
+    private int size;
+
+    private Appointment[] appointments;
+    private TextAppointment[] textAppointments;
+
+    /**
+     * Generates {@code size} random appointments of up to three hours, in both representations.
+     */
+    @Setup
+    public void setUp() {
+        Random random = new Random(size);
+        appointments = new Appointment[size];
+        textAppointments = new TextAppointment[size];
+        for (int i = 0; i < size; i++) {
+            int start = random.nextInt(20 * 60);
+            int end = start + 1 + random.nextInt(3 * 60);
+            String value = String.format("%02d:%02d-%02d:%02d %s", start / 60, start % 60, end / 60, end % 60,
+                    DAYS[random.nextInt(DAYS.length)]);
+            appointments[i] = new Appointment(value);
+            textAppointments[i] = new TextAppointment(value);
+        }
+    }
+
+    @Benchmark
+    public Appointment[] sort() {
+        Appointment[] sorted = appointments.clone();
+        Arrays.sort(sorted);
+        return sorted;
+    }
+
+    @Benchmark
+    public TextAppointment[] sortText() {
+        TextAppointment[] sorted = textAppointments.clone();
+        Arrays.sort(sorted);
+        return sorted;
+    }
+
+    @Benchmark
+    public int countConflicts() {
+        Appointment[] sorted = sort();
+        int conflicts = 0;
+        for (int i = 1; i < sorted.length; i++) {
+            if (sorted[i - 1].overlapsWith(sorted[i])) {
+                conflicts++;
+            }
+        }
+        return conflicts;
+    }
+
+    @Benchmark
+    public int countConflictsText() {
+        TextAppointment[] sorted = sortText();
+        int conflicts = 0;
+        for (int i = 1; i < sorted.length; i++) {
+            if (sorted[i - 1].overlapsWith(sorted[i])) {
+                conflicts++;
+            }
+        }
+        return conflicts;
+    }
+
+    /**
+     * An appointment held as its text, its start and end times and its day.
+     */
+    static class TextAppointment implements Comparable<TextAppointment> {
+        private final String value;
+        private final LocalTime startTime;
+        private final LocalTime endTime;
+        private final DayOfWeek day;
+
+        TextAppointment(String appointment) {
+            value = appointment.toUpperCase();
+            startTime = LocalTime.parse(appointment.substring(0, 5));
+            endTime = LocalTime.parse(appointment.substring(6, 11));
+            day = Appointment.DAY_TO_DAY_OF_WEEK.get(appointment.substring(12).trim().toUpperCase());
+        }
+
+        boolean overlapsWith(TextAppointment other) {
+            return day == other.day && startTime.isBefore(other.endTime) && other.startTime.isBefore(endTime);
+        }
+
+        @Override
+        public int compareTo(TextAppointment o) {
+            if (Appointment.DAY_OF_WEEK_TO_NUM.get(day) < Appointment.DAY_OF_WEEK_TO_NUM.get(o.day)) {
+                return -1;
+            } else if (Appointment.DAY_OF_WEEK_TO_NUM.get(day) > Appointment.DAY_OF_WEEK_TO_NUM.get(o.day)) {
+                return 1;
+            } else {
+                return startTime.compareTo(o.startTime);
+            }
+        }
+
+        @Override
+        public boolean equals(Object other) {
+            return other instanceof TextAppointment && value.equals(((TextAppointment) other).value);
+        }
+
+        @Override
+        public int hashCode() {
+            return value.hashCode();
+        }
+    }
+}
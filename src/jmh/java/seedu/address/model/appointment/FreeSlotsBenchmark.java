@@ -0,0 +1,98 @@
+package seedu.address.model.appointment;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Compares finding the free slots of an afternoon through the occupancy bitmap of {@link DisjointAppointmentList}
+ * with walking the appointments in the afternoon through its interval index and walking every appointment of the
+ * week, for timetables of up to a few thousand lessons a week.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@State(Scope.Benchmark)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgsAppend = {"-Xmx2g"})
+public class FreeSlotsBenchmark {
+
+    private static final int MINUTES_PER_DAY = 24 * 60 - 1;
+
+    @Param({"100", "1000", "3000"})
+    private int size;
+
+    private DisjointAppointmentList appointments;
+    private AppointmentIndex index;
+    private Appointment window;
+
+    /**
+     * Spreads {@code size} appointments evenly over the week, each taking half of its share of the day.
+     */
+    @Setup
+    public void setUp() {
+        int perDay = (size + 6) / 7;
+        int share = MINUTES_PER_DAY / perDay;
+        List<Appointment> appointmentList = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            int start = (i / perDay) * Appointment.MINUTES_PER_DAY + (i % perDay) * share;
+            appointmentList.add(Appointment.fromMinutesOfWeek(start, start + Math.max(1, share / 2)));
+        }
+        appointments = new DisjointAppointmentList();
+        appointments.setAppointments(appointmentList);
+        index = new AppointmentIndex();
+        index.addAll(appointmentList);
+        window = new Appointment("14:00-20:00 WED");
+    }
+
+    @Benchmark
+    public List<Appointment> occupancyBitmap() {
+        return appointments.getFreeSlots(window, 1);
+    }
+
+    @Benchmark
+    public List<Appointment> intervalIndex() {
+        return getFreeSlots(index.getOverlapping(window));
+    }
+
+    @Benchmark
+    public List<Appointment> walkEveryAppointment() {
+        List<Appointment> overlapping = new ArrayList<>();
+        for (Appointment appointment : appointments) {
+            if (appointment.overlapsWith(window)) {
+                overlapping.add(appointment);
+            }
+        }
+        return getFreeSlots(overlapping);
+    }
+
+    /**
+     * Returns the free slots within the window between {@code overlapping}, the appointments overlapping it in order.
+     */
+    private List<Appointment> getFreeSlots(List<Appointment> overlapping) {
+        List<Appointment> freeSlots = new ArrayList<>();
+        int freeFrom = window.getStartMinuteOfWeek();
+        for (Appointment appointment : overlapping) {
+            if (appointment.getStartMinuteOfWeek() > freeFrom) {
+                freeSlots.add(Appointment.fromMinutesOfWeek(freeFrom, appointment.getStartMinuteOfWeek()));
+            }
+            freeFrom = Math.max(freeFrom, appointment.getEndMinuteOfWeek());
+        }
+        if (window.getEndMinuteOfWeek() > freeFrom) {
+            freeSlots.add(Appointment.fromMinutesOfWeek(freeFrom, window.getEndMinuteOfWeek()));
+        }
+        return freeSlots;
+    }
+}
@@ -0,0 +1,116 @@
+package seedu.address.model.appointment;
+
+import java.time.DayOfWeek;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Compares checking slots for conflicts and counting the booked minutes of each day through the occupancy bitmap of
+ * {@link DisjointAppointmentList} with doing so through its interval index and by streaming over every appointment.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@State(Scope.Benchmark)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgsAppend = {"-Xmx2g"})
+public class OccupancyBenchmark {
+
+    private static final int MINUTES_PER_DAY = 24 * 60 - 1;
+    private static final int QUERIES = 1000;
+
+    @Param({"100", "1000", "3000"})
+    private int size;
+
+    private DisjointAppointmentList appointments;
+    private AppointmentIndex index;
+    private List<Appointment> slots;
+
+    /**
+     * Spreads {@code size} appointments evenly over the week, each taking half of its share of the day, and picks
+     * one-hour slots to check at random.
+     */
+    @Setup
+    public void setUp() {
+        int perDay = (size + 6) / 7;
+        int share = MINUTES_PER_DAY / perDay;
+        List<Appointment> appointmentList = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            int start = (i / perDay) * Appointment.MINUTES_PER_DAY + (i % perDay) * share;
+            appointmentList.add(Appointment.fromMinutesOfWeek(start, start + Math.max(1, share / 2)));
+        }
+        appointments = new DisjointAppointmentList();
+        appointments.setAppointments(appointmentList);
+        index = new AppointmentIndex();
+        index.addAll(appointmentList);
+
+        Random random = new Random(size);
+        slots = new ArrayList<>(QUERIES);
+        for (int i = 0; i < QUERIES; i++) {
+            int start = random.nextInt(7) * Appointment.MINUTES_PER_DAY + random.nextInt(MINUTES_PER_DAY - 60);
+            slots.add(Appointment.fromMinutesOfWeek(start, start + 60));
+        }
+    }
+
+    @Benchmark
+    public int overlapsOccupancyBitmap() {
+        int overlapping = 0;
+        for (Appointment slot : slots) {
+            overlapping += appointments.overlaps(slot) ? 1 : 0;
+        }
+        return overlapping;
+    }
+
+    @Benchmark
+    public int overlapsIntervalIndex() {
+        int overlapping = 0;
+        for (Appointment slot : slots) {
+            overlapping += index.overlaps(slot) ? 1 : 0;
+        }
+        return overlapping;
+    }
+
+    @Benchmark
+    public int overlapsStreamScan() {
+        int overlapping = 0;
+        for (Appointment slot : slots) {
+            overlapping += appointments.asUnmodifiableObservableList().stream().anyMatch(slot::overlapsWith) ? 1 : 0;
+        }
+        return overlapping;
+    }
+
+    @Benchmark
+    public int bookedMinutesOccupancyBitmap() {
+        int bookedMinutes = 0;
+        for (DayOfWeek day : DayOfWeek.values()) {
+            bookedMinutes += appointments.getBookedMinutes(day);
+        }
+        return bookedMinutes;
+    }
+
+    @Benchmark
+    public int bookedMinutesStreamScan() {
+        int bookedMinutes = 0;
+        for (DayOfWeek day : DayOfWeek.values()) {
+            bookedMinutes += appointments.asUnmodifiableObservableList().stream()
+                    .filter(appointment -> appointment.getDay() == day)
+                    .mapToInt(appointment -> appointment.getEndMinuteOfWeek() - appointment.getStartMinuteOfWeek())
+                    .sum();
+        }
+        return bookedMinutes;
+    }
+}
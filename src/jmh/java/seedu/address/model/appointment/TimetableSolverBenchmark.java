@@ -0,0 +1,89 @@
+package seedu.address.model.appointment;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Compares scheduling a queue of lesson requests with {@link TimetableSolver} with giving each request in turn the
+ * first free slot in its windows, on a week where every other hour from 08:00 to 22:00 is taken, so that the
+ * afternoons have room for 28 lessons of 45 minutes. Half the requests may be held on any afternoon and half on
+ * only one, so the first fit gives the early afternoons of the week to the former and leaves some of the latter
+ * unscheduled.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@State(Scope.Benchmark)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgsAppend = {"-Xmx2g"})
+public class TimetableSolverBenchmark {
+
+    @Param({"7", "14", "28"})
+    private int size;
+
+    private AppointmentOccupancy taken;
+    private List<LessonRequest> requests;
+
+    /**
+     * Takes every other hour of the teaching day, and asks for {@code size} lessons of 45 minutes, every other one
+     * on any afternoon and the others on the afternoon of one day.
+     */
+    @Setup
+    public void setUp() {
+        taken = new AppointmentOccupancy();
+        for (int day = 0; day < 7; day++) {
+            for (int hour = 8 + day % 2; hour < 22; hour += 2) {
+                int start = day * Appointment.MINUTES_PER_DAY + hour * 60;
+                taken.add(Appointment.fromMinutesOfWeek(start, start + 60));
+            }
+        }
+        List<Appointment> afternoons = new ArrayList<>();
+        for (int day = 0; day < 7; day++) {
+            afternoons.add(getAfternoon(day));
+        }
+        requests = new ArrayList<>();
+        for (int i = 0; i < size; i++) {
+            requests.add(new LessonRequest(45, i % 2 == 0 ? afternoons : List.of(afternoons.get(i / 2 % 7))));
+        }
+    }
+
+    @Benchmark
+    public List<Optional<Appointment>> branchAndBound() {
+        return TimetableSolver.solve(taken, requests);
+    }
+
+    @Benchmark
+    public List<Optional<Appointment>> firstFitInOrder() {
+        AppointmentOccupancy occupancy = new AppointmentOccupancy(taken);
+        List<Optional<Appointment>> slots = new ArrayList<>();
+        for (LessonRequest request : requests) {
+            Optional<Appointment> slot = request.getWindows().stream()
+                    .flatMap(window -> occupancy.getFreeSlots(window, request.getDuration()).stream())
+                    .findFirst()
+                    .map(freeSlot -> Appointment.fromMinutesOfWeek(freeSlot.getStartMinuteOfWeek(),
+                            freeSlot.getStartMinuteOfWeek() + request.getDuration()));
+            slot.ifPresent(occupancy::add);
+            slots.add(slot);
+        }
+        return slots;
+    }
+
+    private static Appointment getAfternoon(int day) {
+        int dayStart = day * Appointment.MINUTES_PER_DAY;
+        return Appointment.fromMinutesOfWeek(dayStart + 14 * 60, dayStart + 22 * 60);
+    }
+}
@@ -0,0 +1,66 @@
+package seedu.address.model.person;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import seedu.address.benchmark.BenchmarkAddressBooks;
+
+/**
+ * Compares finding the probable duplicates in a whole list of persons through {@link DuplicateFinder} with looking
+ * up the near duplicates of each person in turn.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@State(Scope.Benchmark)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgsAppend = {"-Xmx2g"})
+public class DedupeBenchmark {
+
+    @Param({"1000", "10000", "100000"})
+    private int size;
+
+    private List<Person> personList;
+    private UniquePersonList persons;
+
+    /**
+     * Creates a list of {@code size} persons, with its index of similar names already built.
+     */
+    @Setup
+    public void setUp() {
+        personList = new ArrayList<>();
+        for (int i = 0; i < size; i++) {
+            personList.add(BenchmarkAddressBooks.createPerson(i));
+        }
+        persons = new UniquePersonList();
+        persons.setPersons(personList);
+        persons.findNearDuplicates(personList.get(0));
+    }
+
+    @Benchmark
+    public List<DuplicateCandidate> duplicateFinder() {
+        return DuplicateFinder.findDuplicates(personList);
+    }
+
+    @Benchmark
+    public int nearDuplicatesOfEachPerson() {
+        int nearDuplicates = 0;
+        for (Person person : personList) {
+            nearDuplicates += persons.findNearDuplicates(person).size() - 1;
+        }
+        return nearDuplicates;
+    }
+}
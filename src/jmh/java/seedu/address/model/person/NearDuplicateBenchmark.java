@@ -0,0 +1,107 @@
+package seedu.address.model.person;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import seedu.address.benchmark.BenchmarkAddressBooks;
+
+/**
+ * Compares finding the names within an edit or two of a misspelt name through the similarity index of
+ * {@link UniquePersonList} with comparing it with every name, and with the previous scan that normalized every
+ * name with a regex and only found names differing in case and whitespace.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@State(Scope.Benchmark)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgsAppend = {"-Xmx2g"})
+public class NearDuplicateBenchmark {
+
+    private static final String[] SYLLABLES = {"an", "bel", "chi", "da", "en", "fa", "go", "hui", "in", "jo", "ka",
+        "li", "mei", "na", "or", "pe"};
+
+    @Param({"1000", "10000", "100000"})
+    private int size;
+
+    private UniquePersonList persons;
+    private Person toCheck;
+
+    /**
+     * Creates a list of {@code size} persons with varied names, with its index already built, and a person whose
+     * name is that of one of them with a letter changed.
+     */
+    @Setup
+    public void setUp() {
+        List<Person> personList = new ArrayList<>();
+        for (int i = 0; i < size; i++) {
+            personList.add(withName(BenchmarkAddressBooks.createPerson(i), createName(i)));
+        }
+        persons = new UniquePersonList();
+        persons.setPersons(personList);
+
+        String misspelt = createName(size / 2).replaceFirst("a", "e");
+        toCheck = withName(personList.get(0), misspelt);
+        persons.findNearDuplicates(toCheck);
+    }
+
+    @Benchmark
+    public List<String> index() {
+        return persons.findNearDuplicates(toCheck);
+    }
+
+    @Benchmark
+    public List<String> compareEachName() {
+        String key = toCheck.getName().getNormalizedName();
+        int maxDistance = Math.min(2, key.length() / 5);
+        List<String> nearDuplicates = new ArrayList<>();
+        for (Person person : persons) {
+            if (NameSimilarityIndex.distance(key, person.getName().getNormalizedName()) <= maxDistance) {
+                nearDuplicates.add(person.getName().fullName);
+            }
+        }
+        return nearDuplicates;
+    }
+
+    @Benchmark
+    public List<String> regexScan() {
+        String key = toCheck.getName().fullName.trim().replaceAll("\\s+", "").toLowerCase();
+        List<String> nearDuplicates = new ArrayList<>();
+        for (String name : persons.getAllNames()) {
+            if (key.equals(name.trim().replaceAll("\\s+", "").toLowerCase())) {
+                nearDuplicates.add(name);
+            }
+        }
+        return nearDuplicates;
+    }
+
+    private static Person withName(Person person, String name) {
+        return new Person(new Name(name), person.getPhone(), person.getEmail(), person.getAddress(),
+                person.getNote(), person.getTags(), person.getAppointments(), person.getSubjects(), person.getLevel());
+    }
+
+    /**
+     * Returns a name of two words built from the base-16 digits of {@code i}, so that names are distinct.
+     */
+    private static String createName(int i) {
+        return capitalize(SYLLABLES[i & 15] + SYLLABLES[i >> 4 & 15] + SYLLABLES[i >> 8 & 15]) + " "
+                + capitalize(SYLLABLES[i >> 12 & 15] + SYLLABLES[i >> 16 & 15]);
+    }
+
+    private static String capitalize(String word) {
+        return Character.toUpperCase(word.charAt(0)) + word.substring(1);
+    }
+}
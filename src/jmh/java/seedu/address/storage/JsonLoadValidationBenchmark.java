@@ -0,0 +1,53 @@
+package seedu.address.storage;
+
+import java.io.IOException;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import seedu.address.benchmark.BenchmarkAddressBooks;
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.commons.util.JsonUtil;
+import seedu.address.model.AddressBook;
+
+/**
+ * Measures converting a deserialized JSON address book into the model, which checks that its persons are unique
+ * and that their appointments do not overlap.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@State(Scope.Benchmark)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgsAppend = {"-Xmx2g"})
+public class JsonLoadValidationBenchmark {
+
+    @Param({"1000", "10000", "100000"})
+    private int size;
+
+    private JsonSerializableAddressBook serializableAddressBook;
+
+    /**
+     * Deserializes an address book of {@code size} persons, leaving only the conversion to be measured.
+     */
+    @Setup
+    public void setUp() throws IOException {
+        String json = JsonUtil.toJsonString(new JsonSerializableAddressBook(BenchmarkAddressBooks.withPersons(size)));
+        serializableAddressBook = JsonUtil.fromJsonString(json, JsonSerializableAddressBook.class);
+    }
+
+    @Benchmark
+    public AddressBook toModelType() throws IllegalValueException {
+        return serializableAddressBook.toModelType();
+    }
+}
@@ -0,0 +1,96 @@
+package seedu.address.storage;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParser;
+
+import seedu.address.benchmark.BenchmarkAddressBooks;
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.commons.util.FileUtil;
+import seedu.address.commons.util.JsonUtil;
+import seedu.address.model.AddressBook;
+
+/**
+ * Compares loading and saving the address book through intermediate {@code String}s with the streaming path.
+ * Run with the {@code gc} profiler (enabled in build.gradle) and compare {@code gc.alloc.rate.norm}, the bytes
+ * allocated per operation, between the two paths.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@State(Scope.Benchmark)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgsAppend = {"-Xmx2g"})
+public class JsonStreamingBenchmark {
+
+    @Param({"1000", "10000"})
+    private int size;
+
+    private Path directory;
+    private Path file;
+    private AddressBook addressBook;
+
+    /**
+     * Writes an address book of {@code size} persons to read back in the load benchmarks.
+     */
+    @Setup
+    public void setUp() throws IOException {
+        directory = Files.createTempDirectory("json-streaming-benchmark");
+        file = directory.resolve("addressbook.json");
+        addressBook = BenchmarkAddressBooks.withPersons(size);
+        FileUtil.writeToFile(file, JsonUtil.toJsonString(new JsonSerializableAddressBook(addressBook)));
+    }
+
+    /**
+     * Deletes the files written by the benchmark.
+     */
+    @TearDown
+    public void tearDown() throws IOException {
+        Files.deleteIfExists(file);
+        Files.deleteIfExists(directory);
+    }
+
+    @Benchmark
+    public AddressBook loadViaString() throws IOException, IllegalValueException {
+        return JsonUtil.fromJsonString(FileUtil.readFromFile(file), JsonSerializableAddressBook.class)
+                .toModelType();
+    }
+
+    @Benchmark
+    public AddressBook loadStreaming() throws IOException, IllegalValueException {
+        try (JsonParser parser = JsonUtil.createParser(file)) {
+            return JsonSerializableAddressBook.read(parser);
+        }
+    }
+
+    @Benchmark
+    public void saveViaString() throws IOException {
+        FileUtil.writeToFile(file, JsonUtil.toJsonString(new JsonSerializableAddressBook(addressBook)));
+    }
+
+    @Benchmark
+    public void saveStreaming() throws IOException {
+        try (OutputStream out = Files.newOutputStream(file);
+                JsonGenerator generator = JsonUtil.createGenerator(out)) {
+            JsonSerializableAddressBook.write(addressBook, generator);
+        }
+    }
+}
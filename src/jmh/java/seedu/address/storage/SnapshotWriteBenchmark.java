@@ -0,0 +1,74 @@
+package seedu.address.storage;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import seedu.address.benchmark.BenchmarkAddressBooks;
+import seedu.address.commons.util.FileUtil;
+import seedu.address.commons.util.JsonUtil;
+
+/**
+ * Measures the latency added by writing the address book file atomically (temp file, fsync, rename and keeping
+ * the previous generation) compared to overwriting it in place.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@State(Scope.Benchmark)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class SnapshotWriteBenchmark {
+
+    @Param({"100", "1000", "10000"})
+    private int size;
+
+    private Path directory;
+    private Path file;
+    private String json;
+
+    /**
+     * Serializes an address book of {@code size} persons once, so that only the file writes are measured.
+     */
+    @Setup
+    public void setUp() throws IOException {
+        directory = Files.createTempDirectory("snapshot-write-benchmark");
+        file = directory.resolve("addressbook.json");
+        json = JsonUtil.toJsonString(new JsonSerializableAddressBook(BenchmarkAddressBooks.withPersons(size)));
+        FileUtil.writeToFile(file, json);
+    }
+
+    /**
+     * Deletes the files written by the benchmark.
+     */
+    @TearDown
+    public void tearDown() throws IOException {
+        Files.deleteIfExists(JsonAddressBookStorage.getPreviousGenerationPath(file));
+        Files.deleteIfExists(file);
+        Files.deleteIfExists(directory);
+    }
+
+    @Benchmark
+    public void overwriteInPlace() throws IOException {
+        FileUtil.writeToFile(file, json);
+    }
+
+    @Benchmark
+    public void writeAtomically() throws IOException {
+        FileUtil.writeToFileAtomically(file, json, JsonAddressBookStorage.getPreviousGenerationPath(file));
+    }
+}
@@ -0,0 +1,91 @@
+package seedu.address.storage;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import seedu.address.benchmark.BenchmarkAddressBooks;
+import seedu.address.commons.exceptions.DataLoadingException;
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.model.ModelManager;
+import seedu.address.model.ReadOnlyAddressBook;
+import seedu.address.model.UserPrefs;
+import seedu.address.model.person.Person;
+
+/**
+ * Measures the time from reading a binary address book file to having the persons of the first screen of the
+ * person list, with persons decoded lazily as they are accessed and with every person decoded up front.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@State(Scope.Benchmark)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgsAppend = {"-Xmx2g"})
+public class StartupBenchmark {
+
+    /** Roughly the number of persons shown in the person list when the application starts. */
+    private static final int FIRST_SCREEN_SIZE = 20;
+
+    @Param({"1000", "10000", "100000"})
+    private int size;
+
+    private Path directory;
+    private BinaryAddressBookStorage storage;
+
+    /**
+     * Saves an address book of {@code size} persons in the binary format.
+     */
+    @Setup
+    public void setUp() throws IOException {
+        directory = Files.createTempDirectory("startup-benchmark");
+        storage = new BinaryAddressBookStorage(directory.resolve("addressbook.bin"));
+        storage.saveAddressBook(BenchmarkAddressBooks.withPersons(size));
+    }
+
+    /**
+     * Deletes the files written by the benchmark.
+     */
+    @TearDown
+    public void tearDown() throws IOException {
+        Path file = storage.getAddressBookFilePath();
+        Files.deleteIfExists(file);
+        Files.deleteIfExists(BinaryAddressBookStorage.getPreviousGenerationPath(file));
+        Files.deleteIfExists(directory);
+    }
+
+    @Benchmark
+    public void startLazily(Blackhole blackhole) throws DataLoadingException {
+        showFirstScreen(storage.readAddressBook().get(), blackhole);
+    }
+
+    @Benchmark
+    public void startEagerly(Blackhole blackhole) throws IOException, IllegalValueException {
+        ByteBuffer contents = ByteBuffer.wrap(Files.readAllBytes(storage.getAddressBookFilePath()));
+        showFirstScreen(BinaryAddressBookFormat.read(contents), blackhole);
+    }
+
+    private static void showFirstScreen(ReadOnlyAddressBook addressBook, Blackhole blackhole) {
+        List<Person> shown = new ModelManager(addressBook, new UserPrefs()).getFilteredPersonList();
+        for (int i = 0; i < Math.min(FIRST_SCREEN_SIZE, shown.size()); i++) {
+            blackhole.consume(shown.get(i));
+        }
+    }
+}
@@ -0,0 +1,94 @@
+package seedu.address.storage;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import seedu.address.benchmark.BenchmarkAddressBooks;
+import seedu.address.commons.exceptions.DataLoadingException;
+import seedu.address.model.AddressBook;
+import seedu.address.model.ReadOnlyAddressBook;
+
+/**
+ * Compares the load and save times of the JSON and binary address book formats.
+ * The file size of each format is printed during setup.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@State(Scope.Benchmark)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgsAppend = {"-Xmx2g"})
+public class StorageFormatBenchmark {
+
+    @Param({"1000", "10000"})
+    private int size;
+
+    private Path directory;
+    private AddressBook addressBook;
+    private JsonAddressBookStorage jsonStorage;
+    private BinaryAddressBookStorage binaryStorage;
+
+    /**
+     * Saves an address book of {@code size} persons in both formats.
+     */
+    @Setup
+    public void setUp() throws IOException {
+        directory = Files.createTempDirectory("storage-format-benchmark");
+        addressBook = BenchmarkAddressBooks.withPersons(size);
+        jsonStorage = new JsonAddressBookStorage(directory.resolve("addressbook.json"));
+        binaryStorage = new BinaryAddressBookStorage(directory.resolve("addressbook.bin"));
+        jsonStorage.saveAddressBook(addressBook);
+        binaryStorage.saveAddressBook(addressBook);
+
+        System.out.println(String.format("%n%d persons: JSON %d bytes, binary %d bytes", size,
+                Files.size(jsonStorage.getAddressBookFilePath()), Files.size(binaryStorage.getAddressBookFilePath())));
+    }
+
+    /**
+     * Deletes the files written by the benchmark.
+     */
+    @TearDown
+    public void tearDown() throws IOException {
+        for (Path file : new Path[] {jsonStorage.getAddressBookFilePath(), binaryStorage.getAddressBookFilePath()}) {
+            Files.deleteIfExists(file);
+            Files.deleteIfExists(file.resolveSibling(file.getFileName() + JsonAddressBookStorage
+                    .PREVIOUS_GENERATION_SUFFIX));
+        }
+        Files.deleteIfExists(directory);
+    }
+
+    @Benchmark
+    public ReadOnlyAddressBook loadJson() throws DataLoadingException {
+        return jsonStorage.readAddressBook().get();
+    }
+
+    @Benchmark
+    public ReadOnlyAddressBook loadBinary() throws DataLoadingException {
+        return binaryStorage.readAddressBook().get();
+    }
+
+    @Benchmark
+    public void saveJson() throws IOException {
+        jsonStorage.saveAddressBook(addressBook);
+    }
+
+    @Benchmark
+    public void saveBinary() throws IOException {
+        binaryStorage.saveAddressBook(addressBook);
+    }
+}
@@ -0,0 +1,122 @@
+package seedu.address.commons.util;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.AbstractSet;
+import java.util.Collection;
+import java.util.Iterator;
+import java.util.LinkedHashSet;
+import java.util.NoSuchElementException;
+import java.util.Set;
+import java.util.function.Predicate;
+
+/**
+ * An immutable set backed by an array of exactly its elements, for the small sets held by every person.
+ *
+ * Membership is checked by scanning the array, which for a handful of elements is as fast as hashing while taking
+ * a fraction of the memory of a {@code HashSet}. Elements are iterated in the order of the collection the set was
+ * copied from. Any attempt at modification throws {@code UnsupportedOperationException}. Null elements are not
+ * permitted.
+ */
+public final class ArraySet<E> extends AbstractSet<E> {
+
+    private static final ArraySet<?> EMPTY = new ArraySet<>(new Object[0]);
+
+    private final Object[] elements;
+
+    private ArraySet(Object[] elements) {
+        this.elements = elements;
+    }
+
+    /**
+     * Returns an immutable set of the elements of {@code elements}.
+     * The same set is returned if {@code elements} is already an {@code ArraySet}.
+     */
+    @SuppressWarnings("unchecked")
+    public static <E> Set<E> copyOf(Collection<? extends E> elements) {
+        requireNonNull(elements);
+        if (elements instanceof ArraySet) {
+            return (ArraySet<E>) elements;
+        }
+        if (elements.isEmpty()) {
+            return (ArraySet<E>) EMPTY;
+        }
+
+        Object[] array = (elements instanceof Set ? elements : new LinkedHashSet<>(elements)).toArray();
+        for (Object element : array) {
+            requireNonNull(element);
+        }
+        return new ArraySet<>(array);
+    }
+
+    @Override
+    public int size() {
+        return elements.length;
+    }
+
+    @Override
+    public boolean contains(Object o) {
+        for (Object element : elements) {
+            if (element.equals(o)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    @Override
+    public Iterator<E> iterator() {
+        return new Iterator<>() {
+            private int next = 0;
+
+            @Override
+            public boolean hasNext() {
+                return next < elements.length;
+            }
+
+            @Override
+            @SuppressWarnings("unchecked")
+            public E next() {
+                if (next >= elements.length) {
+                    throw new NoSuchElementException();
+                }
+                return (E) elements[next++];
+            }
+        };
+    }
+
+    @Override
+    public boolean add(E e) {
+        throw new UnsupportedOperationException();
+    }
+
+    @Override
+    public boolean addAll(Collection<? extends E> c) {
+        throw new UnsupportedOperationException();
+    }
+
+    @Override
+    public boolean remove(Object o) {
+        throw new UnsupportedOperationException();
+    }
+
+    @Override
+    public boolean removeAll(Collection<?> c) {
+        throw new UnsupportedOperationException();
+    }
+
+    @Override
+    public boolean retainAll(Collection<?> c) {
+        throw new UnsupportedOperationException();
+    }
+
+    @Override
+    public boolean removeIf(Predicate<? super E> filter) {
+        throw new UnsupportedOperationException();
+    }
+
+    @Override
+    public void clear() {
+        throw new UnsupportedOperationException();
+    }
+}
@@ -1,10 +1,19 @@
 package seedu.address.commons.util;
 
+import java.io.BufferedOutputStream;
 import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.ByteBuffer;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.file.AtomicMoveNotSupportedException;
 import java.nio.file.Files;
 import java.nio.file.InvalidPathException;
 import java.nio.file.Path;
 import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.zip.CRC32;
 
 /**
  * Writes and reads files
@@ -80,4 +89,111 @@ public class FileUtil {
         Files.write(file, content.getBytes(CHARSET));
     }
 
+    /**
+     * Writes given string to a file such that, even if the write is interrupted (e.g. by a crash), the file
+     * holds either its previous contents or {@code content} in full.
+     * The previous contents of the file, if any, are kept in {@code previousGeneration}.
+     * Will create the file if it does not exist yet.
+     */
+    public static void writeToFileAtomically(Path file, String content, Path previousGeneration)
+            throws IOException {
+        writeToFileAtomically(file, out -> out.write(content.getBytes(CHARSET)), previousGeneration);
+    }
+
+    /**
+     * Similar to {@link #writeToFileAtomically(Path, String, Path)}, but streams the contents of the file from
+     * {@code contentWriter} instead of holding them in memory.
+     */
+    public static void writeToFileAtomically(Path file, ContentWriter contentWriter, Path previousGeneration)
+            throws IOException {
+        createParentDirsOfFile(file);
+        Path directory = file.toAbsolutePath().getParent();
+        Path tempFile = Files.createTempFile(directory, file.getFileName().toString(), ".tmp");
+        try {
+            try (FileChannel channel = FileChannel.open(tempFile, StandardOpenOption.WRITE)) {
+                OutputStream out = new BufferedOutputStream(Channels.newOutputStream(channel));
+                contentWriter.writeTo(out);
+                out.flush();
+                channel.force(true);
+            }
+
+            if (isFileExists(file)) {
+                keepPreviousGeneration(file, previousGeneration);
+            }
+            moveAtomically(tempFile, file);
+        } finally {
+            Files.deleteIfExists(tempFile);
+        }
+        forceDirectory(directory);
+    }
+
+    /**
+     * Makes {@code previousGeneration} hold the current contents of {@code file}, leaving {@code file} untouched.
+     */
+    private static void keepPreviousGeneration(Path file, Path previousGeneration) throws IOException {
+        Files.deleteIfExists(previousGeneration);
+        try {
+            Files.createLink(previousGeneration, file);
+        } catch (IOException | UnsupportedOperationException e) {
+            // hard links are not supported by every file system
+            Files.copy(file, previousGeneration, StandardCopyOption.REPLACE_EXISTING);
+        }
+    }
+
+    private static void moveAtomically(Path source, Path target) throws IOException {
+        try {
+            Files.move(source, target, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+        } catch (AtomicMoveNotSupportedException e) {
+            Files.move(source, target, StandardCopyOption.REPLACE_EXISTING);
+        }
+    }
+
+    /**
+     * Forces the entries of {@code directory}, such as a file that was just renamed, to the storage device.
+     * Not every platform supports this, in which case this does nothing.
+     */
+    private static void forceDirectory(Path directory) {
+        try (FileChannel channel = FileChannel.open(directory, StandardOpenOption.READ)) {
+            channel.force(true);
+        } catch (IOException e) {
+            // directories cannot be opened as channels on some platforms, e.g. Windows
+        }
+    }
+
+    /**
+     * Appends given string to the end of a file and forces it to the storage device.
+     * Will create the file if it does not exist yet.
+     */
+    public static void appendToFile(Path file, String content) throws IOException {
+        ByteBuffer buffer = ByteBuffer.wrap(content.getBytes(CHARSET));
+        try (FileChannel channel = FileChannel.open(file,
+                StandardOpenOption.CREATE, StandardOpenOption.WRITE, StandardOpenOption.APPEND)) {
+            while (buffer.hasRemaining()) {
+                channel.write(buffer);
+            }
+            channel.force(false);
+        }
+    }
+
+    /**
+     * Returns the CRC32 checksum of the contents of the file.
+     * Assumes file exists
+     */
+    public static long computeChecksum(Path file) throws IOException {
+        CRC32 crc = new CRC32();
+        crc.update(Files.readAllBytes(file));
+        return crc.getValue();
+    }
+
+    /**
+     * Writes the contents of a file to a stream.
+     */
+    @FunctionalInterface
+    public interface ContentWriter {
+        /**
+         * Writes the contents to {@code out}, without closing it.
+         */
+        void writeTo(OutputStream out) throws IOException;
+    }
+
 }
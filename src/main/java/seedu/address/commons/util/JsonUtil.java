@@ -2,7 +2,11 @@ package seedu.address.commons.util;
 
 import static java.util.Objects.requireNonNull;
 
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
 import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.util.Optional;
@@ -11,6 +15,9 @@ import java.util.logging.Logger;
 
 import com.fasterxml.jackson.annotation.JsonAutoDetect;
 import com.fasterxml.jackson.annotation.PropertyAccessor;
+import com.fasterxml.jackson.core.JsonEncoding;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParser;
 import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.databind.DeserializationContext;
 import com.fasterxml.jackson.databind.DeserializationFeature;
@@ -40,12 +47,39 @@ public class JsonUtil {
                     .addDeserializer(Level.class, new LevelDeserializer(Level.class)));
 
     static <T> void serializeObjectToJsonFile(Path jsonFile, T objectToSerialize) throws IOException {
-        FileUtil.writeToFile(jsonFile, toJsonString(objectToSerialize));
+        try (OutputStream out = new BufferedOutputStream(Files.newOutputStream(jsonFile))) {
+            objectMapper.writerWithDefaultPrettyPrinter().writeValue(out, objectToSerialize);
+        }
     }
 
     static <T> T deserializeObjectFromJsonFile(Path jsonFile, Class<T> classOfObjectToDeserialize)
             throws IOException {
-        return fromJsonString(FileUtil.readFromFile(jsonFile), classOfObjectToDeserialize);
+        try (InputStream in = new BufferedInputStream(Files.newInputStream(jsonFile))) {
+            return objectMapper.readValue(in, classOfObjectToDeserialize);
+        }
+    }
+
+    /**
+     * Returns a parser that reads JSON data incrementally from the given file.
+     * Objects within the data can be read with {@link JsonParser#readValueAs(Class)}.
+     * The caller is responsible for closing the parser.
+     */
+    public static JsonParser createParser(Path jsonFile) throws IOException {
+        requireNonNull(jsonFile);
+        return objectMapper.getFactory().createParser(new BufferedInputStream(Files.newInputStream(jsonFile)));
+    }
+
+    /**
+     * Returns a generator that writes pretty-printed JSON data incrementally to {@code out}, in the same format
+     * as {@link #toJsonString(Object)}.
+     * Objects can be written with {@link JsonGenerator#writeObject(Object)}.
+     * Closing the generator flushes it without closing {@code out}.
+     */
+    public static JsonGenerator createGenerator(OutputStream out) throws IOException {
+        requireNonNull(out);
+        JsonGenerator generator = objectMapper.getFactory().createGenerator(out, JsonEncoding.UTF8);
+        generator.disable(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
+        return generator.useDefaultPrettyPrinter();
     }
 
     /**
@@ -111,6 +145,16 @@ public class JsonUtil {
         return objectMapper.writerWithDefaultPrettyPrinter().writeValueAsString(instance);
     }
 
+    /**
+     * Converts a given instance of a class into its JSON data string representation on a single line
+     * @param instance The T object to be converted into the JSON string
+     * @param <T> The generic type to create an instance of
+     * @return JSON data representation of the given class instance, without any line breaks
+     */
+    public static <T> String toCompactJsonString(T instance) throws JsonProcessingException {
+        return objectMapper.writeValueAsString(instance);
+    }
+
     /**
      * Contains methods that retrieve logging level from serialized string.
      */
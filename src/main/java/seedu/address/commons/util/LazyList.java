@@ -0,0 +1,124 @@
+package seedu.address.commons.util;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.AbstractList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.RandomAccess;
+
+/**
+ * A random-access list that reads the elements it was created with from a source list only when they are accessed.
+ *
+ * Elements stored into the list replace the source elements at their positions, so the list can be modified
+ * without reading the source elements that are not touched. Copies share the source, which must therefore not be
+ * modified once a {@code LazyList} has been created over it. Null elements are not permitted.
+ */
+public final class LazyList<E> extends AbstractList<E> implements RandomAccess {
+
+    private static final int MIN_CAPACITY = 10;
+
+    private final List<? extends E> source;
+    /** Elements stored into this list, or null where the element is still to be read from the source. */
+    private Object[] elements;
+    private int[] sourceIndices;
+    private int size;
+
+    /**
+     * Creates an empty list.
+     */
+    public LazyList() {
+        this(Collections.emptyList());
+    }
+
+    /**
+     * Creates a list holding the elements of {@code source}, which are only read from it as they are accessed.
+     */
+    public LazyList(List<? extends E> source) {
+        requireNonNull(source);
+        this.source = source;
+        size = source.size();
+        elements = new Object[Math.max(size, MIN_CAPACITY)];
+        sourceIndices = new int[elements.length];
+        for (int i = 0; i < size; i++) {
+            sourceIndices[i] = i;
+        }
+    }
+
+    /**
+     * Creates a copy of {@code toBeCopied}. Elements that it has not read from its source yet are not read.
+     */
+    public LazyList(LazyList<E> toBeCopied) {
+        requireNonNull(toBeCopied);
+        source = toBeCopied.source;
+        size = toBeCopied.size;
+        elements = Arrays.copyOf(toBeCopied.elements, Math.max(size, MIN_CAPACITY));
+        sourceIndices = Arrays.copyOf(toBeCopied.sourceIndices, elements.length);
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public E get(int index) {
+        checkIndex(index, size);
+        Object element = elements[index];
+        return element != null ? (E) element : source.get(sourceIndices[index]);
+    }
+
+    @Override
+    public int size() {
+        return size;
+    }
+
+    @Override
+    public E set(int index, E element) {
+        requireNonNull(element);
+        E previous = get(index);
+        elements[index] = element;
+        return previous;
+    }
+
+    @Override
+    public void add(int index, E element) {
+        requireNonNull(element);
+        checkIndex(index, size + 1);
+        if (size == elements.length) {
+            elements = Arrays.copyOf(elements, size * 2);
+            sourceIndices = Arrays.copyOf(sourceIndices, elements.length);
+        }
+        System.arraycopy(elements, index, elements, index + 1, size - index);
+        System.arraycopy(sourceIndices, index, sourceIndices, index + 1, size - index);
+        elements[index] = element;
+        size++;
+        modCount++;
+    }
+
+    @Override
+    public E remove(int index) {
+        E removed = get(index);
+        removeRange(index, index + 1);
+        return removed;
+    }
+
+    @Override
+    public void clear() {
+        removeRange(0, size);
+    }
+
+    @Override
+    protected void removeRange(int fromIndex, int toIndex) {
+        System.arraycopy(elements, toIndex, elements, fromIndex, size - toIndex);
+        System.arraycopy(sourceIndices, toIndex, sourceIndices, fromIndex, size - toIndex);
+        int newSize = size - (toIndex - fromIndex);
+        Arrays.fill(elements, newSize, size, null);
+        size = newSize;
+        modCount++;
+    }
+
+    private void checkIndex(int index, int bound) {
+        if (index < 0 || index >= bound) {
+            throw new IndexOutOfBoundsException("Index: " + index + ", Size: " + size);
+        }
+    }
+
+}
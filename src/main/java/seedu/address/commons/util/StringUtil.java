@@ -5,7 +5,9 @@ import static seedu.address.commons.util.AppUtil.checkArgument;
 
 import java.io.PrintWriter;
 import java.io.StringWriter;
+import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.List;
 
 /**
  * Helper functions for handling strings.
@@ -39,6 +41,33 @@ public class StringUtil {
                 .anyMatch(preppedWord::equalsIgnoreCase);
     }
 
+    /**
+     * Returns the words of {@code text} in lower case, in order, where a word is a run of letters and digits.
+     *   Every other character separates words.
+     *   <br>examples:<pre>
+     *       tokenize("Alex Yeoh") == ["alex", "yeoh"]
+     *       tokenize("alexyeoh@example.com") == ["alexyeoh", "example", "com"]
+     *       tokenize("Blk 30, #06-40") == ["blk", "30", "06", "40"]
+     *       </pre>
+     * @param text cannot be null
+     */
+    public static List<String> tokenize(String text) {
+        requireNonNull(text);
+
+        List<String> tokens = new ArrayList<>();
+        int start = -1;
+        for (int i = 0; i <= text.length(); i++) {
+            boolean isWordCharacter = i < text.length() && Character.isLetterOrDigit(text.charAt(i));
+            if (isWordCharacter && start < 0) {
+                start = i;
+            } else if (!isWordCharacter && start >= 0) {
+                tokens.add(text.substring(start, i).toLowerCase());
+                start = -1;
+            }
+        }
+        return tokens;
+    }
+
     /**
      * Returns a detailed message of the t, including the stack trace.
      */
@@ -1,6 +1,8 @@
 package seedu.address.logic;
 
+import java.io.IOException;
 import java.nio.file.Path;
+import java.util.function.Consumer;
 
 import javafx.collections.ObservableList;
 import seedu.address.commons.core.GuiSettings;
@@ -23,6 +25,20 @@ public interface Logic {
      */
     CommandResult execute(String commandText) throws CommandException, ParseException;
 
+    /**
+     * Sets the handler to be called with an error message whenever saving the address book fails after
+     * {@link #execute(String)} has returned. The handler may be called from a background thread.
+     */
+    void setSaveErrorHandler(Consumer<String> saveErrorHandler);
+
+    /**
+     * Returns once every address book save requested so far has been written, saving the address book again first
+     * if the data on disk is out of date because one of those saves failed.
+     *
+     * @throws IOException if the address book could not be saved.
+     */
+    void flushAddressBook() throws IOException;
+
     /**
      * Returns the AddressBook.
      *
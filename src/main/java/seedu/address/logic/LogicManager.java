@@ -1,8 +1,12 @@
 package seedu.address.logic;
 
+import static java.util.Objects.requireNonNull;
+
 import java.io.IOException;
 import java.nio.file.AccessDeniedException;
 import java.nio.file.Path;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Consumer;
 import java.util.logging.Logger;
 
 import javafx.collections.ObservableList;
@@ -33,6 +37,14 @@ public class LogicManager implements Logic {
     private final Storage storage;
     private final AddressBookParser addressBookParser;
 
+    /** A save whose address book failed to be written, so that the data on disk is out of date. */
+    private static final Save FAILED_SAVE = new Save(-1, null);
+
+    /** The last save handed to storage, or null if nothing has been saved yet. */
+    private final AtomicReference<Save> lastSave = new AtomicReference<>();
+    private int skippedSaveCount;
+    private volatile Consumer<String> saveErrorHandler = message -> { };
+
     /**
      * Constructs a {@code LogicManager} with the given {@code Model} and {@code Storage}.
      */
@@ -40,6 +52,7 @@ public class LogicManager implements Logic {
         this.model = model;
         this.storage = storage;
         addressBookParser = new AddressBookParser();
+        storage.setSaveFailureHandler(this::handleBackgroundSaveFailure);
     }
 
     @Override
@@ -50,17 +63,87 @@ public class LogicManager implements Logic {
         Command command = addressBookParser.parseCommand(commandText);
         commandResult = command.execute(model);
 
+        Save save = lastSave.get();
+        if (save != null && save.version == model.getAddressBookVersion()) {
+            skippedSaveCount++;
+            logger.fine("Address book unchanged, skipped saving (" + skippedSaveCount + " saves skipped so far)");
+            return commandResult;
+        }
+
         try {
-            storage.saveAddressBook(model.getAddressBook());
-        } catch (AccessDeniedException e) {
-            throw new CommandException(String.format(FILE_OPS_PERMISSION_ERROR_FORMAT, e.getMessage()), e);
+            saveAddressBook();
         } catch (IOException ioe) {
-            throw new CommandException(String.format(FILE_OPS_ERROR_FORMAT, ioe.getMessage()), ioe);
+            throw new CommandException(getSaveErrorMessage(ioe), ioe);
         }
 
         return commandResult;
     }
 
+    @Override
+    public void flushAddressBook() throws IOException {
+        try {
+            storage.flushAddressBook();
+        } catch (IOException ioe) {
+            // reported to handleBackgroundSaveFailure, which marks the save as failed
+            logger.warning("Failed to save address book, saving it again: " + ioe.getMessage());
+        }
+
+        Save save = lastSave.get();
+        if (save == null || save.version == model.getAddressBookVersion()) {
+            return;
+        }
+        saveAddressBook();
+        storage.flushAddressBook();
+    }
+
+    /**
+     * Hands a snapshot of the current address book to storage, recording it as the last save.
+     */
+    private void saveAddressBook() throws IOException {
+        Save save = new Save(model.getAddressBookVersion(), model.getAddressBookSnapshot());
+        // recorded before storage has it, so that a failure reported at once is not overwritten by this save
+        lastSave.set(save);
+        try {
+            storage.saveAddressBook(save.snapshot);
+        } catch (IOException ioe) {
+            lastSave.compareAndSet(save, FAILED_SAVE);
+            throw ioe;
+        }
+    }
+
+    /**
+     * Handles a save of {@code snapshot} that failed after {@code Storage#saveAddressBook} had already returned.
+     */
+    private void handleBackgroundSaveFailure(ReadOnlyAddressBook snapshot, IOException ioe) {
+        // the data on disk is out of date, so the next command has to save again even if it changes nothing,
+        // unless a later save has been handed to storage since, which will write newer data or fail in turn
+        Save save = lastSave.get();
+        if (save != null && save.snapshot == snapshot) {
+            lastSave.compareAndSet(save, FAILED_SAVE);
+        }
+        saveErrorHandler.accept(getSaveErrorMessage(ioe));
+    }
+
+    private static String getSaveErrorMessage(IOException ioe) {
+        if (ioe instanceof AccessDeniedException) {
+            return String.format(FILE_OPS_PERMISSION_ERROR_FORMAT, ioe.getMessage());
+        }
+        return String.format(FILE_OPS_ERROR_FORMAT, ioe.getMessage());
+    }
+
+    @Override
+    public void setSaveErrorHandler(Consumer<String> saveErrorHandler) {
+        requireNonNull(saveErrorHandler);
+        this.saveErrorHandler = saveErrorHandler;
+    }
+
+    /**
+     * Returns the number of commands after which saving was skipped because the address book was unchanged.
+     */
+    public int getSkippedSaveCount() {
+        return skippedSaveCount;
+    }
+
     @Override
     public ReadOnlyAddressBook getAddressBook() {
         return model.getAddressBook();
@@ -85,4 +168,17 @@ public class LogicManager implements Logic {
     public void setGuiSettings(GuiSettings guiSettings) {
         model.setGuiSettings(guiSettings);
     }
+
+    /**
+     * A snapshot of the address book handed to storage, and the version of the address book it was taken at.
+     */
+    private static class Save {
+        private final long version;
+        private final ReadOnlyAddressBook snapshot;
+
+        Save(long version, ReadOnlyAddressBook snapshot) {
+            this.version = version;
+            this.snapshot = snapshot;
+        }
+    }
 }
@@ -5,6 +5,8 @@ import java.util.stream.Collectors;
 import java.util.stream.Stream;
 
 import seedu.address.logic.parser.Prefix;
+import seedu.address.model.appointment.Appointment;
+import seedu.address.model.appointment.AppointmentConflict;
 import seedu.address.model.person.Person;
 
 /**
@@ -18,6 +20,9 @@ public class Messages {
     public static final String MESSAGE_PERSONS_LISTED_OVERVIEW = "%1$d persons listed!";
     public static final String MESSAGE_DUPLICATE_FIELDS =
                 "Multiple values specified for the following single-valued field(s): ";
+    public static final String MESSAGE_APPOINTMENTS_CLASH = "This person's appointments %1$s and %2$s clash";
+    public static final String MESSAGE_APPOINTMENT_CLASHES_WITH_EXISTING =
+            "This person's appointment %1$s clashes with %2$s's appointment %3$s";
 
     /**
      * Returns an error message indicating the duplicate prefixes.
@@ -31,6 +36,21 @@ public class Messages {
         return MESSAGE_DUPLICATE_FIELDS + String.join(" ", duplicateFields);
     }
 
+    /**
+     * Returns an error message naming the two appointments of a person in {@code conflict}.
+     */
+    public static String formatClash(AppointmentConflict conflict) {
+        return String.format(MESSAGE_APPOINTMENTS_CLASH, conflict.getFirst(), conflict.getSecond());
+    }
+
+    /**
+     * Returns an error message naming {@code appointment} of a person and the {@code existing} appointment of
+     * {@code owner} that it clashes with.
+     */
+    public static String formatClash(Appointment appointment, Appointment existing, Person owner) {
+        return String.format(MESSAGE_APPOINTMENT_CLASHES_WITH_EXISTING, appointment, owner.getName(), existing);
+    }
+
     /**
      * Formats the {@code person} for display to the user.
      */
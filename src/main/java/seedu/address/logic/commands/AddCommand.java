@@ -16,7 +16,7 @@ import seedu.address.logic.Messages;
 import seedu.address.logic.commands.exceptions.CommandException;
 import seedu.address.model.Model;
 import seedu.address.model.appointment.Appointment;
-import seedu.address.model.appointment.DisjointAppointmentList;
+import seedu.address.model.appointment.AppointmentConflict;
 import seedu.address.model.person.Person;
 
 /**
@@ -70,13 +70,15 @@ public class AddCommand extends Command {
 
         // Overlapping appointment detection
         // between appointments to be added and existing appointments
-        if (model.appointmentsOverlap(toAdd.getAppointments().asUnmodifiableObservableList())) {
-            throw new CommandException(DisjointAppointmentList.MESSAGE_CONSTRAINTS);
+        List<Appointment> appointments = toAdd.getAppointments().asUnmodifiableObservableList();
+        if (model.appointmentsOverlap(appointments)) {
+            throw new CommandException(getClashWithExisting(model, appointments));
         }
 
         // between two appointments to be added
-        if (Appointment.hasOverlapping(toAdd.getAppointments().asUnmodifiableObservableList())) {
-            throw new CommandException(DisjointAppointmentList.MESSAGE_CONSTRAINTS);
+        List<AppointmentConflict> conflicts = Appointment.findConflicts(appointments);
+        if (!conflicts.isEmpty()) {
+            throw new CommandException(Messages.formatClash(conflicts.get(0)));
         }
 
         // Duplicate Detection feature
@@ -93,6 +95,20 @@ public class AddCommand extends Command {
         return new CommandResult(String.format(MESSAGE_SUCCESS, Messages.format(toAdd)));
     }
 
+    /**
+     * Returns an error message naming the first of {@code appointments} that clashes with an existing appointment.
+     */
+    private static String getClashWithExisting(Model model, List<Appointment> appointments) {
+        for (Appointment appointment : appointments) {
+            List<Appointment> overlapping = model.getOverlappingAppointments(appointment);
+            if (!overlapping.isEmpty()) {
+                Appointment existing = overlapping.get(0);
+                return Messages.formatClash(appointment, existing, model.getAppointmentOwner(existing));
+            }
+        }
+        throw new AssertionError("An appointment should clash with an existing one");
+    }
+
     @Override
     public boolean equals(Object other) {
         if (other == this) {
@@ -0,0 +1,64 @@
+package seedu.address.logic.commands;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import seedu.address.model.Model;
+import seedu.address.model.person.DuplicateCandidate;
+import seedu.address.model.person.Person;
+
+/**
+ * Lists the pairs of persons in the address book that are probably the same person, and the persons in them.
+ */
+public class DedupeCommand extends Command {
+
+    public static final String COMMAND_WORD = "dedupe";
+
+    public static final String MESSAGE_NO_DUPLICATES = "No probable duplicates found";
+    public static final String MESSAGE_DUPLICATES_FOUND = "%1$d probable duplicate pairs found, most likely first:";
+    public static final String MESSAGE_DUPLICATE_PAIR = "#%1$d %2$s and #%3$d %4$s (%5$s)";
+    public static final String MESSAGE_MORE_DUPLICATES = "... and %1$d more";
+
+    /** The number of pairs listed in the result, as a long list of pairs would be of little use to read. */
+    static final int MAX_PAIRS_LISTED = 20;
+
+    @Override
+    public CommandResult execute(Model model) {
+        requireNonNull(model);
+        List<DuplicateCandidate> candidates = model.findDuplicates();
+        if (candidates.isEmpty()) {
+            return new CommandResult(MESSAGE_NO_DUPLICATES);
+        }
+
+        Set<Person> duplicates = Collections.newSetFromMap(new IdentityHashMap<>());
+        for (DuplicateCandidate candidate : candidates) {
+            duplicates.add(candidate.getFirst());
+            duplicates.add(candidate.getSecond());
+        }
+        model.updateFilteredPersonList(duplicates::contains);
+
+        // the pairs refer to the persons by their index in the list shown, so that they can be merged or edited
+        Map<Person, Integer> displayedIndexes = new IdentityHashMap<>();
+        List<Person> shownPersons = model.getFilteredPersonList();
+        for (int i = 0; i < shownPersons.size(); i++) {
+            displayedIndexes.put(shownPersons.get(i), i + 1);
+        }
+
+        StringBuilder result = new StringBuilder(String.format(MESSAGE_DUPLICATES_FOUND, candidates.size()));
+        for (DuplicateCandidate candidate : candidates.subList(0, Math.min(MAX_PAIRS_LISTED, candidates.size()))) {
+            result.append('\n').append(String.format(MESSAGE_DUPLICATE_PAIR,
+                    displayedIndexes.get(candidate.getFirst()), candidate.getFirst().getName(),
+                    displayedIndexes.get(candidate.getSecond()), candidate.getSecond().getName(),
+                    String.join(", ", candidate.getReasons())));
+        }
+        if (candidates.size() > MAX_PAIRS_LISTED) {
+            result.append('\n').append(String.format(MESSAGE_MORE_DUPLICATES, candidates.size() - MAX_PAIRS_LISTED));
+        }
+        return new CommandResult(result.toString());
+    }
+}
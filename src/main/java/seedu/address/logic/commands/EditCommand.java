@@ -18,7 +18,6 @@ import java.util.List;
 import java.util.Objects;
 import java.util.Optional;
 import java.util.Set;
-import java.util.stream.Collectors;
 
 import seedu.address.commons.core.index.Index;
 import seedu.address.commons.util.CollectionUtil;
@@ -26,6 +25,8 @@ import seedu.address.commons.util.ToStringBuilder;
 import seedu.address.logic.Messages;
 import seedu.address.logic.commands.exceptions.CommandException;
 import seedu.address.model.Model;
+import seedu.address.model.appointment.Appointment;
+import seedu.address.model.appointment.AppointmentConflict;
 import seedu.address.model.appointment.AppointmentList;
 import seedu.address.model.person.Address;
 import seedu.address.model.person.Email;
@@ -65,8 +66,6 @@ public class EditCommand extends Command {
     public static final String MESSAGE_NOT_EDITED = "At least one field to edit must be provided.";
     public static final String MESSAGE_DUPLICATE_PERSON = "This person already exists in the address book.";
     public static final String MESSAGE_NEAR_DUPLICATES = "Edited Person: %1$s \nPossible duplicate contacts: %2$s";
-    public static final String MESSAGE_OVERLAPPING_APPOINTMENT =
-            "This person's appointments clash with an existing appointment";
     private final Index index;
     private final EditPersonDescriptor editPersonDescriptor;
 
@@ -102,19 +101,22 @@ public class EditCommand extends Command {
         List<String> duplicateNames = model.findNearDuplicates(editedPerson);
 
         // Overlapping appointment detection
-        if (editedPerson.getAppointments().isOverlapping()) {
-            throw new CommandException(MESSAGE_OVERLAPPING_APPOINTMENT);
+        List<AppointmentConflict> conflicts =
+                Appointment.findConflicts(editedPerson.getAppointments().asUnmodifiableObservableList());
+        if (!conflicts.isEmpty()) {
+            throw new CommandException(Messages.formatClash(conflicts.get(0)));
         }
 
-        AppointmentList editedAppointmentList = new AppointmentList();
-        editedAppointmentList.setAppointments(editedPerson.getAppointments());
-        editedAppointmentList.addAll(model.getFilteredAppointmentList()
-                .stream()
-                .filter(appointment -> !(personToEdit.getAppointments().contains(appointment)))
-                .collect(Collectors.toList()));
-
-        if (editedAppointmentList.isOverlapping()) {
-            throw new CommandException(MESSAGE_OVERLAPPING_APPOINTMENT);
+        // the person's current appointments are replaced, so only clashes with other persons' appointments count
+        for (Appointment appointment : editedPerson.getAppointments()) {
+            Optional<Appointment> clash = model.getOverlappingAppointments(appointment)
+                    .stream()
+                    .filter(overlapping -> !personToEdit.getAppointments().contains(overlapping))
+                    .findFirst();
+            if (clash.isPresent()) {
+                throw new CommandException(
+                        Messages.formatClash(appointment, clash.get(), model.getAppointmentOwner(clash.get())));
+            }
         }
 
         model.setPerson(personToEdit, editedPerson);
@@ -0,0 +1,81 @@
+package seedu.address.logic.commands;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.List;
+
+import seedu.address.commons.util.ToStringBuilder;
+import seedu.address.model.Model;
+import seedu.address.model.appointment.Appointment;
+
+/**
+ * Shows the free slots of the timetable within a window of a day.
+ */
+public class FreeCommand extends Command {
+
+    public static final String COMMAND_WORD = "free";
+
+    public static final String MESSAGE_USAGE = COMMAND_WORD
+            + ": Lists the free slots between all appointments on the day specified, optionally only those within "
+            + "the time window FROM-TO (00:00-23:59 by default) and lasting at least DURATION minutes "
+            + "(1 by default).\n"
+            + "Parameters: DAY [FROM-TO] [DURATION]\n"
+            + "Example: " + COMMAND_WORD + " MON 14:00-20:00 90";
+
+    public static final String MESSAGE_SUCCESS = "Free slots:";
+    public static final String MESSAGE_NO_FREE_SLOTS = "There are no free slots to show!";
+
+    private final Appointment window;
+    private final int minDuration;
+
+    /**
+     * Creates a FreeCommand to list the free slots within {@code window} lasting at least {@code minDuration}
+     * minutes.
+     */
+    public FreeCommand(Appointment window, int minDuration) {
+        requireNonNull(window);
+        this.window = window;
+        this.minDuration = minDuration;
+    }
+
+    @Override
+    public CommandResult execute(Model model) {
+        requireNonNull(model);
+        List<Appointment> freeSlots = model.getFreeSlots(window, minDuration);
+
+        StringBuilder sb = new StringBuilder();
+        sb.append(MESSAGE_SUCCESS).append("\n");
+        for (Appointment freeSlot : freeSlots) {
+            sb.append(freeSlot).append("\n");
+        }
+
+        if (freeSlots.isEmpty()) {
+            sb.append(MESSAGE_NO_FREE_SLOTS);
+        }
+
+        return new CommandResult(sb.toString().trim());
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+
+        // instanceof handles nulls
+        if (!(other instanceof FreeCommand)) {
+            return false;
+        }
+
+        FreeCommand otherFreeCommand = (FreeCommand) other;
+        return window.equals(otherFreeCommand.window) && minDuration == otherFreeCommand.minDuration;
+    }
+
+    @Override
+    public String toString() {
+        return new ToStringBuilder(this)
+                .add("window", window)
+                .add("minDuration", minDuration)
+                .toString();
+    }
+}
@@ -0,0 +1,122 @@
+package seedu.address.logic.commands;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.StringJoiner;
+
+import seedu.address.commons.util.ToStringBuilder;
+import seedu.address.model.Model;
+import seedu.address.model.appointment.Appointment;
+import seedu.address.model.person.LessonGroup;
+import seedu.address.model.person.Level;
+import seedu.address.model.person.Person;
+import seedu.address.model.person.Subject;
+
+/**
+ * Lists groups of persons taking a subject at a level who could take a lesson together, and the persons in them.
+ */
+public class MatchCommand extends Command {
+
+    public static final String COMMAND_WORD = "match";
+
+    public static final String MESSAGE_USAGE = COMMAND_WORD + ": Proposes groups of persons taking the subject at "
+            + "the level specified who are all free for an hour's lesson at some time not taken by the appointments "
+            + "of other persons, largest groups first.\n"
+            + "Parameters: SUBJECT LEVEL\n"
+            + "Example: " + COMMAND_WORD + " MATH P5";
+
+    public static final String MESSAGE_NO_GROUPS = "No groups found";
+    public static final String MESSAGE_GROUPS_FOUND = "%1$d groups found, largest first:";
+    public static final String MESSAGE_GROUP = "%1$s (free %2$s)";
+    public static final String MESSAGE_MORE_FREE_SLOTS = "and %1$d more slots";
+    public static final String MESSAGE_MORE_GROUPS = "... and %1$d more";
+
+    /** The number of groups listed in the result, as a long list of groups would be of little use to read. */
+    static final int MAX_GROUPS_LISTED = 20;
+    /** The number of free slots listed for each group. */
+    static final int MAX_FREE_SLOTS_LISTED = 3;
+
+    private final Subject subject;
+    private final Level level;
+
+    /**
+     * Creates a MatchCommand to find groups of persons taking {@code subject} at {@code level}.
+     */
+    public MatchCommand(Subject subject, Level level) {
+        requireAllNonNull(subject, level);
+        this.subject = subject;
+        this.level = level;
+    }
+
+    @Override
+    public CommandResult execute(Model model) {
+        requireNonNull(model);
+        List<LessonGroup> groups = model.findLessonGroups(subject, level);
+        if (groups.isEmpty()) {
+            return new CommandResult(MESSAGE_NO_GROUPS);
+        }
+
+        Set<Person> members = Collections.newSetFromMap(new IdentityHashMap<>());
+        for (LessonGroup group : groups) {
+            members.addAll(group.getMembers());
+        }
+        model.updateFilteredPersonList(members::contains);
+
+        // the groups refer to the persons by their index in the list shown, so that they can be edited
+        Map<Person, Integer> displayedIndexes = new IdentityHashMap<>();
+        List<Person> shownPersons = model.getFilteredPersonList();
+        for (int i = 0; i < shownPersons.size(); i++) {
+            displayedIndexes.put(shownPersons.get(i), i + 1);
+        }
+
+        StringBuilder result = new StringBuilder(String.format(MESSAGE_GROUPS_FOUND, groups.size()));
+        for (LessonGroup group : groups.subList(0, Math.min(MAX_GROUPS_LISTED, groups.size()))) {
+            StringJoiner groupMembers = new StringJoiner(", ");
+            for (Person member : group.getMembers()) {
+                groupMembers.add("#" + displayedIndexes.get(member) + " " + member.getName());
+            }
+            List<Appointment> freeSlots = group.getFreeSlots();
+            StringJoiner shownFreeSlots = new StringJoiner(", ");
+            for (Appointment freeSlot : freeSlots.subList(0, Math.min(MAX_FREE_SLOTS_LISTED, freeSlots.size()))) {
+                shownFreeSlots.add(freeSlot.toString());
+            }
+            if (freeSlots.size() > MAX_FREE_SLOTS_LISTED) {
+                shownFreeSlots.add(String.format(MESSAGE_MORE_FREE_SLOTS, freeSlots.size() - MAX_FREE_SLOTS_LISTED));
+            }
+            result.append('\n').append(String.format(MESSAGE_GROUP, groupMembers, shownFreeSlots));
+        }
+        if (groups.size() > MAX_GROUPS_LISTED) {
+            result.append('\n').append(String.format(MESSAGE_MORE_GROUPS, groups.size() - MAX_GROUPS_LISTED));
+        }
+        return new CommandResult(result.toString());
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+
+        // instanceof handles nulls
+        if (!(other instanceof MatchCommand)) {
+            return false;
+        }
+
+        MatchCommand otherMatchCommand = (MatchCommand) other;
+        return subject.equals(otherMatchCommand.subject) && level.equals(otherMatchCommand.level);
+    }
+
+    @Override
+    public String toString() {
+        return new ToStringBuilder(this)
+                .add("subject", subject)
+                .add("level", level)
+                .toString();
+    }
+}
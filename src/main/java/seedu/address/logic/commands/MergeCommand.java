@@ -0,0 +1,126 @@
+package seedu.address.logic.commands;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
+import static seedu.address.model.Model.PREDICATE_SHOW_ALL_PERSONS;
+
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+import seedu.address.commons.core.index.Index;
+import seedu.address.commons.util.ToStringBuilder;
+import seedu.address.logic.Messages;
+import seedu.address.logic.commands.exceptions.CommandException;
+import seedu.address.model.Model;
+import seedu.address.model.appointment.AppointmentList;
+import seedu.address.model.person.Person;
+import seedu.address.model.person.Subject;
+import seedu.address.model.tag.Tag;
+
+/**
+ * Merges a person identified using its displayed index into another, and deletes it from the address book.
+ */
+public class MergeCommand extends Command {
+
+    public static final String COMMAND_WORD = "merge";
+
+    public static final String MESSAGE_USAGE = COMMAND_WORD + ": Merges the person identified by the second index "
+            + "number used in the displayed person list into the person identified by the first, and deletes the "
+            + "second person. The merged person keeps the name of the first person, the tags, subjects and "
+            + "appointments of both, and the phone, email, address, note and level of the first person, or those of "
+            + "the second person where the first has none.\n"
+            + "Parameters: INDEX INDEX (both must be positive integers)\n"
+            + "Example: " + COMMAND_WORD + " 1 3";
+
+    public static final String MESSAGE_MERGE_PERSON_SUCCESS = "Merged Person: %1$s";
+    public static final String MESSAGE_MERGE_SAME_PERSON = "A person cannot be merged with themselves";
+
+    private final Index targetIndex;
+    private final Index otherIndex;
+
+    /**
+     * @param targetIndex of the person in the filtered person list to merge into
+     * @param otherIndex of the person in the filtered person list to merge and delete
+     */
+    public MergeCommand(Index targetIndex, Index otherIndex) {
+        requireAllNonNull(targetIndex, otherIndex);
+        this.targetIndex = targetIndex;
+        this.otherIndex = otherIndex;
+    }
+
+    @Override
+    public CommandResult execute(Model model) throws CommandException {
+        requireNonNull(model);
+        List<Person> lastShownList = model.getFilteredPersonList();
+
+        if (targetIndex.getZeroBased() >= lastShownList.size() || otherIndex.getZeroBased() >= lastShownList.size()) {
+            throw new CommandException(Messages.MESSAGE_INVALID_PERSON_DISPLAYED_INDEX);
+        }
+        if (targetIndex.equals(otherIndex)) {
+            throw new CommandException(MESSAGE_MERGE_SAME_PERSON);
+        }
+
+        Person target = lastShownList.get(targetIndex.getZeroBased());
+        Person other = lastShownList.get(otherIndex.getZeroBased());
+        Person mergedPerson = createMergedPerson(target, other);
+
+        // both persons' appointments are already in the address book, so together they cannot clash with the others
+        model.mergePersons(target, other, mergedPerson);
+        model.updateFilteredPersonList(PREDICATE_SHOW_ALL_PERSONS);
+        return new CommandResult(String.format(MESSAGE_MERGE_PERSON_SUCCESS, Messages.format(mergedPerson)));
+    }
+
+    /**
+     * Creates and returns a {@code Person} with the details of {@code target}, where those missing are filled in
+     * with the details of {@code other}, and the tags, subjects and appointments of both.
+     */
+    private static Person createMergedPerson(Person target, Person other) {
+        assert target != null && other != null;
+
+        Set<Tag> mergedTags = new HashSet<>(target.getTags());
+        mergedTags.addAll(other.getTags());
+        Set<Subject> mergedSubjects = new HashSet<>(target.getSubjects());
+        mergedSubjects.addAll(other.getSubjects());
+        AppointmentList mergedAppointments = new AppointmentList();
+        mergedAppointments.addAll(target.getAppointments().asUnmodifiableObservableList());
+        mergedAppointments.addAll(other.getAppointments().asUnmodifiableObservableList());
+        mergedAppointments.sort();
+
+        return new Person(
+            target.getName(),
+            target.getPhone().isEmpty() ? other.getPhone() : target.getPhone(),
+            target.getEmail().isEmpty() ? other.getEmail() : target.getEmail(),
+            target.getAddress().isEmpty() ? other.getAddress() : target.getAddress(),
+            target.getNote().isEmpty() ? other.getNote() : target.getNote(),
+            mergedTags,
+            mergedAppointments,
+            mergedSubjects,
+            target.getLevel().isEmpty() ? other.getLevel() : target.getLevel()
+            );
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+
+        // instanceof handles nulls
+        if (!(other instanceof MergeCommand)) {
+            return false;
+        }
+
+        MergeCommand otherMergeCommand = (MergeCommand) other;
+        return targetIndex.equals(otherMergeCommand.targetIndex)
+                && otherIndex.equals(otherMergeCommand.otherIndex);
+    }
+
+    @Override
+    public String toString() {
+        return new ToStringBuilder(this)
+                .add("targetIndex", targetIndex)
+                .add("otherIndex", otherIndex)
+                .toString();
+    }
+}
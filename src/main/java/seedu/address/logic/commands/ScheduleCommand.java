@@ -0,0 +1,166 @@
+package seedu.address.logic.commands;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_LESSON;
+import static seedu.address.model.Model.PREDICATE_SHOW_ALL_PERSONS;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+import seedu.address.commons.core.index.Index;
+import seedu.address.commons.util.ToStringBuilder;
+import seedu.address.logic.Messages;
+import seedu.address.logic.commands.exceptions.CommandException;
+import seedu.address.model.Model;
+import seedu.address.model.appointment.Appointment;
+import seedu.address.model.appointment.AppointmentList;
+import seedu.address.model.appointment.LessonRequest;
+import seedu.address.model.person.Person;
+
+/**
+ * Finds slots for lessons of persons identified using their displayed indexes, and adds them as appointments.
+ */
+public class ScheduleCommand extends Command {
+
+    public static final String COMMAND_WORD = "schedule";
+
+    public static final String MESSAGE_USAGE = COMMAND_WORD + ": Finds slots for lessons of the persons identified "
+            + "by the index numbers used in the displayed person list, and adds them as appointments. Each lesson "
+            + "lasts DURATION minutes and is held within the time window FROM-TO on one of the DAYs given. As many "
+            + "lessons as possible are scheduled, without clashing with each other or with existing appointments.\n"
+            + "Parameters: " + PREFIX_LESSON + "INDEX DURATION FROM-TO DAY [MORE_DAYS]... "
+            + "[" + PREFIX_LESSON + "INDEX DURATION FROM-TO DAY [MORE_DAYS]...]...\n"
+            + "Example: " + COMMAND_WORD + " " + PREFIX_LESSON + "1 60 14:00-18:00 MON WED "
+            + PREFIX_LESSON + "3 90 09:00-12:00 SAT";
+
+    public static final String MESSAGE_SCHEDULED = "Scheduled %1$d of %2$d lessons:";
+    public static final String MESSAGE_LESSON_SCHEDULED = "%1$s: %2$s";
+    public static final String MESSAGE_LESSON_NOT_SCHEDULED = "%1$s: no free slot found";
+
+    private final List<PendingLesson> lessons;
+
+    /**
+     * Creates a ScheduleCommand to find slots for {@code lessons}.
+     */
+    public ScheduleCommand(List<PendingLesson> lessons) {
+        requireNonNull(lessons);
+        this.lessons = Collections.unmodifiableList(new ArrayList<>(lessons));
+    }
+
+    @Override
+    public CommandResult execute(Model model) throws CommandException {
+        requireNonNull(model);
+        List<Person> lastShownList = model.getFilteredPersonList();
+
+        List<Person> students = new ArrayList<>();
+        List<LessonRequest> requests = new ArrayList<>();
+        for (PendingLesson lesson : lessons) {
+            if (lesson.index.getZeroBased() >= lastShownList.size()) {
+                throw new CommandException(Messages.MESSAGE_INVALID_PERSON_DISPLAYED_INDEX);
+            }
+            students.add(lastShownList.get(lesson.index.getZeroBased()));
+            requests.add(lesson.request);
+        }
+        List<Optional<Appointment>> slots = model.findLessonSlots(requests);
+
+        // the lessons of a person are added together, so that each person is edited once
+        Map<Person, AppointmentList> scheduledAppointments = new LinkedHashMap<>();
+        StringBuilder result = new StringBuilder();
+        int scheduledCount = 0;
+        for (int i = 0; i < lessons.size(); i++) {
+            Person student = students.get(i);
+            if (slots.get(i).isEmpty()) {
+                result.append('\n').append(String.format(MESSAGE_LESSON_NOT_SCHEDULED, student.getName()));
+                continue;
+            }
+            Appointment slot = slots.get(i).get();
+            scheduledAppointments.computeIfAbsent(student, ScheduleCommand::copyAppointments).add(slot);
+            result.append('\n').append(String.format(MESSAGE_LESSON_SCHEDULED, student.getName(), slot));
+            scheduledCount++;
+        }
+
+        for (Map.Entry<Person, AppointmentList> entry : scheduledAppointments.entrySet()) {
+            Person student = entry.getKey();
+            AppointmentList appointments = entry.getValue();
+            appointments.sort();
+            model.setPerson(student, new Person(student.getName(), student.getPhone(), student.getEmail(),
+                    student.getAddress(), student.getNote(), student.getTags(), appointments, student.getSubjects(),
+                    student.getLevel()));
+        }
+        model.updateFilteredPersonList(PREDICATE_SHOW_ALL_PERSONS);
+        return new CommandResult(String.format(MESSAGE_SCHEDULED, scheduledCount, lessons.size()) + result);
+    }
+
+    private static AppointmentList copyAppointments(Person person) {
+        AppointmentList appointments = new AppointmentList();
+        appointments.addAll(person.getAppointments().asUnmodifiableObservableList());
+        return appointments;
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+
+        // instanceof handles nulls
+        if (!(other instanceof ScheduleCommand)) {
+            return false;
+        }
+
+        ScheduleCommand otherScheduleCommand = (ScheduleCommand) other;
+        return lessons.equals(otherScheduleCommand.lessons);
+    }
+
+    @Override
+    public String toString() {
+        return new ToStringBuilder(this)
+                .add("lessons", lessons)
+                .toString();
+    }
+
+    /**
+     * A lesson to be scheduled for the person at an index of the displayed person list.
+     */
+    public static class PendingLesson {
+        private final Index index;
+        private final LessonRequest request;
+
+        /**
+         * Every field must be present and not null.
+         */
+        public PendingLesson(Index index, LessonRequest request) {
+            requireAllNonNull(index, request);
+            this.index = index;
+            this.request = request;
+        }
+
+        @Override
+        public boolean equals(Object other) {
+            if (other == this) {
+                return true;
+            }
+
+            // instanceof handles nulls
+            if (!(other instanceof PendingLesson)) {
+                return false;
+            }
+
+            PendingLesson otherPendingLesson = (PendingLesson) other;
+            return index.equals(otherPendingLesson.index) && request.equals(otherPendingLesson.request);
+        }
+
+        @Override
+        public String toString() {
+            return new ToStringBuilder(this)
+                    .add("index", index)
+                    .add("request", request)
+                    .toString();
+        }
+    }
+}
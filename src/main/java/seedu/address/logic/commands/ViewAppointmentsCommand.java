@@ -3,13 +3,10 @@ package seedu.address.logic.commands;
 import static java.util.Objects.requireNonNull;
 
 import java.util.List;
-import java.util.stream.Collectors;
-import java.util.stream.Stream;
 
-import javafx.util.Pair;
 import seedu.address.model.Model;
+import seedu.address.model.appointment.Appointment;
 import seedu.address.model.appointment.AppointmentIsDayOfWeekPredicate;
-import seedu.address.model.person.Person;
 
 /**
  * Shows all appointments in the filtered address book.
@@ -36,24 +33,13 @@ public class ViewAppointmentsCommand extends Command {
     @Override
     public CommandResult execute(Model model) {
         requireNonNull(model);
-        List<Person> lastShownList = model.getFilteredPersonList();
-
-        // Get all appointments from the last shown list of persons
-        List<String> appointments = lastShownList.stream()
-                .flatMap(person -> person.hasAppointments()
-                        ? person.getAppointments()
-                        .asUnmodifiableObservableList().stream()
-                        .filter(predicate)
-                        .map(appointment -> new Pair<>(appointment, person.getName().toString()))
-                        : Stream.empty())
-                .sorted((o1, o2) -> o1.getKey().compareTo(o2.getKey())) // comparing by appointment only
-                .map(pair -> pair.getValue() + ": " + pair.getKey().toString())
-                .collect(Collectors.toList());
+        // the appointments come in order from the address book, so they are written out as they are found
+        List<Appointment> appointments = model.getFilteredAppointmentsOn(predicate.getDays());
 
         StringBuilder sb = new StringBuilder();
         sb.append("Appointments:\n");
-        for (String appointment : appointments) {
-            sb.append(appointment).append("\n");
+        for (Appointment appointment : appointments) {
+            sb.append(model.getAppointmentOwner(appointment).getName()).append(": ").append(appointment).append("\n");
         }
 
         if (appointments.isEmpty()) {
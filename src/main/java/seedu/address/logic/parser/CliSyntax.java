@@ -20,6 +20,7 @@ public class CliSyntax {
     public static final Prefix PREFIX_APPOINTMENT = new Prefix("ap/");
     public static final Prefix PREFIX_SUBJECT = new Prefix("s/");
     public static final Prefix PREFIX_LEVEL = new Prefix("l/");
+    public static final Prefix PREFIX_LESSON = new Prefix("ls/");
 
     /*
    Incorrect but acceptable prefixes. We may add more as required.
@@ -0,0 +1,65 @@
+package seedu.address.logic.parser;
+
+import static seedu.address.logic.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+import static seedu.address.logic.parser.CliSyntax.INCORRECT_PREFIX_MAP;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_LEVEL;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_SUBJECT;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_TAG;
+
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+import seedu.address.logic.commands.FilterCommand;
+import seedu.address.logic.parser.exceptions.ParseException;
+import seedu.address.model.person.Level;
+import seedu.address.model.person.PersonFilter;
+import seedu.address.model.person.Subject;
+import seedu.address.model.tag.Tag;
+
+/**
+ * Parses input arguments and creates a new FilterCommand object
+ */
+public class FilterCommandParser implements Parser<FilterCommand> {
+
+    /**
+     * Parses the given {@code String} of arguments in the context of the FilterCommand
+     * and returns a FilterCommand object for execution.
+     * @throws ParseException if the user input does not conform the expected format
+     */
+    public FilterCommand parse(String args) throws ParseException {
+        ArgumentMultimap argMultimap =
+                ArgumentTokenizer.tokenize(args, INCORRECT_PREFIX_MAP, PREFIX_TAG, PREFIX_SUBJECT, PREFIX_LEVEL);
+
+        if (!argMultimap.getPreamble().isEmpty()) {
+            throw new ParseException(String.format(MESSAGE_INVALID_COMMAND_FORMAT, FilterCommand.MESSAGE_USAGE));
+        }
+
+        Set<Tag> tags = ParserUtil.parseTags(argMultimap.getAllValues(PREFIX_TAG));
+        Set<Subject> subjects = ParserUtil.parseSubjects(argMultimap.getAllValues(PREFIX_SUBJECT));
+        Set<Level> levels = parseLevels(argMultimap.getAllValues(PREFIX_LEVEL));
+
+        if (tags.isEmpty() && subjects.isEmpty() && levels.isEmpty()) {
+            throw new ParseException(String.format(MESSAGE_INVALID_COMMAND_FORMAT, FilterCommand.MESSAGE_USAGE));
+        }
+
+        return new FilterCommand(new PersonFilter(tags, subjects, levels));
+    }
+
+    /**
+     * Parses {@code levels} into a {@code Set<Level>}, skipping empty values.
+     */
+    private static Set<Level> parseLevels(List<String> levels) throws ParseException {
+        Set<Level> levelSet = new HashSet<>();
+        for (String level : levels) {
+            if (level.trim().isEmpty()) {
+                continue;
+            }
+            if (!Level.isValidLevel(level)) {
+                throw new ParseException(Level.MESSAGE_CONSTRAINTS);
+            }
+            levelSet.add(Level.of(level));
+        }
+        return levelSet;
+    }
+}
@@ -0,0 +1,43 @@
+package seedu.address.logic.parser;
+
+import static seedu.address.logic.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+
+import seedu.address.logic.commands.FreeCommand;
+import seedu.address.logic.parser.exceptions.ParseException;
+import seedu.address.model.appointment.Appointment;
+
+/**
+ * Parses input arguments and creates a new FreeCommand object.
+ */
+public class FreeCommandParser implements Parser<FreeCommand> {
+
+    private static final String WHOLE_DAY = "00:00-23:59";
+    private static final int DEFAULT_DURATION = 1;
+
+    /**
+     * Parses the given {@code String} of arguments in the context of the FreeCommand
+     * and returns a FreeCommand object for execution.
+     * @throws ParseException if the user input does not conform the expected format
+     */
+    public FreeCommand parse(String args) throws ParseException {
+        String[] parts = args.trim().split("\\s+");
+        if (parts[0].isEmpty() || parts.length > 3) {
+            throw new ParseException(String.format(MESSAGE_INVALID_COMMAND_FORMAT, FreeCommand.MESSAGE_USAGE));
+        }
+
+        String day = parts[0].toUpperCase();
+        // the window comes before the duration, and is told apart from it by the dash between its times
+        boolean hasWindow = parts.length > 1 && parts[1].contains("-");
+        boolean hasDuration = parts.length > (hasWindow ? 2 : 1);
+        if (!Appointment.DAY_TO_DAY_OF_WEEK.containsKey(day) || (parts.length == 3 && !hasWindow)) {
+            throw new ParseException(String.format(MESSAGE_INVALID_COMMAND_FORMAT, FreeCommand.MESSAGE_USAGE));
+        }
+
+        String window = (hasWindow ? parts[1] : WHOLE_DAY) + " " + day;
+        if (!Appointment.isValidAppointment(window)) {
+            throw new ParseException(Appointment.MESSAGE_CONSTRAINTS);
+        }
+        int minDuration = hasDuration ? ParserUtil.parseDuration(parts[parts.length - 1]) : DEFAULT_DURATION;
+        return new FreeCommand(Appointment.of(window), minDuration);
+    }
+}
@@ -0,0 +1,34 @@
+package seedu.address.logic.parser;
+
+import static seedu.address.logic.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+
+import seedu.address.logic.commands.MatchCommand;
+import seedu.address.logic.parser.exceptions.ParseException;
+import seedu.address.model.person.Level;
+import seedu.address.model.person.Subject;
+
+/**
+ * Parses input arguments and creates a new MatchCommand object.
+ */
+public class MatchCommandParser implements Parser<MatchCommand> {
+
+    /**
+     * Parses the given {@code String} of arguments in the context of the MatchCommand
+     * and returns a MatchCommand object for execution.
+     * @throws ParseException if the user input does not conform the expected format
+     */
+    public MatchCommand parse(String args) throws ParseException {
+        String[] parts = args.trim().split("\\s+");
+        if (parts.length != 2) {
+            throw new ParseException(String.format(MESSAGE_INVALID_COMMAND_FORMAT, MatchCommand.MESSAGE_USAGE));
+        }
+
+        if (!Subject.isValidSubject(parts[0])) {
+            throw new ParseException(Subject.MESSAGE_CONSTRAINTS);
+        }
+        if (!Level.isValidLevel(parts[1])) {
+            throw new ParseException(Level.MESSAGE_CONSTRAINTS);
+        }
+        return new MatchCommand(Subject.of(parts[0]), Level.of(parts[1]));
+    }
+}
@@ -0,0 +1,35 @@
+package seedu.address.logic.parser;
+
+import static seedu.address.logic.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+
+import seedu.address.commons.core.index.Index;
+import seedu.address.logic.commands.MergeCommand;
+import seedu.address.logic.parser.exceptions.ParseException;
+
+/**
+ * Parses input arguments and creates a new MergeCommand object
+ */
+public class MergeCommandParser implements Parser<MergeCommand> {
+
+    /**
+     * Parses the given {@code String} of arguments in the context of the MergeCommand
+     * and returns a MergeCommand object for execution.
+     * @throws ParseException if the user input does not conform the expected format
+     */
+    public MergeCommand parse(String args) throws ParseException {
+        String[] indexes = args.trim().split("\\s+");
+        if (indexes.length != 2) {
+            throw new ParseException(String.format(MESSAGE_INVALID_COMMAND_FORMAT, MergeCommand.MESSAGE_USAGE));
+        }
+
+        try {
+            Index targetIndex = ParserUtil.parseIndex(indexes[0]);
+            Index otherIndex = ParserUtil.parseIndex(indexes[1]);
+            return new MergeCommand(targetIndex, otherIndex);
+        } catch (ParseException pe) {
+            throw new ParseException(
+                    String.format(MESSAGE_INVALID_COMMAND_FORMAT, MergeCommand.MESSAGE_USAGE), pe);
+        }
+    }
+
+}
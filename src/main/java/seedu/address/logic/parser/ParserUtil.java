@@ -31,6 +31,8 @@ import seedu.address.model.tag.Tag;
 public class ParserUtil {
 
     public static final String MESSAGE_INVALID_INDEX = "Index is not a non-zero unsigned integer.";
+    public static final String MESSAGE_INVALID_DURATION =
+            "DURATION should be a number of minutes from 1 to " + (Appointment.MINUTES_PER_DAY - 1);
 
     /**
      * Parses {@code oneBasedIndex} into an {@code Index} and returns it. Leading and trailing whitespaces will be
@@ -45,6 +47,20 @@ public class ParserUtil {
         return Index.fromOneBased(Integer.parseInt(trimmedIndex));
     }
 
+    /**
+     * Parses {@code duration} into a number of minutes that a slot of a day can last. Leading and trailing
+     * whitespaces will be trimmed.
+     * @throws ParseException if the given {@code duration} is not a number from 1 to 1439.
+     */
+    public static int parseDuration(String duration) throws ParseException {
+        String trimmedDuration = duration.trim();
+        if (!StringUtil.isNonZeroUnsignedInteger(trimmedDuration)
+                || Integer.parseInt(trimmedDuration) >= Appointment.MINUTES_PER_DAY) {
+            throw new ParseException(MESSAGE_INVALID_DURATION);
+        }
+        return Integer.parseInt(trimmedDuration);
+    }
+
     /**
      * Parses a {@code String name} into a {@code Name}.
      * Leading and trailing whitespaces will be trimmed.
@@ -132,7 +148,7 @@ public class ParserUtil {
         if (!Tag.isValidTagName(trimmedTag)) {
             throw new ParseException(Tag.MESSAGE_CONSTRAINTS);
         }
-        return new Tag(trimmedTag);
+        return Tag.of(trimmedTag);
     }
 
     /**
@@ -178,7 +194,7 @@ public class ParserUtil {
         if (!Appointment.isValidAppointment(trimmedAppointment)) {
             throw new ParseException(Appointment.MESSAGE_CONSTRAINTS);
         }
-        return new Appointment(trimmedAppointment);
+        return Appointment.of(trimmedAppointment);
     }
     /**
      * Parses {@code Collection<String> appointment} into an {@code AppointmentList}.
@@ -216,7 +232,7 @@ public class ParserUtil {
         if (!Subject.isValidSubject(trimmedSubject)) {
             throw new ParseException(Subject.MESSAGE_CONSTRAINTS);
         }
-        return new Subject(trimmedSubject);
+        return Subject.of(trimmedSubject);
     }
 
     /**
@@ -249,6 +265,6 @@ public class ParserUtil {
         if (!Level.isValidLevel(level)) {
             throw new IllegalArgumentException(Level.MESSAGE_CONSTRAINTS);
         }
-        return new Level(level);
+        return Level.of(level);
     }
 }
@@ -0,0 +1,69 @@
+package seedu.address.logic.parser;
+
+import static seedu.address.logic.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+import static seedu.address.logic.parser.CliSyntax.INCORRECT_PREFIX_MAP;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_LESSON;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import seedu.address.commons.core.index.Index;
+import seedu.address.logic.commands.ScheduleCommand;
+import seedu.address.logic.commands.ScheduleCommand.PendingLesson;
+import seedu.address.logic.parser.exceptions.ParseException;
+import seedu.address.model.appointment.Appointment;
+import seedu.address.model.appointment.LessonRequest;
+
+/**
+ * Parses input arguments and creates a new ScheduleCommand object.
+ */
+public class ScheduleCommandParser implements Parser<ScheduleCommand> {
+
+    /**
+     * Parses the given {@code String} of arguments in the context of the ScheduleCommand
+     * and returns a ScheduleCommand object for execution.
+     * @throws ParseException if the user input does not conform the expected format
+     */
+    public ScheduleCommand parse(String args) throws ParseException {
+        ArgumentMultimap argMultimap = ArgumentTokenizer.tokenize(args, INCORRECT_PREFIX_MAP, PREFIX_LESSON);
+
+        List<String> lessonValues = argMultimap.getAllValues(PREFIX_LESSON);
+        if (!argMultimap.getPreamble().isEmpty() || lessonValues.isEmpty()) {
+            throw new ParseException(String.format(MESSAGE_INVALID_COMMAND_FORMAT, ScheduleCommand.MESSAGE_USAGE));
+        }
+
+        List<PendingLesson> lessons = new ArrayList<>();
+        for (String lessonValue : lessonValues) {
+            lessons.add(parsePendingLesson(lessonValue));
+        }
+        return new ScheduleCommand(lessons);
+    }
+
+    /**
+     * Parses {@code lesson}, of the format {@code INDEX DURATION FROM-TO DAY [MORE_DAYS]...}, into a
+     * {@code PendingLesson} that may be held within FROM-TO on any of the days.
+     */
+    private static PendingLesson parsePendingLesson(String lesson) throws ParseException {
+        String[] parts = lesson.trim().split("\\s+");
+        if (parts.length < 4 || !parts[2].contains("-")) {
+            throw new ParseException(String.format(MESSAGE_INVALID_COMMAND_FORMAT, ScheduleCommand.MESSAGE_USAGE));
+        }
+
+        Index index = ParserUtil.parseIndex(parts[0]);
+        int duration = ParserUtil.parseDuration(parts[1]);
+        List<Appointment> windows = new ArrayList<>();
+        for (int i = 3; i < parts.length; i++) {
+            String day = parts[i].toUpperCase();
+            if (!Appointment.DAY_TO_DAY_OF_WEEK.containsKey(day)) {
+                throw new ParseException(
+                        String.format(MESSAGE_INVALID_COMMAND_FORMAT, ScheduleCommand.MESSAGE_USAGE));
+            }
+            String window = parts[2] + " " + day;
+            if (!Appointment.isValidAppointment(window)) {
+                throw new ParseException(Appointment.MESSAGE_CONSTRAINTS);
+            }
+            windows.add(Appointment.of(window));
+        }
+        return new PendingLesson(index, new LessonRequest(duration, windows));
+    }
+}
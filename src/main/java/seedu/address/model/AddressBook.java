@@ -1,17 +1,40 @@
 package seedu.address.model;
 
 import static java.util.Objects.requireNonNull;
+import static seedu.address.commons.util.AppUtil.checkArgument;
+import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
 
+import java.time.DayOfWeek;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
 import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
 import java.util.stream.Collectors;
 
 import javafx.collections.ObservableList;
 import seedu.address.commons.util.ToStringBuilder;
 import seedu.address.model.appointment.Appointment;
+import seedu.address.model.appointment.AppointmentOccupancy;
 import seedu.address.model.appointment.DisjointAppointmentList;
+import seedu.address.model.appointment.LessonRequest;
+import seedu.address.model.appointment.TimetableSolver;
+import seedu.address.model.person.DuplicateCandidate;
+import seedu.address.model.person.DuplicateFinder;
+import seedu.address.model.person.LessonGroup;
+import seedu.address.model.person.LessonGroupMatcher;
+import seedu.address.model.person.Level;
 import seedu.address.model.person.Person;
+import seedu.address.model.person.PersonFilter;
+import seedu.address.model.person.SearchKeywordsPredicate;
+import seedu.address.model.person.Subject;
 import seedu.address.model.person.UniquePersonList;
+import seedu.address.model.person.exceptions.PersonNotFoundException;
 
 /**
  * Wraps all data at the address-book level
@@ -19,29 +42,65 @@ import seedu.address.model.person.UniquePersonList;
  */
 public class AddressBook implements ReadOnlyAddressBook {
 
+    /** Search results holding more than one in this many persons are put in order by walking the person list. */
+    private static final int LARGE_RESULT_FRACTION = 16;
+
     private final DisjointAppointmentList appointments;
     private final UniquePersonList persons;
 
-    /*
-     * The 'unusual' code block below is a non-static initialization block, sometimes used to avoid duplication
-     * between constructors. See https://docs.oracle.com/javase/tutorial/java/javaOO/initial.html
-     *
-     * Note that non-static init blocks are not recommended to use. There are other ways to avoid duplication
-     *   among constructors.
+    /**
+     * Tags, subjects and levels of the persons, or null until first needed.
+     * It is built on demand so that the persons of a lazily loaded list are not all read up front.
      */
-    {
-        persons = new UniquePersonList();
-        appointments = new DisjointAppointmentList();
-    }
+    private PersonAttributeIndex attributeIndex;
+
+    /** Words of the persons' names, addresses, emails and notes, or null until first needed. */
+    private PersonTextIndex textIndex;
+
+    /** The person who has each appointment, or null until first needed. */
+    private Map<Appointment, Person> appointmentOwners;
 
-    public AddressBook() {}
+    /** Incremented on every modification, so that callers can tell whether the data has changed. */
+    private long version;
+
+    public AddressBook() {
+        this(new UniquePersonList(), new DisjointAppointmentList());
+    }
 
     /**
      * Creates an AddressBook using the Persons in the {@code toBeCopied}
      */
     public AddressBook(ReadOnlyAddressBook toBeCopied) {
-        this();
-        resetData(toBeCopied);
+        // the contents of another AddressBook already satisfy the constraints, so they are copied as they are
+        this(toBeCopied instanceof AddressBook
+                ? new UniquePersonList(((AddressBook) toBeCopied).persons)
+                : new UniquePersonList(),
+                new DisjointAppointmentList());
+        if (toBeCopied instanceof AddressBook) {
+            appointments.setAppointments(((AddressBook) toBeCopied).appointments);
+        } else {
+            resetData(toBeCopied);
+        }
+    }
+
+    private AddressBook(UniquePersonList persons, DisjointAppointmentList appointments) {
+        this.persons = persons;
+        this.appointments = appointments;
+    }
+
+    /**
+     * Returns an AddressBook holding {@code persons}, which must not contain duplicate persons, and
+     * {@code appointments}, which must be exactly the appointments of those persons.
+     * The persons are neither checked nor read until they are needed, so {@code persons} may load its elements
+     * lazily. It must not be modified afterwards.
+     */
+    public static AddressBook ofUncheckedPersons(List<Person> persons, Collection<Appointment> appointments) {
+        requireNonNull(persons);
+        requireNonNull(appointments);
+        AddressBook addressBook = new AddressBook(UniquePersonList.ofUnchecked(persons),
+                new DisjointAppointmentList());
+        addressBook.appointments.setAppointments(appointments);
+        return addressBook;
     }
 
     //// list overwrite operations
@@ -53,13 +112,16 @@ public class AddressBook implements ReadOnlyAddressBook {
      */
     public void setPersons(List<Person> persons) {
         this.persons.setPersons(persons);
+        attributeIndex = null;
+        textIndex = null;
+        appointmentOwners = null;
         this.appointments.setAppointments(persons
                 .stream()
                 .flatMap(person -> person.getAppointments()
                         .asUnmodifiableObservableList()
                         .stream())
                 .collect(Collectors.toList()));
-        this.appointments.sort();
+        version++;
     }
 
     /**
@@ -68,7 +130,6 @@ public class AddressBook implements ReadOnlyAddressBook {
     public void resetData(ReadOnlyAddressBook newData) {
         requireNonNull(newData);
         setPersons(newData.getPersonList());
-        this.appointments.sort();
     }
 
     //// person-level operations
@@ -89,16 +150,59 @@ public class AddressBook implements ReadOnlyAddressBook {
         return persons.findNearDuplicates(person);
     }
 
+    /**
+     * Returns the pairs of persons in the address book that are probably the same person, most likely first.
+     */
+    public List<DuplicateCandidate> findDuplicates() {
+        return DuplicateFinder.findDuplicates(persons.asUnmodifiableObservableList());
+    }
+
+    /**
+     * Returns the groups of persons taking {@code subject} at {@code level} who could take a lesson together at a
+     * time free of the appointments of its members and of every person not taking them, largest first.
+     */
+    public List<LessonGroup> findLessonGroups(Subject subject, Level level) {
+        requireAllNonNull(subject, level);
+        List<Person> candidates = getPersonsMatching(new PersonFilter(
+                Collections.emptySet(), Collections.singleton(subject), Collections.singleton(level)));
+        // the appointments of other persons take the tutor's time, while those of the candidates are left to the
+        // matcher, as they only keep the groups they are in from meeting; appointments are disjoint, so removing
+        // those of the candidates leaves the minutes of the others taken
+        AppointmentOccupancy takenByOthers = appointments.getOccupancy();
+        for (Person candidate : candidates) {
+            for (Appointment appointment : candidate.getAppointments()) {
+                takenByOthers.remove(appointment);
+            }
+        }
+        return LessonGroupMatcher.findGroups(candidates, takenByOthers);
+    }
+
+    /**
+     * Returns the slot found for each of {@code requests}, in the same order, or an empty {@code Optional} for
+     * those that could not be scheduled. The slots do not overlap with each other or with any appointment.
+     */
+    public List<Optional<Appointment>> findLessonSlots(List<LessonRequest> requests) {
+        requireNonNull(requests);
+        return TimetableSolver.solve(appointments.getOccupancy(), requests);
+    }
+
     /**
      * Adds a person to the address book.
      * The person must not already exist in the address book.
      */
     public void addPerson(Person p) {
         persons.add(p);
-        for (Appointment appointment : p.getAppointments()) {
-            addAppointment(appointment);
+        if (attributeIndex != null) {
+            attributeIndex.add(p);
         }
-        this.appointments.sort();
+        if (textIndex != null) {
+            textIndex.add(p);
+        }
+        appointments.addAll(p.getAppointments().asUnmodifiableObservableList());
+        if (appointmentOwners != null) {
+            putAppointmentOwner(p);
+        }
+        version++;
     }
 
     /**
@@ -109,18 +213,63 @@ public class AddressBook implements ReadOnlyAddressBook {
     public void setPerson(Person target, Person editedPerson) {
         requireNonNull(editedPerson);
 
+        int position = attributeIndex == null ? -1 : persons.indexOf(target);
         persons.setPerson(target, editedPerson);
+        if (attributeIndex != null) {
+            attributeIndex.set(position, target, editedPerson);
+        }
+        if (textIndex != null) {
+            textIndex.set(target, editedPerson);
+        }
+        appointments.replaceAppointments(target.getAppointments().asUnmodifiableObservableList(),
+                editedPerson.getAppointments().asUnmodifiableObservableList());
+        if (appointmentOwners != null) {
+            removeAppointmentOwner(target);
+            putAppointmentOwner(editedPerson);
+        }
+        version++;
+    }
 
-        // remove target's appointments
-        for (Appointment appointment : target.getAppointments()) {
-            appointments.remove(appointment);
+    /**
+     * Replaces the given person {@code target} with {@code mergedPerson} and removes {@code other}, as a single
+     * modification.
+     * {@code target} and {@code other} must be different persons in the address book.
+     * The person identity of {@code mergedPerson} must be the same as that of {@code target}, and its appointments
+     * must not overlap with those of the other persons in the address book.
+     */
+    public void mergePersons(Person target, Person other, Person mergedPerson) {
+        requireAllNonNull(target, other, mergedPerson);
+        checkArgument(target.isSamePerson(mergedPerson) && !target.isSamePerson(other));
+
+        int targetPosition = persons.indexOf(target);
+        int otherPosition = persons.indexOf(other);
+        if (targetPosition == -1 || otherPosition == -1) {
+            throw new PersonNotFoundException();
         }
 
-        // add editedPerson's appointments
-        for (Appointment appointment : editedPerson.getAppointments()) {
-            addAppointment(appointment);
+        // the appointments of both persons are replaced together, so they are checked against the others only once
+        List<Appointment> replacedAppointments =
+                new ArrayList<>(target.getAppointments().asUnmodifiableObservableList());
+        replacedAppointments.addAll(other.getAppointments().asUnmodifiableObservableList());
+        appointments.replaceAppointments(replacedAppointments,
+                mergedPerson.getAppointments().asUnmodifiableObservableList());
+
+        persons.setPerson(target, mergedPerson);
+        persons.remove(other);
+        if (attributeIndex != null) {
+            attributeIndex.set(targetPosition, target, mergedPerson);
+            attributeIndex.remove(otherPosition, other);
+        }
+        if (textIndex != null) {
+            textIndex.set(target, mergedPerson);
+            textIndex.remove(other);
         }
-        this.appointments.sort();
+        if (appointmentOwners != null) {
+            removeAppointmentOwner(target);
+            removeAppointmentOwner(other);
+            putAppointmentOwner(mergedPerson);
+        }
+        version++;
     }
 
     /**
@@ -128,14 +277,73 @@ public class AddressBook implements ReadOnlyAddressBook {
      * {@code key} must exist in the address book.
      */
     public void removePerson(Person key) {
+        int position = attributeIndex == null ? -1 : persons.indexOf(key);
         persons.remove(key);
+        if (attributeIndex != null) {
+            attributeIndex.remove(position, key);
+        }
+        if (textIndex != null) {
+            textIndex.remove(key);
+        }
+        appointments.removeAll(key.getAppointments().asUnmodifiableObservableList());
+        if (appointmentOwners != null) {
+            removeAppointmentOwner(key);
+        }
+        version++;
+    }
 
-        // remove key's appointments
-        for (Appointment appointment : key.getAppointments()) {
-            appointments.remove(appointment);
+    /**
+     * Returns the persons that {@code filter} accepts, in the order of the person list.
+     * The persons are found through an index of their tags, subjects and levels rather than by testing each one.
+     */
+    public List<Person> getPersonsMatching(PersonFilter filter) {
+        requireNonNull(filter);
+        List<Person> personList = persons.asUnmodifiableObservableList();
+        if (attributeIndex == null) {
+            attributeIndex = new PersonAttributeIndex(personList);
         }
 
-        this.appointments.sort();
+        BitSet positions = attributeIndex.getMatching(filter);
+        List<Person> matching = new ArrayList<>(positions.cardinality());
+        for (int i = positions.nextSetBit(0); i >= 0; i = positions.nextSetBit(i + 1)) {
+            matching.add(personList.get(i));
+        }
+        return matching;
+    }
+
+    /**
+     * Returns the persons that {@code predicate} accepts, in the order of the person list.
+     * The persons are found through an index of the words in their details rather than by testing each one.
+     */
+    public List<Person> getPersonsMatching(SearchKeywordsPredicate predicate) {
+        requireNonNull(predicate);
+        if (textIndex == null) {
+            textIndex = new PersonTextIndex(persons.asUnmodifiableObservableList());
+        }
+
+        Set<Person> matchingSet = textIndex.getMatching(predicate);
+        List<Person> personList = persons.asUnmodifiableObservableList();
+        List<Person> matching = new ArrayList<>(matchingSet.size());
+        if (matchingSet.size() > personList.size() / LARGE_RESULT_FRACTION) {
+            // walking the list is cheaper than looking up the positions of this many persons
+            for (Person person : personList) {
+                if (matchingSet.contains(person)) {
+                    matching.add(person);
+                }
+            }
+            return matching;
+        }
+
+        int[] positions = new int[matchingSet.size()];
+        int i = 0;
+        for (Person person : matchingSet) {
+            positions[i++] = persons.indexOf(person);
+        }
+        Arrays.sort(positions);
+        for (int position : positions) {
+            matching.add(personList.get(position));
+        }
+        return matching;
     }
 
     //// appointment-level operations
@@ -145,7 +353,7 @@ public class AddressBook implements ReadOnlyAddressBook {
      */
     public void addAppointment(Appointment appointment) {
         appointments.add(appointment);
-        this.appointments.sort();
+        version++;
     }
 
     /**
@@ -157,7 +365,57 @@ public class AddressBook implements ReadOnlyAddressBook {
         requireNonNull(editedAppointment);
 
         appointments.setAppointment(target, editedAppointment);
-        this.appointments.sort();
+        version++;
+    }
+
+    /**
+     * Returns the appointments in the address book on {@code day}, in order of start time.
+     */
+    public List<Appointment> getAppointmentsOn(DayOfWeek day) {
+        requireNonNull(day);
+        return appointments.getAppointmentsOn(day);
+    }
+
+    /**
+     * Returns the stretches of time within {@code window} that are free of appointments and at least
+     * {@code minDuration} minutes long, in order of start time.
+     */
+    public List<Appointment> getFreeSlots(Appointment window, int minDuration) {
+        requireNonNull(window);
+        return appointments.getFreeSlots(window, minDuration);
+    }
+
+    /**
+     * Returns the number of minutes of {@code day} taken by the appointments in the address book.
+     */
+    public int getBookedMinutes(DayOfWeek day) {
+        requireNonNull(day);
+        return appointments.getBookedMinutes(day);
+    }
+
+    /**
+     * Returns the person in the address book who has {@code appointment}, or null if no person has it.
+     * The owners are looked up in an index of the persons' appointments rather than by searching the persons.
+     */
+    public Person getAppointmentOwner(Appointment appointment) {
+        requireNonNull(appointment);
+        if (appointmentOwners == null) {
+            appointmentOwners = new HashMap<>();
+            persons.asUnmodifiableObservableList().forEach(this::putAppointmentOwner);
+        }
+        return appointmentOwners.get(appointment);
+    }
+
+    private void putAppointmentOwner(Person person) {
+        for (Appointment appointment : person.getAppointments()) {
+            appointmentOwners.put(appointment, person);
+        }
+    }
+
+    private void removeAppointmentOwner(Person person) {
+        for (Appointment appointment : person.getAppointments()) {
+            appointmentOwners.remove(appointment, person);
+        }
     }
 
     /**
@@ -168,6 +426,14 @@ public class AddressBook implements ReadOnlyAddressBook {
         return appointments.overlaps(appointment);
     }
 
+    /**
+     * Returns the appointments in the address book that overlap with {@code appointment}, in order of start time.
+     */
+    public List<Appointment> getOverlappingAppointments(Appointment appointment) {
+        requireNonNull(appointment);
+        return appointments.getOverlapping(appointment);
+    }
+
     /**
      * Returns true if an appointment in {@code appointments} overlaps with existing appointments in the address book.
      */
@@ -181,6 +447,22 @@ public class AddressBook implements ReadOnlyAddressBook {
         return false;
     }
 
+    /**
+     * Returns the modification version of this address book.
+     * The version changes whenever the persons or appointments are modified.
+     */
+    public long getVersion() {
+        return version;
+    }
+
+    /**
+     * Returns an immutable copy of the current contents of this address book.
+     * Later modifications of this address book are not reflected in the returned snapshot.
+     */
+    public ReadOnlyAddressBook snapshot() {
+        return new AddressBookSnapshot(persons, appointments.asUnmodifiableObservableList());
+    }
+
     //// util methods
 
     @Override
@@ -0,0 +1,11 @@
+package seedu.address.model;
+
+/**
+ * The file formats in which the address book can be stored.
+ */
+public enum AddressBookFormat {
+    /** Human-readable JSON document. */
+    JSON,
+    /** Compact binary snapshot. */
+    BINARY
+}
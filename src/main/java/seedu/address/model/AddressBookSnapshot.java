@@ -0,0 +1,52 @@
+package seedu.address.model;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.List;
+
+import javafx.collections.FXCollections;
+import javafx.collections.ObservableList;
+import seedu.address.commons.util.ToStringBuilder;
+import seedu.address.model.appointment.Appointment;
+import seedu.address.model.person.Person;
+import seedu.address.model.person.UniquePersonList;
+
+/**
+ * An immutable copy of the contents of an {@code AddressBook} at some point in time.
+ * As persons and appointments are themselves immutable, a snapshot can be safely handed to another thread
+ * while the address book it was taken from continues to be modified.
+ */
+final class AddressBookSnapshot implements ReadOnlyAddressBook {
+
+    private final ObservableList<Person> persons;
+    private final ObservableList<Appointment> appointments;
+
+    /**
+     * Creates a snapshot holding copies of {@code persons} and {@code appointments}.
+     * Persons that {@code persons} has not loaded yet are left to be loaded when the snapshot is read.
+     */
+    AddressBookSnapshot(UniquePersonList persons, List<Appointment> appointments) {
+        requireNonNull(persons);
+        requireNonNull(appointments);
+        this.persons = new UniquePersonList(persons).asUnmodifiableObservableList();
+        this.appointments = FXCollections.unmodifiableObservableList(
+                FXCollections.observableArrayList(appointments));
+    }
+
+    @Override
+    public ObservableList<Person> getPersonList() {
+        return persons;
+    }
+
+    @Override
+    public ObservableList<Appointment> getAppointmentList() {
+        return appointments;
+    }
+
+    @Override
+    public String toString() {
+        return new ToStringBuilder(this)
+                .add("persons", persons)
+                .toString();
+    }
+}
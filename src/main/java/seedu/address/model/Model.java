@@ -1,14 +1,23 @@
 package seedu.address.model;
 
 import java.nio.file.Path;
+import java.time.DayOfWeek;
 import java.util.Collection;
 import java.util.List;
+import java.util.Optional;
 import java.util.function.Predicate;
 
 import javafx.collections.ObservableList;
 import seedu.address.commons.core.GuiSettings;
 import seedu.address.model.appointment.Appointment;
+import seedu.address.model.appointment.LessonRequest;
+import seedu.address.model.person.DuplicateCandidate;
+import seedu.address.model.person.LessonGroup;
+import seedu.address.model.person.Level;
 import seedu.address.model.person.Person;
+import seedu.address.model.person.PersonFilter;
+import seedu.address.model.person.SearchKeywordsPredicate;
+import seedu.address.model.person.Subject;
 
 /**
  * The API of the Model component.
@@ -55,6 +64,17 @@ public interface Model {
     /** Returns the AddressBook */
     ReadOnlyAddressBook getAddressBook();
 
+    /**
+     * Returns the modification version of the address book.
+     * The version changes whenever the address book data is modified, and stays the same otherwise.
+     */
+    long getAddressBookVersion();
+
+    /**
+     * Returns an immutable snapshot of the current address book data, which is safe to read from other threads.
+     */
+    ReadOnlyAddressBook getAddressBookSnapshot();
+
     /**
      * Returns true if a person with the same identity as {@code person} exists in the address book.
      */
@@ -65,6 +85,11 @@ public interface Model {
      */
     List<String> findNearDuplicates(Person person);
 
+    /**
+     * Returns the pairs of persons in the address book that are probably the same person, most likely first.
+     */
+    List<DuplicateCandidate> findDuplicates();
+
 
     /**
      * Deletes the given person.
@@ -78,6 +103,19 @@ public interface Model {
      */
     void addPerson(Person person);
 
+    /**
+     * Returns the groups of persons taking {@code subject} at {@code level} who could take a lesson together,
+     * as some slot of a lesson's length is taken neither by an appointment of a member nor by one of a person
+     * not taking the subject at the level, largest groups first.
+     */
+    List<LessonGroup> findLessonGroups(Subject subject, Level level);
+
+    /**
+     * Returns the slot found for each of {@code requests}, in the same order, or an empty {@code Optional} for
+     * those that could not be scheduled. The slots do not overlap with each other or with any appointment.
+     */
+    List<Optional<Appointment>> findLessonSlots(List<LessonRequest> requests);
+
     /**
      * Replaces the given person {@code target} with {@code editedPerson}.
      * {@code target} must exist in the address book.
@@ -85,6 +123,14 @@ public interface Model {
      */
     void setPerson(Person target, Person editedPerson);
 
+    /**
+     * Replaces the given person {@code target} with {@code mergedPerson} and deletes {@code other}, as one change.
+     * {@code target} and {@code other} must be different persons in the address book.
+     * The person identity of {@code mergedPerson} must be the same as that of {@code target}, and its appointments
+     * must not overlap with those of the other persons in the address book.
+     */
+    void mergePersons(Person target, Person other, Person mergedPerson);
+
     /**
      * Returns true if an existing appointment overlaps with any appointment in {@code appointments}.
      */
@@ -95,6 +141,33 @@ public interface Model {
      */
     boolean appointmentsOverlap(Appointment appointment);
 
+    /**
+     * Returns the existing appointments that overlap with {@code appointment}, in order of start time.
+     */
+    List<Appointment> getOverlappingAppointments(Appointment appointment);
+
+    /**
+     * Returns the appointments on any of {@code days} of the persons in the filtered person list, in order of
+     * start time.
+     */
+    List<Appointment> getFilteredAppointmentsOn(Collection<DayOfWeek> days);
+
+    /**
+     * Returns the stretches of time within {@code window} that are free of appointments and at least
+     * {@code minDuration} minutes long, in order of start time.
+     */
+    List<Appointment> getFreeSlots(Appointment window, int minDuration);
+
+    /**
+     * Returns the number of minutes of {@code day} taken by appointments.
+     */
+    int getBookedMinutes(DayOfWeek day);
+
+    /**
+     * Returns the person who has {@code appointment}, or null if no person in the address book has it.
+     */
+    Person getAppointmentOwner(Appointment appointment);
+
     /** Returns an unmodifiable view of the filtered person list */
     ObservableList<Person> getFilteredPersonList();
 
@@ -107,6 +180,20 @@ public interface Model {
      */
     void updateFilteredPersonList(Predicate<Person> predicate);
 
+    /**
+     * Updates the filter of the filtered person list to show the persons that {@code filter} accepts,
+     * found through an index of the persons' tags, subjects and levels.
+     * @throws NullPointerException if {@code filter} is null.
+     */
+    void updateFilteredPersonList(PersonFilter filter);
+
+    /**
+     * Updates the filter of the filtered person list to show the persons that {@code predicate} accepts,
+     * found through an index of the words in the persons' details.
+     * @throws NullPointerException if {@code predicate} is null.
+     */
+    void updateFilteredPersonList(SearchKeywordsPredicate predicate);
+
     /**
      * Updates the filter of the filtered Appointment list to filter by the given {@code predicate}.
      * @throws NullPointerException if {@code predicate} is null.
@@ -4,8 +4,12 @@ import static java.util.Objects.requireNonNull;
 import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
 
 import java.nio.file.Path;
+import java.time.DayOfWeek;
+import java.util.ArrayList;
 import java.util.Collection;
 import java.util.List;
+import java.util.Optional;
+import java.util.function.Function;
 import java.util.function.Predicate;
 import java.util.logging.Logger;
 
@@ -14,7 +18,14 @@ import javafx.collections.transformation.FilteredList;
 import seedu.address.commons.core.GuiSettings;
 import seedu.address.commons.core.LogsCenter;
 import seedu.address.model.appointment.Appointment;
+import seedu.address.model.appointment.LessonRequest;
+import seedu.address.model.person.DuplicateCandidate;
+import seedu.address.model.person.LessonGroup;
+import seedu.address.model.person.Level;
 import seedu.address.model.person.Person;
+import seedu.address.model.person.PersonFilter;
+import seedu.address.model.person.SearchKeywordsPredicate;
+import seedu.address.model.person.Subject;
 
 /**
  * Represents the in-memory model of the address book data.
@@ -25,19 +36,29 @@ public class ModelManager implements Model {
     private final AddressBook addressBook;
     private final UserPrefs userPrefs;
     private final FilteredList<Person> filteredPersons;
+    private final ShownPersonList shownPersons;
     private final FilteredList<Appointment> filteredAppointments;
 
+    /**
+     * Finds the persons to show with an index of the address book, or is null if the persons shown are those
+     * passing the predicate of {@code filteredPersons}. The persons found are found again whenever the persons in
+     * the address book change, so that they are never out of date.
+     */
+    private Function<AddressBook, List<Person>> personsFound;
+
     /**
      * Initializes a ModelManager with the given addressBook and userPrefs.
      */
     public ModelManager(ReadOnlyAddressBook addressBook, ReadOnlyUserPrefs userPrefs) {
         requireAllNonNull(addressBook, userPrefs);
 
-        logger.fine("Initializing with address book: " + addressBook + " and user prefs " + userPrefs);
+        // built only when logged, as listing every person would load the persons of a lazily loaded address book
+        logger.fine(() -> "Initializing with address book: " + addressBook + " and user prefs " + userPrefs);
 
         this.addressBook = new AddressBook(addressBook);
         this.userPrefs = new UserPrefs(userPrefs);
         filteredPersons = new FilteredList<>(this.addressBook.getPersonList());
+        shownPersons = new ShownPersonList(filteredPersons);
         filteredAppointments = new FilteredList<>(this.addressBook.getAppointmentList());
     }
 
@@ -84,6 +105,7 @@ public class ModelManager implements Model {
     @Override
     public void setAddressBook(ReadOnlyAddressBook addressBook) {
         this.addressBook.resetData(addressBook);
+        refreshPersonsFound();
     }
 
     @Override
@@ -91,6 +113,16 @@ public class ModelManager implements Model {
         return addressBook;
     }
 
+    @Override
+    public long getAddressBookVersion() {
+        return addressBook.getVersion();
+    }
+
+    @Override
+    public ReadOnlyAddressBook getAddressBookSnapshot() {
+        return addressBook.snapshot();
+    }
+
     //// person functionality
     @Override
     public boolean hasPerson(Person person) {
@@ -107,9 +139,27 @@ public class ModelManager implements Model {
         return addressBook.findNearDuplicates(person);
     }
 
+    @Override
+    public List<DuplicateCandidate> findDuplicates() {
+        return addressBook.findDuplicates();
+    }
+
+    @Override
+    public List<LessonGroup> findLessonGroups(Subject subject, Level level) {
+        requireAllNonNull(subject, level);
+        return addressBook.findLessonGroups(subject, level);
+    }
+
+    @Override
+    public List<Optional<Appointment>> findLessonSlots(List<LessonRequest> requests) {
+        requireNonNull(requests);
+        return addressBook.findLessonSlots(requests);
+    }
+
     @Override
     public void deletePerson(Person target) {
         addressBook.removePerson(target);
+        refreshPersonsFound();
     }
 
     @Override
@@ -124,6 +174,15 @@ public class ModelManager implements Model {
         requireAllNonNull(target, editedPerson);
 
         addressBook.setPerson(target, editedPerson);
+        refreshPersonsFound();
+    }
+
+    @Override
+    public void mergePersons(Person target, Person other, Person mergedPerson) {
+        requireAllNonNull(target, other, mergedPerson);
+
+        addressBook.mergePersons(target, other, mergedPerson);
+        refreshPersonsFound();
     }
 
     //// appointment functionality
@@ -139,6 +198,12 @@ public class ModelManager implements Model {
         return addressBook.appointmentsOverlap(appointments);
     }
 
+    @Override
+    public List<Appointment> getOverlappingAppointments(Appointment appointment) {
+        requireNonNull(appointment);
+        return addressBook.getOverlappingAppointments(appointment);
+    }
+
 
     //=========== Filtered Person List Accessors =============================================================
 
@@ -148,13 +213,86 @@ public class ModelManager implements Model {
      */
     @Override
     public ObservableList<Person> getFilteredPersonList() {
-        return filteredPersons;
+        return shownPersons;
     }
 
     @Override
     public void updateFilteredPersonList(Predicate<Person> predicate) {
         requireNonNull(predicate);
+        personsFound = null;
+        // the predicate is set first, so that showing the filtered list again replaces the persons found only once
         filteredPersons.setPredicate(predicate);
+        shownPersons.showAll();
+    }
+
+    @Override
+    public void updateFilteredPersonList(PersonFilter filter) {
+        requireNonNull(filter);
+        setPersonsFound(book -> book.getPersonsMatching(filter));
+    }
+
+    @Override
+    public void updateFilteredPersonList(SearchKeywordsPredicate predicate) {
+        requireNonNull(predicate);
+        setPersonsFound(book -> book.getPersonsMatching(predicate));
+    }
+
+    private void setPersonsFound(Function<AddressBook, List<Person>> personsFound) {
+        this.personsFound = personsFound;
+        refreshPersonsFound();
+        // cleared once the persons found are shown, so that the filtered list no longer tests each person
+        filteredPersons.setPredicate(null);
+    }
+
+    /**
+     * Finds the persons shown in the address book as it is now, if they are found with an index.
+     * Called after every change to the persons, once the address book has brought its indexes up to date.
+     */
+    private void refreshPersonsFound() {
+        if (personsFound != null) {
+            shownPersons.show(personsFound.apply(addressBook));
+        }
+    }
+
+    @Override
+    public List<Appointment> getFilteredAppointmentsOn(Collection<DayOfWeek> days) {
+        requireAllNonNull(days);
+        // the persons found by an index are looked up among those shown, instead of testing each owner again
+        Predicate<? super Person> isShown = shownPersons.isShowingAll()
+                ? filteredPersons.getPredicate()
+                : shownPersons::isFound;
+        // only the appointments on the days are visited, as the appointments are kept in order of start time
+        List<Appointment> appointments = new ArrayList<>();
+        for (DayOfWeek day : DayOfWeek.values()) {
+            if (!days.contains(day)) {
+                continue;
+            }
+            for (Appointment appointment : addressBook.getAppointmentsOn(day)) {
+                Person owner = addressBook.getAppointmentOwner(appointment);
+                if (owner != null && (isShown == null || isShown.test(owner))) {
+                    appointments.add(appointment);
+                }
+            }
+        }
+        return appointments;
+    }
+
+    @Override
+    public List<Appointment> getFreeSlots(Appointment window, int minDuration) {
+        requireNonNull(window);
+        return addressBook.getFreeSlots(window, minDuration);
+    }
+
+    @Override
+    public int getBookedMinutes(DayOfWeek day) {
+        requireNonNull(day);
+        return addressBook.getBookedMinutes(day);
+    }
+
+    @Override
+    public Person getAppointmentOwner(Appointment appointment) {
+        requireNonNull(appointment);
+        return addressBook.getAppointmentOwner(appointment);
     }
 
     //=========== Filtered Appointment List Accessors =============================================================
@@ -188,7 +326,7 @@ public class ModelManager implements Model {
         ModelManager otherModelManager = (ModelManager) other;
         return addressBook.equals(otherModelManager.addressBook)
                 && userPrefs.equals(otherModelManager.userPrefs)
-                && filteredPersons.equals(otherModelManager.filteredPersons)
+                && shownPersons.equals(otherModelManager.shownPersons)
                 && filteredAppointments.equals(otherModelManager.filteredAppointments);
     }
 
@@ -0,0 +1,131 @@
+package seedu.address.model;
+
+import java.util.BitSet;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import seedu.address.model.person.Level;
+import seedu.address.model.person.Person;
+import seedu.address.model.person.PersonFilter;
+import seedu.address.model.person.Subject;
+import seedu.address.model.tag.Tag;
+
+/**
+ * An inverted index from each tag, subject and level to the positions of the persons in a person list that have it.
+ *
+ * Positions are held in bitmaps, so a {@link PersonFilter} is answered by OR-ing the bitmaps of each attribute's
+ * values and AND-ing the results, without looking at the persons themselves.
+ */
+class PersonAttributeIndex {
+
+    private final Map<Tag, BitSet> positionsByTag = new HashMap<>();
+    private final Map<Subject, BitSet> positionsBySubject = new HashMap<>();
+    private final Map<Level, BitSet> positionsByLevel = new HashMap<>();
+    private int size;
+
+    /**
+     * Creates an index of {@code persons}.
+     */
+    PersonAttributeIndex(List<Person> persons) {
+        for (Person person : persons) {
+            add(person);
+        }
+    }
+
+    /**
+     * Records {@code person} as the last person of the list.
+     */
+    void add(Person person) {
+        mark(size++, person, true);
+    }
+
+    /**
+     * Records that {@code target} at {@code position} has been replaced by {@code editedPerson}.
+     */
+    void set(int position, Person target, Person editedPerson) {
+        mark(position, target, false);
+        mark(position, editedPerson, true);
+    }
+
+    /**
+     * Records that {@code person} at {@code position} has been removed, moving the persons after it up by one.
+     */
+    void remove(int position, Person person) {
+        mark(position, person, false);
+        for (Map<?, BitSet> positions : List.of(positionsByTag, positionsBySubject, positionsByLevel)) {
+            positions.values().forEach(bits -> removeBit(bits, position));
+        }
+        size--;
+    }
+
+    /**
+     * Returns the positions of the persons that {@code filter} accepts.
+     */
+    BitSet getMatching(PersonFilter filter) {
+        BitSet matching = new BitSet(size);
+        matching.set(0, size);
+        intersect(matching, positionsByTag, filter.getTags());
+        intersect(matching, positionsBySubject, filter.getSubjects());
+        intersect(matching, positionsByLevel, filter.getLevels());
+        return matching;
+    }
+
+    private void mark(int position, Person person, boolean value) {
+        for (Tag tag : person.getTags()) {
+            mark(positionsByTag, tag, position, value);
+        }
+        for (Subject subject : person.getSubjects()) {
+            mark(positionsBySubject, subject, position, value);
+        }
+        if (!person.getLevel().isEmpty()) {
+            mark(positionsByLevel, person.getLevel(), position, value);
+        }
+    }
+
+    private static <K> void mark(Map<K, BitSet> positions, K key, int position, boolean value) {
+        if (value) {
+            positions.computeIfAbsent(key, k -> new BitSet()).set(position);
+            return;
+        }
+
+        BitSet bits = positions.get(key);
+        bits.clear(position);
+        if (bits.isEmpty()) {
+            positions.remove(key);
+        }
+    }
+
+    /**
+     * Clears the positions in {@code matching} that have none of {@code values}, unless {@code values} is empty.
+     */
+    private static <K> void intersect(BitSet matching, Map<K, BitSet> positions, Collection<K> values) {
+        if (values.isEmpty()) {
+            return;
+        }
+
+        BitSet anyValue = new BitSet();
+        for (K value : values) {
+            BitSet bits = positions.get(value);
+            if (bits != null) {
+                anyValue.or(bits);
+            }
+        }
+        matching.and(anyValue);
+    }
+
+    /**
+     * Removes bit {@code index} from {@code bits}, moving the bits above it down by one.
+     */
+    private static void removeBit(BitSet bits, int index) {
+        if (index >= bits.length()) {
+            return;
+        }
+        BitSet above = bits.get(index + 1, bits.length());
+        bits.clear(index, bits.length());
+        for (int i = above.nextSetBit(0); i >= 0; i = above.nextSetBit(i + 1)) {
+            bits.set(index + i);
+        }
+    }
+}
@@ -0,0 +1,143 @@
+package seedu.address.model;
+
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.IdentityHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+
+import seedu.address.model.person.Person;
+import seedu.address.model.person.SearchKeywordsPredicate;
+
+/**
+ * An inverted index from each word of the persons' names, addresses, emails and notes to the persons with it.
+ *
+ * The words are kept in a sorted tree, so the persons with a word starting with a keyword are found by walking
+ * only the words in that keyword's range. Only the keyword with the fewest such persons is looked up this way;
+ * those persons are then checked against the other keywords using their own words.
+ */
+class PersonTextIndex {
+
+    private static final long INITIAL_COUNT_LIMIT = 64;
+    private static final long COUNT_LIMIT_GROWTH = 8;
+
+    // keyed by equality, as the address book finds the persons it is given to modify by equality
+    private final TreeMap<String, Set<Person>> personsByWord = new TreeMap<>();
+    private final Map<Person, String[]> wordsByPerson = new HashMap<>();
+
+    /**
+     * Creates an index of {@code persons}.
+     */
+    PersonTextIndex(List<Person> persons) {
+        for (Person person : persons) {
+            add(person);
+        }
+    }
+
+    /**
+     * Adds the words of {@code person} to the index.
+     */
+    void add(Person person) {
+        String[] words = new LinkedHashSet<>(SearchKeywordsPredicate.getSearchedWords(person)).toArray(new String[0]);
+        wordsByPerson.put(person, words);
+        for (String word : words) {
+            personsByWord.computeIfAbsent(word, w -> new HashSet<>()).add(person);
+        }
+    }
+
+    /**
+     * Replaces the words of {@code target} in the index with those of {@code editedPerson}.
+     */
+    void set(Person target, Person editedPerson) {
+        remove(target);
+        add(editedPerson);
+    }
+
+    /**
+     * Removes the words of {@code person} from the index.
+     */
+    void remove(Person person) {
+        for (String word : wordsByPerson.remove(person)) {
+            Set<Person> persons = personsByWord.get(word);
+            persons.remove(person);
+            if (persons.isEmpty()) {
+                personsByWord.remove(word);
+            }
+        }
+    }
+
+    /**
+     * Returns the persons that {@code predicate} accepts, in no particular order.
+     * The set returned holds the persons added to the index, and is keyed by identity.
+     */
+    Set<Person> getMatching(SearchKeywordsPredicate predicate) {
+        List<String> keywords = predicate.getKeywords();
+        if (keywords.isEmpty()) {
+            return Collections.emptySet();
+        }
+
+        // counting stops at a limit that grows until some keyword stays under it, so an unselective keyword is
+        // never counted much further than the most selective one
+        String mostSelective = null;
+        long limit = INITIAL_COUNT_LIMIT;
+        while (mostSelective == null) {
+            long fewestPersons = limit;
+            for (String keyword : keywords) {
+                long persons = countPersonsUpTo(keyword, fewestPersons);
+                if (persons < fewestPersons) {
+                    mostSelective = keyword;
+                    fewestPersons = persons;
+                }
+            }
+            limit *= COUNT_LIMIT_GROWTH;
+        }
+
+        Set<Person> matching = Collections.newSetFromMap(new IdentityHashMap<>());
+        for (Set<Person> persons : getWordsStartingWith(mostSelective)) {
+            matching.addAll(persons);
+        }
+        for (String keyword : keywords) {
+            if (!keyword.equals(mostSelective)) {
+                matching.removeIf(person -> !hasWordStartingWith(person, keyword));
+            }
+        }
+        return matching;
+    }
+
+    /**
+     * Returns the persons with each word starting with {@code prefix}.
+     */
+    private Collection<Set<Person>> getWordsStartingWith(String prefix) {
+        // every word starting with the prefix sorts between the prefix and the prefix followed by the last char
+        return personsByWord.subMap(prefix, true, prefix + Character.MAX_VALUE, false).values();
+    }
+
+    /**
+     * Returns the number of persons with a word starting with {@code prefix}, counting a person once for each such
+     * word, or any number of at least {@code limit} once the count reaches it.
+     */
+    private long countPersonsUpTo(String prefix, long limit) {
+        long count = 0;
+        for (Set<Person> persons : getWordsStartingWith(prefix)) {
+            count += persons.size();
+            if (count >= limit) {
+                break;
+            }
+        }
+        return count;
+    }
+
+    private boolean hasWordStartingWith(Person person, String prefix) {
+        for (String word : wordsByPerson.get(person)) {
+            if (word.startsWith(prefix)) {
+                return true;
+            }
+        }
+        return false;
+    }
+}
@@ -0,0 +1,172 @@
+package seedu.address.model;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+
+import javafx.collections.ListChangeListener;
+import javafx.collections.ObservableList;
+import javafx.collections.transformation.TransformationList;
+import seedu.address.model.person.Person;
+
+/**
+ * The persons shown from a list of persons: either every person in it, following the list as it changes, or the
+ * persons found in it by an index, which are found again after each change to the list.
+ * Unlike a {@code FilteredList}, the persons found are shown as they are given, without testing each person.
+ * When they are found again, only the persons between those that stay in place at either end are replaced, so a
+ * change to one person does not replace every person shown.
+ */
+class ShownPersonList extends TransformationList<Person, Person> {
+
+    /** The persons shown, or null if every person in the list is shown. */
+    private List<Person> shown;
+    /** The position of each person shown, by identity, or null if every person in the list is shown. */
+    private Map<Person, Integer> positions;
+    /** The position in the list of each person shown, built when first asked for. */
+    private int[] sourceIndexes;
+
+    ShownPersonList(ObservableList<Person> persons) {
+        super(persons);
+    }
+
+    /**
+     * Returns true if every person in the list is shown.
+     */
+    boolean isShowingAll() {
+        return shown == null;
+    }
+
+    /**
+     * Returns true if {@code person} is one of the persons found that are shown, and false if it is not, or if every
+     * person in the list is shown.
+     */
+    boolean isFound(Person person) {
+        return positions != null && positions.containsKey(person);
+    }
+
+    /**
+     * Shows every person in the list.
+     */
+    void showAll() {
+        if (shown == null) {
+            return;
+        }
+        List<Person> previous = shown;
+        shown = null;
+        positions = null;
+        sourceIndexes = null;
+        fireChangedFrom(previous);
+    }
+
+    /**
+     * Shows {@code persons}, which must all be in the list, in place of the persons shown.
+     */
+    void show(List<Person> persons) {
+        requireNonNull(persons);
+        // the list does not change while the persons found are put in place, so it still holds those shown before
+        List<? extends Person> previous = shown == null ? getSource() : shown;
+        shown = Collections.unmodifiableList(new ArrayList<>(persons));
+        positions = new IdentityHashMap<>();
+        for (int i = 0; i < shown.size(); i++) {
+            positions.put(shown.get(i), i);
+        }
+        sourceIndexes = null;
+        fireChangedFrom(previous);
+    }
+
+    /**
+     * Fires the change from {@code previous} to the persons shown now, as the replacement of the persons that are
+     * not the same at the same distance from either end.
+     */
+    private void fireChangedFrom(List<? extends Person> previous) {
+        int from = 0;
+        while (from < previous.size() && from < size() && previous.get(from) == get(from)) {
+            from++;
+        }
+        int previousTo = previous.size();
+        int to = size();
+        while (previousTo > from && to > from && previous.get(previousTo - 1) == get(to - 1)) {
+            previousTo--;
+            to--;
+        }
+        if (from == previousTo && from == to) {
+            return;
+        }
+
+        beginChange();
+        if (from == previousTo) {
+            nextAdd(from, to);
+        } else if (from == to) {
+            nextRemove(from, previous.subList(from, previousTo));
+        } else {
+            nextReplace(from, to, previous.subList(from, previousTo));
+        }
+        endChange();
+    }
+
+    @Override
+    protected void sourceChanged(ListChangeListener.Change<? extends Person> c) {
+        if (shown != null) {
+            // the persons shown are found again once the change is complete, as the index is updated by then
+            sourceIndexes = null;
+            return;
+        }
+        beginChange();
+        while (c.next()) {
+            if (c.wasPermutated()) {
+                int[] permutation = new int[c.getTo() - c.getFrom()];
+                for (int i = c.getFrom(); i < c.getTo(); i++) {
+                    permutation[i - c.getFrom()] = c.getPermutation(i);
+                }
+                nextPermutation(c.getFrom(), c.getTo(), permutation);
+            } else if (c.wasUpdated()) {
+                for (int i = c.getFrom(); i < c.getTo(); i++) {
+                    nextUpdate(i);
+                }
+            } else if (c.wasReplaced()) {
+                nextReplace(c.getFrom(), c.getTo(), c.getRemoved());
+            } else if (c.wasRemoved()) {
+                nextRemove(c.getFrom(), c.getRemoved());
+            } else if (c.wasAdded()) {
+                nextAdd(c.getFrom(), c.getTo());
+            }
+        }
+        endChange();
+    }
+
+    @Override
+    public Person get(int index) {
+        return shown == null ? getSource().get(index) : shown.get(index);
+    }
+
+    @Override
+    public int size() {
+        return shown == null ? getSource().size() : shown.size();
+    }
+
+    @Override
+    public int getSourceIndex(int index) {
+        if (shown == null) {
+            return index;
+        }
+        if (sourceIndexes == null) {
+            sourceIndexes = new int[shown.size()];
+            for (int i = 0; i < getSource().size(); i++) {
+                Integer position = positions.get(getSource().get(i));
+                if (position != null) {
+                    sourceIndexes[position] = i;
+                }
+            }
+        }
+        return sourceIndexes[index];
+    }
+
+    @Override
+    public int getViewIndex(int index) {
+        return shown == null ? index : positions.getOrDefault(getSource().get(index), -1);
+    }
+}
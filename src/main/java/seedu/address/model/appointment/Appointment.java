@@ -6,6 +6,7 @@ import static seedu.address.commons.util.AppUtil.checkArgument;
 import java.time.DayOfWeek;
 import java.time.LocalTime;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collection;
 import java.util.HashMap;
 import java.util.List;
@@ -13,6 +14,9 @@ import java.util.List;
 /**
  * Represents a Person's appointment in the address book.
  * Guarantees: immutable; is valid as declared in {@link #isValidAppointment(String)}
+ *
+ * An appointment is held as its start and end minute of the week, so comparing appointments and checking them for
+ * overlaps is integer arithmetic. Its text is only built when it is displayed or saved.
  */
 public class Appointment implements Comparable<Appointment> {
     public static final String MESSAGE_CONSTRAINTS = "Appointment should be of the format 'HH:MM-HH:MM DAY' "
@@ -30,7 +34,25 @@ public class Appointment implements Comparable<Appointment> {
     private static final String START_TIME = HOUR + ":" + MINUTE;
     private static final String END_TIME = HOUR + ":" + MINUTE;
     private static final String DAY = "[A-z]{3}";
+    /** The format of an appointment, which {@link #isValidAppointment(String)} checks without using it. */
     public static final String VALIDATION_REGEX = START_TIME + "-" + END_TIME + "[\\s]+" + DAY;
+    public static final int MINUTES_PER_DAY = 24 * 60;
+    public static final int MINUTES_PER_WEEK = 7 * MINUTES_PER_DAY;
+    private static final String[] DAY_NAMES = {"MON", "TUE", "WED", "THU", "FRI", "SAT", "SUN"};
+
+    /** The length of the text of an appointment up to the whitespace before its day. */
+    private static final int TIMES_LENGTH = 11;
+    private static final int DAY_LENGTH = 3;
+    private static final int INVALID = -1;
+    private static final int MINUTE_BITS = 14;
+    private static final int MINUTE_MASK = (1 << MINUTE_BITS) - 1;
+
+    /**
+     * Recently created appointments by slot, so that appointments for the same slot share one instance.
+     * An appointment is replaced by the next one whose slot maps to the same entry, which keeps the cache small.
+     * As appointments are immutable, threads racing on an entry can at worst miss sharing an instance.
+     */
+    private static final Appointment[] CACHE = new Appointment[1 << 12];
 
     // initialize map from String to DayOfWeek
     static {
@@ -53,10 +75,9 @@ public class Appointment implements Comparable<Appointment> {
         DAY_OF_WEEK_TO_NUM.put(DayOfWeek.SUNDAY, 7);
     }
 
-    public final String value;
-    private final LocalTime startTime;
-    private final LocalTime endTime;
-    private final DayOfWeek day;
+    /** Minutes since the start of the week, which begins at 00:00 on Monday. */
+    private final int start;
+    private final int end;
 
     /**
      * Constructs a {@code Appointment}.
@@ -64,97 +85,256 @@ public class Appointment implements Comparable<Appointment> {
      * @param appointment A valid appointment.
      */
     public Appointment(String appointment) {
-        requireNonNull(appointment);
-        checkArgument(isValidAppointment(appointment), MESSAGE_CONSTRAINTS);
+        this(parseValid(appointment));
+    }
+
+    private Appointment(int packed) {
+        this(packed >>> MINUTE_BITS, packed & MINUTE_MASK);
+    }
+
+    private Appointment(int start, int end) {
+        this.start = start;
+        this.end = end;
+    }
+
+    /**
+     * Returns the appointment from minute {@code start} to minute {@code end} of the week, counting from 00:00 on
+     * Monday, as returned by {@link #getStartMinuteOfWeek()} and {@link #getEndMinuteOfWeek()}.
+     *
+     * @throws IllegalArgumentException if the minutes do not form a valid appointment.
+     */
+    public static Appointment fromMinutesOfWeek(int start, int end) {
+        checkArgument(isValidMinutesOfWeek(start, end), MESSAGE_CONSTRAINTS);
+        return intern(start, end);
+    }
+
+    /**
+     * Returns an {@code Appointment} for {@code appointment}, which may be shared with other appointments for the
+     * same slot. This is equivalent to, but cheaper than, {@link #Appointment(String)}.
+     *
+     * @param appointment A valid appointment.
+     */
+    public static Appointment of(String appointment) {
+        int packed = parseValid(appointment);
+        return intern(packed >>> MINUTE_BITS, packed & MINUTE_MASK);
+    }
 
-        value = appointment.toUpperCase();
-        startTime = LocalTime.parse(extractStartTime(appointment));
-        endTime = LocalTime.parse(extractEndTime(appointment));
-        day = DAY_TO_DAY_OF_WEEK.get(extractDay(appointment));
+    private static Appointment intern(int start, int end) {
+        int entry = (start * MINUTES_PER_WEEK + end) * 0x9E3779B9 >>> (Integer.SIZE - 12);
+        Appointment cached = CACHE[entry];
+        if (cached != null && cached.start == start && cached.end == end) {
+            return cached;
+        }
+        Appointment appointment = new Appointment(start, end);
+        CACHE[entry] = appointment;
+        return appointment;
+    }
+
+    /**
+     * Returns true if minute {@code start} to minute {@code end} of the week form a valid appointment,
+     * which starts before it ends on the same day.
+     */
+    public static boolean isValidMinutesOfWeek(int start, int end) {
+        return start >= 0 && start < end && end < MINUTES_PER_WEEK
+                && start / MINUTES_PER_DAY == end / MINUTES_PER_DAY;
     }
 
     /**
      * Returns true if a given collection of appointments overlap.
+     * The appointments are sorted by day and start, then swept once, so this takes O(n log n) time.
      */
     public static boolean hasOverlapping(Collection<Appointment> appointments) {
-        List<Appointment> appointmentList = new ArrayList<>(appointments);
-        int size = appointmentList.size();
-        for (int i = 0; i < size - 1; i += 1) {
-            for (int j = i + 1; j < size; j += 1) {
-                Appointment appointment = appointmentList.get(i);
-                Appointment other = appointmentList.get(j);
-                if (appointment.overlapsWith(other)) {
-                    return true;
-                }
+        Appointment[] sorted = sortByStart(appointments);
+        for (int i = 1; i < sorted.length; i++) {
+            // the appointments before this one do not overlap, so the one just before ends the latest of them
+            if (sorted[i - 1].overlapsWith(sorted[i])) {
+                return true;
             }
         }
         return false;
     }
 
     /**
-     * Returns true if a given string is an appointment.
+     * Returns every pair of overlapping appointments in a given collection, in order of the start of the later
+     * appointment of each pair, then of the earlier one.
+     * The appointments are swept in order of day and start, keeping those that have not ended yet. Every kept
+     * appointment either overlaps with the next one or is dropped, so this takes O(n log n + k) time for k pairs.
      */
-    public static boolean isValidAppointment(String test) {
-        if (!(test.matches(VALIDATION_REGEX))) {
-            return false;
+    public static List<AppointmentConflict> findConflicts(Collection<Appointment> appointments) {
+        List<AppointmentConflict> conflicts = new ArrayList<>();
+        List<Appointment> ongoing = new ArrayList<>();
+        for (Appointment appointment : sortByStart(appointments)) {
+            ongoing.removeIf(other -> !other.overlapsWith(appointment));
+            for (Appointment other : ongoing) {
+                conflicts.add(new AppointmentConflict(other, appointment));
+            }
+            ongoing.add(appointment);
         }
+        return conflicts;
+    }
 
-        boolean isStartTimeValid = isValidTime(extractStartTime(test));
-        boolean isEndTimeValid = isValidTime(extractEndTime(test));
-
-        if (!isStartTimeValid || !isEndTimeValid) {
-            return false;
+    /**
+     * Returns {@code appointments} in the order of {@link #compareTo}.
+     * Each appointment's start is packed with its position into a {@code long}, so that sorting compares
+     * primitives rather than calling a comparator.
+     */
+    private static Appointment[] sortByStart(Collection<Appointment> appointments) {
+        Appointment[] unsorted = appointments.toArray(new Appointment[0]);
+        long[] startsAndIndices = new long[unsorted.length];
+        for (int i = 0; i < unsorted.length; i++) {
+            startsAndIndices[i] = (long) unsorted[i].start << Integer.SIZE | i;
         }
+        Arrays.sort(startsAndIndices);
 
-        LocalTime startTime = LocalTime.parse(extractStartTime(test));
-        LocalTime endTime = LocalTime.parse(extractEndTime(test));
-        boolean isStartTimeBeforeEndTime = startTime.isBefore(endTime);
+        Appointment[] sorted = new Appointment[unsorted.length];
+        for (int i = 0; i < sorted.length; i++) {
+            sorted[i] = unsorted[(int) startsAndIndices[i]];
+        }
+        return sorted;
+    }
 
-        String day = extractDay(test);
-        boolean isDayValid = DAY_TO_DAY_OF_WEEK.containsKey(day);
+    /**
+     * Returns true if a given string is an appointment.
+     */
+    public static boolean isValidAppointment(String test) {
+        requireNonNull(test);
+        return parse(test) != INVALID;
+    }
 
-        return isStartTimeBeforeEndTime && isDayValid;
+    private static int parseValid(String appointment) {
+        requireNonNull(appointment);
+        int packed = parse(appointment);
+        checkArgument(packed != INVALID, MESSAGE_CONSTRAINTS);
+        return packed;
     }
 
-    private static boolean isValidTime(String appointment) {
-        int hour = Integer.parseInt(appointment.substring(0, 2));
-        int minute = Integer.parseInt(appointment.substring(3, 5));
+    /**
+     * Returns the start and end minute of the week of {@code test} packed into one integer, or {@code INVALID} if
+     * it is not an appointment.
+     * This accepts exactly the strings that match {@link #VALIDATION_REGEX} with valid times, the start before the
+     * end, and a day of the week in any case. It reads {@code test} once and creates no objects.
+     */
+    private static int parse(String test) {
+        int length = test.length();
+        if (length < TIMES_LENGTH + 1 + DAY_LENGTH || test.charAt(5) != '-') {
+            return INVALID;
+        }
+        int startOfDay = parseTime(test, 0);
+        int endOfDay = parseTime(test, 6);
+        if (startOfDay == INVALID || endOfDay == INVALID || startOfDay >= endOfDay) {
+            return INVALID;
+        }
 
-        assert(hour > -1);
-        assert(minute > -1);
-        boolean hourValid = hour < 24;
-        boolean minuteValid = minute < 60;
+        int dayStart = TIMES_LENGTH;
+        while (dayStart < length && isWhitespace(test.charAt(dayStart))) {
+            dayStart++;
+        }
+        if (dayStart == TIMES_LENGTH || length - dayStart != DAY_LENGTH) {
+            return INVALID;
+        }
+        int day = parseDay(test, dayStart);
+        if (day == INVALID) {
+            return INVALID;
+        }
+        return (day * MINUTES_PER_DAY + startOfDay) << MINUTE_BITS | (day * MINUTES_PER_DAY + endOfDay);
+    }
 
-        return hourValid && minuteValid;
+    /**
+     * Returns the minute of the day of the {@code HH:MM} time at {@code offset} in {@code text},
+     * or {@code INVALID} if there is no valid time there.
+     */
+    private static int parseTime(String text, int offset) {
+        int hour = parseTwoDigits(text, offset);
+        int minute = parseTwoDigits(text, offset + 3);
+        if (text.charAt(offset + 2) != ':' || hour == INVALID || minute == INVALID || hour >= 24 || minute >= 60) {
+            return INVALID;
+        }
+        return hour * 60 + minute;
     }
 
-    private static String extractStartTime(String appointment) {
-        return appointment.substring(0, 5);
+    private static int parseTwoDigits(String text, int offset) {
+        char tens = text.charAt(offset);
+        char ones = text.charAt(offset + 1);
+        if (tens < '0' || tens > '9' || ones < '0' || ones > '9') {
+            return INVALID;
+        }
+        return (tens - '0') * 10 + (ones - '0');
+    }
+
+    /**
+     * Returns the index in {@code DAY_NAMES} of the day named at {@code offset} in {@code text} in any case,
+     * or {@code INVALID} if it names none.
+     */
+    private static int parseDay(String text, int offset) {
+        for (int day = 0; day < DAY_NAMES.length; day++) {
+            if (text.regionMatches(true, offset, DAY_NAMES[day], 0, DAY_LENGTH)
+                    && isAsciiLetters(text, offset, DAY_LENGTH)) {
+                return day;
+            }
+        }
+        return INVALID;
     }
 
-    private static String extractEndTime(String appointment) {
-        return appointment.substring(6, 11);
+    private static boolean isAsciiLetters(String text, int offset, int length) {
+        for (int i = offset; i < offset + length; i++) {
+            char c = text.charAt(i);
+            if (!(c >= 'A' && c <= 'Z') && !(c >= 'a' && c <= 'z')) {
+                return false;
+            }
+        }
+        return true;
     }
 
-    private static String extractDay(String appointment) {
-        return appointment.substring(12).trim().toUpperCase();
+    /**
+     * Returns true if {@code c} is whitespace as matched by {@code \s} in a regular expression.
+     */
+    private static boolean isWhitespace(char c) {
+        return c == ' ' || c == '\t' || c == '\n' || c == 0x0B || c == '\f' || c == '\r';
     }
 
     public LocalTime getStartTime() {
-        return startTime;
+        return LocalTime.of(start % MINUTES_PER_DAY / 60, start % 60);
     }
 
     public LocalTime getEndTime() {
-        return endTime;
+        return LocalTime.of(end % MINUTES_PER_DAY / 60, end % 60);
     }
 
     public DayOfWeek getDay() {
-        return day;
+        return DayOfWeek.of(start / MINUTES_PER_DAY + 1);
+    }
+
+    public int getStartMinuteOfWeek() {
+        return start;
+    }
+
+    public int getEndMinuteOfWeek() {
+        return end;
     }
 
+    /**
+     * Returns the appointment in the format described in {@link #MESSAGE_CONSTRAINTS}, such as
+     * {@code 09:30-11:00 MON}.
+     */
     @Override
     public String toString() {
-        return value;
+        char[] chars = new char[15];
+        appendTime(chars, 0, start);
+        chars[5] = '-';
+        appendTime(chars, 6, end);
+        chars[11] = ' ';
+        DAY_NAMES[start / MINUTES_PER_DAY].getChars(0, 3, chars, 12);
+        return new String(chars);
+    }
+
+    private static void appendTime(char[] chars, int offset, int minuteOfWeek) {
+        int hour = minuteOfWeek % MINUTES_PER_DAY / 60;
+        int minute = minuteOfWeek % 60;
+        chars[offset] = (char) ('0' + hour / 10);
+        chars[offset + 1] = (char) ('0' + hour % 10);
+        chars[offset + 2] = ':';
+        chars[offset + 3] = (char) ('0' + minute / 10);
+        chars[offset + 4] = (char) ('0' + minute % 10);
     }
 
     @Override
@@ -169,41 +349,27 @@ public class Appointment implements Comparable<Appointment> {
         }
 
         Appointment otherAppointment = (Appointment) other;
-        return value.equals(otherAppointment.value);
+        return start == otherAppointment.start && end == otherAppointment.end;
     }
 
     /**
      * Return true if appointment overlaps with other, otherwise False
      */
     public boolean overlapsWith(Appointment other) {
-        // days are different
-        if (this.day != other.day) {
-            return false;
-        }
-
-        // intervals overlap
-        if (this.startTime.isBefore(other.endTime) && other.startTime.isBefore(this.endTime)) {
-            return true;
-        } else if (other.startTime.isBefore(this.endTime) && this.startTime.isBefore(other.endTime)) {
-            return true;
-        }
-
-        return false;
+        // appointments on different days are at least a day apart in minutes of the week
+        return start < other.end && other.start < end;
     }
 
     @Override
     public int hashCode() {
-        return value.hashCode();
+        return start * MINUTES_PER_WEEK + end;
     }
 
+    /**
+     * Orders appointments by their start, then their end.
+     */
     @Override
     public int compareTo(Appointment o) {
-        if (DAY_OF_WEEK_TO_NUM.get(this.day) < DAY_OF_WEEK_TO_NUM.get(o.day)) {
-            return -1;
-        } else if (DAY_OF_WEEK_TO_NUM.get(this.day) > DAY_OF_WEEK_TO_NUM.get(o.day)) {
-            return 1;
-        } else {
-            return this.startTime.compareTo(o.startTime);
-        }
+        return start != o.start ? Integer.compare(start, o.start) : Integer.compare(end, o.end);
     }
 }
@@ -0,0 +1,60 @@
+package seedu.address.model.appointment;
+
+import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.util.Objects;
+
+/**
+ * Represents two appointments that overlap with each other.
+ * Guarantees: immutable; the first appointment does not start later than the second.
+ */
+public class AppointmentConflict {
+
+    private final Appointment first;
+    private final Appointment second;
+
+    /**
+     * Constructs an {@code AppointmentConflict} between {@code first} and {@code second}, which must overlap.
+     */
+    public AppointmentConflict(Appointment first, Appointment second) {
+        requireAllNonNull(first, second);
+        assert first.overlapsWith(second);
+
+        boolean isInOrder = first.compareTo(second) <= 0;
+        this.first = isInOrder ? first : second;
+        this.second = isInOrder ? second : first;
+    }
+
+    public Appointment getFirst() {
+        return first;
+    }
+
+    public Appointment getSecond() {
+        return second;
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+
+        // instanceof handles nulls
+        if (!(other instanceof AppointmentConflict)) {
+            return false;
+        }
+
+        AppointmentConflict otherConflict = (AppointmentConflict) other;
+        return first.equals(otherConflict.first) && second.equals(otherConflict.second);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(first, second);
+    }
+
+    @Override
+    public String toString() {
+        return first + " clashes with " + second;
+    }
+}
@@ -0,0 +1,94 @@
+package seedu.address.model.appointment;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * An index of non-overlapping appointments that finds the appointments overlapping a given time slot
+ * in logarithmic time.
+ *
+ * The appointments are kept in a tree by their start minute of the week. Since they do not overlap, they are then
+ * also in order of end, so only the appointments starting just before the end of a slot can overlap it.
+ */
+class AppointmentIndex {
+
+    private final TreeMap<Integer, Appointment> appointmentsByStart;
+
+    /**
+     * Creates an empty index.
+     */
+    AppointmentIndex() {
+        appointmentsByStart = new TreeMap<>();
+    }
+
+    /**
+     * Creates a copy of {@code toBeCopied}.
+     */
+    AppointmentIndex(AppointmentIndex toBeCopied) {
+        appointmentsByStart = new TreeMap<>(toBeCopied.appointmentsByStart);
+    }
+
+    /**
+     * Returns true if an appointment in the index overlaps with {@code toCheck}.
+     */
+    boolean overlaps(Appointment toCheck) {
+        Map.Entry<Integer, Appointment> latestStartingBefore =
+                appointmentsByStart.lowerEntry(toCheck.getEndMinuteOfWeek());
+        return latestStartingBefore != null && toCheck.overlapsWith(latestStartingBefore.getValue());
+    }
+
+    /**
+     * Returns the appointments in the index that overlap with {@code toCheck}, in order of start time.
+     */
+    List<Appointment> getOverlapping(Appointment toCheck) {
+        List<Appointment> overlapping = new ArrayList<>();
+        for (Appointment appointment : appointmentsByStart
+                .headMap(toCheck.getEndMinuteOfWeek(), false).descendingMap().values()) {
+            if (!toCheck.overlapsWith(appointment)) {
+                break;
+            }
+            overlapping.add(appointment);
+        }
+        Collections.reverse(overlapping);
+        return overlapping;
+    }
+
+    /**
+     * Adds {@code toAdd} to the index, unless it overlaps with an appointment in the index.
+     *
+     * @return true if {@code toAdd} was added.
+     */
+    boolean add(Appointment toAdd) {
+        if (overlaps(toAdd)) {
+            return false;
+        }
+        appointmentsByStart.put(toAdd.getStartMinuteOfWeek(), toAdd);
+        return true;
+    }
+
+    /**
+     * Adds every appointment in {@code appointments} to the index, stopping at the first one that overlaps with
+     * an appointment in the index or an earlier one in {@code appointments}.
+     *
+     * @return true if all the appointments were added.
+     */
+    boolean addAll(Collection<Appointment> appointments) {
+        for (Appointment appointment : appointments) {
+            if (!add(appointment)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Removes {@code toRemove} from the index if it is there.
+     */
+    void remove(Appointment toRemove) {
+        appointmentsByStart.remove(toRemove.getStartMinuteOfWeek(), toRemove);
+    }
+}
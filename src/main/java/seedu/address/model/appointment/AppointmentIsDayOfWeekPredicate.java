@@ -1,6 +1,7 @@
 package seedu.address.model.appointment;
 
 import java.time.DayOfWeek;
+import java.util.Collections;
 import java.util.List;
 import java.util.function.Predicate;
 
@@ -16,6 +17,13 @@ public class AppointmentIsDayOfWeekPredicate implements Predicate<Appointment> {
         this.days = dayOfWeeks;
     }
 
+    /**
+     * Returns the days of the week that the predicate accepts, in the order given.
+     */
+    public List<DayOfWeek> getDays() {
+        return Collections.unmodifiableList(days);
+    }
+
     @Override
     public boolean test(Appointment appointment) {
         return days.stream().anyMatch(day -> day.equals(appointment.getDay()));
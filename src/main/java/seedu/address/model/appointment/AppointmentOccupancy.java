@@ -0,0 +1,137 @@
+package seedu.address.model.appointment;
+
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.List;
+
+/**
+ * The minutes of the week taken by a set of appointments, with one bit for each minute.
+ *
+ * Whether a slot is free, where the free slots of a window are, and how many minutes of a day are taken are then
+ * answered a 64-minute word at a time, however many appointments there are.
+ */
+public class AppointmentOccupancy {
+
+    private final BitSet takenMinutes;
+
+    /**
+     * Creates an occupancy with every minute free.
+     */
+    public AppointmentOccupancy() {
+        takenMinutes = new BitSet(Appointment.MINUTES_PER_WEEK);
+    }
+
+    /**
+     * Creates a copy of {@code toBeCopied}.
+     */
+    public AppointmentOccupancy(AppointmentOccupancy toBeCopied) {
+        takenMinutes = (BitSet) toBeCopied.takenMinutes.clone();
+    }
+
+    /**
+     * Marks the minutes of {@code appointment} as taken.
+     */
+    public void add(Appointment appointment) {
+        takenMinutes.set(appointment.getStartMinuteOfWeek(), appointment.getEndMinuteOfWeek());
+    }
+
+    /**
+     * Marks the minutes taken in {@code other} as taken in this occupancy too.
+     */
+    public void addAll(AppointmentOccupancy other) {
+        takenMinutes.or(other.takenMinutes);
+    }
+
+    /**
+     * Marks as taken exactly the minutes taken in {@code first} or {@code second}.
+     */
+    public void setToUnion(AppointmentOccupancy first, AppointmentOccupancy second) {
+        takenMinutes.clear();
+        takenMinutes.or(first.takenMinutes);
+        takenMinutes.or(second.takenMinutes);
+    }
+
+    /**
+     * Marks the minutes of {@code appointment} as free. No other appointment may share its minutes.
+     */
+    public void remove(Appointment appointment) {
+        takenMinutes.clear(appointment.getStartMinuteOfWeek(), appointment.getEndMinuteOfWeek());
+    }
+
+    /**
+     * Returns true if any minute of {@code slot} is taken.
+     */
+    public boolean overlaps(Appointment slot) {
+        int firstTaken = takenMinutes.nextSetBit(slot.getStartMinuteOfWeek());
+        return firstTaken >= 0 && firstTaken < slot.getEndMinuteOfWeek();
+    }
+
+    /**
+     * Returns the free slots within {@code window} that are at least {@code minDuration} minutes long, in order.
+     */
+    public List<Appointment> getFreeSlots(Appointment window, int minDuration) {
+        List<Appointment> freeSlots = new ArrayList<>();
+        int windowEnd = window.getEndMinuteOfWeek();
+        int freeFrom = takenMinutes.nextClearBit(window.getStartMinuteOfWeek());
+        while (freeFrom < windowEnd) {
+            int freeTo = takenMinutes.nextSetBit(freeFrom);
+            if (freeTo < 0 || freeTo > windowEnd) {
+                freeTo = windowEnd;
+            }
+            if (freeTo - freeFrom >= minDuration) {
+                freeSlots.add(Appointment.fromMinutesOfWeek(freeFrom, freeTo));
+            }
+            freeFrom = takenMinutes.nextClearBit(freeTo);
+        }
+        return freeSlots;
+    }
+
+    /**
+     * Returns true if {@code window} has a free slot at least {@code minDuration} minutes long.
+     */
+    public boolean hasFreeSlot(Appointment window, int minDuration) {
+        int windowEnd = window.getEndMinuteOfWeek();
+        int freeFrom = takenMinutes.nextClearBit(window.getStartMinuteOfWeek());
+        while (freeFrom + minDuration <= windowEnd) {
+            int freeTo = takenMinutes.nextSetBit(freeFrom);
+            if (freeTo < 0 || freeTo - freeFrom >= minDuration) {
+                return true;
+            }
+            freeFrom = takenMinutes.nextClearBit(freeTo);
+        }
+        return false;
+    }
+
+    /**
+     * Returns the number of slots {@code duration} minutes long that fit side by side in the free slots within
+     * {@code window}.
+     */
+    public int countFreeSlots(Appointment window, int duration) {
+        int count = 0;
+        int windowEnd = window.getEndMinuteOfWeek();
+        int freeFrom = takenMinutes.nextClearBit(window.getStartMinuteOfWeek());
+        while (freeFrom < windowEnd) {
+            int freeTo = takenMinutes.nextSetBit(freeFrom);
+            if (freeTo < 0 || freeTo > windowEnd) {
+                freeTo = windowEnd;
+            }
+            count += (freeTo - freeFrom) / duration;
+            freeFrom = takenMinutes.nextClearBit(freeTo);
+        }
+        return count;
+    }
+
+    /**
+     * Returns the number of minutes of the week taken.
+     */
+    public int getTakenMinutes() {
+        return takenMinutes.cardinality();
+    }
+
+    /**
+     * Returns the number of minutes taken from minute {@code from} up to minute {@code to} of the week.
+     */
+    public int getTakenMinutes(int from, int to) {
+        return takenMinutes.get(from, to).cardinality();
+    }
+}
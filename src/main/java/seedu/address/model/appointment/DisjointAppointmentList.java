@@ -1,10 +1,18 @@
 package seedu.address.model.appointment;
 
 import static java.util.Objects.requireNonNull;
+import static seedu.address.commons.util.AppUtil.checkArgument;
 import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
 
+import java.time.DayOfWeek;
+import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collection;
+import java.util.Collections;
+import java.util.HashSet;
 import java.util.Iterator;
+import java.util.List;
+import java.util.Set;
 
 import seedu.address.model.appointment.exceptions.AppointmentNotFoundException;
 import seedu.address.model.appointment.exceptions.OverlappingAppointmentException;
@@ -12,17 +20,72 @@ import seedu.address.model.appointment.exceptions.OverlappingAppointmentExceptio
 /**
  * A list of appointments that enforces no overlapping between its elements and does not allow nulls.
  * Supports a minimal set of list operations.
+ *
+ * The appointments are always kept in their natural order, and are also indexed by day, so overlapping
+ * appointments are found in logarithmic time. The minutes they take are also kept in a bitmap, which answers
+ * whether a slot is free and where the free slots are. Each operation changes the list with a single change
+ * notification.
  */
 public class DisjointAppointmentList extends AppointmentList {
     public static final String MESSAGE_CONSTRAINTS =
             "This person's appointments clash with an existing appointment";
 
+    private AppointmentIndex index = new AppointmentIndex();
+    private AppointmentOccupancy occupancy = new AppointmentOccupancy();
+
     /**
      * Returns true if the list contains an appointment overlapping wth the given argument.
      */
     public boolean overlaps(Appointment toCheck) {
         requireNonNull(toCheck);
-        return internalList.stream().anyMatch(toCheck::overlapsWith);
+        return occupancy.overlaps(toCheck);
+    }
+
+    /**
+     * Returns the appointments in the list that overlap with {@code toCheck}, in order of start time.
+     */
+    public List<Appointment> getOverlapping(Appointment toCheck) {
+        requireNonNull(toCheck);
+        return index.getOverlapping(toCheck);
+    }
+
+    /**
+     * Returns an unmodifiable view of the appointments in the list on {@code day}, in order of start time.
+     * The appointments are found by binary search, as the list is sorted and every appointment ends on the day
+     * it starts.
+     */
+    public List<Appointment> getAppointmentsOn(DayOfWeek day) {
+        requireNonNull(day);
+        int dayStart = (day.getValue() - 1) * Appointment.MINUTES_PER_DAY;
+        int from = firstStartingFrom(dayStart);
+        int to = firstStartingFrom(dayStart + Appointment.MINUTES_PER_DAY);
+        return Collections.unmodifiableList(internalList.subList(from, to));
+    }
+
+    /**
+     * Returns the free slots within {@code window} that are at least {@code minDuration} minutes long, in order.
+     * A free slot is a longest stretch of time not taken by any appointment in the list.
+     */
+    public List<Appointment> getFreeSlots(Appointment window, int minDuration) {
+        requireNonNull(window);
+        checkArgument(minDuration > 0);
+        return occupancy.getFreeSlots(window, minDuration);
+    }
+
+    /**
+     * Returns the number of minutes of {@code day} taken by the appointments in the list.
+     */
+    public int getBookedMinutes(DayOfWeek day) {
+        requireNonNull(day);
+        int dayStart = (day.getValue() - 1) * Appointment.MINUTES_PER_DAY;
+        return occupancy.getTakenMinutes(dayStart, dayStart + Appointment.MINUTES_PER_DAY);
+    }
+
+    /**
+     * Returns a copy of the minutes taken by the appointments in the list.
+     */
+    public AppointmentOccupancy getOccupancy() {
+        return new AppointmentOccupancy(occupancy);
     }
 
     @Override
@@ -30,6 +93,12 @@ public class DisjointAppointmentList extends AppointmentList {
         return false;
     }
 
+    @Override
+    public boolean contains(Appointment toCheck) {
+        requireNonNull(toCheck);
+        return indexOf(toCheck) >= 0;
+    }
+
     /**
      * Adds an appointment {@code toAdd} to the list.
      * This appointment must not overlap with existing appointments in the list.
@@ -37,10 +106,11 @@ public class DisjointAppointmentList extends AppointmentList {
     @Override
     public void add(Appointment toAdd) {
         requireNonNull(toAdd);
-        if (overlaps(toAdd)) {
+        if (!index.add(toAdd)) {
             throw new OverlappingAppointmentException();
         }
-        internalList.add(toAdd);
+        occupancy.add(toAdd);
+        internalList.add(insertionPoint(toAdd), toAdd);
     }
 
     /**
@@ -52,8 +122,7 @@ public class DisjointAppointmentList extends AppointmentList {
     public void setAppointment(Appointment target, Appointment editedAppointment) {
         requireAllNonNull(target, editedAppointment);
 
-        int index = internalList.indexOf(target);
-        if (index == -1) {
+        if (!contains(target)) {
             throw new AppointmentNotFoundException();
         }
 
@@ -61,26 +130,87 @@ public class DisjointAppointmentList extends AppointmentList {
             throw new OverlappingAppointmentException();
         }
 
-        internalList.set(index, editedAppointment);
+        replaceAppointments(Collections.singletonList(target), Collections.singletonList(editedAppointment));
     }
 
     /**
      * Removes the equivalent appointment from the list.
      * The appointment must exist in the list.
      */
+    @Override
     public void remove(Appointment toRemove) {
         requireNonNull(toRemove);
-        if (!internalList.remove(toRemove)) {
+        int position = indexOf(toRemove);
+        if (position < 0) {
             throw new AppointmentNotFoundException();
         }
+        internalList.remove(position);
+        index.remove(toRemove);
+        occupancy.remove(toRemove);
     }
 
     /**
-     * Replaces the contents of this list with {@code appointments}.
+     * Replaces the appointments {@code toRemove} in the list with {@code toAdd}.
+     * Every appointment in {@code toRemove} must exist in the list, and the appointments in {@code toAdd} must
+     * not overlap with each other or with the appointments that remain in the list.
+     * If the replacement fails, the list is left unchanged.
      */
-    public void setAppointments(DisjointAppointmentList replacement) {
+    public void replaceAppointments(Collection<Appointment> toRemove, Collection<Appointment> toAdd) {
+        requireAllNonNull(toRemove);
+        requireAllNonNull(toAdd);
+        for (Appointment appointment : toRemove) {
+            if (!contains(appointment)) {
+                throw new AppointmentNotFoundException();
+            }
+        }
+
+        toRemove.forEach(index::remove);
+        List<Appointment> added = new ArrayList<>();
+        for (Appointment appointment : toAdd) {
+            if (!index.add(appointment)) {
+                added.forEach(index::remove);
+                toRemove.forEach(index::add);
+                throw new OverlappingAppointmentException();
+            }
+            added.add(appointment);
+        }
+
+        toRemove.forEach(occupancy::remove);
+        toAdd.forEach(occupancy::add);
+        updateList(toRemove, toAdd);
+    }
+
+    /**
+     * Removes the appointments {@code toRemove}, all of which must exist in the list.
+     */
+    public void removeAll(Collection<Appointment> toRemove) {
+        replaceAppointments(toRemove, Collections.emptyList());
+    }
+
+    /**
+     * Adds the appointments in {@code appointments}, which must not overlap with each other or with
+     * existing appointments in the list.
+     */
+    @Override
+    public void addAll(Collection<Appointment> appointments) {
+        replaceAppointments(Collections.emptyList(), appointments);
+    }
+
+    /**
+     * Replaces the contents of this list with {@code replacement}.
+     * {@code replacement} must not contain overlapping appointments.
+     */
+    @Override
+    public void setAppointments(AppointmentList replacement) {
         requireNonNull(replacement);
+        if (!(replacement instanceof DisjointAppointmentList)) {
+            setAppointments(replacement.internalList);
+            return;
+        }
+
         internalList.setAll(replacement.internalList);
+        index = new AppointmentIndex(((DisjointAppointmentList) replacement).index);
+        occupancy = new AppointmentOccupancy(((DisjointAppointmentList) replacement).occupancy);
     }
 
     /**
@@ -90,29 +220,27 @@ public class DisjointAppointmentList extends AppointmentList {
     @Override
     public void setAppointments(Collection<Appointment> appointments) {
         requireAllNonNull(appointments);
-        if (Appointment.hasOverlapping(appointments)) {
+        AppointmentIndex newIndex = new AppointmentIndex();
+        if (!newIndex.addAll(appointments)) {
             throw new OverlappingAppointmentException();
         }
 
-        internalList.setAll(appointments);
+        AppointmentOccupancy newOccupancy = new AppointmentOccupancy();
+        appointments.forEach(newOccupancy::add);
+
+        internalList.setAll(sort(appointments));
+        index = newIndex;
+        occupancy = newOccupancy;
     }
 
     /**
-     * The list {@code appointments} must not have any appointments that overlap with existing appointments
-     * and also overlap with each other.
+     * Does nothing, as the list is always sorted.
      */
-    public void addAll(Collection<Appointment> appointments) {
-        if (Appointment.hasOverlapping(appointments)) {
-            throw new OverlappingAppointmentException();
-        }
-        for (Appointment ap : appointments) {
-            if (this.overlaps(ap)) {
-                throw new OverlappingAppointmentException();
-            }
-        }
-        internalList.addAll(appointments);
+    @Override
+    public void sort() {
     }
 
+    @Override
     public boolean isEmpty() {
         return internalList.isEmpty();
     }
@@ -121,4 +249,92 @@ public class DisjointAppointmentList extends AppointmentList {
     public Iterator<Appointment> iterator() {
         return internalList.iterator();
     }
+
+    /**
+     * Removes {@code removed} from the list and inserts {@code added} in order, with a single change to the list.
+     * A lone appointment is inserted, removed or replaced in place. Otherwise the appointments are merged into
+     * the list in one pass, so this takes O(n + k log k) time for k added appointments.
+     */
+    private void updateList(Collection<Appointment> removed, Collection<Appointment> added) {
+        Set<Appointment> removedSet = new HashSet<>(removed);
+        if (removedSet.equals(new HashSet<>(added))) {
+            return;
+        }
+
+        if (removed.isEmpty() && added.size() == 1) {
+            Appointment toAdd = added.iterator().next();
+            internalList.add(insertionPoint(toAdd), toAdd);
+            return;
+        }
+        if (removed.size() == 1 && added.isEmpty()) {
+            internalList.remove(indexOf(removed.iterator().next()));
+            return;
+        }
+        if (removed.size() == 1 && added.size() == 1) {
+            int position = indexOf(removed.iterator().next());
+            Appointment toAdd = added.iterator().next();
+            boolean isAfterPrevious = position == 0 || internalList.get(position - 1).compareTo(toAdd) < 0;
+            boolean isBeforeNext = position == internalList.size() - 1
+                    || toAdd.compareTo(internalList.get(position + 1)) < 0;
+            if (isAfterPrevious && isBeforeNext) {
+                internalList.set(position, toAdd);
+                return;
+            }
+        }
+
+        Appointment[] sortedAdded = sort(added);
+        List<Appointment> merged = new ArrayList<>(internalList.size() - removedSet.size() + sortedAdded.length);
+        int nextAdded = 0;
+        for (Appointment appointment : internalList) {
+            if (removedSet.contains(appointment)) {
+                continue;
+            }
+            while (nextAdded < sortedAdded.length && sortedAdded[nextAdded].compareTo(appointment) < 0) {
+                merged.add(sortedAdded[nextAdded++]);
+            }
+            merged.add(appointment);
+        }
+        merged.addAll(Arrays.asList(sortedAdded).subList(nextAdded, sortedAdded.length));
+        internalList.setAll(merged);
+    }
+
+    /**
+     * Returns the position of {@code appointment} in the list, or a negative number if it is not there.
+     * As appointments in the list do not overlap, no two of them start at the same time.
+     */
+    private int indexOf(Appointment appointment) {
+        int position = Collections.binarySearch(internalList, appointment);
+        return position >= 0 && internalList.get(position).equals(appointment) ? position : -1;
+    }
+
+    /**
+     * Returns the position at which {@code appointment}, which does not overlap with any appointment in the list,
+     * belongs.
+     */
+    private int insertionPoint(Appointment appointment) {
+        return -(Collections.binarySearch(internalList, appointment) + 1);
+    }
+
+    /**
+     * Returns the position of the first appointment in the list that starts at or after {@code minuteOfWeek}.
+     */
+    private int firstStartingFrom(int minuteOfWeek) {
+        int low = 0;
+        int high = internalList.size();
+        while (low < high) {
+            int middle = (low + high) >>> 1;
+            if (internalList.get(middle).getStartMinuteOfWeek() < minuteOfWeek) {
+                low = middle + 1;
+            } else {
+                high = middle;
+            }
+        }
+        return low;
+    }
+
+    private static Appointment[] sort(Collection<Appointment> appointments) {
+        Appointment[] sorted = appointments.toArray(new Appointment[0]);
+        Arrays.sort(sorted);
+        return sorted;
+    }
 }
@@ -0,0 +1,70 @@
+package seedu.address.model.appointment;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.commons.util.AppUtil.checkArgument;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Objects;
+
+import seedu.address.commons.util.ToStringBuilder;
+
+/**
+ * A lesson waiting for a slot, with its length and the windows of the week it may be held in.
+ * Guarantees: immutable; the duration is positive and there is at least one window.
+ */
+public class LessonRequest {
+
+    private final int duration;
+    private final List<Appointment> windows;
+
+    /**
+     * Creates a request for a lesson lasting {@code duration} minutes, held within one of {@code windows}.
+     */
+    public LessonRequest(int duration, List<Appointment> windows) {
+        requireNonNull(windows);
+        checkArgument(duration > 0 && !windows.isEmpty());
+        this.duration = duration;
+        this.windows = Collections.unmodifiableList(new ArrayList<>(windows));
+    }
+
+    public int getDuration() {
+        return duration;
+    }
+
+    /**
+     * Returns the windows the lesson may be held in, in the order they were given.
+     */
+    public List<Appointment> getWindows() {
+        return windows;
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+
+        // instanceof handles nulls
+        if (!(other instanceof LessonRequest)) {
+            return false;
+        }
+
+        LessonRequest otherRequest = (LessonRequest) other;
+        return duration == otherRequest.duration && windows.equals(otherRequest.windows);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(duration, windows);
+    }
+
+    @Override
+    public String toString() {
+        return new ToStringBuilder(this)
+                .add("duration", duration)
+                .add("windows", windows)
+                .toString();
+    }
+}
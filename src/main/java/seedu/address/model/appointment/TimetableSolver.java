@@ -0,0 +1,289 @@
+package seedu.address.model.appointment;
+
+import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.IntStream;
+
+/**
+ * Finds slots for lessons waiting to be scheduled, which overlap neither with each other nor with the minutes
+ * already taken, scheduling as many lessons as it can, and then as many minutes of lessons as it can.
+ *
+ * The search is a depth-first branch and bound over the requests, those with the fewest candidate slots first.
+ * Each request is given each of its candidate slots that is still free in turn, earliest first, and is left
+ * unscheduled last. A branch is cut as soon as it cannot beat the best assignment found so far, even if the free
+ * slots left in the windows of the remaining requests were filled with as many lessons as fit in them. The
+ * branches of the first levels are explored as separate tasks on the common fork/join pool, and the search stops
+ * when its time budget runs out, with the best assignment found by then. Of equally good assignments, the one
+ * giving the earliest slots to the requests searched first is kept, so a search that completes always gives the
+ * same assignment.
+ */
+public class TimetableSolver {
+
+    /** The time a search may take before it settles for the best assignment found. */
+    public static final long TIME_BUDGET_MILLIS = 2000;
+    /** Lessons start at the beginning of a free slot, or on a quarter hour within it. */
+    static final int START_STEP = 15;
+
+    /** The number of levels of the search whose branches are explored as separate tasks. */
+    private static final int PARALLEL_DEPTH = 2;
+    private static final int UNSCHEDULED = Integer.MAX_VALUE;
+
+    /** The positions of the requests with any candidate slot, in the order they are searched. */
+    private final int[] order;
+    /** The candidate slots of each request searched, in order of start time. */
+    private final Appointment[][] candidates;
+    /** The duration of each request searched. */
+    private final int[] durations;
+    /** The distinct windows of the requests searched from each depth on. */
+    private final Appointment[][] remainingWindows;
+    /** The shortest duration of the requests searched from each depth on. */
+    private final int[] shortestRemaining;
+    /** The total duration of the {@code k} longest requests searched from each depth on, by depth and {@code k}. */
+    private final int[][] longestRemainingMinutes;
+    private final long deadline;
+    private volatile Assignment best;
+
+    private TimetableSolver(AppointmentOccupancy taken, List<LessonRequest> requests, long timeBudgetMillis) {
+        deadline = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(timeBudgetMillis);
+        Appointment[][] candidatesOfRequests = requests.stream()
+                .map(request -> getCandidates(taken, request))
+                .toArray(Appointment[][]::new);
+        order = IntStream.range(0, requests.size())
+                .filter(position -> candidatesOfRequests[position].length > 0)
+                .boxed()
+                .sorted(Comparator.comparingInt(position -> candidatesOfRequests[position].length))
+                .mapToInt(Integer::intValue)
+                .toArray();
+        candidates = Arrays.stream(order).mapToObj(position -> candidatesOfRequests[position])
+                .toArray(Appointment[][]::new);
+        durations = Arrays.stream(order).map(position -> requests.get(position).getDuration()).toArray();
+        remainingWindows = new Appointment[order.length + 1][];
+        shortestRemaining = new int[order.length + 1];
+        longestRemainingMinutes = new int[order.length + 1][];
+        remainingWindows[order.length] = new Appointment[0];
+        shortestRemaining[order.length] = Integer.MAX_VALUE;
+        longestRemainingMinutes[order.length] = new int[1];
+        Set<Appointment> windows = new LinkedHashSet<>();
+        for (int depth = order.length - 1; depth >= 0; depth--) {
+            windows.addAll(requests.get(order[depth]).getWindows());
+            remainingWindows[depth] = windows.toArray(new Appointment[0]);
+            shortestRemaining[depth] = Math.min(shortestRemaining[depth + 1], durations[depth]);
+            int[] longestFirst = Arrays.stream(durations, depth, order.length)
+                    .boxed()
+                    .sorted(Comparator.reverseOrder())
+                    .mapToInt(Integer::intValue)
+                    .toArray();
+            longestRemainingMinutes[depth] = new int[longestFirst.length + 1];
+            for (int k = 0; k < longestFirst.length; k++) {
+                longestRemainingMinutes[depth][k + 1] = longestRemainingMinutes[depth][k] + longestFirst[k];
+            }
+        }
+
+        int[] noneChosen = new int[order.length];
+        Arrays.fill(noneChosen, UNSCHEDULED);
+        best = new Assignment(noneChosen, 0, 0);
+    }
+
+    /**
+     * Returns the slot found for each of {@code requests}, in the same order, or an empty {@code Optional} for
+     * those left unscheduled. The slots found do not overlap with each other or with the minutes in {@code taken}.
+     */
+    public static List<Optional<Appointment>> solve(AppointmentOccupancy taken, List<LessonRequest> requests) {
+        return solve(taken, requests, TIME_BUDGET_MILLIS);
+    }
+
+    /**
+     * Returns the slot found for each of {@code requests} as {@link #solve(AppointmentOccupancy, List)} does,
+     * searching for at most {@code timeBudgetMillis} milliseconds.
+     */
+    static List<Optional<Appointment>> solve(AppointmentOccupancy taken, List<LessonRequest> requests,
+            long timeBudgetMillis) {
+        requireAllNonNull(taken, requests);
+        TimetableSolver solver = new TimetableSolver(taken, requests, timeBudgetMillis);
+        ForkJoinPool.commonPool().invoke(solver.new Branch(0, solver.best.chosen.clone(),
+                new AppointmentOccupancy(taken), 0, 0));
+
+        List<Optional<Appointment>> slots = new ArrayList<>(requests.size());
+        for (int i = 0; i < requests.size(); i++) {
+            slots.add(Optional.empty());
+        }
+        Assignment found = solver.best;
+        for (int depth = 0; depth < solver.order.length; depth++) {
+            if (found.chosen[depth] != UNSCHEDULED) {
+                slots.set(solver.order[depth], Optional.of(solver.candidates[depth][found.chosen[depth]]));
+            }
+        }
+        return slots;
+    }
+
+    /**
+     * Returns the slots in the windows of {@code request} that are free in {@code taken} and could hold the lesson,
+     * in order of start time.
+     */
+    private static Appointment[] getCandidates(AppointmentOccupancy taken, LessonRequest request) {
+        int duration = request.getDuration();
+        TreeMap<Integer, Appointment> candidatesByStart = new TreeMap<>();
+        for (Appointment window : request.getWindows()) {
+            for (Appointment freeSlot : taken.getFreeSlots(window, duration)) {
+                int start = freeSlot.getStartMinuteOfWeek();
+                int lastStart = freeSlot.getEndMinuteOfWeek() - duration;
+                candidatesByStart.putIfAbsent(start, Appointment.fromMinutesOfWeek(start, start + duration));
+                for (start += START_STEP - start % START_STEP; start <= lastStart; start += START_STEP) {
+                    candidatesByStart.putIfAbsent(start, Appointment.fromMinutesOfWeek(start, start + duration));
+                }
+            }
+        }
+        return candidatesByStart.values().toArray(new Appointment[0]);
+    }
+
+    /**
+     * Returns true if a branch at {@code depth}, having scheduled {@code count} lessons of {@code minutes} minutes
+     * with the slots in {@code chosen}, and with room left for at most {@code capacity} more lessons, could still
+     * lead to an assignment better than the best found.
+     */
+    private boolean canBeatBest(int depth, int[] chosen, int count, int minutes, int capacity) {
+        Assignment bestFound = best;
+        int moreLessons = Math.min(order.length - depth, capacity);
+        int countBound = count + moreLessons;
+        int minutesBound = minutes + longestRemainingMinutes[depth][moreLessons];
+        if (countBound != bestFound.count) {
+            return countBound > bestFound.count;
+        }
+        if (minutesBound != bestFound.minutes) {
+            return minutesBound > bestFound.minutes;
+        }
+        // could at best tie, so only an assignment with earlier slots would be better
+        return Arrays.compare(chosen, 0, depth, bestFound.chosen, 0, depth) <= 0;
+    }
+
+    private synchronized void offer(int[] chosen, int count, int minutes) {
+        Assignment found = new Assignment(chosen.clone(), count, minutes);
+        if (found.isBetterThan(best)) {
+            best = found;
+        }
+    }
+
+    /**
+     * An assignment of slots to the requests searched, by the position of each slot among the candidates of its
+     * request.
+     */
+    private static class Assignment {
+        private final int[] chosen;
+        private final int count;
+        private final int minutes;
+
+        Assignment(int[] chosen, int count, int minutes) {
+            this.chosen = chosen;
+            this.count = count;
+            this.minutes = minutes;
+        }
+
+        boolean isBetterThan(Assignment other) {
+            if (count != other.count) {
+                return count > other.count;
+            }
+            if (minutes != other.minutes) {
+                return minutes > other.minutes;
+            }
+            return Arrays.compare(chosen, other.chosen) < 0;
+        }
+    }
+
+    /**
+     * A branch of the search, with the slots chosen so far and the minutes they and the existing appointments take.
+     * Branches above {@link #PARALLEL_DEPTH} own their arrays; deeper branches share them with the enclosing task.
+     */
+    private class Branch extends RecursiveAction {
+        private final int depth;
+        private final int[] chosen;
+        private final AppointmentOccupancy occupancy;
+        private final int count;
+        private final int minutes;
+
+        Branch(int depth, int[] chosen, AppointmentOccupancy occupancy, int count, int minutes) {
+            this.depth = depth;
+            this.chosen = chosen;
+            this.occupancy = occupancy;
+            this.count = count;
+            this.minutes = minutes;
+        }
+
+        @Override
+        protected void compute() {
+            search(depth, count, minutes);
+        }
+
+        private void search(int depth, int count, int minutes) {
+            if (System.nanoTime() > deadline || !canBeatBest(depth, chosen, count, minutes, getCapacity(depth))) {
+                return;
+            }
+            if (depth == order.length) {
+                offer(chosen, count, minutes);
+                return;
+            }
+            if (depth < PARALLEL_DEPTH) {
+                invokeAll(getChildren(depth, count, minutes));
+                return;
+            }
+
+            Appointment[] slots = candidates[depth];
+            for (int i = 0; i < slots.length; i++) {
+                if (occupancy.overlaps(slots[i])) {
+                    continue;
+                }
+                occupancy.add(slots[i]);
+                chosen[depth] = i;
+                search(depth + 1, count + 1, minutes + durations[depth]);
+                occupancy.remove(slots[i]);
+            }
+            chosen[depth] = UNSCHEDULED;
+            search(depth + 1, count, minutes);
+        }
+
+        /**
+         * Returns an upper bound on the number of lessons from {@code depth} on that still fit in their windows,
+         * counting each free slot of a window as holding as many of the shortest of them as fit side by side.
+         */
+        private int getCapacity(int depth) {
+            int capacity = 0;
+            for (Appointment window : remainingWindows[depth]) {
+                capacity += occupancy.countFreeSlots(window, shortestRemaining[depth]);
+                if (capacity >= order.length - depth) {
+                    break;
+                }
+            }
+            return capacity;
+        }
+
+        private List<Branch> getChildren(int depth, int count, int minutes) {
+            List<Branch> children = new ArrayList<>();
+            Appointment[] slots = candidates[depth];
+            for (int i = 0; i < slots.length; i++) {
+                if (occupancy.overlaps(slots[i])) {
+                    continue;
+                }
+                int[] childChosen = chosen.clone();
+                childChosen[depth] = i;
+                AppointmentOccupancy childOccupancy = new AppointmentOccupancy(occupancy);
+                childOccupancy.add(slots[i]);
+                children.add(new Branch(depth + 1, childChosen, childOccupancy, count + 1,
+                        minutes + durations[depth]));
+            }
+            int[] childChosen = chosen.clone();
+            childChosen[depth] = UNSCHEDULED;
+            children.add(new Branch(depth + 1, childChosen, new AppointmentOccupancy(occupancy), count, minutes));
+            return children;
+        }
+    }
+}
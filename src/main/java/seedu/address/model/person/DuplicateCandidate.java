@@ -0,0 +1,125 @@
+package seedu.address.model.person;
+
+import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+
+import seedu.address.commons.util.ToStringBuilder;
+
+/**
+ * A pair of persons that are probably the same person, with how alike they are.
+ * Guarantees: immutable.
+ */
+public class DuplicateCandidate {
+
+    private final Person first;
+    private final Person second;
+    private final double nameSimilarity;
+    private final boolean hasSamePhone;
+    private final boolean hasSameEmail;
+    private final double score;
+
+    /**
+     * Every field must be present and not null.
+     */
+    public DuplicateCandidate(Person first, Person second, double nameSimilarity, boolean hasSamePhone,
+            boolean hasSameEmail, double score) {
+        requireAllNonNull(first, second);
+        this.first = first;
+        this.second = second;
+        this.nameSimilarity = nameSimilarity;
+        this.hasSamePhone = hasSamePhone;
+        this.hasSameEmail = hasSameEmail;
+        this.score = score;
+    }
+
+    /**
+     * Returns the person that comes first in the address book.
+     */
+    public Person getFirst() {
+        return first;
+    }
+
+    public Person getSecond() {
+        return second;
+    }
+
+    /**
+     * Returns how alike the names are, from 0 for names with nothing in common to 1 for names that only differ in
+     * case and whitespace.
+     */
+    public double getNameSimilarity() {
+        return nameSimilarity;
+    }
+
+    public boolean hasSamePhone() {
+        return hasSamePhone;
+    }
+
+    public boolean hasSameEmail() {
+        return hasSameEmail;
+    }
+
+    /**
+     * Returns how likely the persons are to be the same person, from 0 to 1.
+     */
+    public double getScore() {
+        return score;
+    }
+
+    /**
+     * Returns the reasons the persons are thought to be the same person, for display to the user.
+     */
+    public List<String> getReasons() {
+        List<String> reasons = new ArrayList<>();
+        if (nameSimilarity == 1) {
+            reasons.add("same name");
+        } else if (nameSimilarity >= DuplicateFinder.SIMILAR_NAME_THRESHOLD) {
+            reasons.add("similar names");
+        }
+        if (hasSamePhone) {
+            reasons.add("same phone");
+        }
+        if (hasSameEmail) {
+            reasons.add("same email");
+        }
+        return reasons;
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+
+        // instanceof handles nulls
+        if (!(other instanceof DuplicateCandidate)) {
+            return false;
+        }
+
+        DuplicateCandidate otherCandidate = (DuplicateCandidate) other;
+        return first.equals(otherCandidate.first)
+                && second.equals(otherCandidate.second)
+                && nameSimilarity == otherCandidate.nameSimilarity
+                && hasSamePhone == otherCandidate.hasSamePhone
+                && hasSameEmail == otherCandidate.hasSameEmail
+                && score == otherCandidate.score;
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(first, second, nameSimilarity, hasSamePhone, hasSameEmail, score);
+    }
+
+    @Override
+    public String toString() {
+        return new ToStringBuilder(this)
+                .add("first", first.getName())
+                .add("second", second.getName())
+                .add("score", score)
+                .add("reasons", getReasons())
+                .toString();
+    }
+}
@@ -0,0 +1,171 @@
+package seedu.address.model.person;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.stream.Collectors;
+import java.util.stream.LongStream;
+
+/**
+ * Finds the pairs of persons in a list that are probably the same person.
+ *
+ * Comparing every pair of persons would take quadratic time, so only likely pairs are compared: persons with the
+ * same phone or email, and persons whose normalized names are near each other when the names are sorted, or sorted
+ * by their reversed spelling so that names differing near their start also end up near each other. The pairs are
+ * then scored in parallel.
+ */
+public class DuplicateFinder {
+
+    /** How much alike names count towards the score, the rest coming from the same phone and the same email. */
+    static final double NAME_WEIGHT = 0.6;
+    static final double PHONE_WEIGHT = 0.2;
+    static final double EMAIL_WEIGHT = 0.2;
+    /** The score from which a pair of persons is reported. */
+    static final double SCORE_THRESHOLD = 0.5;
+    /** The name similarity from which names alone make a pair of persons reported. */
+    static final double SIMILAR_NAME_THRESHOLD = SCORE_THRESHOLD / NAME_WEIGHT;
+
+    /** The number of persons in sorted order that each person is compared with, itself included. */
+    private static final int WINDOW = 10;
+    /**
+     * Persons sharing a phone or email with more persons than this are not compared for it, as such a phone or
+     * email, like that of a school office, says little about whether two persons are the same.
+     */
+    private static final int MAX_BLOCK_SIZE = 50;
+    /** Allowance for rounding, so that pairs scoring exactly {@code SCORE_THRESHOLD} are reported. */
+    private static final double ROUNDING_ALLOWANCE = 1e-9;
+
+    // copied from the list, so that scoring in parallel does not read a list that may load its persons lazily
+    private final Person[] persons;
+    private final String[] names;
+    /** The phones and lower-case emails of the persons, or null for those without one. */
+    private final String[] phones;
+    private final String[] emails;
+
+    private DuplicateFinder(List<Person> persons) {
+        this.persons = persons.toArray(new Person[0]);
+        names = new String[this.persons.length];
+        phones = new String[this.persons.length];
+        emails = new String[this.persons.length];
+        for (int i = 0; i < names.length; i++) {
+            Person person = this.persons[i];
+            names[i] = person.getName().getNormalizedName();
+            phones[i] = person.getPhone().isEmpty() ? null : person.getPhone().value;
+            emails[i] = person.getEmail().isEmpty() ? null : person.getEmail().value.toLowerCase();
+        }
+    }
+
+    /**
+     * Returns the pairs of persons in {@code persons} that are probably the same person, most likely first.
+     * Pairs that are equally likely are in the order of their persons in {@code persons}.
+     */
+    public static List<DuplicateCandidate> findDuplicates(List<Person> persons) {
+        requireNonNull(persons);
+        return new DuplicateFinder(persons).findDuplicates();
+    }
+
+    private List<DuplicateCandidate> findDuplicates() {
+        LongStream.Builder pairs = LongStream.builder();
+        addNeighbours(pairs, names);
+        addNeighbours(pairs, Arrays.stream(names).map(name -> new StringBuilder(name).reverse().toString())
+                .toArray(String[]::new));
+        addBlocks(pairs, phones);
+        addBlocks(pairs, emails);
+
+        long[] sortedPairs = pairs.build().toArray();
+        Arrays.sort(sortedPairs);
+        // dropping repeated pairs in place is much cheaper than LongStream#distinct, which boxes every pair
+        int distinctPairs = 0;
+        for (int i = 0; i < sortedPairs.length; i++) {
+            if (i == 0 || sortedPairs[i] != sortedPairs[i - 1]) {
+                sortedPairs[distinctPairs++] = sortedPairs[i];
+            }
+        }
+
+        List<DuplicateCandidate> duplicates = Arrays.stream(sortedPairs, 0, distinctPairs)
+                .parallel()
+                .mapToObj(pair -> score((int) (pair >>> 32), (int) pair))
+                .filter(Objects::nonNull)
+                .collect(Collectors.toList());
+        // the sort is stable, so equally likely pairs stay in the order of their positions
+        duplicates.sort(Comparator.comparingDouble(DuplicateCandidate::getScore).reversed());
+        return duplicates;
+    }
+
+    /**
+     * Adds the pairs of persons that are within {@code WINDOW} of each other when sorted by their {@code keys}.
+     */
+    private static void addNeighbours(LongStream.Builder pairs, String[] keys) {
+        Integer[] sorted = new Integer[keys.length];
+        Arrays.setAll(sorted, i -> i);
+        Arrays.sort(sorted, Comparator.comparing(i -> keys[i]));
+        for (int i = 0; i < sorted.length; i++) {
+            for (int j = i + 1; j < Math.min(i + WINDOW, sorted.length); j++) {
+                pairs.add(pair(sorted[i], sorted[j]));
+            }
+        }
+    }
+
+    /**
+     * Adds the pairs of persons with the same non-null key in {@code keys}, unless too many persons share it.
+     */
+    private static void addBlocks(LongStream.Builder pairs, String[] keys) {
+        Map<String, List<Integer>> blocks = new HashMap<>();
+        for (int i = 0; i < keys.length; i++) {
+            if (keys[i] != null) {
+                blocks.computeIfAbsent(keys[i], k -> new ArrayList<>(1)).add(i);
+            }
+        }
+
+        for (List<Integer> block : blocks.values()) {
+            if (block.size() > MAX_BLOCK_SIZE) {
+                continue;
+            }
+            for (int i = 0; i < block.size(); i++) {
+                for (int j = i + 1; j < block.size(); j++) {
+                    pairs.add(pair(block.get(i), block.get(j)));
+                }
+            }
+        }
+    }
+
+    /**
+     * Returns the pair of the persons at {@code first} and {@code second} if it scores enough to be reported,
+     * or null otherwise.
+     */
+    private DuplicateCandidate score(int first, int second) {
+        boolean hasSamePhone = phones[first] != null && phones[first].equals(phones[second]);
+        boolean hasSameEmail = emails[first] != null && emails[first].equals(emails[second]);
+        double contactScore = (hasSamePhone ? PHONE_WEIGHT : 0) + (hasSameEmail ? EMAIL_WEIGHT : 0);
+
+        // names further apart than this cannot make up the rest of the score
+        int longerLength = Math.max(names[first].length(), names[second].length());
+        double minNameSimilarity = (SCORE_THRESHOLD - contactScore) / NAME_WEIGHT;
+        int maxDistance = (int) Math.floor((1 - minNameSimilarity) * longerLength + ROUNDING_ALLOWANCE);
+        int distance = NameSimilarityIndex.distance(names[first], names[second], maxDistance);
+        if (distance > maxDistance) {
+            return null;
+        }
+
+        double nameSimilarity = longerLength == 0 ? 1 : 1 - (double) distance / longerLength;
+        double score = NAME_WEIGHT * nameSimilarity + contactScore;
+        if (score < SCORE_THRESHOLD - ROUNDING_ALLOWANCE) {
+            return null;
+        }
+        return new DuplicateCandidate(persons[first], persons[second], nameSimilarity, hasSamePhone, hasSameEmail,
+                score);
+    }
+
+    /**
+     * Returns the pair of positions {@code i} and {@code j} as one number, with the smaller position first.
+     */
+    private static long pair(int i, int j) {
+        return (long) Math.min(i, j) << 32 | Math.max(i, j);
+    }
+}
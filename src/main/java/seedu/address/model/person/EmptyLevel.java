@@ -30,4 +30,9 @@ public class EmptyLevel extends Level {
 
         return false;
     }
+
+    @Override
+    public int hashCode() {
+        return 0;
+    }
 }
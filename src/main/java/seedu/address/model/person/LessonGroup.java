@@ -0,0 +1,83 @@
+package seedu.address.model.person;
+
+import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Objects;
+
+import seedu.address.commons.util.ToStringBuilder;
+import seedu.address.model.appointment.Appointment;
+
+/**
+ * A group of persons who could take a lesson together, with the slots free of appointments in which they could.
+ * Guarantees: immutable.
+ */
+public class LessonGroup {
+
+    private final List<Person> members;
+    private final List<Appointment> freeSlots;
+
+    /**
+     * Every field must be present and not null.
+     */
+    public LessonGroup(List<Person> members, List<Appointment> freeSlots) {
+        requireAllNonNull(members, freeSlots);
+        this.members = Collections.unmodifiableList(new ArrayList<>(members));
+        this.freeSlots = Collections.unmodifiableList(new ArrayList<>(freeSlots));
+    }
+
+    /**
+     * Returns the members of the group, in the order of the address book.
+     */
+    public List<Person> getMembers() {
+        return members;
+    }
+
+    /**
+     * Returns the slots in which every member is free, in order of start time.
+     */
+    public List<Appointment> getFreeSlots() {
+        return freeSlots;
+    }
+
+    /**
+     * Returns the total length of the free slots, in minutes.
+     */
+    public int getFreeMinutes() {
+        int freeMinutes = 0;
+        for (Appointment freeSlot : freeSlots) {
+            freeMinutes += freeSlot.getEndMinuteOfWeek() - freeSlot.getStartMinuteOfWeek();
+        }
+        return freeMinutes;
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+
+        // instanceof handles nulls
+        if (!(other instanceof LessonGroup)) {
+            return false;
+        }
+
+        LessonGroup otherGroup = (LessonGroup) other;
+        return members.equals(otherGroup.members) && freeSlots.equals(otherGroup.freeSlots);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(members, freeSlots);
+    }
+
+    @Override
+    public String toString() {
+        return new ToStringBuilder(this)
+                .add("members", members)
+                .add("freeSlots", freeSlots)
+                .toString();
+    }
+}
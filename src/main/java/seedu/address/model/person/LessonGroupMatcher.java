@@ -0,0 +1,148 @@
+package seedu.address.model.person;
+
+import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import seedu.address.model.appointment.Appointment;
+import seedu.address.model.appointment.AppointmentOccupancy;
+
+/**
+ * Puts persons into groups that could take a lesson together, as some slot of a lesson's length during teaching
+ * hours is taken neither by an appointment of the timetable nor by an appointment of a member of the group.
+ *
+ * The minutes each person is taken are kept in a bitmap, so a group is free wherever the union of the timetable's
+ * bitmap and its members' bitmaps is clear. Persons are placed first fit, those with the most appointments first,
+ * as they are the hardest to place. The bitmaps, and the free slots of the groups found, are computed in parallel.
+ */
+public class LessonGroupMatcher {
+
+    static final int MAX_GROUP_SIZE = 5;
+    static final int LESSON_MINUTES = 60;
+    /** The part of each day, in minutes of the day, in which lessons are held. */
+    static final int TEACHING_START = 8 * 60;
+    static final int TEACHING_END = 22 * 60;
+
+    private static final List<Appointment> TEACHING_HOURS = IntStream.range(0, 7)
+            .mapToObj(day -> Appointment.fromMinutesOfWeek(day * Appointment.MINUTES_PER_DAY + TEACHING_START,
+                    day * Appointment.MINUTES_PER_DAY + TEACHING_END))
+            .collect(Collectors.toList());
+
+    /** The bitmap of every person without appointments, which is only ever read. */
+    private static final AppointmentOccupancy NO_APPOINTMENTS = new AppointmentOccupancy();
+
+    /**
+     * Returns the groups of at least two persons in {@code persons} that could take a lesson together at a time
+     * not in {@code taken}, largest first, and then those with the most free time first. Each person is in at most
+     * one group, and the members of each group are in the order of {@code persons}.
+     */
+    public static List<LessonGroup> findGroups(List<Person> persons, AppointmentOccupancy taken) {
+        requireAllNonNull(persons, taken);
+        // copied from the list, so that working in parallel does not read a list that may load its persons lazily
+        Person[] candidates = persons.toArray(new Person[0]);
+        AppointmentOccupancy[] occupancies = Arrays.stream(candidates)
+                .parallel()
+                .map(LessonGroupMatcher::getOccupancy)
+                .toArray(AppointmentOccupancy[]::new);
+        int[] takenMinutes = Arrays.stream(occupancies)
+                .mapToInt(AppointmentOccupancy::getTakenMinutes)
+                .toArray();
+
+        Integer[] order = new Integer[candidates.length];
+        Arrays.setAll(order, i -> i);
+        // the sort is stable, so persons with as many appointments stay in their order
+        Arrays.sort(order, Comparator.comparingInt((Integer i) -> takenMinutes[i]).reversed());
+
+        List<Group> groups = new ArrayList<>();
+        List<Group> openGroups = new ArrayList<>();
+        // reused for every union tried, as most tries fail and would otherwise each copy a bitmap
+        AppointmentOccupancy union = new AppointmentOccupancy();
+        for (int candidate : order) {
+            Group joined = null;
+            for (Group group : openGroups) {
+                union.setToUnion(group.occupancy, occupancies[candidate]);
+                if (hasLessonSlot(union)) {
+                    joined = group;
+                    break;
+                }
+            }
+
+            if (joined != null) {
+                joined.members.add(candidate);
+                joined.occupancy.addAll(occupancies[candidate]);
+                if (joined.members.size() == MAX_GROUP_SIZE) {
+                    openGroups.remove(joined);
+                }
+            } else {
+                AppointmentOccupancy groupOccupancy = new AppointmentOccupancy(taken);
+                groupOccupancy.addAll(occupancies[candidate]);
+                if (hasLessonSlot(groupOccupancy)) {
+                    Group group = new Group(candidate, groupOccupancy);
+                    groups.add(group);
+                    openGroups.add(group);
+                }
+            }
+        }
+
+        List<LessonGroup> lessonGroups = groups.stream()
+                .parallel()
+                .filter(group -> group.members.size() > 1)
+                .map(group -> group.toLessonGroup(candidates))
+                .collect(Collectors.toList());
+        // the sort is stable, so equally good groups stay in the order they were formed
+        lessonGroups.sort(Comparator.comparingInt((LessonGroup group) -> group.getMembers().size())
+                .thenComparingInt(LessonGroup::getFreeMinutes)
+                .reversed());
+        return lessonGroups;
+    }
+
+    private static AppointmentOccupancy getOccupancy(Person person) {
+        if (person.getAppointments().isEmpty()) {
+            return NO_APPOINTMENTS;
+        }
+        AppointmentOccupancy occupancy = new AppointmentOccupancy();
+        for (Appointment appointment : person.getAppointments()) {
+            occupancy.add(appointment);
+        }
+        return occupancy;
+    }
+
+    private static boolean hasLessonSlot(AppointmentOccupancy occupancy) {
+        for (Appointment teachingHours : TEACHING_HOURS) {
+            if (occupancy.hasFreeSlot(teachingHours, LESSON_MINUTES)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * A group being formed, with the positions of its members and the minutes taken by the timetable or any of them.
+     */
+    private static class Group {
+        private final List<Integer> members = new ArrayList<>(MAX_GROUP_SIZE);
+        private final AppointmentOccupancy occupancy;
+
+        Group(int firstMember, AppointmentOccupancy occupancy) {
+            members.add(firstMember);
+            this.occupancy = occupancy;
+        }
+
+        LessonGroup toLessonGroup(Person[] candidates) {
+            List<Person> memberPersons = members.stream()
+                    .sorted()
+                    .map(member -> candidates[member])
+                    .collect(Collectors.toList());
+            List<Appointment> freeSlots = new ArrayList<>();
+            for (Appointment teachingHours : TEACHING_HOURS) {
+                freeSlots.addAll(occupancy.getFreeSlots(teachingHours, LESSON_MINUTES));
+            }
+            return new LessonGroup(memberPersons, freeSlots);
+        }
+    }
+}
@@ -7,6 +7,9 @@ package seedu.address.model.person;
 public class Level {
     public static final String MESSAGE_CONSTRAINTS = "Levels should only be P1, P2, P3, P4, P5 or P6";
 
+    /** The one {@code Level} of each {@code LevelEnum}, by ordinal. */
+    private static final Level[] LEVELS = createLevels();
+
     private final LevelEnum internalLevel;
 
     /**
@@ -23,6 +26,28 @@ public class Level {
         this.internalLevel = null;
     }
 
+    private Level(LevelEnum internalLevel) {
+        this.internalLevel = internalLevel;
+    }
+
+    /**
+     * Returns the {@code Level} named by {@code level}, which is the same instance for every use of a level.
+     *
+     * @param level A valid level.
+     */
+    public static Level of(String level) {
+        return LEVELS[LevelEnum.valueOf(level.trim().toUpperCase()).ordinal()];
+    }
+
+    private static Level[] createLevels() {
+        LevelEnum[] values = LevelEnum.values();
+        Level[] levels = new Level[values.length];
+        for (LevelEnum value : values) {
+            levels[value.ordinal()] = new Level(value);
+        }
+        return levels;
+    }
+
     @Override
     public String toString() {
         return internalLevel.toString();
@@ -62,4 +87,9 @@ public class Level {
         Level otherLevel = (Level) other;
         return internalLevel.equals(otherLevel.internalLevel);
     }
+
+    @Override
+    public int hashCode() {
+        return internalLevel.hashCode();
+    }
 }
@@ -20,6 +20,14 @@ public class Name {
 
     public final String fullName;
 
+    /** The name as returned by {@link #normalize(String)}, or null until first needed. */
+    private String normalizedName;
+    /**
+     * The name with the case of each character folded as {@link String#equalsIgnoreCase} folds it, so that equal
+     * names have the same folded name, or null until first needed.
+     */
+    private String caseFoldedName;
+
     /**
      * Constructs a {@code Name}.
      *
@@ -38,6 +46,42 @@ public class Name {
         return test.matches(VALIDATION_REGEX);
     }
 
+    /**
+     * Returns {@code name} in lower case with all whitespace removed, so that names differing only in case and
+     * spacing are the same.
+     */
+    public static String normalize(String name) {
+        requireNonNull(name);
+        StringBuilder normalized = new StringBuilder(name.length());
+        for (int i = 0; i < name.length(); i++) {
+            char c = name.charAt(i);
+            if (!Character.isWhitespace(c)) {
+                normalized.append(Character.toLowerCase(c));
+            }
+        }
+        return normalized.toString();
+    }
+
+    /**
+     * Returns this name as returned by {@link #normalize(String)}, which is only computed once.
+     */
+    public String getNormalizedName() {
+        if (normalizedName == null) {
+            normalizedName = normalize(fullName);
+        }
+        return normalizedName;
+    }
+
+    private String getCaseFoldedName() {
+        if (caseFoldedName == null) {
+            char[] folded = fullName.toCharArray();
+            for (int i = 0; i < folded.length; i++) {
+                folded[i] = Character.toLowerCase(Character.toUpperCase(folded[i]));
+            }
+            caseFoldedName = new String(folded);
+        }
+        return caseFoldedName;
+    }
 
     @Override
     public String toString() {
@@ -56,14 +100,13 @@ public class Name {
         }
 
         Name otherName = (Name) other;
-        String fullNameLower = fullName.toLowerCase();
-        String otherNameLower = otherName.fullName.toLowerCase();
-        return fullNameLower.equals(otherNameLower);
+        return fullName.equalsIgnoreCase(otherName.fullName);
     }
 
     @Override
     public int hashCode() {
-        return fullName.hashCode();
+        // consistent with equals, which ignores case
+        return getCaseFoldedName().hashCode();
     }
 
 }
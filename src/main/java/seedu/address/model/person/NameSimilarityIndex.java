@@ -0,0 +1,262 @@
+package seedu.address.model.person;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.Deque;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * An index of names that finds the names within a small edit distance of a given name without comparing it with
+ * every name.
+ *
+ * Names are compared by the Levenshtein distance between their normalized forms (see {@link Name#normalize}), and
+ * kept in a BK-tree: each child of a node is filed under its distance from the node, so by the triangle inequality
+ * only the children whose distance is within the allowed distance of the query's own distance from the node can
+ * hold a match. Removed names leave their node in place to keep the tree valid, and the tree is rebuilt once most
+ * of its nodes are empty.
+ */
+class NameSimilarityIndex {
+
+    /** Normalized names shorter than this only match exactly, as a single edit changes too much of them. */
+    private static final int MIN_LENGTH_PER_EDIT = 5;
+    private static final int MAX_DISTANCE = 2;
+
+    private Node root;
+    private int nodeCount;
+    private int emptyNodeCount;
+
+    /**
+     * Creates an index of the names of {@code persons}.
+     */
+    NameSimilarityIndex(List<Person> persons) {
+        for (Person person : persons) {
+            add(person.getName());
+        }
+    }
+
+    /**
+     * Adds {@code name} to the index.
+     */
+    void add(Name name) {
+        add(name.getNormalizedName(), name.fullName);
+    }
+
+    /**
+     * Removes {@code name}, which must be in the index.
+     */
+    void remove(Name name) {
+        String key = name.getNormalizedName();
+        Node node = root;
+        int distance = distance(key, node.key);
+        while (distance != 0) {
+            node = node.getChild(distance);
+            distance = distance(key, node.key);
+        }
+
+        node.fullNames.remove(name.fullName);
+        if (node.fullNames.isEmpty()) {
+            emptyNodeCount++;
+        }
+        if (emptyNodeCount > nodeCount / 2) {
+            rebuild();
+        }
+    }
+
+    /**
+     * Returns the names in the index whose normalized forms are within the allowed edit distance of that of
+     * {@code name}, closest first. The allowed distance grows with the length of the normalized name.
+     */
+    List<String> findSimilar(Name name) {
+        String key = name.getNormalizedName();
+        int maxDistance = getMaxDistance(key);
+        // names by distance, and alphabetically among names at the same distance
+        Map<Integer, List<String>> similarNames = new TreeMap<>();
+
+        Deque<Node> toVisit = new ArrayDeque<>();
+        if (root != null) {
+            toVisit.push(root);
+        }
+        while (!toVisit.isEmpty()) {
+            Node node = toVisit.pop();
+            int distance = distance(key, node.key);
+            if (distance <= maxDistance && !node.fullNames.isEmpty()) {
+                similarNames.computeIfAbsent(distance, d -> new ArrayList<>()).addAll(node.fullNames);
+            }
+            for (int d = Math.max(1, distance - maxDistance); d <= distance + maxDistance; d++) {
+                Node child = node.getChild(d);
+                if (child != null) {
+                    toVisit.push(child);
+                }
+            }
+        }
+
+        List<String> result = new ArrayList<>();
+        for (List<String> names : similarNames.values()) {
+            names.sort(Comparator.naturalOrder());
+            result.addAll(names);
+        }
+        return result;
+    }
+
+    private void add(String key, String fullName) {
+        Node node = findOrCreateNode(key);
+        if (node.fullNames.isEmpty()) {
+            emptyNodeCount--;
+        }
+        node.fullNames.add(fullName);
+    }
+
+    /**
+     * Returns the node of {@code key}, creating it as an empty node if the tree has none.
+     */
+    private Node findOrCreateNode(String key) {
+        if (root == null) {
+            root = createNode(key);
+            return root;
+        }
+
+        Node node = root;
+        int distance = distance(key, node.key);
+        while (distance != 0) {
+            Node child = node.getChild(distance);
+            if (child == null) {
+                return node.setChild(distance, createNode(key));
+            }
+            node = child;
+            distance = distance(key, node.key);
+        }
+        return node;
+    }
+
+    private Node createNode(String key) {
+        nodeCount++;
+        emptyNodeCount++;
+        return new Node(key);
+    }
+
+    private void rebuild() {
+        List<Node> nodes = new ArrayList<>();
+        Deque<Node> toVisit = new ArrayDeque<>();
+        toVisit.push(root);
+        while (!toVisit.isEmpty()) {
+            Node node = toVisit.pop();
+            nodes.add(node);
+            for (Node child : node.children) {
+                if (child != null) {
+                    toVisit.push(child);
+                }
+            }
+        }
+
+        root = null;
+        nodeCount = 0;
+        emptyNodeCount = 0;
+        for (Node node : nodes) {
+            for (String fullName : node.fullNames) {
+                add(node.key, fullName);
+            }
+        }
+    }
+
+    private static int getMaxDistance(String key) {
+        return Math.min(MAX_DISTANCE, key.length() / MIN_LENGTH_PER_EDIT);
+    }
+
+    /**
+     * Returns the Levenshtein distance between {@code a} and {@code b}.
+     */
+    static int distance(String a, String b) {
+        int[] previous = new int[b.length() + 1];
+        int[] current = new int[b.length() + 1];
+        for (int j = 0; j <= b.length(); j++) {
+            previous[j] = j;
+        }
+
+        for (int i = 1; i <= a.length(); i++) {
+            current[0] = i;
+            for (int j = 1; j <= b.length(); j++) {
+                int substitution = previous[j - 1] + (a.charAt(i - 1) == b.charAt(j - 1) ? 0 : 1);
+                current[j] = Math.min(substitution, Math.min(previous[j], current[j - 1]) + 1);
+            }
+            int[] swap = previous;
+            previous = current;
+            current = swap;
+        }
+        return previous[b.length()];
+    }
+
+    /**
+     * Returns the Levenshtein distance between {@code a} and {@code b} if it is at most {@code maxDistance}, or
+     * {@code maxDistance + 1} otherwise.
+     * Only the cells of the distance table within {@code maxDistance} of its diagonal are computed, as the others
+     * cannot lie on a path of at most that distance, and the computation stops once a whole row exceeds it.
+     */
+    static int distance(String a, String b, int maxDistance) {
+        int tooFar = maxDistance + 1;
+        if (Math.abs(a.length() - b.length()) > maxDistance) {
+            return tooFar;
+        }
+
+        int[] previous = new int[b.length() + 1];
+        int[] current = new int[b.length() + 1];
+        for (int j = 0; j <= b.length(); j++) {
+            previous[j] = Math.min(j, tooFar);
+        }
+
+        for (int i = 1; i <= a.length(); i++) {
+            int from = Math.max(1, i - maxDistance);
+            int to = Math.min(b.length(), i + maxDistance);
+            current[from - 1] = from == 1 ? Math.min(i, tooFar) : tooFar;
+            int rowMin = current[from - 1];
+            for (int j = from; j <= to; j++) {
+                int substitution = previous[j - 1] + (a.charAt(i - 1) == b.charAt(j - 1) ? 0 : 1);
+                int cell = Math.min(substitution, Math.min(previous[j], current[j - 1]) + 1);
+                current[j] = Math.min(cell, tooFar);
+                rowMin = Math.min(rowMin, current[j]);
+            }
+            if (to < b.length()) {
+                // the next row reads this cell, which is outside the band
+                current[to + 1] = tooFar;
+            }
+            if (rowMin == tooFar) {
+                return tooFar;
+            }
+            int[] swap = previous;
+            previous = current;
+            current = swap;
+        }
+        return previous[b.length()];
+    }
+
+    /**
+     * A normalized name in the tree, with the full names that normalize to it.
+     */
+    private static class Node {
+        private static final Node[] NO_CHILDREN = new Node[0];
+
+        private final String key;
+        private final List<String> fullNames = new ArrayList<>(1);
+        /** Children by their distance from this node, with nothing at distance 0. */
+        private Node[] children = NO_CHILDREN;
+
+        Node(String key) {
+            this.key = key;
+        }
+
+        Node getChild(int distance) {
+            return distance < children.length ? children[distance] : null;
+        }
+
+        Node setChild(int distance, Node child) {
+            if (distance >= children.length) {
+                children = Arrays.copyOf(children, distance + 1);
+            }
+            children[distance] = child;
+            return child;
+        }
+    }
+}
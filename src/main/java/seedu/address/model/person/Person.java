@@ -3,13 +3,12 @@ package seedu.address.model.person;
 import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
 
 import java.util.ArrayList;
-import java.util.Collections;
-import java.util.HashSet;
 import java.util.List;
 import java.util.Objects;
 import java.util.Set;
 import java.util.stream.Collectors;
 
+import seedu.address.commons.util.ArraySet;
 import seedu.address.commons.util.StringUtil;
 import seedu.address.commons.util.ToStringBuilder;
 import seedu.address.model.appointment.AppointmentList;
@@ -29,9 +28,10 @@ public class Person {
 
     // Data fields
     private final Address address;
-    private final Set<Tag> tags = new HashSet<>();
+    private final Set<Tag> tags;
     private final AppointmentList appointments;
-    private final Set<Subject> subjects = new HashSet<>();
+    /** The subjects as a bitmask from {@link Subject#toBits}, which takes far less memory than a set. */
+    private final int subjects;
     private final Level level;
 
     /**
@@ -47,9 +47,9 @@ public class Person {
         this.email = email;
         this.address = address;
         this.note = note;
-        this.tags.addAll(tags);
+        this.tags = ArraySet.copyOf(tags);
         this.appointments = appointments;
-        this.subjects.addAll(subjects);
+        this.subjects = Subject.toBits(subjects);
         this.level = level;
     }
 
@@ -82,7 +82,7 @@ public class Person {
      * if modification is attempted.
      */
     public Set<Tag> getTags() {
-        return Collections.unmodifiableSet(tags);
+        return tags;
     }
 
     public AppointmentList getAppointments() {
@@ -94,7 +94,7 @@ public class Person {
      * if modification is attempted.
      */
     public Set<Subject> getSubjects() {
-        return Collections.unmodifiableSet(subjects);
+        return Subject.fromBits(subjects);
     }
 
     /**
@@ -199,7 +199,7 @@ public class Person {
                 && note.equals(otherPerson.note)
                 && tags.equals(otherPerson.tags)
                 && appointments.equals(otherPerson.appointments)
-                && subjects.equals(otherPerson.subjects)
+                && subjects == otherPerson.subjects
                 && level.equals(otherPerson.level);
     }
 
@@ -227,7 +227,7 @@ public class Person {
         }
         returnedString.add("tags", tags);
         returnedString.add("appointments", appointments);
-        returnedString.add("subjects", subjects);
+        returnedString.add("subjects", getSubjects());
 
         if (!level.isEmpty()) {
             returnedString.add("level", level);
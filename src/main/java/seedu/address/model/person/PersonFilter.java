@@ -0,0 +1,76 @@
+package seedu.address.model.person;
+
+import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.util.Collections;
+import java.util.Set;
+import java.util.function.Predicate;
+
+import seedu.address.commons.util.ArraySet;
+import seedu.address.commons.util.ToStringBuilder;
+import seedu.address.model.tag.Tag;
+
+/**
+ * Tests that a {@code Person} has any of the given tags, any of the given subjects and any of the given levels.
+ * An empty set of tags, subjects or levels places no restriction on that attribute.
+ */
+public class PersonFilter implements Predicate<Person> {
+    private final Set<Tag> tags;
+    private final Set<Subject> subjects;
+    private final Set<Level> levels;
+
+    /**
+     * Every field must be present and not null.
+     */
+    public PersonFilter(Set<Tag> tags, Set<Subject> subjects, Set<Level> levels) {
+        requireAllNonNull(tags, subjects, levels);
+        this.tags = ArraySet.copyOf(tags);
+        this.subjects = ArraySet.copyOf(subjects);
+        this.levels = ArraySet.copyOf(levels);
+    }
+
+    public Set<Tag> getTags() {
+        return tags;
+    }
+
+    public Set<Subject> getSubjects() {
+        return subjects;
+    }
+
+    public Set<Level> getLevels() {
+        return levels;
+    }
+
+    @Override
+    public boolean test(Person person) {
+        return (tags.isEmpty() || !Collections.disjoint(tags, person.getTags()))
+                && (subjects.isEmpty() || !Collections.disjoint(subjects, person.getSubjects()))
+                && (levels.isEmpty() || levels.contains(person.getLevel()));
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+
+        // instanceof handles nulls
+        if (!(other instanceof PersonFilter)) {
+            return false;
+        }
+
+        PersonFilter otherPersonFilter = (PersonFilter) other;
+        return tags.equals(otherPersonFilter.tags)
+                && subjects.equals(otherPersonFilter.subjects)
+                && levels.equals(otherPersonFilter.levels);
+    }
+
+    @Override
+    public String toString() {
+        return new ToStringBuilder(this)
+                .add("tags", tags)
+                .add("subjects", subjects)
+                .add("levels", levels)
+                .toString();
+    }
+}
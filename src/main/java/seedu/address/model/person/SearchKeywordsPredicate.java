@@ -0,0 +1,81 @@
+package seedu.address.model.person;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.function.Predicate;
+
+import seedu.address.commons.util.StringUtil;
+import seedu.address.commons.util.ToStringBuilder;
+
+/**
+ * Tests that every keyword given is the start of a word in a {@code Person}'s name, address, email or note.
+ * Matching is case insensitive, and keywords are split into words as in {@link StringUtil#tokenize(String)}.
+ */
+public class SearchKeywordsPredicate implements Predicate<Person> {
+    private final List<String> keywords;
+
+    /**
+     * Creates a predicate for the words of {@code keywords}.
+     */
+    public SearchKeywordsPredicate(List<String> keywords) {
+        requireNonNull(keywords);
+        LinkedHashSet<String> words = new LinkedHashSet<>();
+        for (String keyword : keywords) {
+            words.addAll(StringUtil.tokenize(keyword));
+        }
+        this.keywords = List.copyOf(words);
+    }
+
+    /**
+     * Returns the keywords, each a single lower case word.
+     */
+    public List<String> getKeywords() {
+        return keywords;
+    }
+
+    /**
+     * Returns the lower case words of the name, address, email and note of {@code person} that are searched.
+     */
+    public static List<String> getSearchedWords(Person person) {
+        List<String> words = new ArrayList<>(StringUtil.tokenize(person.getName().fullName));
+        if (!person.getAddress().isEmpty()) {
+            words.addAll(StringUtil.tokenize(person.getAddress().value));
+        }
+        if (!person.getEmail().isEmpty()) {
+            words.addAll(StringUtil.tokenize(person.getEmail().value));
+        }
+        if (!person.getNote().isEmpty()) {
+            words.addAll(StringUtil.tokenize(person.getNote().value));
+        }
+        return words;
+    }
+
+    @Override
+    public boolean test(Person person) {
+        List<String> words = getSearchedWords(person);
+        return keywords.stream().allMatch(keyword -> words.stream().anyMatch(word -> word.startsWith(keyword)));
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+
+        // instanceof handles nulls
+        if (!(other instanceof SearchKeywordsPredicate)) {
+            return false;
+        }
+
+        SearchKeywordsPredicate otherSearchKeywordsPredicate = (SearchKeywordsPredicate) other;
+        return keywords.equals(otherSearchKeywordsPredicate.keywords);
+    }
+
+    @Override
+    public String toString() {
+        return new ToStringBuilder(this).add("keywords", keywords).toString();
+    }
+}
@@ -1,5 +1,12 @@
 package seedu.address.model.person;
 
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Set;
+
+import seedu.address.commons.util.ArraySet;
+
 /**
  * Represents a Person's subject in the address book.
  * Guarantees: immutable; is valid as declared in {@link #isValidSubject(String)}
@@ -7,6 +14,12 @@ package seedu.address.model.person;
 public class Subject {
 
     public static final String MESSAGE_CONSTRAINTS = "Subjects should only be ENGLISH, MATH, SCIENCE or MT.";
+
+    /** The one {@code Subject} of each {@code SubjectEnum}, by ordinal. */
+    private static final Subject[] SUBJECTS = createSubjects();
+    /** The immutable set of subjects of each bitmask of subject ordinals. */
+    private static final List<Set<Subject>> SUBJECT_SETS = createSubjectSets();
+
     private final SubjectEnum internalSubject;
 
     /**
@@ -19,6 +32,60 @@ public class Subject {
         this.internalSubject = SubjectEnum.valueOf(subject);
     }
 
+    private Subject(SubjectEnum internalSubject) {
+        this.internalSubject = internalSubject;
+    }
+
+    /**
+     * Returns the {@code Subject} named by {@code subject}, which is the same instance for every use of a subject.
+     *
+     * @param subject A valid subject.
+     */
+    public static Subject of(String subject) {
+        return SUBJECTS[SubjectEnum.valueOf(subject.trim().toUpperCase()).ordinal()];
+    }
+
+    /**
+     * Returns {@code subjects} as a bitmask with the bit of each subject's ordinal set.
+     */
+    static int toBits(Collection<Subject> subjects) {
+        int bits = 0;
+        for (Subject subject : subjects) {
+            bits |= 1 << subject.internalSubject.ordinal();
+        }
+        return bits;
+    }
+
+    /**
+     * Returns the immutable set of the subjects in a bitmask from {@link #toBits(Collection)}, in declaration order.
+     */
+    static Set<Subject> fromBits(int bits) {
+        return SUBJECT_SETS.get(bits);
+    }
+
+    private static Subject[] createSubjects() {
+        SubjectEnum[] values = SubjectEnum.values();
+        Subject[] subjects = new Subject[values.length];
+        for (SubjectEnum value : values) {
+            subjects[value.ordinal()] = new Subject(value);
+        }
+        return subjects;
+    }
+
+    private static List<Set<Subject>> createSubjectSets() {
+        List<Set<Subject>> subjectSets = new ArrayList<>();
+        for (int bits = 0; bits < 1 << SUBJECTS.length; bits++) {
+            List<Subject> subjects = new ArrayList<>();
+            for (Subject subject : SUBJECTS) {
+                if ((bits & 1 << subject.internalSubject.ordinal()) != 0) {
+                    subjects.add(subject);
+                }
+            }
+            subjectSets.add(ArraySet.copyOf(subjects));
+        }
+        return subjectSets;
+    }
+
     /**
      * Format state as text for viewing.
      */
@@ -3,13 +3,15 @@ package seedu.address.model.person;
 import static java.util.Objects.requireNonNull;
 import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
 
-import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.Iterator;
 import java.util.List;
+import java.util.Map;
 import java.util.stream.Collectors;
 
 import javafx.collections.FXCollections;
 import javafx.collections.ObservableList;
+import seedu.address.commons.util.LazyList;
 import seedu.address.model.person.exceptions.DuplicatePersonException;
 import seedu.address.model.person.exceptions.PersonNotFoundException;
 
@@ -21,39 +23,69 @@ import seedu.address.model.person.exceptions.PersonNotFoundException;
  * as to ensure that the person with exactly the same fields will be removed.
  *
  * Supports a minimal set of list operations.
+ * Persons are indexed by name, so looking a person up, adding, replacing or removing one takes expected
+ * constant time apart from shifting the persons after a removed one.
  *
  * @see Person#isSamePerson(Person)
  */
 public class UniquePersonList implements Iterable<Person> {
 
-    private final ObservableList<Person> internalList = FXCollections.observableArrayList();
-    private final ObservableList<Person> internalUnmodifiableList =
-            FXCollections.unmodifiableObservableList(internalList);
+    private final LazyList<Person> backingList;
+    private final ObservableList<Person> internalList;
+    private final ObservableList<Person> internalUnmodifiableList;
+
+    /**
+     * Positions of the persons in the list by name, or null until first needed.
+     * It is built on demand so that the persons of a lazily loaded list are not all read up front.
+     */
+    private Map<Name, Integer> positions;
+
+    /** An index of the names in the list by similarity, or null until first needed. */
+    private NameSimilarityIndex similarNames;
+
+    public UniquePersonList() {
+        this(new LazyList<>());
+    }
+
+    /**
+     * Creates a copy of {@code toBeCopied}. Persons that have not been loaded yet are not loaded by the copy.
+     */
+    public UniquePersonList(UniquePersonList toBeCopied) {
+        this(new LazyList<>(toBeCopied.backingList));
+    }
+
+    private UniquePersonList(LazyList<Person> backingList) {
+        this.backingList = backingList;
+        internalList = FXCollections.observableList(backingList);
+        internalUnmodifiableList = FXCollections.unmodifiableObservableList(internalList);
+    }
+
+    /**
+     * Returns a list holding {@code persons}, which must not contain duplicate persons.
+     * Unlike {@link #setPersons(List)}, the persons are neither checked nor read until they are accessed,
+     * so {@code persons} may load its elements lazily. It must not be modified afterwards.
+     */
+    public static UniquePersonList ofUnchecked(List<Person> persons) {
+        requireNonNull(persons);
+        return new UniquePersonList(new LazyList<>(persons));
+    }
 
     /**
      * Returns true if the list contains an equivalent person as the given argument.
      */
     public boolean contains(Person toCheck) {
         requireNonNull(toCheck);
-        return internalList.stream().anyMatch(toCheck::isSamePerson);
+        return getPositions().containsKey(toCheck.getName());
     }
 
     /**
-     * Returns list of names similar to the given person's name.
+     * Returns list of names similar to the given person's name, closest first.
+     * Names are similar if they differ only in case and whitespace, or, once those are ignored, by a letter or two
+     * in a long enough name.
      */
     public List<String> findNearDuplicates(Person toCheck) {
         requireNonNull(toCheck);
-        String toCheckName = normalizeName(toCheck.getName().toString());
-
-        List<String> nearDuplicates = new ArrayList<>();
-        for (String name : getAllNames()) {
-            String normalizedCurrentName = normalizeName(name);
-            if (toCheckName.equals(normalizedCurrentName)) {
-                // Add the "original" duplicate name
-                nearDuplicates.add(name);
-            }
-        }
-        return nearDuplicates;
+        return getSimilarNames().findSimilar(toCheck.getName());
     }
 
     /**
@@ -70,7 +102,7 @@ public class UniquePersonList implements Iterable<Person> {
      */
     public String normalizeName(String name) {
         requireNonNull(name);
-        return name.trim().replaceAll("\\s+", "").toLowerCase();
+        return Name.normalize(name);
     }
 
     /**
@@ -82,7 +114,11 @@ public class UniquePersonList implements Iterable<Person> {
         if (contains(toAdd)) {
             throw new DuplicatePersonException();
         }
+        positions.put(toAdd.getName(), internalList.size());
         internalList.add(toAdd);
+        if (similarNames != null) {
+            similarNames.add(toAdd.getName());
+        }
     }
 
     /**
@@ -93,7 +129,7 @@ public class UniquePersonList implements Iterable<Person> {
     public void setPerson(Person target, Person editedPerson) {
         requireAllNonNull(target, editedPerson);
 
-        int index = internalList.indexOf(target);
+        int index = indexOf(target);
         if (index == -1) {
             throw new PersonNotFoundException();
         }
@@ -103,6 +139,12 @@ public class UniquePersonList implements Iterable<Person> {
         }
 
         internalList.set(index, editedPerson);
+        positions.remove(target.getName());
+        positions.put(editedPerson.getName(), index);
+        if (similarNames != null) {
+            similarNames.remove(target.getName());
+            similarNames.add(editedPerson.getName());
+        }
     }
 
     /**
@@ -111,14 +153,26 @@ public class UniquePersonList implements Iterable<Person> {
      */
     public void remove(Person toRemove) {
         requireNonNull(toRemove);
-        if (!internalList.remove(toRemove)) {
+        int index = indexOf(toRemove);
+        if (index == -1) {
             throw new PersonNotFoundException();
         }
+
+        internalList.remove(index);
+        positions.remove(toRemove.getName());
+        for (int i = index; i < internalList.size(); i++) {
+            positions.put(internalList.get(i).getName(), i);
+        }
+        if (similarNames != null) {
+            similarNames.remove(toRemove.getName());
+        }
     }
 
     public void setPersons(UniquePersonList replacement) {
         requireNonNull(replacement);
         internalList.setAll(replacement.internalList);
+        positions = replacement.positions == null ? null : new HashMap<>(replacement.positions);
+        similarNames = null;
     }
 
     /**
@@ -127,11 +181,11 @@ public class UniquePersonList implements Iterable<Person> {
      */
     public void setPersons(List<Person> persons) {
         requireAllNonNull(persons);
-        if (!personsAreUnique(persons)) {
-            throw new DuplicatePersonException();
-        }
+        Map<Name, Integer> newPositions = indexByName(persons);
 
         internalList.setAll(persons);
+        positions = newPositions;
+        similarNames = null;
     }
 
     /**
@@ -172,16 +226,41 @@ public class UniquePersonList implements Iterable<Person> {
     }
 
     /**
-     * Returns true if {@code persons} contains only unique persons.
+     * Returns the position of the person equal to {@code person}, or -1 if there is none.
+     */
+    public int indexOf(Person person) {
+        requireNonNull(person);
+        Integer index = getPositions().get(person.getName());
+        // persons with different names are never equal, so no other person can be equal to it
+        return index != null && internalList.get(index).equals(person) ? index : -1;
+    }
+
+    private Map<Name, Integer> getPositions() {
+        if (positions == null) {
+            positions = indexByName(internalList);
+        }
+        return positions;
+    }
+
+    private NameSimilarityIndex getSimilarNames() {
+        if (similarNames == null) {
+            similarNames = new NameSimilarityIndex(internalList);
+        }
+        return similarNames;
+    }
+
+    /**
+     * Returns the positions of {@code persons} by name.
+     *
+     * @throws DuplicatePersonException if {@code persons} contains persons with the same name.
      */
-    private boolean personsAreUnique(List<Person> persons) {
-        for (int i = 0; i < persons.size() - 1; i++) {
-            for (int j = i + 1; j < persons.size(); j++) {
-                if (persons.get(i).isSamePerson(persons.get(j))) {
-                    return false;
-                }
+    private static Map<Name, Integer> indexByName(List<Person> persons) {
+        Map<Name, Integer> positions = new HashMap<>();
+        for (int i = 0; i < persons.size(); i++) {
+            if (positions.putIfAbsent(persons.get(i).getName(), i) != null) {
+                throw new DuplicatePersonException();
             }
         }
-        return true;
+        return positions;
     }
 }
@@ -3,6 +3,9 @@ package seedu.address.model.tag;
 import static java.util.Objects.requireNonNull;
 import static seedu.address.commons.util.AppUtil.checkArgument;
 
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
 /**
  * Represents a Tag in the address book.
  * Guarantees: immutable; name is valid as declared in {@link #isValidTagName(String)}
@@ -12,6 +15,10 @@ public class Tag {
     public static final String MESSAGE_CONSTRAINTS = "Tags names should be alphanumeric";
     public static final String VALIDATION_REGEX = "\\p{Alnum}+";
 
+    /** The most tags kept by {@link #of(String)}, so that arbitrary tag names cannot grow the pool without bound. */
+    private static final int MAX_INTERNED = 1024;
+    private static final Map<String, Tag> INTERNED = new ConcurrentHashMap<>();
+
     public final String tagName;
 
     /**
@@ -25,6 +32,26 @@ public class Tag {
         this.tagName = tagName;
     }
 
+    /**
+     * Returns a {@code Tag} with the given name, sharing one instance between all the uses of a tag name.
+     *
+     * @param tagName A valid tag name.
+     */
+    public static Tag of(String tagName) {
+        requireNonNull(tagName);
+        Tag interned = INTERNED.get(tagName);
+        if (interned != null) {
+            return interned;
+        }
+
+        Tag tag = new Tag(tagName);
+        if (INTERNED.size() >= MAX_INTERNED) {
+            return tag;
+        }
+        interned = INTERNED.putIfAbsent(tagName, tag);
+        return interned == null ? tag : interned;
+    }
+
     /**
      * Returns true if a given string is a valid tag name.
      */
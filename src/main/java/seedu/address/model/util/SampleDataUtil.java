@@ -31,27 +31,27 @@ public class SampleDataUtil {
             new Person(new Name("Alex Yeoh"), new Phone("87438807"), new Email("alexyeoh@example.com"),
                 new Address("Blk 30 Geylang Street 29, #06-40"), new Note("Weak in fractions."),
                 getTagSet("referral"), getAppointmentList("12:00-13:00 SUN", "00:00-01:00 MON"),
-                getSubjectSet("Math", "Science"), new Level("P4")),
+                getSubjectSet("Math", "Science"), Level.of("P4")),
             new Person(new Name("Bernice Yu"), new Phone("99272758"), new Email("berniceyu@example.com"),
                 new Address("Blk 30 Lorong 3 Serangoon Gardens, #07-18"), EMPTY_NOTE,
                 getTagSet("weak"), getAppointmentList("08:00-09:00 MON"),
-                getSubjectSet("Math", "English"), new Level("P2")),
+                getSubjectSet("Math", "English"), Level.of("P2")),
             new Person(new Name("Charlotte Oliveiro"), new Phone("93210283"), new Email("charlotte@example.com"),
                 new Address("Blk 11 Ang Mo Kio Street 74, #11-04"), EMPTY_NOTE,
                 getTagSet("payment"), getAppointmentList("14:20-15:00 SAT"),
-                getSubjectSet("Science"), new Level("P3")),
+                getSubjectSet("Science"), Level.of("P3")),
             new Person(new Name("David Li"), new Phone("91031282"), new Email("lidavid@example.com"),
                 new Address("Blk 436 Serangoon Gardens Street 26, #16-43"), EMPTY_NOTE,
                 new HashSet<Tag>(), getAppointmentList("16:30-18:00 THU", "19:00-20:00 WED"),
-                getSubjectSet("Math", "Science"), new Level("P6")),
+                getSubjectSet("Math", "Science"), Level.of("P6")),
             new Person(new Name("Irfan Ibrahim"), new Phone("92492021"), new Email("irfan@example.com"),
                 new Address("Blk 47 Tampines Street 20, #17-35"), EMPTY_NOTE,
                 new HashSet<Tag>(), getAppointmentList("16:00-17:00 TUE"),
-                getSubjectSet("Math", "Science"), new Level("P6")),
+                getSubjectSet("Math", "Science"), Level.of("P6")),
             new Person(new Name("Roy Balakrishnan"), new Phone("92624417"), new Email("royb@example.com"),
                 new Address("Blk 45 Aljunied Street 85, #11-31"), EMPTY_NOTE,
                 new HashSet<Tag>(), getAppointmentList("14:30-15:00 WED"),
-                getSubjectSet("Math", "Science"), new Level("P4"))
+                getSubjectSet("Math", "Science"), Level.of("P4"))
         };
     }
 
@@ -68,7 +68,7 @@ public class SampleDataUtil {
      */
     public static Set<Tag> getTagSet(String... strings) {
         return Arrays.stream(strings)
-                .map(Tag::new)
+                .map(Tag::of)
                 .collect(Collectors.toSet());
     }
 
@@ -78,7 +78,7 @@ public class SampleDataUtil {
     public static AppointmentList getAppointmentList(String... strings) {
         AppointmentList appointments = new AppointmentList();
         appointments.addAll(Arrays.stream(strings)
-                .map(Appointment::new)
+                .map(Appointment::of)
                 .collect(Collectors.toList()));
         return appointments;
     }
@@ -88,7 +88,7 @@ public class SampleDataUtil {
      */
     public static Set<Subject> getSubjectSet(String... strings) {
         return Arrays.stream(strings)
-                .map(Subject::new)
+                .map(Subject::of)
                 .collect(Collectors.toSet());
     }
 
@@ -0,0 +1,73 @@
+package seedu.address.storage;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.Optional;
+
+import seedu.address.commons.exceptions.DataLoadingException;
+import seedu.address.model.ReadOnlyAddressBook;
+
+/**
+ * Converts address book files between the JSON and binary formats.
+ * Run with {@code gradlew convertAddressBook --args="COMMAND SOURCE TARGET"}.
+ */
+public class AddressBookConverter {
+
+    public static final String COMMAND_JSON_TO_BINARY = "json-to-binary";
+    public static final String COMMAND_BINARY_TO_JSON = "binary-to-json";
+
+    public static final String MESSAGE_USAGE = "Usage: (" + COMMAND_JSON_TO_BINARY + " | " + COMMAND_BINARY_TO_JSON
+            + ") SOURCE TARGET";
+    public static final String MESSAGE_SOURCE_NOT_FOUND = "Source file %s does not exist.";
+    public static final String MESSAGE_SUCCESS = "Converted %d persons from %s to %s.";
+
+    /**
+     * Runs the conversion described by {@code args}.
+     */
+    public static void main(String[] args) {
+        if (args.length != 3 || !(COMMAND_JSON_TO_BINARY.equals(args[0]) || COMMAND_BINARY_TO_JSON.equals(args[0]))) {
+            System.err.println(MESSAGE_USAGE);
+            System.exit(1);
+        }
+
+        Path source = Paths.get(args[1]);
+        Path target = Paths.get(args[2]);
+        boolean isJsonToBinary = COMMAND_JSON_TO_BINARY.equals(args[0]);
+        try {
+            ReadOnlyAddressBook converted = isJsonToBinary
+                    ? convert(new JsonAddressBookStorage(source), new BinaryAddressBookStorage(target))
+                    : convert(new BinaryAddressBookStorage(source), new JsonAddressBookStorage(target));
+            System.out.println(String.format(MESSAGE_SUCCESS, converted.getPersonList().size(), source, target));
+        } catch (DataLoadingException dle) {
+            System.err.println(dle.getCause().getMessage());
+            System.exit(1);
+        } catch (IOException ioe) {
+            System.err.println(ioe.getMessage());
+            System.exit(1);
+        }
+    }
+
+    /**
+     * Reads the address book from {@code source} and writes it to {@code target}, returning the address book.
+     *
+     * @throws DataLoadingException if the source file does not exist or could not be read.
+     * @throws IOException if the target file could not be written.
+     */
+    public static ReadOnlyAddressBook convert(AddressBookStorage source, AddressBookStorage target)
+            throws DataLoadingException, IOException {
+        requireNonNull(source);
+        requireNonNull(target);
+
+        Optional<ReadOnlyAddressBook> addressBook = source.readAddressBook();
+        if (!addressBook.isPresent()) {
+            throw new DataLoadingException(new IOException(
+                    String.format(MESSAGE_SOURCE_NOT_FOUND, source.getAddressBookFilePath())));
+        }
+        target.saveAddressBook(addressBook.get());
+        return addressBook.get();
+    }
+
+}
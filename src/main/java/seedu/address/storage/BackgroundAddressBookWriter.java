@@ -0,0 +1,110 @@
+package seedu.address.storage;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.IOException;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.BiConsumer;
+import java.util.logging.Logger;
+
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.model.ReadOnlyAddressBook;
+
+/**
+ * Saves address book snapshots to an {@code AddressBookStorage} on a dedicated writer thread.
+ *
+ * Only the latest submitted snapshot is kept, so a burst of submissions made while a write is in progress
+ * results in a single further write. Snapshots must not be modified after they are submitted.
+ */
+class BackgroundAddressBookWriter {
+
+    private static final Logger logger = LogsCenter.getLogger(BackgroundAddressBookWriter.class);
+
+    private final AddressBookStorage addressBookStorage;
+    private final ExecutorService executor;
+    private final AtomicReference<ReadOnlyAddressBook> pendingSnapshot = new AtomicReference<>();
+
+    private volatile BiConsumer<ReadOnlyAddressBook, IOException> failureHandler = (snapshot, e) -> { };
+
+    /**
+     * Creates a {@code BackgroundAddressBookWriter} that writes to {@code addressBookStorage}.
+     */
+    BackgroundAddressBookWriter(AddressBookStorage addressBookStorage) {
+        requireNonNull(addressBookStorage);
+        this.addressBookStorage = addressBookStorage;
+        this.executor = Executors.newSingleThreadExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "address-book-writer");
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    /**
+     * Sets the handler that is called, on the writer thread, with the snapshot and the cause of every failed write.
+     */
+    void setFailureHandler(BiConsumer<ReadOnlyAddressBook, IOException> failureHandler) {
+        requireNonNull(failureHandler);
+        this.failureHandler = failureHandler;
+    }
+
+    /**
+     * Schedules {@code snapshot} to be written, replacing any snapshot that has not been written yet.
+     */
+    void submit(ReadOnlyAddressBook snapshot) {
+        requireNonNull(snapshot);
+        if (pendingSnapshot.getAndSet(snapshot) == null) {
+            executor.execute(this::writePendingInBackground);
+        }
+    }
+
+    /**
+     * Writes the pending snapshot, if any, and returns once every submitted snapshot has been handled.
+     *
+     * @throws IOException if the pending snapshot could not be written, which is also reported to the failure handler.
+     */
+    void flush() throws IOException {
+        try {
+            executor.submit(() -> {
+                writePending();
+                return null;
+            }).get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IOException("Interrupted while waiting for the address book to be saved", e);
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof IOException) {
+                throw (IOException) e.getCause();
+            }
+            throw new IOException(e.getCause());
+        }
+    }
+
+    private void writePendingInBackground() {
+        try {
+            writePending();
+        } catch (IOException ioe) {
+            // already reported to the failure handler
+        }
+    }
+
+    private void writePending() throws IOException {
+        ReadOnlyAddressBook snapshot = pendingSnapshot.getAndSet(null);
+        if (snapshot == null) {
+            return;
+        }
+        try {
+            addressBookStorage.saveAddressBook(snapshot);
+        } catch (IOException | RuntimeException e) {
+            // runtime failures, such as a lazily loaded person that cannot be decoded, are reported in the same way,
+            // as they would otherwise end the task silently with the snapshot dropped
+            IOException ioe = e instanceof IOException ? (IOException) e : new IOException(e);
+            logger.warning("Failed to save address book: " + ioe.getMessage());
+            failureHandler.accept(snapshot, ioe);
+            throw ioe;
+        }
+    }
+
+}
@@ -0,0 +1,380 @@
+package seedu.address.storage;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.ByteArrayOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.zip.CRC32;
+import java.util.zip.CheckedOutputStream;
+
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.model.AddressBook;
+import seedu.address.model.ReadOnlyAddressBook;
+import seedu.address.model.appointment.Appointment;
+import seedu.address.model.appointment.exceptions.OverlappingAppointmentException;
+import seedu.address.model.person.Person;
+import seedu.address.model.person.Subject;
+import seedu.address.model.person.exceptions.DuplicatePersonException;
+import seedu.address.model.tag.Tag;
+
+/**
+ * Encodes and decodes the compact binary address book format.
+ *
+ * The format is laid out as follows, with {@code varint} denoting an unsigned LEB128 integer and {@code string}
+ * a varint byte length followed by UTF-8 bytes:
+ * <pre>
+ * int magic, int version
+ * varint symbolCount, string[symbolCount]             -- interned tag, subject and level names
+ * varint personCount, record[personCount]             -- each record is an int byte length followed by the person
+ * varint appointmentCount, appointment[appointmentCount] -- the appointments of all persons, in person order
+ * int[personCount] recordOffsets                      -- the position of each record
+ * int appointmentsOffset, int recordOffsetsOffset, int checksum
+ * </pre>
+ * Nullable strings store their length plus one, with zero denoting null. Tags, subjects and the level refer to
+ * the symbol table by index. Appointments are packed into one integer holding their start and end minute of
+ * the week. The checksum is the CRC32 of all bytes before it.
+ *
+ * The sections following the records allow an address book to be opened without decoding its persons, which are
+ * then decoded as they are accessed (see {@link #readLazily(ByteBuffer)}).
+ */
+final class BinaryAddressBookFormat {
+
+    public static final int MAGIC = 0x54524543; // "TREC"
+    public static final int VERSION = 1;
+
+    public static final String MESSAGE_NOT_BINARY_ADDRESS_BOOK = "File is not a binary address book.";
+    public static final String MESSAGE_UNSUPPORTED_VERSION = "Binary address book version %d is not supported.";
+    public static final String MESSAGE_CORRUPTED = "Binary address book is corrupted.";
+
+    static final int HEADER_SIZE = 2 * Integer.BYTES;
+    static final int TRAILER_SIZE = 3 * Integer.BYTES;
+
+    private static final int MINUTE_BITS = 14;
+    private static final int MINUTE_MASK = (1 << MINUTE_BITS) - 1;
+
+    private BinaryAddressBookFormat() {}
+
+    /**
+     * Writes {@code addressBook} to {@code out} in the binary format.
+     */
+    public static void write(ReadOnlyAddressBook addressBook, OutputStream out) throws IOException {
+        requireNonNull(addressBook);
+        List<Person> persons = addressBook.getPersonList();
+        Map<String, Integer> symbols = buildSymbolTable(persons);
+
+        CheckedOutputStream checkedOut = new CheckedOutputStream(out, new CRC32());
+        DataOutputStream data = new DataOutputStream(checkedOut);
+        data.writeInt(MAGIC);
+        data.writeInt(VERSION);
+        writeVarInt(data, symbols.size());
+        for (String symbol : symbols.keySet()) {
+            writeString(data, symbol);
+        }
+
+        writeVarInt(data, persons.size());
+        int[] recordOffsets = new int[persons.size()];
+        List<Appointment> appointments = new ArrayList<>();
+        ByteArrayOutputStream recordBytes = new ByteArrayOutputStream();
+        DataOutputStream record = new DataOutputStream(recordBytes);
+        for (int i = 0; i < persons.size(); i++) {
+            Person person = persons.get(i);
+            recordBytes.reset();
+            writePerson(record, person, symbols);
+            recordOffsets[i] = data.size();
+            data.writeInt(recordBytes.size());
+            recordBytes.writeTo(data);
+            appointments.addAll(person.getAppointments().asUnmodifiableObservableList());
+        }
+
+        int appointmentsOffset = data.size();
+        writeVarInt(data, appointments.size());
+        for (Appointment appointment : appointments) {
+            writeAppointment(data, appointment);
+        }
+        int recordOffsetsOffset = data.size();
+        for (int recordOffset : recordOffsets) {
+            data.writeInt(recordOffset);
+        }
+        data.writeInt(appointmentsOffset);
+        data.writeInt(recordOffsetsOffset);
+        data.writeInt((int) checkedOut.getChecksum().getValue());
+        data.flush();
+    }
+
+    /**
+     * Reads an address book in the binary format from {@code buffer}.
+     *
+     * @throws IllegalValueException if the data is not a valid binary address book.
+     */
+    public static AddressBook read(ByteBuffer buffer) throws IllegalValueException {
+        try {
+            List<String> symbols = readHeader(buffer);
+            int personCount = readVarInt(buffer);
+            List<Person> persons = new ArrayList<>();
+            for (int i = 0; i < personCount; i++) {
+                int recordLength = buffer.getInt();
+                int recordEnd = buffer.position() + recordLength;
+                persons.add(readPerson(buffer, symbols));
+                if (buffer.position() != recordEnd) {
+                    throw new IllegalValueException(MESSAGE_CORRUPTED);
+                }
+            }
+            return toAddressBook(persons);
+        } catch (BufferUnderflowException | IndexOutOfBoundsException | IllegalArgumentException e) {
+            throw new IllegalValueException(MESSAGE_CORRUPTED);
+        }
+    }
+
+    /**
+     * Reads an address book in the binary format from {@code buffer} without decoding its persons, which are
+     * decoded from {@code buffer} as they are first accessed. {@code buffer} must not be modified afterwards.
+     * As the persons are not checked against each other, the data is verified against its checksum instead.
+     *
+     * @throws IllegalValueException if the data is not a valid binary address book.
+     */
+    public static AddressBook readLazily(ByteBuffer buffer) throws IllegalValueException {
+        try {
+            List<String> symbols = readHeader(buffer);
+            int personCount = readVarInt(buffer);
+            int trailerOffset = buffer.limit() - TRAILER_SIZE;
+            if (trailerOffset < buffer.position() || !hasValidChecksum(buffer, trailerOffset)) {
+                throw new IllegalValueException(MESSAGE_CORRUPTED);
+            }
+            int appointmentsOffset = buffer.getInt(trailerOffset);
+            int recordOffsetsOffset = buffer.getInt(trailerOffset + Integer.BYTES);
+            if ((long) recordOffsetsOffset + (long) personCount * Integer.BYTES != trailerOffset) {
+                throw new IllegalValueException(MESSAGE_CORRUPTED);
+            }
+
+            buffer.position(appointmentsOffset);
+            int appointmentCount = readVarInt(buffer);
+            List<Appointment> appointments = new ArrayList<>();
+            for (int i = 0; i < appointmentCount; i++) {
+                appointments.add(new JsonAdaptedAppointment(readAppointment(buffer)).toModelType());
+            }
+
+            List<Person> persons = new BinaryPersonRecords(buffer, symbols, recordOffsetsOffset, personCount);
+            try {
+                return AddressBook.ofUncheckedPersons(persons, appointments);
+            } catch (OverlappingAppointmentException e) {
+                throw new IllegalValueException(JsonSerializableAddressBook.getOverlappingMessage(appointments));
+            }
+        } catch (BufferUnderflowException | IndexOutOfBoundsException | IllegalArgumentException e) {
+            throw new IllegalValueException(MESSAGE_CORRUPTED);
+        }
+    }
+
+    private static boolean hasValidChecksum(ByteBuffer buffer, int trailerOffset) {
+        int checksumOffset = trailerOffset + 2 * Integer.BYTES;
+        CRC32 checksum = new CRC32();
+        checksum.update(buffer.duplicate().position(0).limit(checksumOffset));
+        return (int) checksum.getValue() == buffer.getInt(checksumOffset);
+    }
+
+    /**
+     * Reads the header and symbol table from {@code buffer}, leaving it positioned at the person count.
+     *
+     * @throws IllegalValueException if the header is not that of a supported binary address book.
+     */
+    static List<String> readHeader(ByteBuffer buffer) throws IllegalValueException {
+        if (buffer.remaining() < HEADER_SIZE || buffer.getInt() != MAGIC) {
+            throw new IllegalValueException(MESSAGE_NOT_BINARY_ADDRESS_BOOK);
+        }
+        int version = buffer.getInt();
+        if (version != VERSION) {
+            throw new IllegalValueException(String.format(MESSAGE_UNSUPPORTED_VERSION, version));
+        }
+
+        int symbolCount = readVarInt(buffer);
+        List<String> symbols = new ArrayList<>();
+        for (int i = 0; i < symbolCount; i++) {
+            symbols.add(readString(buffer));
+        }
+        return symbols;
+    }
+
+    /**
+     * Returns an {@code AddressBook} holding {@code persons}.
+     *
+     * @throws IllegalValueException if the persons are not unique or their appointments overlap.
+     */
+    static AddressBook toAddressBook(List<Person> persons) throws IllegalValueException {
+        AddressBook addressBook = new AddressBook();
+        try {
+            addressBook.setPersons(persons);
+        } catch (DuplicatePersonException e) {
+            throw new IllegalValueException(JsonSerializableAddressBook.MESSAGE_DUPLICATE_PERSON);
+        } catch (OverlappingAppointmentException e) {
+            List<Appointment> appointments = new ArrayList<>();
+            for (Person person : persons) {
+                appointments.addAll(person.getAppointments().asUnmodifiableObservableList());
+            }
+            throw new IllegalValueException(JsonSerializableAddressBook.getOverlappingMessage(appointments));
+        }
+        return addressBook;
+    }
+
+    private static Map<String, Integer> buildSymbolTable(List<Person> persons) {
+        Map<String, Integer> symbols = new LinkedHashMap<>();
+        for (Person person : persons) {
+            for (Tag tag : person.getTags()) {
+                symbols.putIfAbsent(tag.tagName, symbols.size());
+            }
+            for (Subject subject : person.getSubjects()) {
+                symbols.putIfAbsent(subject.getSubject(), symbols.size());
+            }
+            if (!person.getLevel().isEmpty()) {
+                symbols.putIfAbsent(person.getLevel().toString(), symbols.size());
+            }
+        }
+        return symbols;
+    }
+
+    private static void writePerson(DataOutputStream out, Person person, Map<String, Integer> symbols)
+            throws IOException {
+        writeString(out, person.getName().fullName);
+        writeNullableString(out, person.getPhone().value);
+        writeNullableString(out, person.getEmail().value);
+        writeNullableString(out, person.getAddress().value);
+        writeNullableString(out, person.getNote().value);
+        writeVarInt(out, person.getLevel().isEmpty() ? 0 : symbols.get(person.getLevel().toString()) + 1);
+
+        writeVarInt(out, person.getTags().size());
+        for (Tag tag : person.getTags()) {
+            writeVarInt(out, symbols.get(tag.tagName));
+        }
+        writeVarInt(out, person.getSubjects().size());
+        for (Subject subject : person.getSubjects()) {
+            writeVarInt(out, symbols.get(subject.getSubject()));
+        }
+
+        List<Appointment> appointments = person.getAppointments().asUnmodifiableObservableList();
+        writeVarInt(out, appointments.size());
+        for (Appointment appointment : appointments) {
+            writeAppointment(out, appointment);
+        }
+    }
+
+    private static void writeAppointment(DataOutputStream out, Appointment appointment) throws IOException {
+        writeVarInt(out, packAppointment(appointment));
+    }
+
+    private static String readAppointment(ByteBuffer buffer) throws IllegalValueException {
+        int packed = readVarInt(buffer);
+        if (!Appointment.isValidMinutesOfWeek(packed >>> MINUTE_BITS, packed & MINUTE_MASK)) {
+            throw new IllegalValueException(Appointment.MESSAGE_CONSTRAINTS);
+        }
+        return unpackAppointment(packed);
+    }
+
+    /**
+     * Reads the person record at the current position of {@code buffer}.
+     */
+    static Person readPerson(ByteBuffer buffer, List<String> symbols) throws IllegalValueException {
+        String name = readString(buffer);
+        String phone = readNullableString(buffer);
+        String email = readNullableString(buffer);
+        String address = readNullableString(buffer);
+        String note = readNullableString(buffer);
+        int levelSymbol = readVarInt(buffer);
+        String level = levelSymbol == 0 ? null : symbols.get(levelSymbol - 1);
+
+        int tagCount = readVarInt(buffer);
+        List<JsonAdaptedTag> tags = new ArrayList<>();
+        for (int i = 0; i < tagCount; i++) {
+            tags.add(new JsonAdaptedTag(symbols.get(readVarInt(buffer))));
+        }
+        int subjectCount = readVarInt(buffer);
+        List<JsonAdaptedSubject> subjects = new ArrayList<>();
+        for (int i = 0; i < subjectCount; i++) {
+            subjects.add(new JsonAdaptedSubject(symbols.get(readVarInt(buffer))));
+        }
+
+        int appointmentCount = readVarInt(buffer);
+        List<JsonAdaptedAppointment> appointments = new ArrayList<>();
+        for (int i = 0; i < appointmentCount; i++) {
+            appointments.add(new JsonAdaptedAppointment(readAppointment(buffer)));
+        }
+
+        return new JsonAdaptedPerson(name, phone, email, address, note, tags, appointments, subjects, level)
+                .toModelType();
+    }
+
+    /**
+     * Returns {@code appointment} packed as its start minute of the week followed by its end minute of the week.
+     */
+    static int packAppointment(Appointment appointment) {
+        return appointment.getStartMinuteOfWeek() << MINUTE_BITS | appointment.getEndMinuteOfWeek();
+    }
+
+    /**
+     * Returns the canonical text of the appointment packed by {@link #packAppointment(Appointment)}.
+     */
+    static String unpackAppointment(int packed) {
+        return Appointment.fromMinutesOfWeek(packed >>> MINUTE_BITS, packed & MINUTE_MASK).toString();
+    }
+
+    private static void writeVarInt(DataOutputStream out, int value) throws IOException {
+        while ((value & ~0x7F) != 0) {
+            out.writeByte((value & 0x7F) | 0x80);
+            value >>>= 7;
+        }
+        out.writeByte(value);
+    }
+
+    static int readVarInt(ByteBuffer buffer) throws IllegalValueException {
+        int value = 0;
+        for (int shift = 0; shift < Integer.SIZE; shift += 7) {
+            byte b = buffer.get();
+            value |= (b & 0x7F) << shift;
+            if ((b & 0x80) == 0) {
+                return value;
+            }
+        }
+        throw new IllegalValueException(MESSAGE_CORRUPTED);
+    }
+
+    private static void writeString(DataOutputStream out, String value) throws IOException {
+        byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+        writeVarInt(out, bytes.length);
+        out.write(bytes);
+    }
+
+    private static String readString(ByteBuffer buffer) throws IllegalValueException {
+        return readString(buffer, readVarInt(buffer));
+    }
+
+    private static String readString(ByteBuffer buffer, int length) throws IllegalValueException {
+        if (length < 0 || length > buffer.remaining()) {
+            throw new IllegalValueException(MESSAGE_CORRUPTED);
+        }
+        byte[] bytes = new byte[length];
+        buffer.get(bytes);
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+
+    private static void writeNullableString(DataOutputStream out, String value) throws IOException {
+        if (value == null) {
+            writeVarInt(out, 0);
+            return;
+        }
+        byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+        writeVarInt(out, bytes.length + 1);
+        out.write(bytes);
+    }
+
+    private static String readNullableString(ByteBuffer buffer) throws IllegalValueException {
+        int lengthPlusOne = readVarInt(buffer);
+        return lengthPlusOne == 0 ? null : readString(buffer, lengthPlusOne - 1);
+    }
+
+}
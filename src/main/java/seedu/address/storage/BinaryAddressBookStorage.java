@@ -0,0 +1,137 @@
+package seedu.address.storage;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Optional;
+import java.util.logging.Logger;
+
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.exceptions.DataLoadingException;
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.commons.util.FileUtil;
+import seedu.address.model.ReadOnlyAddressBook;
+
+/**
+ * A class to access AddressBook data stored in the compact binary format on the hard disk.
+ * As with {@link JsonAddressBookStorage}, saves replace the file atomically and keep its previous generation,
+ * which is read instead if the file turns out to be unreadable.
+ *
+ * The file is memory-mapped when read, and each person is only decoded when it is first accessed,
+ * so opening an address book takes about the same time whatever its size.
+ *
+ * @see BinaryAddressBookFormat
+ */
+public class BinaryAddressBookStorage implements AddressBookStorage {
+
+    public static final String PREVIOUS_GENERATION_SUFFIX = ".bak";
+
+    private static final Logger logger = LogsCenter.getLogger(BinaryAddressBookStorage.class);
+
+    /** Windows does not allow a file to be replaced while it is memory-mapped, as every save does. */
+    private static final boolean CAN_MAP_FILES = !System.getProperty("os.name", "").startsWith("Windows");
+
+    private Path filePath;
+
+    public BinaryAddressBookStorage(Path filePath) {
+        this.filePath = filePath;
+    }
+
+    @Override
+    public Path getAddressBookFilePath() {
+        return filePath;
+    }
+
+    @Override
+    public Optional<ReadOnlyAddressBook> readAddressBook() throws DataLoadingException {
+        return readAddressBook(filePath);
+    }
+
+    /**
+     * Similar to {@link #readAddressBook()}.
+     *
+     * @param filePath location of the data. Cannot be null.
+     * @throws DataLoadingException if loading the data from storage failed.
+     */
+    @Override
+    public Optional<ReadOnlyAddressBook> readAddressBook(Path filePath) throws DataLoadingException {
+        requireNonNull(filePath);
+
+        try {
+            return readAddressBookFile(filePath);
+        } catch (DataLoadingException dle) {
+            Path previousGeneration = getPreviousGenerationPath(filePath);
+            if (!FileUtil.isFileExists(previousGeneration)) {
+                throw dle;
+            }
+
+            logger.warning("Unable to read " + filePath + ", falling back to " + previousGeneration);
+            try {
+                return readAddressBookFile(previousGeneration);
+            } catch (DataLoadingException previousGenerationDle) {
+                throw dle;
+            }
+        }
+    }
+
+    private Optional<ReadOnlyAddressBook> readAddressBookFile(Path filePath) throws DataLoadingException {
+        if (!Files.exists(filePath)) {
+            return Optional.empty();
+        }
+        logger.info("Binary file " + filePath + " found.");
+
+        try {
+            return Optional.of(BinaryAddressBookFormat.readLazily(mapFile(filePath)));
+        } catch (IOException ioe) {
+            logger.warning("Error reading from binary file " + filePath + ": " + ioe);
+            throw new DataLoadingException(ioe);
+        } catch (IllegalValueException ive) {
+            logger.info("Illegal values found in " + filePath + ": " + ive.getMessage());
+            throw new DataLoadingException(ive);
+        }
+    }
+
+    /**
+     * Returns the contents of the file at {@code filePath}, memory-mapped where the platform allows it.
+     */
+    private static ByteBuffer mapFile(Path filePath) throws IOException {
+        if (!CAN_MAP_FILES) {
+            return ByteBuffer.wrap(Files.readAllBytes(filePath));
+        }
+        try (FileChannel channel = FileChannel.open(filePath, StandardOpenOption.READ)) {
+            return channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+        }
+    }
+
+    @Override
+    public void saveAddressBook(ReadOnlyAddressBook addressBook) throws IOException {
+        saveAddressBook(addressBook, filePath);
+    }
+
+    /**
+     * Similar to {@link #saveAddressBook(ReadOnlyAddressBook)}.
+     *
+     * @param filePath location of the data. Cannot be null.
+     */
+    @Override
+    public void saveAddressBook(ReadOnlyAddressBook addressBook, Path filePath) throws IOException {
+        requireNonNull(addressBook);
+        requireNonNull(filePath);
+
+        FileUtil.writeToFileAtomically(filePath, out -> BinaryAddressBookFormat.write(addressBook, out),
+                getPreviousGenerationPath(filePath));
+    }
+
+    /**
+     * Returns the location of the previous generation of the address book file at {@code filePath}.
+     */
+    public static Path getPreviousGenerationPath(Path filePath) {
+        return filePath.resolveSibling(filePath.getFileName() + PREVIOUS_GENERATION_SUFFIX);
+    }
+
+}
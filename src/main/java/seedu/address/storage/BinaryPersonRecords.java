@@ -0,0 +1,69 @@
+package seedu.address.storage;
+
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.util.AbstractList;
+import java.util.List;
+import java.util.RandomAccess;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.model.person.Person;
+
+/**
+ * An unmodifiable list of the persons in a binary address book, each of which is decoded from its record
+ * only when it is first accessed.
+ *
+ * Decoded persons are kept, so every access to a position returns the same {@code Person}.
+ * The list may be read from several threads at once.
+ *
+ * @see BinaryAddressBookFormat
+ */
+final class BinaryPersonRecords extends AbstractList<Person> implements RandomAccess {
+
+    private final ByteBuffer buffer;
+    private final List<String> symbols;
+    private final int recordOffsetsOffset;
+    private final AtomicReferenceArray<Person> persons;
+
+    /**
+     * Creates a list of the {@code personCount} persons whose record positions are stored in {@code buffer}
+     * starting at {@code recordOffsetsOffset}. The position of {@code buffer} is not used.
+     */
+    BinaryPersonRecords(ByteBuffer buffer, List<String> symbols, int recordOffsetsOffset, int personCount) {
+        this.buffer = buffer;
+        this.symbols = symbols;
+        this.recordOffsetsOffset = recordOffsetsOffset;
+        this.persons = new AtomicReferenceArray<>(personCount);
+    }
+
+    @Override
+    public Person get(int index) {
+        Person person = persons.get(index);
+        if (person != null) {
+            return person;
+        }
+        // another thread may decode the same person at the same time, in which case its copy is kept
+        persons.compareAndSet(index, null, decode(index));
+        return persons.get(index);
+    }
+
+    @Override
+    public int size() {
+        return persons.length();
+    }
+
+    private Person decode(int index) {
+        ByteBuffer record = buffer.duplicate();
+        try {
+            // skip the record length, which is only needed when reading the records one after another
+            record.position(buffer.getInt(recordOffsetsOffset + index * Integer.BYTES) + Integer.BYTES);
+            return BinaryAddressBookFormat.readPerson(record, symbols);
+        } catch (IllegalValueException | BufferUnderflowException | IndexOutOfBoundsException
+                | IllegalArgumentException e) {
+            // the data was verified when the address book was opened, so it must have been modified since
+            throw new IllegalStateException(BinaryAddressBookFormat.MESSAGE_CORRUPTED, e);
+        }
+    }
+
+}
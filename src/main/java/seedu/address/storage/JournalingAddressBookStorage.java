@@ -0,0 +1,310 @@
+package seedu.address.storage;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.logging.Logger;
+
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.exceptions.DataLoadingException;
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.commons.util.FileUtil;
+import seedu.address.commons.util.JsonUtil;
+import seedu.address.model.AddressBook;
+import seedu.address.model.ReadOnlyAddressBook;
+import seedu.address.model.appointment.exceptions.OverlappingAppointmentException;
+import seedu.address.model.person.Person;
+import seedu.address.model.person.exceptions.DuplicatePersonException;
+
+/**
+ * An {@code AddressBookStorage} that keeps a snapshot of the address book together with an append-only journal
+ * of the person-level mutations made since that snapshot was written.
+ *
+ * Saving appends only the persons that were added, edited or deleted since the previous save. Once the journal
+ * grows past the compaction threshold (or the change cannot be expressed as journal entries, e.g. after a clear),
+ * the whole address book is folded back into the snapshot and the journal is restarted.
+ * Reading rebuilds the address book from the snapshot and then replays the journal on top of it.
+ */
+public class JournalingAddressBookStorage implements AddressBookStorage {
+
+    public static final int DEFAULT_COMPACTION_THRESHOLD = 200;
+    public static final String JOURNAL_FILE_SUFFIX = ".journal";
+    public static final String MESSAGE_JOURNAL_CONFLICT =
+            "Journal contains duplicate person(s) or overlapping appointment(s).";
+
+    private static final Logger logger = LogsCenter.getLogger(JournalingAddressBookStorage.class);
+
+    private final AddressBookStorage snapshotStorage;
+    private final Path journalFilePath;
+    private final int compactionThreshold;
+
+    /** Persons as of the last successful save, or null if the journal is not known to be in sync. */
+    private List<Person> lastPersistedPersons;
+    private int entriesSinceCompaction;
+
+    /**
+     * Creates a {@code JournalingAddressBookStorage} that journals changes next to the snapshot
+     * kept by {@code snapshotStorage}.
+     */
+    public JournalingAddressBookStorage(AddressBookStorage snapshotStorage) {
+        this(snapshotStorage, DEFAULT_COMPACTION_THRESHOLD);
+    }
+
+    /**
+     * Creates a {@code JournalingAddressBookStorage} that compacts the journal into the snapshot
+     * once it holds more than {@code compactionThreshold} entries.
+     */
+    public JournalingAddressBookStorage(AddressBookStorage snapshotStorage, int compactionThreshold) {
+        requireNonNull(snapshotStorage);
+        assert compactionThreshold > 0;
+        this.snapshotStorage = snapshotStorage;
+        this.compactionThreshold = compactionThreshold;
+        Path snapshotPath = snapshotStorage.getAddressBookFilePath();
+        this.journalFilePath = snapshotPath.resolveSibling(snapshotPath.getFileName() + JOURNAL_FILE_SUFFIX);
+    }
+
+    @Override
+    public Path getAddressBookFilePath() {
+        return snapshotStorage.getAddressBookFilePath();
+    }
+
+    public Path getJournalFilePath() {
+        return journalFilePath;
+    }
+
+    @Override
+    public Optional<ReadOnlyAddressBook> readAddressBook() throws DataLoadingException {
+        return readAddressBook(getAddressBookFilePath());
+    }
+
+    /**
+     * Similar to {@link #readAddressBook()}.
+     * The journal is only replayed when reading from this storage's own snapshot file.
+     *
+     * @param filePath location of the data. Cannot be null.
+     * @throws DataLoadingException if loading the data from storage failed.
+     */
+    @Override
+    public Optional<ReadOnlyAddressBook> readAddressBook(Path filePath) throws DataLoadingException {
+        requireNonNull(filePath);
+        if (!filePath.equals(getAddressBookFilePath())) {
+            return snapshotStorage.readAddressBook(filePath);
+        }
+
+        lastPersistedPersons = null;
+        Optional<ReadOnlyAddressBook> snapshot = snapshotStorage.readAddressBook(filePath);
+        if (!snapshot.isPresent()) {
+            return Optional.empty();
+        }
+
+        List<JsonAdaptedJournalEntry> entries = readJournal(filePath);
+        // without entries to replay, the snapshot is copied as it is, keeping any lazily loaded persons unloaded
+        AddressBook addressBook = entries.isEmpty() ? new AddressBook(snapshot.get()) : replay(snapshot.get(), entries);
+
+        logger.info("Replayed " + entries.size() + " journal entries from " + journalFilePath);
+        entriesSinceCompaction = entries.size();
+        lastPersistedPersons = addressBook.snapshot().getPersonList();
+        return Optional.of(addressBook);
+    }
+
+    /**
+     * Returns the address book obtained by replaying {@code entries} on top of {@code snapshot}.
+     */
+    private AddressBook replay(ReadOnlyAddressBook snapshot, List<JsonAdaptedJournalEntry> entries)
+            throws DataLoadingException {
+        List<Person> persons = new ArrayList<>(snapshot.getPersonList());
+        AddressBook addressBook = new AddressBook();
+        try {
+            for (JsonAdaptedJournalEntry entry : entries) {
+                entry.applyTo(persons);
+            }
+            addressBook.setPersons(persons);
+        } catch (IllegalValueException ive) {
+            logger.info("Illegal values found in " + journalFilePath + ": " + ive.getMessage());
+            throw new DataLoadingException(ive);
+        } catch (DuplicatePersonException | OverlappingAppointmentException e) {
+            logger.info("Replaying " + journalFilePath + " violates the address book's constraints");
+            throw new DataLoadingException(new IllegalValueException(MESSAGE_JOURNAL_CONFLICT));
+        }
+        return addressBook;
+    }
+
+    @Override
+    public void saveAddressBook(ReadOnlyAddressBook addressBook) throws IOException {
+        saveAddressBook(addressBook, getAddressBookFilePath());
+    }
+
+    /**
+     * Similar to {@link #saveAddressBook(ReadOnlyAddressBook)}.
+     * Changes are only journaled when saving to this storage's own snapshot file.
+     *
+     * @param filePath location of the data. Cannot be null.
+     */
+    @Override
+    public void saveAddressBook(ReadOnlyAddressBook addressBook, Path filePath) throws IOException {
+        requireNonNull(addressBook);
+        requireNonNull(filePath);
+        if (!filePath.equals(getAddressBookFilePath())) {
+            snapshotStorage.saveAddressBook(addressBook, filePath);
+            return;
+        }
+
+        List<Person> currentPersons = addressBook.getPersonList();
+        Optional<List<JsonAdaptedJournalEntry>> entries = lastPersistedPersons == null
+                ? Optional.empty()
+                : diff(lastPersistedPersons, currentPersons);
+
+        if (!entries.isPresent() || entriesSinceCompaction + entries.get().size() > compactionThreshold) {
+            compact(addressBook);
+            return;
+        }
+
+        if (!entries.get().isEmpty()) {
+            appendToJournal(entries.get());
+            entriesSinceCompaction += entries.get().size();
+        }
+        lastPersistedPersons = new ArrayList<>(currentPersons);
+    }
+
+    /**
+     * Writes {@code addressBook} as the new snapshot and restarts the journal on top of it.
+     */
+    private void compact(ReadOnlyAddressBook addressBook) throws IOException {
+        lastPersistedPersons = null;
+        Path snapshotPath = getAddressBookFilePath();
+        snapshotStorage.saveAddressBook(addressBook, snapshotPath);
+
+        // A journal left over from an interrupted compaction names the old snapshot, so it will be ignored
+        long checksum = FileUtil.computeChecksum(snapshotPath);
+        FileUtil.writeToFile(journalFilePath, toJournalLines(List.of(JsonAdaptedJournalEntry.base(checksum))));
+
+        logger.fine("Compacted " + entriesSinceCompaction + " journal entries into " + snapshotPath);
+        entriesSinceCompaction = 0;
+        lastPersistedPersons = new ArrayList<>(addressBook.getPersonList());
+    }
+
+    private void appendToJournal(List<JsonAdaptedJournalEntry> entries) throws IOException {
+        try {
+            FileUtil.appendToFile(journalFilePath, toJournalLines(entries));
+        } catch (IOException ioe) {
+            // The journal may now end with part of this batch, so the next save has to rewrite the snapshot
+            lastPersistedPersons = null;
+            throw ioe;
+        }
+    }
+
+    private static String toJournalLines(List<JsonAdaptedJournalEntry> entries) throws IOException {
+        StringBuilder sb = new StringBuilder();
+        for (JsonAdaptedJournalEntry entry : entries) {
+            sb.append(JsonUtil.toCompactJsonString(entry)).append('\n');
+        }
+        return sb.toString();
+    }
+
+    /**
+     * Returns the entries of the journal that applies to the snapshot at {@code snapshotPath}.
+     * A journal that is missing, or that was written for a different snapshot, contributes no entries.
+     * An unreadable line (e.g. one torn by a crash mid-append) ends the journal.
+     */
+    private List<JsonAdaptedJournalEntry> readJournal(Path snapshotPath) throws DataLoadingException {
+        List<JsonAdaptedJournalEntry> entries = new ArrayList<>();
+        if (!FileUtil.isFileExists(journalFilePath)) {
+            return entries;
+        }
+
+        List<String> lines;
+        long checksum;
+        try {
+            lines = Files.readAllLines(journalFilePath);
+            checksum = FileUtil.computeChecksum(snapshotPath);
+        } catch (IOException ioe) {
+            logger.warning("Error reading from journal file " + journalFilePath + ": " + ioe);
+            throw new DataLoadingException(ioe);
+        }
+
+        for (int i = 0; i < lines.size(); i++) {
+            JsonAdaptedJournalEntry entry;
+            try {
+                entry = JsonUtil.fromJsonString(lines.get(i), JsonAdaptedJournalEntry.class);
+            } catch (IOException ioe) {
+                logger.warning("Ignoring unreadable journal entries from line " + (i + 1)
+                        + " of " + journalFilePath + ": " + ioe.getMessage());
+                break;
+            }
+
+            if (i == 0) {
+                if (!entry.isBaseOf(checksum)) {
+                    logger.info("Ignoring journal " + journalFilePath + " as it was not written for the current "
+                            + "snapshot " + snapshotPath);
+                    break;
+                }
+                continue;
+            }
+            entries.add(entry);
+        }
+        return entries;
+    }
+
+    /**
+     * Returns the journal entries that turn {@code before} into {@code after}, comparing persons by identity.
+     * Returns {@code Optional.empty()} if the change is not a sequence of in-place edits, deletions and
+     * additions at the end of the list, and so has to be written out as a new snapshot instead.
+     */
+    static Optional<List<JsonAdaptedJournalEntry>> diff(List<Person> before, List<Person> after) {
+        Map<Person, Boolean> inBefore = new IdentityHashMap<>();
+        before.forEach(person -> inBefore.put(person, true));
+        Map<Person, Boolean> inAfter = new IdentityHashMap<>();
+        after.forEach(person -> inAfter.put(person, true));
+
+        List<JsonAdaptedJournalEntry> entries = new ArrayList<>();
+        int i = 0;
+        int j = 0;
+        // position in the list as it would be after replaying the entries so far
+        int position = 0;
+        while (i < before.size() && j < after.size()) {
+            Person old = before.get(i);
+            Person current = after.get(j);
+            boolean isOldKept = inAfter.containsKey(old);
+            boolean isCurrentNew = !inBefore.containsKey(current);
+
+            if (old == current) {
+                i++;
+                j++;
+                position++;
+            } else if (!isOldKept && isCurrentNew) {
+                entries.add(JsonAdaptedJournalEntry.edit(position, current));
+                i++;
+                j++;
+                position++;
+            } else if (!isOldKept) {
+                entries.add(JsonAdaptedJournalEntry.delete(position));
+                i++;
+            } else {
+                // either an insertion before the end or a reordering
+                return Optional.empty();
+            }
+        }
+
+        for (; i < before.size(); i++) {
+            if (inAfter.containsKey(before.get(i))) {
+                return Optional.empty();
+            }
+            entries.add(JsonAdaptedJournalEntry.delete(position));
+        }
+        for (; j < after.size(); j++) {
+            if (inBefore.containsKey(after.get(j))) {
+                return Optional.empty();
+            }
+            entries.add(JsonAdaptedJournalEntry.add(after.get(j)));
+        }
+        return Optional.of(entries);
+    }
+
+}
@@ -26,7 +26,7 @@ class JsonAdaptedAppointment {
      * Converts a given {@code Appointment} into this class for Jackson use.
      */
     public JsonAdaptedAppointment(Appointment source) {
-        appointment = source.value;
+        appointment = source.toString();
     }
 
     @JsonValue
@@ -43,7 +43,7 @@ class JsonAdaptedAppointment {
         if (!Appointment.isValidAppointment(appointment)) {
             throw new IllegalValueException(Tag.MESSAGE_CONSTRAINTS);
         }
-        return new Appointment(appointment);
+        return Appointment.of(appointment);
     }
 
 }
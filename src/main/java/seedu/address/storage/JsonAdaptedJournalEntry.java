@@ -0,0 +1,126 @@
+package seedu.address.storage;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.List;
+
+import com.fasterxml.jackson.annotation.JsonCreator;
+import com.fasterxml.jackson.annotation.JsonProperty;
+
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.model.person.Person;
+
+/**
+ * Jackson-friendly version of a single line in the address book journal.
+ * The first line of a journal is a {@code BASE} entry naming the snapshot it applies to,
+ * and every following line records one person-level mutation.
+ */
+class JsonAdaptedJournalEntry {
+
+    public static final String MESSAGE_UNKNOWN_TYPE = "Journal entry has an unknown type: %s";
+    public static final String MESSAGE_INVALID_INDEX = "Journal entry refers to a person that does not exist";
+    public static final String MESSAGE_MISSING_PERSON = "Journal entry is missing its person";
+
+    static final String TYPE_BASE = "BASE";
+    static final String TYPE_ADD = "ADD";
+    static final String TYPE_EDIT = "EDIT";
+    static final String TYPE_DELETE = "DELETE";
+
+    private final String type;
+    private final Integer index;
+    private final JsonAdaptedPerson person;
+    private final Long snapshotChecksum;
+
+    /**
+     * Constructs a {@code JsonAdaptedJournalEntry} with the given entry details.
+     */
+    @JsonCreator
+    public JsonAdaptedJournalEntry(@JsonProperty("type") String type, @JsonProperty("index") Integer index,
+            @JsonProperty("person") JsonAdaptedPerson person,
+            @JsonProperty("snapshotChecksum") Long snapshotChecksum) {
+        this.type = type;
+        this.index = index;
+        this.person = person;
+        this.snapshotChecksum = snapshotChecksum;
+    }
+
+    /**
+     * Returns the header entry of a journal that applies to the snapshot with the given {@code checksum}.
+     */
+    public static JsonAdaptedJournalEntry base(long checksum) {
+        return new JsonAdaptedJournalEntry(TYPE_BASE, null, null, checksum);
+    }
+
+    /**
+     * Returns an entry that appends {@code person} to the end of the person list.
+     */
+    public static JsonAdaptedJournalEntry add(Person person) {
+        requireNonNull(person);
+        return new JsonAdaptedJournalEntry(TYPE_ADD, null, new JsonAdaptedPerson(person), null);
+    }
+
+    /**
+     * Returns an entry that replaces the person at {@code index} with {@code person}.
+     */
+    public static JsonAdaptedJournalEntry edit(int index, Person person) {
+        requireNonNull(person);
+        return new JsonAdaptedJournalEntry(TYPE_EDIT, index, new JsonAdaptedPerson(person), null);
+    }
+
+    /**
+     * Returns an entry that removes the person at {@code index}.
+     */
+    public static JsonAdaptedJournalEntry delete(int index) {
+        return new JsonAdaptedJournalEntry(TYPE_DELETE, index, null, null);
+    }
+
+    /**
+     * Returns true if this entry is the journal header for the snapshot with the given {@code checksum}.
+     */
+    public boolean isBaseOf(long checksum) {
+        return TYPE_BASE.equals(type) && snapshotChecksum != null && snapshotChecksum == checksum;
+    }
+
+    /**
+     * Replays this entry onto {@code persons}.
+     * Constraints across persons are not checked here, as the journal only guarantees that they hold once
+     * every entry of a save has been replayed.
+     *
+     * @throws IllegalValueException if the entry is malformed.
+     */
+    public void applyTo(List<Person> persons) throws IllegalValueException {
+        requireNonNull(persons);
+        if (type == null) {
+            throw new IllegalValueException(String.format(MESSAGE_UNKNOWN_TYPE, type));
+        }
+
+        switch (type) {
+        case TYPE_ADD:
+            persons.add(toPerson());
+            break;
+        case TYPE_EDIT:
+            persons.set(getIndex(persons), toPerson());
+            break;
+        case TYPE_DELETE:
+            persons.remove(getIndex(persons));
+            break;
+        default:
+            throw new IllegalValueException(String.format(MESSAGE_UNKNOWN_TYPE, type));
+        }
+    }
+
+    private Person toPerson() throws IllegalValueException {
+        if (person == null) {
+            throw new IllegalValueException(MESSAGE_MISSING_PERSON);
+        }
+        return person.toModelType();
+    }
+
+    private int getIndex(List<Person> persons) throws IllegalValueException {
+        if (index == null || index < 0 || index >= persons.size()) {
+            throw new IllegalValueException(MESSAGE_INVALID_INDEX);
+        }
+        return index;
+    }
+
+}
@@ -160,7 +160,7 @@ class JsonAdaptedPerson {
         if (level == null) {
             usedLevel = new EmptyLevel();
         } else {
-            usedLevel = new Level(level);
+            usedLevel = Level.of(level);
         }
         final Level modelLevel = usedLevel;
 
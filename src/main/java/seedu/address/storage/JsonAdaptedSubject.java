@@ -44,6 +44,6 @@ public class JsonAdaptedSubject {
         if (!Subject.isValidSubject(subject)) {
             throw new IllegalValueException(Tag.MESSAGE_CONSTRAINTS);
         }
-        return new Subject(subject);
+        return Subject.of(subject);
     }
 }
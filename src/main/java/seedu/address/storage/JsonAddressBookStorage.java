@@ -3,10 +3,14 @@ package seedu.address.storage;
 import static java.util.Objects.requireNonNull;
 
 import java.io.IOException;
+import java.nio.file.Files;
 import java.nio.file.Path;
 import java.util.Optional;
 import java.util.logging.Logger;
 
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParser;
+
 import seedu.address.commons.core.LogsCenter;
 import seedu.address.commons.exceptions.DataLoadingException;
 import seedu.address.commons.exceptions.IllegalValueException;
@@ -16,9 +20,13 @@ import seedu.address.model.ReadOnlyAddressBook;
 
 /**
  * A class to access AddressBook data stored as a json file on the hard disk.
+ * Saves replace the file atomically and keep its previous generation, which is read instead if the file
+ * turns out to be unreadable.
  */
 public class JsonAddressBookStorage implements AddressBookStorage {
 
+    public static final String PREVIOUS_GENERATION_SUFFIX = ".bak";
+
     private static final Logger logger = LogsCenter.getLogger(JsonAddressBookStorage.class);
 
     private Path filePath;
@@ -45,14 +53,37 @@ public class JsonAddressBookStorage implements AddressBookStorage {
     public Optional<ReadOnlyAddressBook> readAddressBook(Path filePath) throws DataLoadingException {
         requireNonNull(filePath);
 
-        Optional<JsonSerializableAddressBook> jsonAddressBook = JsonUtil.readJsonFile(
-                filePath, JsonSerializableAddressBook.class);
-        if (!jsonAddressBook.isPresent()) {
+        try {
+            return readAddressBookFile(filePath);
+        } catch (DataLoadingException dle) {
+            Path previousGeneration = getPreviousGenerationPath(filePath);
+            if (!FileUtil.isFileExists(previousGeneration)) {
+                throw dle;
+            }
+
+            logger.warning("Unable to read " + filePath + ", falling back to " + previousGeneration);
+            try {
+                return readAddressBookFile(previousGeneration);
+            } catch (DataLoadingException previousGenerationDle) {
+                throw dle;
+            }
+        }
+    }
+
+    /**
+     * Reads the address book at {@code filePath} incrementally, converting each person as it is parsed.
+     */
+    private Optional<ReadOnlyAddressBook> readAddressBookFile(Path filePath) throws DataLoadingException {
+        if (!Files.exists(filePath)) {
             return Optional.empty();
         }
+        logger.info("JSON file " + filePath + " found.");
 
-        try {
-            return Optional.of(jsonAddressBook.get().toModelType());
+        try (JsonParser parser = JsonUtil.createParser(filePath)) {
+            return Optional.of(JsonSerializableAddressBook.read(parser));
+        } catch (IOException ioe) {
+            logger.warning("Error reading from jsonFile file " + filePath + ": " + ioe);
+            throw new DataLoadingException(ioe);
         } catch (IllegalValueException ive) {
             logger.info("Illegal values found in " + filePath + ": " + ive.getMessage());
             throw new DataLoadingException(ive);
@@ -73,8 +104,18 @@ public class JsonAddressBookStorage implements AddressBookStorage {
         requireNonNull(addressBook);
         requireNonNull(filePath);
 
-        FileUtil.createIfMissing(filePath);
-        JsonUtil.saveJsonFile(new JsonSerializableAddressBook(addressBook), filePath);
+        FileUtil.writeToFileAtomically(filePath, out -> {
+            try (JsonGenerator generator = JsonUtil.createGenerator(out)) {
+                JsonSerializableAddressBook.write(addressBook, generator);
+            }
+        }, getPreviousGenerationPath(filePath));
+    }
+
+    /**
+     * Returns the location of the previous generation of the address book file at {@code filePath}.
+     */
+    public static Path getPreviousGenerationPath(Path filePath) {
+        return filePath.resolveSibling(filePath.getFileName() + PREVIOUS_GENERATION_SUFFIX);
     }
 
 }
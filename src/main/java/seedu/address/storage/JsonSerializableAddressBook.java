@@ -1,18 +1,29 @@
 package seedu.address.storage;
 
+import java.io.IOException;
 import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Set;
+import java.util.function.IntUnaryOperator;
 import java.util.stream.Collectors;
 
 import com.fasterxml.jackson.annotation.JsonCreator;
 import com.fasterxml.jackson.annotation.JsonProperty;
 import com.fasterxml.jackson.annotation.JsonRootName;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParseException;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
 
 import seedu.address.commons.exceptions.IllegalValueException;
 import seedu.address.model.AddressBook;
 import seedu.address.model.ReadOnlyAddressBook;
 import seedu.address.model.appointment.Appointment;
-import seedu.address.model.appointment.AppointmentList;
+import seedu.address.model.appointment.AppointmentConflict;
+import seedu.address.model.person.Name;
 import seedu.address.model.person.Person;
 
 /**
@@ -23,9 +34,12 @@ class JsonSerializableAddressBook {
 
     public static final String MESSAGE_DUPLICATE_PERSON = "Persons list contains duplicate person(s).";
     public static final String MESSAGE_OVERLAPPING_APPOINTMENT =
-            "Appointment list contains overlapping appointment(s).";
+            "Appointment list contains overlapping appointments: %1$s.";
     public static final String MESSAGE_APPOINTMENTS_PERSONS_MISMATCH = "Persons list and appointments list don't match";
 
+    private static final String FIELD_PERSONS = "persons";
+    private static final String FIELD_APPOINTMENTS = "appointments";
+
     private final List<JsonAdaptedPerson> persons = new ArrayList<>();
     private final List<JsonAdaptedAppointment> appointments = new ArrayList<>();
 
@@ -61,47 +75,208 @@ class JsonSerializableAddressBook {
      * @throws IllegalValueException if there were any data constraints violated.
      */
     public AddressBook toModelType() throws IllegalValueException {
-        AddressBook addressBook = new AddressBook();
-
-        AppointmentList temp = new AppointmentList();
+        List<Appointment> modelAppointments = new ArrayList<>();
         for (JsonAdaptedAppointment jsonAdaptedAppointment : appointments) {
-            Appointment appointment = jsonAdaptedAppointment.toModelType();
-            temp.add(appointment);
+            modelAppointments.add(jsonAdaptedAppointment.toModelType());
         }
 
-        if (temp.isOverlapping()) {
-            throw new IllegalValueException(MESSAGE_OVERLAPPING_APPOINTMENT);
+        List<Person> modelPersons = new ArrayList<>();
+        for (JsonAdaptedPerson jsonAdaptedPerson : persons) {
+            modelPersons.add(jsonAdaptedPerson.toModelType());
         }
 
-        for (JsonAdaptedPerson jsonAdaptedPerson : persons) {
-            Person person = jsonAdaptedPerson.toModelType();
+        return toAddressBook(modelPersons, modelAppointments);
+    }
 
-            // check for uniqueness among persons
-            if (addressBook.hasPerson(person)) {
-                throw new IllegalValueException(MESSAGE_DUPLICATE_PERSON);
-            }
+    /**
+     * Writes {@code source} to {@code generator} in the same format as this class, one person and appointment
+     * at a time, so that the whole document is never held in memory.
+     */
+    public static void write(ReadOnlyAddressBook source, JsonGenerator generator) throws IOException {
+        generator.writeStartObject();
+        generator.writeArrayFieldStart(FIELD_PERSONS);
+        for (Person person : source.getPersonList()) {
+            generator.writeObject(new JsonAdaptedPerson(person));
+        }
+        generator.writeEndArray();
+        generator.writeArrayFieldStart(FIELD_APPOINTMENTS);
+        for (Appointment appointment : source.getAppointmentList()) {
+            generator.writeObject(new JsonAdaptedAppointment(appointment));
+        }
+        generator.writeEndArray();
+        generator.writeEndObject();
+    }
+
+    /**
+     * Reads an address book written in the format of this class from {@code parser}.
+     * Each person and appointment is converted into its model type as soon as it is parsed, so that the
+     * Jackson-friendly versions of the whole address book are never held in memory at the same time.
+     *
+     * @throws IOException if the data is not valid JSON in the format of this class.
+     * @throws IllegalValueException if there were any data constraints violated.
+     */
+    public static AddressBook read(JsonParser parser) throws IOException, IllegalValueException {
+        List<Person> modelPersons = new ArrayList<>();
+        List<Appointment> modelAppointments = new ArrayList<>();
 
-            // check for overlapping appointments among persons
-            for (Appointment ap : person.getAppointments()) {
-                if (addressBook.appointmentsOverlap(ap)) {
-                    throw new IllegalValueException(MESSAGE_OVERLAPPING_APPOINTMENT);
+        expectToken(parser, parser.nextToken(), JsonToken.START_OBJECT);
+        while (parser.nextToken() == JsonToken.FIELD_NAME) {
+            String fieldName = parser.getCurrentName();
+            JsonToken valueToken = parser.nextToken();
+            if (FIELD_PERSONS.equals(fieldName) && valueToken != JsonToken.VALUE_NULL) {
+                expectToken(parser, valueToken, JsonToken.START_ARRAY);
+                while (parser.nextToken() != JsonToken.END_ARRAY) {
+                    modelPersons.add(parser.readValueAs(JsonAdaptedPerson.class).toModelType());
+                }
+            } else if (FIELD_APPOINTMENTS.equals(fieldName) && valueToken != JsonToken.VALUE_NULL) {
+                expectToken(parser, valueToken, JsonToken.START_ARRAY);
+                while (parser.nextToken() != JsonToken.END_ARRAY) {
+                    modelAppointments.add(parser.readValueAs(JsonAdaptedAppointment.class).toModelType());
                 }
+            } else {
+                // unknown properties are ignored, as when reading this class through Jackson
+                parser.skipChildren();
             }
+        }
+        expectToken(parser, parser.getCurrentToken(), JsonToken.END_OBJECT);
 
-            // check for overlapping appointments of a person
-            if (person.getAppointments().isOverlapping()) {
-                throw new IllegalValueException(MESSAGE_OVERLAPPING_APPOINTMENT);
-            }
+        return toAddressBook(modelPersons, modelAppointments);
+    }
 
-            addressBook.addPerson(person);
+    private static void expectToken(JsonParser parser, JsonToken actual, JsonToken expected) throws IOException {
+        if (actual != expected) {
+            throw new JsonParseException(parser, "Expected " + expected + " but found " + actual);
         }
+    }
 
-        if (!temp.asUnmodifiableObservableList().equals(addressBook.getAppointmentList())) {
-            throw new IllegalValueException(MESSAGE_APPOINTMENTS_PERSONS_MISMATCH);
+    /**
+     * Returns an {@code AddressBook} holding {@code persons}, after checking that they are consistent with
+     * the stored {@code appointments}.
+     * The error reported for invalid data is the one that adding the persons one at a time would run into first,
+     * but uniqueness is checked by hashing and overlaps by sorting, so this takes O(n log n) time.
+     *
+     * @throws IllegalValueException if there were any data constraints violated.
+     */
+    private static AddressBook toAddressBook(List<Person> persons, List<Appointment> appointments)
+            throws IllegalValueException {
+        if (hasOverlapping(appointments)) {
+            throw new IllegalValueException(getOverlappingMessage(appointments));
+        }
+
+        List<Appointment> personAppointments = new ArrayList<>();
+        List<Integer> owners = new ArrayList<>();
+        for (int i = 0; i < persons.size(); i++) {
+            for (Appointment appointment : persons.get(i).getAppointments()) {
+                personAppointments.add(appointment);
+                owners.add(i);
+            }
+        }
+        int firstDuplicate = findFirstDuplicate(persons);
+        int firstOverlapping = findFirstOverlappingOwner(personAppointments, owners::get, persons.size());
+        // a person that is both a duplicate and has overlapping appointments is reported as a duplicate
+        if (firstDuplicate < persons.size() && firstDuplicate <= firstOverlapping) {
+            throw new IllegalValueException(MESSAGE_DUPLICATE_PERSON);
+        }
+        if (firstOverlapping < persons.size()) {
+            List<Appointment> appointmentsUpToOverlapping = new ArrayList<>();
+            for (int i = 0; i < personAppointments.size() && owners.get(i) <= firstOverlapping; i++) {
+                appointmentsUpToOverlapping.add(personAppointments.get(i));
+            }
+            throw new IllegalValueException(getOverlappingMessage(appointmentsUpToOverlapping));
         }
 
+        AddressBook addressBook = AddressBook.ofUncheckedPersons(persons, personAppointments);
+        if (!appointments.equals(addressBook.getAppointmentList())) {
+            throw new IllegalValueException(MESSAGE_APPOINTMENTS_PERSONS_MISMATCH);
+        }
         return addressBook;
     }
 
-}
+    /**
+     * Returns the index of the first person with the same name as an earlier person,
+     * or the number of persons if there is none.
+     */
+    private static int findFirstDuplicate(List<Person> persons) {
+        Set<Name> names = new HashSet<>();
+        for (int i = 0; i < persons.size(); i++) {
+            if (!names.add(persons.get(i).getName())) {
+                return i;
+            }
+        }
+        return persons.size();
+    }
+
+    /**
+     * Returns an error message naming the first clash among {@code appointments}, which must overlap.
+     */
+    static String getOverlappingMessage(Collection<Appointment> appointments) {
+        List<AppointmentConflict> conflicts = Appointment.findConflicts(appointments);
+        assert !conflicts.isEmpty();
+        return String.format(MESSAGE_OVERLAPPING_APPOINTMENT, conflicts.get(0));
+    }
+
+    private static boolean hasOverlapping(List<Appointment> appointments) {
+        // with every appointment given the same owner, that owner is the first to overlap if any appointments do
+        return findFirstOverlappingOwner(appointments, index -> 0, 1) == 0;
+    }
+
+    /**
+     * Returns the smallest owner {@code k} such that the appointments of owners 0 to {@code k} overlap,
+     * or {@code ownerCount} if there is none.
+     * The appointments are sorted by their start once, after which each candidate owner is checked with a
+     * linear sweep, binary searching for the smallest one.
+     */
+    private static int findFirstOverlappingOwner(List<Appointment> appointments, IntUnaryOperator ownerOf,
+            int ownerCount) {
+        int size = appointments.size();
+        long[] startsAndIndices = new long[size];
+        for (int i = 0; i < size; i++) {
+            startsAndIndices[i] = (long) appointments.get(i).getStartMinuteOfWeek() << Integer.SIZE | i;
+        }
+        Arrays.sort(startsAndIndices);
+
+        int[] starts = new int[size];
+        int[] ends = new int[size];
+        int[] owners = new int[size];
+        for (int i = 0; i < size; i++) {
+            Appointment appointment = appointments.get((int) startsAndIndices[i]);
+            starts[i] = (int) (startsAndIndices[i] >>> Integer.SIZE);
+            ends[i] = appointment.getEndMinuteOfWeek();
+            owners[i] = ownerOf.applyAsInt((int) startsAndIndices[i]);
+        }
+
+        if (!isOverlappingUpTo(starts, ends, owners, ownerCount - 1)) {
+            return ownerCount;
+        }
+        int low = 0;
+        int high = ownerCount - 1;
+        while (low < high) {
+            int mid = (low + high) >>> 1;
+            if (isOverlappingUpTo(starts, ends, owners, mid)) {
+                high = mid;
+            } else {
+                low = mid + 1;
+            }
+        }
+        return low;
+    }
 
+    /**
+     * Returns true if any two of the intervals owned by owners 0 to {@code lastOwner} overlap.
+     * The intervals must be sorted by their start.
+     */
+    private static boolean isOverlappingUpTo(int[] starts, int[] ends, int[] owners, int lastOwner) {
+        int latestEnd = Integer.MIN_VALUE;
+        for (int i = 0; i < starts.length; i++) {
+            if (owners[i] > lastOwner) {
+                continue;
+            }
+            if (starts[i] < latestEnd) {
+                return true;
+            }
+            latestEnd = Math.max(latestEnd, ends[i]);
+        }
+        return false;
+    }
+
+}
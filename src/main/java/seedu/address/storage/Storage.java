@@ -3,6 +3,7 @@ package seedu.address.storage;
 import java.io.IOException;
 import java.nio.file.Path;
 import java.util.Optional;
+import java.util.function.BiConsumer;
 
 import seedu.address.commons.exceptions.DataLoadingException;
 import seedu.address.model.ReadOnlyAddressBook;
@@ -29,4 +30,18 @@ public interface Storage extends AddressBookStorage, UserPrefsStorage {
     @Override
     void saveAddressBook(ReadOnlyAddressBook addressBook) throws IOException;
 
+    /**
+     * Sets the handler to be notified of address book saves that failed after {@code saveAddressBook} returned,
+     * with the address book that was not saved and the cause.
+     * The handler may be called from a thread other than the one that requested the save.
+     */
+    void setSaveFailureHandler(BiConsumer<ReadOnlyAddressBook, IOException> saveFailureHandler);
+
+    /**
+     * Returns once every address book save requested so far has been written.
+     *
+     * @throws IOException if there was any problem writing to the file.
+     */
+    void flushAddressBook() throws IOException;
+
 }
@@ -3,6 +3,7 @@ package seedu.address.storage;
 import java.io.IOException;
 import java.nio.file.Path;
 import java.util.Optional;
+import java.util.function.BiConsumer;
 import java.util.logging.Logger;
 
 import seedu.address.commons.core.LogsCenter;
@@ -19,13 +20,28 @@ public class StorageManager implements Storage {
     private static final Logger logger = LogsCenter.getLogger(StorageManager.class);
     private AddressBookStorage addressBookStorage;
     private UserPrefsStorage userPrefsStorage;
+    private BackgroundAddressBookWriter backgroundWriter;
 
     /**
      * Creates a {@code StorageManager} with the given {@code AddressBookStorage} and {@code UserPrefStorage}.
      */
     public StorageManager(AddressBookStorage addressBookStorage, UserPrefsStorage userPrefsStorage) {
+        this(addressBookStorage, userPrefsStorage, false);
+    }
+
+    /**
+     * Creates a {@code StorageManager} with the given {@code AddressBookStorage} and {@code UserPrefStorage}.
+     * If {@code isBackgroundSaveEnabled} is true, saves to the address book file are written on a background
+     * thread, and a burst of saves is coalesced into a single write of the latest address book passed in.
+     * Address books passed to {@link #saveAddressBook(ReadOnlyAddressBook)} must then not be modified afterwards.
+     */
+    public StorageManager(AddressBookStorage addressBookStorage, UserPrefsStorage userPrefsStorage,
+            boolean isBackgroundSaveEnabled) {
         this.addressBookStorage = addressBookStorage;
         this.userPrefsStorage = userPrefsStorage;
+        if (isBackgroundSaveEnabled) {
+            backgroundWriter = new BackgroundAddressBookWriter(addressBookStorage);
+        }
     }
 
     // ================ UserPrefs methods ==============================
@@ -71,8 +87,28 @@ public class StorageManager implements Storage {
 
     @Override
     public void saveAddressBook(ReadOnlyAddressBook addressBook, Path filePath) throws IOException {
+        if (backgroundWriter != null && filePath.equals(addressBookStorage.getAddressBookFilePath())) {
+            logger.fine("Scheduling write to data file: " + filePath);
+            backgroundWriter.submit(addressBook);
+            return;
+        }
+
         logger.fine("Attempting to write to data file: " + filePath);
         addressBookStorage.saveAddressBook(addressBook, filePath);
     }
 
+    @Override
+    public void setSaveFailureHandler(BiConsumer<ReadOnlyAddressBook, IOException> saveFailureHandler) {
+        if (backgroundWriter != null) {
+            backgroundWriter.setFailureHandler(saveFailureHandler);
+        }
+    }
+
+    @Override
+    public void flushAddressBook() throws IOException {
+        if (backgroundWriter != null) {
+            backgroundWriter.flush();
+        }
+    }
+
 }
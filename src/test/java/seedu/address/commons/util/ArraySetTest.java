@@ -0,0 +1,61 @@
+package seedu.address.commons.util;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+import org.junit.jupiter.api.Test;
+
+public class ArraySetTest {
+
+    @Test
+    public void copyOf_duplicates_keptOnceInOrder() {
+        Set<String> set = ArraySet.copyOf(Arrays.asList("b", "a", "b", "c"));
+
+        assertEquals(3, set.size());
+        assertEquals(List.of("b", "a", "c"), new ArrayList<>(set));
+        assertTrue(set.contains("a"));
+        assertFalse(set.contains("d"));
+        assertFalse(set.contains(null));
+    }
+
+    @Test
+    public void equals_otherSetImplementations() {
+        Set<String> set = ArraySet.copyOf(List.of("a", "b"));
+
+        assertEquals(new HashSet<>(List.of("b", "a")), set);
+        assertEquals(set, Set.of("b", "a"));
+        assertEquals(Set.of("a", "b").hashCode(), set.hashCode());
+        assertFalse(set.equals(Set.of("a")));
+    }
+
+    @Test
+    public void copyOf_arraySetOrEmpty_sharesInstance() {
+        Set<String> set = ArraySet.copyOf(List.of("a"));
+        assertSame(set, ArraySet.copyOf(set));
+        assertSame(ArraySet.copyOf(List.of()), ArraySet.copyOf(new HashSet<Integer>()));
+    }
+
+    @Test
+    public void copyOf_nullElement_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> ArraySet.copyOf(Arrays.asList("a", null)));
+    }
+
+    @Test
+    public void modify_throwsUnsupportedOperationException() {
+        Set<String> set = ArraySet.copyOf(List.of("a"));
+        assertThrows(UnsupportedOperationException.class, () -> set.add("b"));
+        assertThrows(UnsupportedOperationException.class, () -> set.remove("c"));
+        assertThrows(UnsupportedOperationException.class, () -> set.removeIf(s -> false));
+        assertThrows(UnsupportedOperationException.class, () -> set.clear());
+        assertThrows(UnsupportedOperationException.class, () -> set.iterator().remove());
+    }
+}
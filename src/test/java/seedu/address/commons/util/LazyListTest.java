@@ -0,0 +1,104 @@
+package seedu.address.commons.util;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static seedu.address.testutil.Assert.assertThrows;
+
+import java.util.AbstractList;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+public class LazyListTest {
+
+    @Test
+    public void get_untouchedElements_notRead() {
+        CountingList source = new CountingList("a", "b", "c", "d");
+        LazyList<String> list = new LazyList<>(source);
+
+        assertEquals(4, list.size());
+        assertEquals("c", list.get(2));
+        assertEquals(List.of(2), source.reads);
+    }
+
+    @Test
+    public void modifications_onlyReplacedElementsRead() {
+        CountingList source = new CountingList("a", "b", "c", "d");
+        LazyList<String> list = new LazyList<>(source);
+
+        list.add("e");
+        list.add(0, "z");
+        list.remove(2); // "b"
+        list.set(3, "x"); // "d"
+
+        // removing and replacing an element returns it, so only those elements are read
+        assertEquals(List.of(1, 3), source.reads);
+        assertEquals(Arrays.asList("z", "a", "c", "x", "e"), list);
+    }
+
+    @Test
+    public void add_beyondInitialCapacity_success() {
+        LazyList<Integer> list = new LazyList<>();
+        List<Integer> expected = new ArrayList<>();
+        for (int i = 0; i < 100; i++) {
+            list.add(i);
+            expected.add(i);
+        }
+        assertEquals(expected, list);
+
+        list.subList(10, 90).clear();
+        expected.subList(10, 90).clear();
+        assertEquals(expected, list);
+    }
+
+    @Test
+    public void copy_independentOfOriginal() {
+        CountingList source = new CountingList("a", "b", "c");
+        LazyList<String> original = new LazyList<>(source);
+        original.set(0, "x");
+
+        LazyList<String> copy = new LazyList<>(original);
+        copy.remove(1);
+        original.clear();
+
+        assertEquals(List.of(0, 1), source.reads);
+        assertEquals(Arrays.asList("x", "c"), copy);
+        assertEquals(List.of(), original);
+    }
+
+    @Test
+    public void add_nullElement_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> new LazyList<String>().add(null));
+    }
+
+    @Test
+    public void get_invalidIndex_throwsIndexOutOfBoundsException() {
+        LazyList<String> list = new LazyList<>(List.of("a"));
+        assertThrows(IndexOutOfBoundsException.class, () -> list.get(1));
+        assertThrows(IndexOutOfBoundsException.class, () -> list.add(2, "b"));
+    }
+
+    /**
+     * A list that records the positions that are read from it.
+     */
+    private static class CountingList extends AbstractList<String> {
+        private final List<String> elements;
+        private final List<Integer> reads = new ArrayList<>();
+
+        CountingList(String... elements) {
+            this.elements = Arrays.asList(elements);
+        }
+
+        @Override
+        public String get(int index) {
+            reads.add(index);
+            return elements.get(index);
+        }
+
+        @Override
+        public int size() {
+            return elements.size();
+        }
+    }
+}
@@ -1,10 +1,12 @@
 package seedu.address.commons.util;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static seedu.address.testutil.Assert.assertThrows;
 
 import java.io.FileNotFoundException;
+import java.util.List;
 
 import org.junit.jupiter.api.Test;
 
@@ -123,6 +125,22 @@ public class StringUtilTest {
         assertTrue(StringUtil.containsWordIgnoreCase("AAA bBb ccc  bbb", "bbB"));
     }
 
+    //---------------- Tests for tokenize --------------------------------------
+
+    @Test
+    public void tokenize_nullGiven_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> StringUtil.tokenize(null));
+    }
+
+    @Test
+    public void tokenize_validInputs_correctResult() {
+        assertEquals(List.of(), StringUtil.tokenize(""));
+        assertEquals(List.of(), StringUtil.tokenize("  , @ "));
+        assertEquals(List.of("alex", "yeoh"), StringUtil.tokenize("  Alex   YEOH "));
+        assertEquals(List.of("alexyeoh", "example", "com"), StringUtil.tokenize("alexyeoh@example.com"));
+        assertEquals(List.of("blk", "30", "06", "40"), StringUtil.tokenize("Blk 30, #06-40"));
+    }
+
     //---------------- Tests for getDetails --------------------------------------
 
     /*
@@ -1,6 +1,7 @@
 package seedu.address.logic;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
 import static seedu.address.logic.Messages.MESSAGE_INVALID_PERSON_DISPLAYED_INDEX;
 import static seedu.address.logic.Messages.MESSAGE_UNKNOWN_COMMAND;
 import static seedu.address.logic.commands.CommandTestUtil.ADDRESS_DESC_AMY;
@@ -13,6 +14,7 @@ import static seedu.address.testutil.TypicalPersons.AMY;
 
 import java.io.IOException;
 import java.nio.file.AccessDeniedException;
+import java.nio.file.Files;
 import java.nio.file.Path;
 
 import org.junit.jupiter.api.BeforeEach;
@@ -24,6 +26,7 @@ import seedu.address.logic.commands.CommandResult;
 import seedu.address.logic.commands.ListCommand;
 import seedu.address.logic.commands.exceptions.CommandException;
 import seedu.address.logic.parser.exceptions.ParseException;
+import seedu.address.model.AddressBook;
 import seedu.address.model.Model;
 import seedu.address.model.ModelManager;
 import seedu.address.model.ReadOnlyAddressBook;
@@ -71,6 +74,65 @@ public class LogicManagerTest {
         assertCommandSuccess(listCommand, ListCommand.MESSAGE_SUCCESS, model);
     }
 
+    @Test
+    public void execute_unchangedAddressBook_skipsSave() throws Exception {
+        LogicManager logicManager = (LogicManager) logic;
+        logicManager.execute(ListCommand.COMMAND_WORD);
+        assertEquals(0, logicManager.getSkippedSaveCount());
+
+        logicManager.execute(ListCommand.COMMAND_WORD);
+        logicManager.execute(ListCommand.COMMAND_WORD);
+        assertEquals(2, logicManager.getSkippedSaveCount());
+
+        logicManager.execute(AddCommand.COMMAND_WORD + NAME_DESC_AMY + PHONE_DESC_AMY
+                + EMAIL_DESC_AMY + ADDRESS_DESC_AMY + NOTE_DESC_AMY);
+        assertEquals(2, logicManager.getSkippedSaveCount());
+    }
+
+    @Test
+    public void execute_backgroundSaveFailed_savesAgain() throws Exception {
+        JsonAddressBookStorage addressBookStorage = new FailingOnceAddressBookStorage(
+                temporaryFolder.resolve("failingOnce.json"));
+        StorageManager storage = new StorageManager(addressBookStorage,
+                new JsonUserPrefsStorage(temporaryFolder.resolve("userPrefs.json")), true);
+        LogicManager logicManager = new LogicManager(model, storage);
+
+        logicManager.execute(AddCommand.COMMAND_WORD + NAME_DESC_AMY + PHONE_DESC_AMY
+                + EMAIL_DESC_AMY + ADDRESS_DESC_AMY + NOTE_DESC_AMY);
+        try {
+            storage.flushAddressBook();
+        } catch (IOException ioe) {
+            // the save failed while being flushed rather than in the background
+        }
+
+        // unchanged, but the data on disk is out of date
+        logicManager.execute(ListCommand.COMMAND_WORD);
+        assertEquals(0, logicManager.getSkippedSaveCount());
+        storage.flushAddressBook();
+        assertEquals(model.getAddressBook(), new AddressBook(addressBookStorage.readAddressBook().get()));
+    }
+
+    @Test
+    public void flushAddressBook_backgroundSaveFailed_savesAgain() throws Exception {
+        JsonAddressBookStorage addressBookStorage = new FailingOnceAddressBookStorage(
+                temporaryFolder.resolve("failingOnce.json"));
+        StorageManager storage = new StorageManager(addressBookStorage,
+                new JsonUserPrefsStorage(temporaryFolder.resolve("userPrefs.json")), true);
+        LogicManager logicManager = new LogicManager(model, storage);
+
+        logicManager.execute(AddCommand.COMMAND_WORD + NAME_DESC_AMY + PHONE_DESC_AMY
+                + EMAIL_DESC_AMY + ADDRESS_DESC_AMY + NOTE_DESC_AMY);
+        logicManager.flushAddressBook();
+
+        assertEquals(model.getAddressBook(), new AddressBook(addressBookStorage.readAddressBook().get()));
+    }
+
+    @Test
+    public void flushAddressBook_nothingSaved_doesNotSave() throws Exception {
+        logic.flushAddressBook();
+        assertFalse(Files.exists(temporaryFolder.resolve("addressBook.json")));
+    }
+
     @Test
     public void execute_storageThrowsIoException_throwsCommandException() {
         assertCommandFailureForExceptionFromStorage(DUMMY_IO_EXCEPTION, String.format(
@@ -173,4 +235,24 @@ public class LogicManagerTest {
         expectedModel.addPerson(expectedPerson);
         assertCommandFailure(addCommand, CommandException.class, expectedMessage, expectedModel);
     }
+
+    /**
+     * An {@code AddressBookStorage} that fails to save the first address book it is given.
+     */
+    private static class FailingOnceAddressBookStorage extends JsonAddressBookStorage {
+        private boolean hasFailed;
+
+        FailingOnceAddressBookStorage(Path filePath) {
+            super(filePath);
+        }
+
+        @Override
+        public void saveAddressBook(ReadOnlyAddressBook addressBook, Path filePath) throws IOException {
+            if (!hasFailed) {
+                hasFailed = true;
+                throw DUMMY_IO_EXCEPTION;
+            }
+            super.saveAddressBook(addressBook, filePath);
+        }
+    }
 }
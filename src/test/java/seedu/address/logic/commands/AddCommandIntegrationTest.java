@@ -13,7 +13,8 @@ import seedu.address.logic.Messages;
 import seedu.address.model.Model;
 import seedu.address.model.ModelManager;
 import seedu.address.model.UserPrefs;
-import seedu.address.model.appointment.DisjointAppointmentList;
+import seedu.address.model.appointment.Appointment;
+import seedu.address.model.appointment.AppointmentConflict;
 import seedu.address.model.person.Person;
 import seedu.address.testutil.PersonBuilder;
 
@@ -52,22 +53,33 @@ public class AddCommandIntegrationTest {
     public void execute_duplicateAppointments_throwsCommandException() {
         Person personWithOverlappingAppointments = new PersonBuilder().withName("name").withAppointments(
                 VALID_APPOINTMENT_FRIDAY, VALID_APPOINTMENT_FRIDAY).build();
+        Appointment friday = new Appointment(VALID_APPOINTMENT_FRIDAY);
         assertCommandFailure(new AddCommand(personWithOverlappingAppointments), model,
-                DisjointAppointmentList.MESSAGE_CONSTRAINTS);
+                Messages.formatClash(new AppointmentConflict(friday, friday)));
     }
 
     @Test
     public void execute_overlappingAppointments_throwsCommandException() {
         Person personWithOverlappingAppointments = new PersonBuilder().withName("name").withAppointments(
                 "10:00-12:00 SUN", "11:00-13:00 SUN").build();
-        assertCommandFailure(new AddCommand(personWithOverlappingAppointments), model,
-                DisjointAppointmentList.MESSAGE_CONSTRAINTS);
+        // clashes with existing appointments are checked first, and 11:00-13:00 SUN also clashes with Benson's lesson
+        assertCommandFailure(new AddCommand(personWithOverlappingAppointments), model, Messages.formatClash(
+                new Appointment("11:00-13:00 SUN"), new Appointment("12:00-13:00 SUN"), BENSON));
+    }
+
+    @Test
+    public void execute_overlappingAppointmentsFreeOfExistingAppointments_throwsCommandException() {
+        Person personWithOverlappingAppointments = new PersonBuilder().withName("name").withAppointments(
+                "10:00-12:00 SAT", "11:00-13:00 SAT").build();
+        assertCommandFailure(new AddCommand(personWithOverlappingAppointments), model, Messages.formatClash(
+                new AppointmentConflict(new Appointment("10:00-12:00 SAT"), new Appointment("11:00-13:00 SAT"))));
     }
 
     @Test
     public void execute_overlappingAppointmentsWithExistingAppointments_throwsCommandException() {
         Person personWithOverlappingAppointments = new PersonBuilder(BENSON).withName("notBenson").build();
+        Appointment bensonAppointment = new Appointment("12:00-13:00 SUN");
         assertCommandFailure(new AddCommand(personWithOverlappingAppointments), model,
-                DisjointAppointmentList.MESSAGE_CONSTRAINTS);
+                Messages.formatClash(bensonAppointment, bensonAppointment, BENSON));
     }
 }
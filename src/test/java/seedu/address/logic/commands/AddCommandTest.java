@@ -9,11 +9,13 @@ import static seedu.address.testutil.TypicalAppointments.SUN_APPOINTMENT_10_TO_1
 import static seedu.address.testutil.TypicalPersons.ALICE;
 
 import java.nio.file.Path;
+import java.time.DayOfWeek;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.List;
+import java.util.Optional;
 import java.util.function.Predicate;
 
 import org.junit.jupiter.api.Test;
@@ -27,8 +29,14 @@ import seedu.address.model.Model;
 import seedu.address.model.ReadOnlyAddressBook;
 import seedu.address.model.ReadOnlyUserPrefs;
 import seedu.address.model.appointment.Appointment;
-import seedu.address.model.appointment.DisjointAppointmentList;
+import seedu.address.model.appointment.LessonRequest;
+import seedu.address.model.person.DuplicateCandidate;
+import seedu.address.model.person.LessonGroup;
+import seedu.address.model.person.Level;
 import seedu.address.model.person.Person;
+import seedu.address.model.person.PersonFilter;
+import seedu.address.model.person.SearchKeywordsPredicate;
+import seedu.address.model.person.Subject;
 import seedu.address.testutil.PersonBuilder;
 
 public class AddCommandTest {
@@ -85,10 +93,12 @@ public class AddCommandTest {
     public void execute_overlappingAppointment_throwsCommandException() {
         Person anotherPerson = new PersonBuilder(ALICE).withAppointments("11:00-13:00 SUN").build();
         AddCommand addCommand = new AddCommand(anotherPerson);
-        ModelStub modelStub = new ModelStubWithAppointment(SUN_APPOINTMENT_10_TO_12);
+        Person owner = new PersonBuilder().withAppointments(SUN_APPOINTMENT_10_TO_12.toString()).build();
+        ModelStub modelStub = new ModelStubWithAppointment(SUN_APPOINTMENT_10_TO_12, owner);
 
-        assertThrows(CommandException.class,
-                DisjointAppointmentList.MESSAGE_CONSTRAINTS, () -> addCommand.execute(modelStub));
+        String expectedMessage = Messages.formatClash(new Appointment("11:00-13:00 SUN"), SUN_APPOINTMENT_10_TO_12,
+                owner);
+        assertThrows(CommandException.class, expectedMessage, () -> addCommand.execute(modelStub));
     }
 
     @Test
@@ -171,6 +181,16 @@ public class AddCommandTest {
             throw new AssertionError("This method should not be called.");
         }
 
+        @Override
+        public long getAddressBookVersion() {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public ReadOnlyAddressBook getAddressBookSnapshot() {
+            throw new AssertionError("This method should not be called.");
+        }
+
         @Override
         public boolean hasPerson(Person person) {
             throw new AssertionError("This method should not be called.");
@@ -181,6 +201,21 @@ public class AddCommandTest {
             throw new AssertionError("This method should not be called.");
         }
 
+        @Override
+        public List<DuplicateCandidate> findDuplicates() {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public List<LessonGroup> findLessonGroups(Subject subject, Level level) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public List<Optional<Appointment>> findLessonSlots(List<LessonRequest> requests) {
+            throw new AssertionError("This method should not be called.");
+        }
+
         @Override
         public void deletePerson(Person target) {
             throw new AssertionError("This method should not be called.");
@@ -191,6 +226,11 @@ public class AddCommandTest {
             throw new AssertionError("This method should not be called.");
         }
 
+        @Override
+        public void mergePersons(Person target, Person other, Person mergedPerson) {
+            throw new AssertionError("This method should not be called.");
+        }
+
         @Override
         public ObservableList<Person> getFilteredPersonList() {
             throw new AssertionError("This method should not be called.");
@@ -201,6 +241,16 @@ public class AddCommandTest {
             throw new AssertionError("This method should not be called.");
         }
 
+        @Override
+        public void updateFilteredPersonList(PersonFilter filter) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public void updateFilteredPersonList(SearchKeywordsPredicate predicate) {
+            throw new AssertionError("This method should not be called.");
+        }
+
         @Override
         public void updateFilteredAppointmentList(Predicate<Appointment> predicate) {
             throw new AssertionError("This method should not be called.");
@@ -216,6 +266,31 @@ public class AddCommandTest {
             throw new AssertionError("This method should not be called.");
         }
 
+        @Override
+        public List<Appointment> getOverlappingAppointments(Appointment appointment) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public List<Appointment> getFilteredAppointmentsOn(Collection<DayOfWeek> days) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public List<Appointment> getFreeSlots(Appointment window, int minDuration) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public int getBookedMinutes(DayOfWeek day) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public Person getAppointmentOwner(Appointment appointment) {
+            throw new AssertionError("This method should not be called.");
+        }
+
         @Override
         public ObservableList<Appointment> getFilteredAppointmentList() {
             throw new AssertionError("This method should not be called.");
@@ -251,14 +326,17 @@ public class AddCommandTest {
     }
 
     /**
-     * A Model stub that contains a single appointment.
+     * A Model stub that contains a single appointment of a person.
      */
     private class ModelStubWithAppointment extends ModelStub {
         private final Appointment appointment;
+        private final Person owner;
 
-        ModelStubWithAppointment(Appointment appointment) {
+        ModelStubWithAppointment(Appointment appointment, Person owner) {
             requireNonNull(appointment);
+            requireNonNull(owner);
             this.appointment = appointment;
+            this.owner = owner;
         }
 
         @Override
@@ -282,6 +360,17 @@ public class AddCommandTest {
             }
             return false;
         }
+
+        @Override
+        public List<Appointment> getOverlappingAppointments(Appointment appointment) {
+            requireNonNull(appointment);
+            return this.appointment.overlapsWith(appointment) ? List.of(this.appointment) : List.of();
+        }
+
+        @Override
+        public Person getAppointmentOwner(Appointment appointment) {
+            return this.appointment.equals(appointment) ? owner : null;
+        }
     }
 
     /**
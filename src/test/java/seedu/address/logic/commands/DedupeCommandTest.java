@@ -0,0 +1,54 @@
+package seedu.address.logic.commands;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.logic.commands.CommandTestUtil.assertCommandSuccess;
+import static seedu.address.testutil.TypicalPersons.ALICE;
+import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.model.Model;
+import seedu.address.model.ModelManager;
+import seedu.address.model.UserPrefs;
+import seedu.address.model.person.Person;
+import seedu.address.testutil.PersonBuilder;
+
+/**
+ * Contains integration tests (interaction with the Model) for {@code DedupeCommand}.
+ */
+public class DedupeCommandTest {
+    private Model model = new ModelManager(getTypicalAddressBook(), new UserPrefs());
+    private Model expectedModel = new ModelManager(getTypicalAddressBook(), new UserPrefs());
+
+    @Test
+    public void execute_noDuplicates_listUnchanged() {
+        assertCommandSuccess(new DedupeCommand(), model, DedupeCommand.MESSAGE_NO_DUPLICATES, expectedModel);
+    }
+
+    @Test
+    public void execute_duplicates_duplicatesShown() {
+        Person alicePaulin = new PersonBuilder(ALICE).withName("Alice Paulin").build();
+        model.addPerson(alicePaulin);
+        expectedModel.addPerson(alicePaulin);
+        expectedModel.updateFilteredPersonList(person -> person == ALICE || person == alicePaulin);
+
+        String expectedMessage = String.format(DedupeCommand.MESSAGE_DUPLICATES_FOUND, 1) + "\n"
+                + String.format(DedupeCommand.MESSAGE_DUPLICATE_PAIR, 1, ALICE.getName(), 2, alicePaulin.getName(),
+                        "similar names, same phone, same email");
+        assertCommandSuccess(new DedupeCommand(), model, expectedMessage, expectedModel);
+    }
+
+    @Test
+    public void execute_manyDuplicates_firstDuplicatesListed() {
+        for (int i = 0; i < DedupeCommand.MAX_PAIRS_LISTED + 5; i++) {
+            Person person = new PersonBuilder().withName("Student " + i).removePhone().removeEmail().build();
+            model.addPerson(person);
+        }
+
+        String result = new DedupeCommand().execute(model).getFeedbackToUser();
+        String[] lines = result.split("\n");
+        assertEquals(DedupeCommand.MAX_PAIRS_LISTED + 2, lines.length);
+        assertTrue(lines[lines.length - 1].startsWith("... and "));
+    }
+}
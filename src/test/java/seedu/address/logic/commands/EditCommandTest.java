@@ -14,6 +14,7 @@ import static seedu.address.logic.commands.CommandTestUtil.assertCommandSuccess;
 import static seedu.address.logic.commands.CommandTestUtil.showPersonAtIndex;
 import static seedu.address.testutil.TypicalIndexes.INDEX_FIRST_PERSON;
 import static seedu.address.testutil.TypicalIndexes.INDEX_SECOND_PERSON;
+import static seedu.address.testutil.TypicalPersons.BENSON;
 import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
 
 import org.junit.jupiter.api.Test;
@@ -25,6 +26,8 @@ import seedu.address.model.AddressBook;
 import seedu.address.model.Model;
 import seedu.address.model.ModelManager;
 import seedu.address.model.UserPrefs;
+import seedu.address.model.appointment.Appointment;
+import seedu.address.model.appointment.AppointmentConflict;
 import seedu.address.model.person.Person;
 import seedu.address.testutil.EditPersonDescriptorBuilder;
 import seedu.address.testutil.PersonBuilder;
@@ -155,7 +158,10 @@ public class EditCommandTest {
                 "10:00-13:00 SUN").build();
         EditCommand editCommand = new EditCommand(INDEX_FIRST_PERSON, descriptor);
 
-        assertCommandFailure(editCommand, model, EditCommand.MESSAGE_OVERLAPPING_APPOINTMENT);
+        // Benson has the lesson from 12:00 to 13:00 on Sunday
+        String expectedMessage = Messages.formatClash(new Appointment("10:00-13:00 SUN"),
+                new Appointment("12:00-13:00 SUN"), BENSON);
+        assertCommandFailure(editCommand, model, expectedMessage);
     }
 
     @Test
@@ -165,7 +171,8 @@ public class EditCommandTest {
                 VALID_APPOINTMENT_FRIDAY, VALID_APPOINTMENT_FRIDAY).build();
         EditCommand editCommand = new EditCommand(INDEX_FIRST_PERSON, descriptor);
 
-        assertCommandFailure(editCommand, model, EditCommand.MESSAGE_OVERLAPPING_APPOINTMENT);
+        Appointment friday = new Appointment(VALID_APPOINTMENT_FRIDAY);
+        assertCommandFailure(editCommand, model, Messages.formatClash(new AppointmentConflict(friday, friday)));
     }
 
     @Test
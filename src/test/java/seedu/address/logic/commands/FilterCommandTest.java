@@ -0,0 +1,98 @@
+package seedu.address.logic.commands;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.logic.Messages.MESSAGE_PERSONS_LISTED_OVERVIEW;
+import static seedu.address.logic.commands.CommandTestUtil.assertCommandSuccess;
+import static seedu.address.testutil.TypicalPersons.ALICE;
+import static seedu.address.testutil.TypicalPersons.BENSON;
+import static seedu.address.testutil.TypicalPersons.DANIEL;
+import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Set;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.model.Model;
+import seedu.address.model.ModelManager;
+import seedu.address.model.UserPrefs;
+import seedu.address.model.person.Level;
+import seedu.address.model.person.PersonFilter;
+import seedu.address.model.person.Subject;
+import seedu.address.model.tag.Tag;
+
+/**
+ * Contains integration tests (interaction with the Model) for {@code FilterCommand}.
+ */
+public class FilterCommandTest {
+    private Model model = new ModelManager(getTypicalAddressBook(), new UserPrefs());
+    private Model expectedModel = new ModelManager(getTypicalAddressBook(), new UserPrefs());
+
+    @Test
+    public void equals() {
+        PersonFilter firstFilter = new PersonFilter(Set.of(new Tag("friends")), Set.of(), Set.of());
+        PersonFilter secondFilter = new PersonFilter(Set.of(), Set.of(new Subject("MATH")), Set.of());
+
+        FilterCommand filterFirstCommand = new FilterCommand(firstFilter);
+        FilterCommand filterSecondCommand = new FilterCommand(secondFilter);
+
+        // same object -> returns true
+        assertTrue(filterFirstCommand.equals(filterFirstCommand));
+
+        // same values -> returns true
+        FilterCommand filterFirstCommandCopy =
+                new FilterCommand(new PersonFilter(Set.of(new Tag("friends")), Set.of(), Set.of()));
+        assertTrue(filterFirstCommand.equals(filterFirstCommandCopy));
+
+        // different types -> returns false
+        assertFalse(filterFirstCommand.equals(1));
+
+        // null -> returns false
+        assertFalse(filterFirstCommand.equals(null));
+
+        // different filter -> returns false
+        assertFalse(filterFirstCommand.equals(filterSecondCommand));
+    }
+
+    @Test
+    public void execute_tag_multiplePersonsFound() {
+        String expectedMessage = String.format(MESSAGE_PERSONS_LISTED_OVERVIEW, 3);
+        PersonFilter filter = new PersonFilter(Set.of(new Tag("friends")), Set.of(), Set.of());
+        FilterCommand command = new FilterCommand(filter);
+        expectedModel.updateFilteredPersonList(filter);
+        assertCommandSuccess(command, model, expectedMessage, expectedModel);
+        assertEquals(Arrays.asList(ALICE, BENSON, DANIEL), model.getFilteredPersonList());
+    }
+
+    @Test
+    public void execute_subjectAndLevel_onePersonFound() {
+        String expectedMessage = String.format(MESSAGE_PERSONS_LISTED_OVERVIEW, 1);
+        PersonFilter filter = new PersonFilter(Set.of(), Set.of(new Subject("MATH")),
+                Set.of(new Level("P1"), new Level("P2")));
+        FilterCommand command = new FilterCommand(filter);
+        expectedModel.updateFilteredPersonList(filter);
+        assertCommandSuccess(command, model, expectedMessage, expectedModel);
+        assertEquals(Collections.singletonList(BENSON), model.getFilteredPersonList());
+    }
+
+    @Test
+    public void execute_noPersonWithLevel_noPersonFound() {
+        String expectedMessage = String.format(MESSAGE_PERSONS_LISTED_OVERVIEW, 0);
+        PersonFilter filter = new PersonFilter(Set.of(new Tag("friends")), Set.of(), Set.of(new Level("P6")));
+        FilterCommand command = new FilterCommand(filter);
+        expectedModel.updateFilteredPersonList(filter);
+        assertCommandSuccess(command, model, expectedMessage, expectedModel);
+        assertEquals(Collections.emptyList(), model.getFilteredPersonList());
+    }
+
+    @Test
+    public void toStringMethod() {
+        PersonFilter filter = new PersonFilter(Set.of(new Tag("friends")), Set.of(), Set.of());
+        FilterCommand filterCommand = new FilterCommand(filter);
+        String expected = FilterCommand.class.getCanonicalName() + "{filter=" + filter + "}";
+        assertEquals(expected, filterCommand.toString());
+    }
+}
@@ -0,0 +1,106 @@
+package seedu.address.logic.commands;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.logic.commands.CommandTestUtil.assertCommandSuccess;
+import static seedu.address.logic.commands.CommandTestUtil.showPersonAtIndex;
+import static seedu.address.testutil.TypicalIndexes.INDEX_FIRST_PERSON;
+import static seedu.address.testutil.TypicalPersons.ALICE;
+import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import seedu.address.model.Model;
+import seedu.address.model.ModelManager;
+import seedu.address.model.UserPrefs;
+import seedu.address.model.appointment.Appointment;
+import seedu.address.model.person.Person;
+import seedu.address.testutil.PersonBuilder;
+
+/**
+ * Contains integration tests (interaction with the Model) and unit tests for FreeCommand.
+ */
+public class FreeCommandTest {
+
+    private Model model;
+    private Model expectedModel;
+
+    @BeforeEach
+    public void setUp() {
+        model = new ModelManager(getTypicalAddressBook(), new UserPrefs());
+        Person alice = new PersonBuilder(ALICE).withAppointments("15:00-16:30 SUN").build();
+        model.setPerson(ALICE, alice);
+        expectedModel = new ModelManager(model.getAddressBook(), new UserPrefs());
+    }
+
+    @Test
+    public void execute_wholeDay_allFreeSlots() {
+        String expectedMessage = "Free slots:\n"
+                + "00:00-12:00 SUN\n"
+                + "13:00-15:00 SUN\n"
+                + "16:30-23:59 SUN";
+        assertCommandSuccess(new FreeCommand(new Appointment("00:00-23:59 SUN"), 1), model, expectedMessage,
+                expectedModel);
+    }
+
+    @Test
+    public void execute_windowAndDuration_longEnoughFreeSlotsInWindow() {
+        String expectedMessage = "Free slots:\n"
+                + "13:00-15:00 SUN\n"
+                + "16:30-18:00 SUN";
+        assertCommandSuccess(new FreeCommand(new Appointment("11:00-18:00 SUN"), 90), model, expectedMessage,
+                expectedModel);
+    }
+
+    @Test
+    public void execute_filteredList_appointmentsOfAllPersonsTaken() {
+        showPersonAtIndex(model, INDEX_FIRST_PERSON);
+        showPersonAtIndex(expectedModel, INDEX_FIRST_PERSON);
+
+        String expectedMessage = "Free slots:\n"
+                + "13:00-15:00 SUN";
+        assertCommandSuccess(new FreeCommand(new Appointment("12:30-16:00 SUN"), 1), model, expectedMessage,
+                expectedModel);
+    }
+
+    @Test
+    public void execute_noFreeSlots_noFreeSlotsMessage() {
+        String expectedMessage = "Free slots:\n" + FreeCommand.MESSAGE_NO_FREE_SLOTS;
+        assertCommandSuccess(new FreeCommand(new Appointment("12:00-16:30 SUN"), 121), model, expectedMessage,
+                expectedModel);
+    }
+
+    @Test
+    public void equals() {
+        FreeCommand freeFirstCommand = new FreeCommand(new Appointment("10:00-18:00 SUN"), 60);
+        FreeCommand freeSecondCommand = new FreeCommand(new Appointment("10:00-18:00 MON"), 60);
+
+        // same object -> returns true
+        assertTrue(freeFirstCommand.equals(freeFirstCommand));
+
+        // same values -> returns true
+        assertTrue(freeFirstCommand.equals(new FreeCommand(new Appointment("10:00-18:00 SUN"), 60)));
+
+        // different types -> returns false
+        assertFalse(freeFirstCommand.equals(1));
+
+        // null -> returns false
+        assertFalse(freeFirstCommand.equals(null));
+
+        // different window -> returns false
+        assertFalse(freeFirstCommand.equals(freeSecondCommand));
+
+        // different duration -> returns false
+        assertFalse(freeFirstCommand.equals(new FreeCommand(new Appointment("10:00-18:00 SUN"), 30)));
+    }
+
+    @Test
+    public void toStringMethod() {
+        Appointment window = new Appointment("10:00-18:00 SUN");
+        FreeCommand freeCommand = new FreeCommand(window, 60);
+        String expected = FreeCommand.class.getCanonicalName() + "{window=" + window + ", minDuration=60}";
+        assertEquals(expected, freeCommand.toString());
+    }
+}
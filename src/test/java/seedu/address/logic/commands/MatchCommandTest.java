@@ -0,0 +1,98 @@
+package seedu.address.logic.commands;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.logic.commands.CommandTestUtil.assertCommandSuccess;
+import static seedu.address.testutil.TypicalPersons.ALICE;
+import static seedu.address.testutil.TypicalPersons.BENSON;
+import static seedu.address.testutil.TypicalPersons.CARL;
+import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.model.Model;
+import seedu.address.model.ModelManager;
+import seedu.address.model.UserPrefs;
+import seedu.address.model.person.Level;
+import seedu.address.model.person.Person;
+import seedu.address.model.person.Subject;
+import seedu.address.testutil.PersonBuilder;
+
+/**
+ * Contains integration tests (interaction with the Model) and unit tests for {@code MatchCommand}.
+ */
+public class MatchCommandTest {
+    private Model model = new ModelManager(getTypicalAddressBook(), new UserPrefs());
+    private Model expectedModel = new ModelManager(getTypicalAddressBook(), new UserPrefs());
+
+    @Test
+    public void execute_noGroups_listUnchanged() {
+        // Benson is the only person taking math
+        assertCommandSuccess(new MatchCommand(Subject.of("MATH"), Level.of("P1")), model,
+                MatchCommand.MESSAGE_NO_GROUPS, expectedModel);
+    }
+
+    @Test
+    public void execute_group_membersShown() {
+        Person alice = new PersonBuilder(ALICE).withSubjects("MATH").build();
+        model.setPerson(ALICE, alice);
+        expectedModel.setPerson(ALICE, alice);
+        expectedModel.updateFilteredPersonList(person -> person == alice || person == BENSON);
+
+        String expectedMessage = String.format(MatchCommand.MESSAGE_GROUPS_FOUND, 1) + "\n"
+                + String.format(MatchCommand.MESSAGE_GROUP, "#1 Alice Pauline, #2 Benson Meier",
+                        "08:00-22:00 MON, 08:00-22:00 TUE, 08:00-22:00 WED, "
+                        + String.format(MatchCommand.MESSAGE_MORE_FREE_SLOTS, 5));
+        assertCommandSuccess(new MatchCommand(Subject.of("MATH"), Level.of("P1")), model, expectedMessage,
+                expectedModel);
+    }
+
+    @Test
+    public void execute_appointmentOfPersonOutsideGroup_slotNotFree() {
+        Person alice = new PersonBuilder(ALICE).withSubjects("MATH").build();
+        Person carl = new PersonBuilder(CARL).withAppointments("08:00-09:00 MON").build();
+        model.setPerson(ALICE, alice);
+        model.setPerson(CARL, carl);
+        expectedModel.setPerson(ALICE, alice);
+        expectedModel.setPerson(CARL, carl);
+        expectedModel.updateFilteredPersonList(person -> person == alice || person == BENSON);
+
+        // Carl does not take math, but his lesson takes the tutor's Monday morning
+        String expectedMessage = String.format(MatchCommand.MESSAGE_GROUPS_FOUND, 1) + "\n"
+                + String.format(MatchCommand.MESSAGE_GROUP, "#1 Alice Pauline, #2 Benson Meier",
+                        "09:00-22:00 MON, 08:00-22:00 TUE, 08:00-22:00 WED, "
+                        + String.format(MatchCommand.MESSAGE_MORE_FREE_SLOTS, 5));
+        assertCommandSuccess(new MatchCommand(Subject.of("MATH"), Level.of("P1")), model, expectedMessage,
+                expectedModel);
+    }
+
+    @Test
+    public void equals() {
+        MatchCommand matchFirstCommand = new MatchCommand(Subject.of("MATH"), Level.of("P5"));
+
+        // same object -> returns true
+        assertTrue(matchFirstCommand.equals(matchFirstCommand));
+
+        // same values -> returns true
+        assertTrue(matchFirstCommand.equals(new MatchCommand(Subject.of("MATH"), Level.of("P5"))));
+
+        // different types -> returns false
+        assertFalse(matchFirstCommand.equals(1));
+
+        // null -> returns false
+        assertFalse(matchFirstCommand.equals(null));
+
+        // different subject or level -> returns false
+        assertFalse(matchFirstCommand.equals(new MatchCommand(Subject.of("SCIENCE"), Level.of("P5"))));
+        assertFalse(matchFirstCommand.equals(new MatchCommand(Subject.of("MATH"), Level.of("P6"))));
+    }
+
+    @Test
+    public void toStringMethod() {
+        MatchCommand matchCommand = new MatchCommand(Subject.of("MATH"), Level.of("P5"));
+        String expected = MatchCommand.class.getCanonicalName() + "{subject=" + Subject.of("MATH") + ", level="
+                + Level.of("P5") + "}";
+        assertEquals(expected, matchCommand.toString());
+    }
+}
@@ -0,0 +1,124 @@
+package seedu.address.logic.commands;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.logic.commands.CommandTestUtil.assertCommandFailure;
+import static seedu.address.logic.commands.CommandTestUtil.assertCommandSuccess;
+import static seedu.address.logic.commands.CommandTestUtil.showPersonAtIndex;
+import static seedu.address.testutil.TypicalIndexes.INDEX_FIRST_PERSON;
+import static seedu.address.testutil.TypicalIndexes.INDEX_SECOND_PERSON;
+import static seedu.address.testutil.TypicalIndexes.INDEX_THIRD_PERSON;
+import static seedu.address.testutil.TypicalPersons.ALICE;
+import static seedu.address.testutil.TypicalPersons.BENSON;
+import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.commons.core.index.Index;
+import seedu.address.logic.Messages;
+import seedu.address.model.AddressBook;
+import seedu.address.model.Model;
+import seedu.address.model.ModelManager;
+import seedu.address.model.UserPrefs;
+import seedu.address.model.person.Person;
+import seedu.address.testutil.PersonBuilder;
+
+/**
+ * Contains integration tests (interaction with the Model) and unit tests for {@code MergeCommand}.
+ */
+public class MergeCommandTest {
+
+    private Model model = new ModelManager(getTypicalAddressBook(), new UserPrefs());
+
+    @Test
+    public void execute_validIndexesUnfilteredList_success() {
+        Person mergedPerson = new PersonBuilder(ALICE).withTags("friends", "owesMoney")
+                .withAppointments("12:00-13:00 SUN").withSubjects("MATH").build();
+        MergeCommand mergeCommand = new MergeCommand(INDEX_FIRST_PERSON, INDEX_SECOND_PERSON);
+
+        String expectedMessage = String.format(MergeCommand.MESSAGE_MERGE_PERSON_SUCCESS,
+                Messages.format(mergedPerson));
+
+        Model expectedModel = new ModelManager(new AddressBook(model.getAddressBook()), new UserPrefs());
+        expectedModel.deletePerson(BENSON);
+        expectedModel.setPerson(ALICE, mergedPerson);
+
+        assertCommandSuccess(mergeCommand, model, expectedMessage, expectedModel);
+    }
+
+    @Test
+    public void execute_targetMissingDetails_detailsTakenFromOther() {
+        Person target = new PersonBuilder().withName("Jon Tan").removePhone().removeEmail().removeAddress()
+                .removeNote().withTags().withSubjects().removeLevel().build();
+        Person other = new PersonBuilder().withName("John Tan").withPhone("91234567").withEmail("jt@example.com")
+                .withAddress("Clementi Ave 3").withNote("Weak at fractions").withTags("referral")
+                .withAppointments("10:00-12:00 SAT").withSubjects("MATH").withLevel("P5").build();
+        AddressBook addressBook = new AddressBook();
+        addressBook.addPerson(target);
+        addressBook.addPerson(other);
+        model = new ModelManager(addressBook, new UserPrefs());
+
+        Person mergedPerson = new PersonBuilder(other).withName("Jon Tan").build();
+        Model expectedModel = new ModelManager(new AddressBook(), new UserPrefs());
+        expectedModel.addPerson(mergedPerson);
+
+        assertCommandSuccess(new MergeCommand(INDEX_FIRST_PERSON, INDEX_SECOND_PERSON), model,
+                String.format(MergeCommand.MESSAGE_MERGE_PERSON_SUCCESS, Messages.format(mergedPerson)),
+                expectedModel);
+    }
+
+    @Test
+    public void execute_invalidIndexUnfilteredList_throwsCommandException() {
+        Index outOfBoundIndex = Index.fromOneBased(model.getFilteredPersonList().size() + 1);
+
+        assertCommandFailure(new MergeCommand(INDEX_FIRST_PERSON, outOfBoundIndex), model,
+                Messages.MESSAGE_INVALID_PERSON_DISPLAYED_INDEX);
+        assertCommandFailure(new MergeCommand(outOfBoundIndex, INDEX_FIRST_PERSON), model,
+                Messages.MESSAGE_INVALID_PERSON_DISPLAYED_INDEX);
+    }
+
+    @Test
+    public void execute_invalidIndexFilteredList_throwsCommandException() {
+        showPersonAtIndex(model, INDEX_FIRST_PERSON);
+
+        assertCommandFailure(new MergeCommand(INDEX_FIRST_PERSON, INDEX_SECOND_PERSON), model,
+                Messages.MESSAGE_INVALID_PERSON_DISPLAYED_INDEX);
+    }
+
+    @Test
+    public void execute_sameIndex_throwsCommandException() {
+        assertCommandFailure(new MergeCommand(INDEX_FIRST_PERSON, INDEX_FIRST_PERSON), model,
+                MergeCommand.MESSAGE_MERGE_SAME_PERSON);
+    }
+
+    @Test
+    public void equals() {
+        MergeCommand mergeFirstCommand = new MergeCommand(INDEX_FIRST_PERSON, INDEX_SECOND_PERSON);
+        MergeCommand mergeSecondCommand = new MergeCommand(INDEX_FIRST_PERSON, INDEX_THIRD_PERSON);
+
+        // same object -> returns true
+        assertTrue(mergeFirstCommand.equals(mergeFirstCommand));
+
+        // same values -> returns true
+        assertTrue(mergeFirstCommand.equals(new MergeCommand(INDEX_FIRST_PERSON, INDEX_SECOND_PERSON)));
+
+        // different types -> returns false
+        assertFalse(mergeFirstCommand.equals(1));
+
+        // null -> returns false
+        assertFalse(mergeFirstCommand.equals(null));
+
+        // different indexes -> returns false
+        assertFalse(mergeFirstCommand.equals(mergeSecondCommand));
+        assertFalse(mergeFirstCommand.equals(new MergeCommand(INDEX_SECOND_PERSON, INDEX_FIRST_PERSON)));
+    }
+
+    @Test
+    public void toStringMethod() {
+        MergeCommand mergeCommand = new MergeCommand(INDEX_FIRST_PERSON, INDEX_SECOND_PERSON);
+        String expected = MergeCommand.class.getCanonicalName() + "{targetIndex=" + INDEX_FIRST_PERSON
+                + ", otherIndex=" + INDEX_SECOND_PERSON + "}";
+        assertEquals(expected, mergeCommand.toString());
+    }
+}
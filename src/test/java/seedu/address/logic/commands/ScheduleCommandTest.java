@@ -0,0 +1,129 @@
+package seedu.address.logic.commands;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.logic.commands.CommandTestUtil.assertCommandFailure;
+import static seedu.address.logic.commands.CommandTestUtil.assertCommandSuccess;
+import static seedu.address.logic.commands.CommandTestUtil.showPersonAtIndex;
+import static seedu.address.testutil.TypicalIndexes.INDEX_FIRST_PERSON;
+import static seedu.address.testutil.TypicalIndexes.INDEX_SECOND_PERSON;
+import static seedu.address.testutil.TypicalIndexes.INDEX_THIRD_PERSON;
+import static seedu.address.testutil.TypicalPersons.ALICE;
+import static seedu.address.testutil.TypicalPersons.BENSON;
+import static seedu.address.testutil.TypicalPersons.CARL;
+import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
+
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.commons.core.index.Index;
+import seedu.address.logic.Messages;
+import seedu.address.logic.commands.ScheduleCommand.PendingLesson;
+import seedu.address.model.Model;
+import seedu.address.model.ModelManager;
+import seedu.address.model.UserPrefs;
+import seedu.address.model.appointment.Appointment;
+import seedu.address.model.appointment.LessonRequest;
+import seedu.address.model.person.Person;
+import seedu.address.testutil.PersonBuilder;
+
+/**
+ * Contains integration tests (interaction with the Model) and unit tests for {@code ScheduleCommand}.
+ */
+public class ScheduleCommandTest {
+
+    private Model model = new ModelManager(getTypicalAddressBook(), new UserPrefs());
+
+    @Test
+    public void execute_someLessonsFit_scheduledLessonsAdded() {
+        // Benson is only free from 13:00 to 14:00, and Carl's window is taken by Benson's appointment
+        ScheduleCommand scheduleCommand = new ScheduleCommand(List.of(
+                lesson(INDEX_FIRST_PERSON, 60, "12:00-15:00 SUN"),
+                lesson(INDEX_SECOND_PERSON, 60, "12:00-14:00 SUN"),
+                lesson(INDEX_THIRD_PERSON, 60, "12:00-13:00 SUN")));
+
+        Person scheduledAlice = new PersonBuilder(ALICE).withAppointments("14:00-15:00 SUN").build();
+        Person scheduledBenson = new PersonBuilder(BENSON).withAppointments("12:00-13:00 SUN", "13:00-14:00 SUN")
+                .build();
+        String expectedMessage = String.format(ScheduleCommand.MESSAGE_SCHEDULED, 2, 3) + "\n"
+                + String.format(ScheduleCommand.MESSAGE_LESSON_SCHEDULED, ALICE.getName(), "14:00-15:00 SUN") + "\n"
+                + String.format(ScheduleCommand.MESSAGE_LESSON_SCHEDULED, BENSON.getName(), "13:00-14:00 SUN") + "\n"
+                + String.format(ScheduleCommand.MESSAGE_LESSON_NOT_SCHEDULED, CARL.getName());
+
+        Model expectedModel = new ModelManager(getTypicalAddressBook(), new UserPrefs());
+        expectedModel.setPerson(ALICE, scheduledAlice);
+        expectedModel.setPerson(BENSON, scheduledBenson);
+
+        assertCommandSuccess(scheduleCommand, model, expectedMessage, expectedModel);
+    }
+
+    @Test
+    public void execute_lessonsOfSamePerson_allAdded() {
+        ScheduleCommand scheduleCommand = new ScheduleCommand(List.of(
+                lesson(INDEX_THIRD_PERSON, 60, "10:00-12:00 MON"),
+                lesson(INDEX_THIRD_PERSON, 60, "10:00-12:00 MON")));
+
+        Person scheduledCarl = new PersonBuilder(CARL).withAppointments("10:00-11:00 MON", "11:00-12:00 MON").build();
+        String expectedMessage = String.format(ScheduleCommand.MESSAGE_SCHEDULED, 2, 2) + "\n"
+                + String.format(ScheduleCommand.MESSAGE_LESSON_SCHEDULED, CARL.getName(), "10:00-11:00 MON") + "\n"
+                + String.format(ScheduleCommand.MESSAGE_LESSON_SCHEDULED, CARL.getName(), "11:00-12:00 MON");
+
+        Model expectedModel = new ModelManager(getTypicalAddressBook(), new UserPrefs());
+        expectedModel.setPerson(CARL, scheduledCarl);
+
+        assertCommandSuccess(scheduleCommand, model, expectedMessage, expectedModel);
+    }
+
+    @Test
+    public void execute_invalidIndexFilteredList_throwsCommandException() {
+        showPersonAtIndex(model, INDEX_FIRST_PERSON);
+
+        ScheduleCommand scheduleCommand = new ScheduleCommand(List.of(
+                lesson(INDEX_FIRST_PERSON, 60, "10:00-12:00 MON"),
+                lesson(INDEX_SECOND_PERSON, 60, "10:00-12:00 MON")));
+
+        assertCommandFailure(scheduleCommand, model, Messages.MESSAGE_INVALID_PERSON_DISPLAYED_INDEX);
+    }
+
+    @Test
+    public void equals() {
+        ScheduleCommand scheduleFirstCommand = new ScheduleCommand(List.of(
+                lesson(INDEX_FIRST_PERSON, 60, "10:00-12:00 MON")));
+
+        // same object -> returns true
+        assertTrue(scheduleFirstCommand.equals(scheduleFirstCommand));
+
+        // same values -> returns true
+        assertTrue(scheduleFirstCommand.equals(new ScheduleCommand(List.of(
+                lesson(INDEX_FIRST_PERSON, 60, "10:00-12:00 MON")))));
+
+        // different types -> returns false
+        assertFalse(scheduleFirstCommand.equals(1));
+
+        // null -> returns false
+        assertFalse(scheduleFirstCommand.equals(null));
+
+        // different lessons -> returns false
+        assertFalse(scheduleFirstCommand.equals(new ScheduleCommand(List.of(
+                lesson(INDEX_SECOND_PERSON, 60, "10:00-12:00 MON")))));
+        assertFalse(scheduleFirstCommand.equals(new ScheduleCommand(List.of(
+                lesson(INDEX_FIRST_PERSON, 90, "10:00-12:00 MON")))));
+        assertFalse(scheduleFirstCommand.equals(new ScheduleCommand(List.of(
+                lesson(INDEX_FIRST_PERSON, 60, "10:00-12:00 MON"),
+                lesson(INDEX_FIRST_PERSON, 60, "10:00-12:00 MON")))));
+    }
+
+    @Test
+    public void toStringMethod() {
+        List<PendingLesson> lessons = List.of(lesson(INDEX_FIRST_PERSON, 60, "10:00-12:00 MON"));
+        ScheduleCommand scheduleCommand = new ScheduleCommand(lessons);
+        String expected = ScheduleCommand.class.getCanonicalName() + "{lessons=" + lessons + "}";
+        assertEquals(expected, scheduleCommand.toString());
+    }
+
+    private static PendingLesson lesson(Index index, int duration, String window) {
+        return new PendingLesson(index, new LessonRequest(duration, List.of(new Appointment(window))));
+    }
+}
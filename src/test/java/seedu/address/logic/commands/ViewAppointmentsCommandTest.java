@@ -1,6 +1,9 @@
 package seedu.address.logic.commands;
 
 import static seedu.address.logic.commands.CommandTestUtil.assertCommandSuccess;
+import static seedu.address.logic.commands.CommandTestUtil.showPersonAtIndex;
+import static seedu.address.testutil.TypicalIndexes.INDEX_FIRST_PERSON;
+import static seedu.address.testutil.TypicalPersons.ALICE;
 import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
 
 import java.time.DayOfWeek;
@@ -13,6 +16,8 @@ import seedu.address.model.Model;
 import seedu.address.model.ModelManager;
 import seedu.address.model.UserPrefs;
 import seedu.address.model.appointment.AppointmentIsDayOfWeekPredicate;
+import seedu.address.model.person.Person;
+import seedu.address.testutil.PersonBuilder;
 
 
 /**
@@ -47,4 +52,30 @@ public class ViewAppointmentsCommandTest {
                 new AppointmentIsDayOfWeekPredicate(List.of(DayOfWeek.MONDAY))), model, expectedMessage, expectedModel);
     }
 
+    @Test
+    public void execute_severalDays_appointmentsInWeekOrder() {
+        Person alice = new PersonBuilder(ALICE).withAppointments("09:00-10:00 MON", "10:00-11:00 WED").build();
+        model.setPerson(ALICE, alice);
+        expectedModel.setPerson(ALICE, alice);
+
+        String expectedMessage = "Appointments:\n"
+                + "Alice Pauline: 09:00-10:00 MON\n"
+                + "Benson Meier: 12:00-13:00 SUN";
+        assertCommandSuccess(new ViewAppointmentsCommand(new AppointmentIsDayOfWeekPredicate(
+                List.of(DayOfWeek.SUNDAY, DayOfWeek.MONDAY))), model, expectedMessage, expectedModel);
+    }
+
+    @Test
+    public void execute_filteredList_onlyAppointmentsOfPersonsShown() {
+        Person alice = new PersonBuilder(ALICE).withAppointments("09:00-10:00 SUN").build();
+        model.setPerson(ALICE, alice);
+        showPersonAtIndex(model, INDEX_FIRST_PERSON);
+        expectedModel.setPerson(ALICE, alice);
+        showPersonAtIndex(expectedModel, INDEX_FIRST_PERSON);
+
+        String expectedMessage = "Appointments:\n"
+                + "Alice Pauline: 09:00-10:00 SUN";
+        assertCommandSuccess(new ViewAppointmentsCommand(new AppointmentIsDayOfWeekPredicate(
+                List.of(DayOfWeek.SUNDAY))), model, expectedMessage, expectedModel);
+    }
 }
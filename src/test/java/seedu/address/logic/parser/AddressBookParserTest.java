@@ -6,26 +6,42 @@ import static seedu.address.logic.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
 import static seedu.address.logic.Messages.MESSAGE_UNKNOWN_COMMAND;
 import static seedu.address.testutil.Assert.assertThrows;
 import static seedu.address.testutil.TypicalIndexes.INDEX_FIRST_PERSON;
+import static seedu.address.testutil.TypicalIndexes.INDEX_SECOND_PERSON;
 
 import java.util.Arrays;
 import java.util.List;
+import java.util.Set;
 import java.util.stream.Collectors;
 
 import org.junit.jupiter.api.Test;
 
 import seedu.address.logic.commands.AddCommand;
 import seedu.address.logic.commands.ClearCommand;
+import seedu.address.logic.commands.DedupeCommand;
 import seedu.address.logic.commands.DeleteCommand;
 import seedu.address.logic.commands.EditCommand;
 import seedu.address.logic.commands.EditCommand.EditPersonDescriptor;
 import seedu.address.logic.commands.ExitCommand;
+import seedu.address.logic.commands.FilterCommand;
 import seedu.address.logic.commands.FindCommand;
+import seedu.address.logic.commands.FreeCommand;
 import seedu.address.logic.commands.HelpCommand;
 import seedu.address.logic.commands.ListCommand;
+import seedu.address.logic.commands.MatchCommand;
+import seedu.address.logic.commands.MergeCommand;
+import seedu.address.logic.commands.ScheduleCommand;
+import seedu.address.logic.commands.ScheduleCommand.PendingLesson;
+import seedu.address.logic.commands.SearchCommand;
 import seedu.address.logic.commands.ViewAppointmentsCommand;
 import seedu.address.logic.parser.exceptions.ParseException;
+import seedu.address.model.appointment.Appointment;
+import seedu.address.model.appointment.LessonRequest;
+import seedu.address.model.person.Level;
 import seedu.address.model.person.NameContainsKeywordsPredicate;
 import seedu.address.model.person.Person;
+import seedu.address.model.person.PersonFilter;
+import seedu.address.model.person.SearchKeywordsPredicate;
+import seedu.address.model.person.Subject;
 import seedu.address.testutil.EditPersonDescriptorBuilder;
 import seedu.address.testutil.PersonBuilder;
 import seedu.address.testutil.PersonUtil;
@@ -47,6 +63,12 @@ public class AddressBookParserTest {
         assertTrue(parser.parseCommand(ClearCommand.COMMAND_WORD + " 3") instanceof ClearCommand);
     }
 
+    @Test
+    public void parseCommand_dedupe() throws Exception {
+        assertTrue(parser.parseCommand(DedupeCommand.COMMAND_WORD) instanceof DedupeCommand);
+        assertTrue(parser.parseCommand(DedupeCommand.COMMAND_WORD + " 3") instanceof DedupeCommand);
+    }
+
     @Test
     public void parseCommand_delete() throws Exception {
         DeleteCommand command = (DeleteCommand) parser.parseCommand(
@@ -69,6 +91,19 @@ public class AddressBookParserTest {
         assertTrue(parser.parseCommand(ExitCommand.COMMAND_WORD + " 3") instanceof ExitCommand);
     }
 
+    @Test
+    public void parseCommand_search() throws Exception {
+        SearchCommand command = (SearchCommand) parser.parseCommand(SearchCommand.COMMAND_WORD + " foo bar");
+        assertEquals(new SearchCommand(new SearchKeywordsPredicate(Arrays.asList("foo", "bar"))), command);
+    }
+
+    @Test
+    public void parseCommand_filter() throws Exception {
+        FilterCommand command = (FilterCommand) parser.parseCommand(FilterCommand.COMMAND_WORD + " s/MATH l/P5");
+        assertEquals(new FilterCommand(new PersonFilter(Set.of(), Set.of(new Subject("MATH")),
+                Set.of(new Level("P5")))), command);
+    }
+
     @Test
     public void parseCommand_find() throws Exception {
         List<String> keywords = Arrays.asList("foo", "bar", "baz");
@@ -83,6 +118,34 @@ public class AddressBookParserTest {
         assertTrue(parser.parseCommand(HelpCommand.COMMAND_WORD + " 3") instanceof HelpCommand);
     }
 
+    @Test
+    public void parseCommand_free() throws Exception {
+        FreeCommand command = (FreeCommand) parser.parseCommand(FreeCommand.COMMAND_WORD + " MON 14:00-20:00 90");
+        assertEquals(new FreeCommand(new Appointment("14:00-20:00 MON"), 90), command);
+    }
+
+    @Test
+    public void parseCommand_match() throws Exception {
+        MatchCommand command = (MatchCommand) parser.parseCommand(MatchCommand.COMMAND_WORD + " MATH P5");
+        assertEquals(new MatchCommand(Subject.of("MATH"), Level.of("P5")), command);
+    }
+
+    @Test
+    public void parseCommand_schedule() throws Exception {
+        ScheduleCommand command = (ScheduleCommand) parser.parseCommand(ScheduleCommand.COMMAND_WORD + " ls/"
+                + INDEX_FIRST_PERSON.getOneBased() + " 60 14:00-18:00 MON WED");
+        LessonRequest request = new LessonRequest(60,
+                List.of(new Appointment("14:00-18:00 MON"), new Appointment("14:00-18:00 WED")));
+        assertEquals(new ScheduleCommand(List.of(new PendingLesson(INDEX_FIRST_PERSON, request))), command);
+    }
+
+    @Test
+    public void parseCommand_merge() throws Exception {
+        MergeCommand command = (MergeCommand) parser.parseCommand(MergeCommand.COMMAND_WORD + " "
+                + INDEX_FIRST_PERSON.getOneBased() + " " + INDEX_SECOND_PERSON.getOneBased());
+        assertEquals(new MergeCommand(INDEX_FIRST_PERSON, INDEX_SECOND_PERSON), command);
+    }
+
     @Test
     public void parseCommand_list() throws Exception {
         assertTrue(parser.parseCommand(ListCommand.COMMAND_WORD) instanceof ListCommand);
@@ -0,0 +1,45 @@
+package seedu.address.logic.parser;
+
+import static seedu.address.logic.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+import static seedu.address.logic.parser.CommandParserTestUtil.assertParseFailure;
+import static seedu.address.logic.parser.CommandParserTestUtil.assertParseSuccess;
+
+import java.util.Set;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.logic.commands.FilterCommand;
+import seedu.address.model.person.Level;
+import seedu.address.model.person.PersonFilter;
+import seedu.address.model.person.Subject;
+import seedu.address.model.tag.Tag;
+
+public class FilterCommandParserTest {
+
+    private FilterCommandParser parser = new FilterCommandParser();
+
+    @Test
+    public void parse_noCriteria_throwsParseException() {
+        String expectedMessage = String.format(MESSAGE_INVALID_COMMAND_FORMAT, FilterCommand.MESSAGE_USAGE);
+        assertParseFailure(parser, "     ", expectedMessage);
+        assertParseFailure(parser, " t/ s/ l/", expectedMessage);
+        assertParseFailure(parser, " friends s/MATH", expectedMessage);
+    }
+
+    @Test
+    public void parse_invalidValue_throwsParseException() {
+        assertParseFailure(parser, " l/P7", Level.MESSAGE_CONSTRAINTS);
+        assertParseFailure(parser, " s/Gaming", Subject.MESSAGE_CONSTRAINTS);
+        assertParseFailure(parser, " t/best*friend", Tag.MESSAGE_CONSTRAINTS);
+    }
+
+    @Test
+    public void parse_validArgs_returnsFilterCommand() {
+        FilterCommand expectedFilterCommand = new FilterCommand(new PersonFilter(Set.of(new Tag("friends")),
+                Set.of(new Subject("MATH")), Set.of(new Level("P5"), new Level("P6"))));
+        assertParseSuccess(parser, " t/friends s/MATH l/P5 l/P6", expectedFilterCommand);
+
+        // values in any order and case
+        assertParseSuccess(parser, " l/p6 s/math \n l/P5 t/friends", expectedFilterCommand);
+    }
+}
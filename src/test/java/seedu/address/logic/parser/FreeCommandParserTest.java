@@ -0,0 +1,57 @@
+package seedu.address.logic.parser;
+
+import static seedu.address.logic.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+import static seedu.address.logic.parser.CommandParserTestUtil.assertParseFailure;
+import static seedu.address.logic.parser.CommandParserTestUtil.assertParseSuccess;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.logic.commands.FreeCommand;
+import seedu.address.model.appointment.Appointment;
+
+public class FreeCommandParserTest {
+
+    private static final String MESSAGE_INVALID_FORMAT =
+            String.format(MESSAGE_INVALID_COMMAND_FORMAT, FreeCommand.MESSAGE_USAGE);
+
+    private FreeCommandParser parser = new FreeCommandParser();
+
+    @Test
+    public void parse_dayOnly_returnsFreeCommandForWholeDay() {
+        FreeCommand expectedFreeCommand = new FreeCommand(new Appointment("00:00-23:59 MON"), 1);
+        assertParseSuccess(parser, "MON", expectedFreeCommand);
+        assertParseSuccess(parser, " \n mon \t", expectedFreeCommand);
+    }
+
+    @Test
+    public void parse_windowAndDuration_returnsFreeCommand() {
+        assertParseSuccess(parser, "tue 14:00-20:00",
+                new FreeCommand(new Appointment("14:00-20:00 TUE"), 1));
+        assertParseSuccess(parser, "tue 90", new FreeCommand(new Appointment("00:00-23:59 TUE"), 90));
+        assertParseSuccess(parser, " tue \t 14:00-20:00  90 ",
+                new FreeCommand(new Appointment("14:00-20:00 TUE"), 90));
+    }
+
+    @Test
+    public void parse_invalidFormat_throwsParseException() {
+        assertParseFailure(parser, "", MESSAGE_INVALID_FORMAT);
+        assertParseFailure(parser, "TUES", MESSAGE_INVALID_FORMAT);
+        assertParseFailure(parser, "14:00-20:00 TUE", MESSAGE_INVALID_FORMAT);
+        assertParseFailure(parser, "TUE 90 14:00-20:00", MESSAGE_INVALID_FORMAT);
+        assertParseFailure(parser, "TUE 14:00-20:00 90 1", MESSAGE_INVALID_FORMAT);
+    }
+
+    @Test
+    public void parse_invalidWindow_throwsParseException() {
+        assertParseFailure(parser, "TUE 20:00-14:00", Appointment.MESSAGE_CONSTRAINTS);
+        assertParseFailure(parser, "TUE 14:00-24:00", Appointment.MESSAGE_CONSTRAINTS);
+        assertParseFailure(parser, "TUE 14-20", Appointment.MESSAGE_CONSTRAINTS);
+    }
+
+    @Test
+    public void parse_invalidDuration_throwsParseException() {
+        assertParseFailure(parser, "TUE 0", ParserUtil.MESSAGE_INVALID_DURATION);
+        assertParseFailure(parser, "TUE 14:00-20:00 1440", ParserUtil.MESSAGE_INVALID_DURATION);
+        assertParseFailure(parser, "TUE 1h", ParserUtil.MESSAGE_INVALID_DURATION);
+    }
+}
@@ -0,0 +1,39 @@
+package seedu.address.logic.parser;
+
+import static seedu.address.logic.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+import static seedu.address.logic.parser.CommandParserTestUtil.assertParseFailure;
+import static seedu.address.logic.parser.CommandParserTestUtil.assertParseSuccess;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.logic.commands.MatchCommand;
+import seedu.address.model.person.Level;
+import seedu.address.model.person.Subject;
+
+public class MatchCommandParserTest {
+
+    private static final String MESSAGE_INVALID_FORMAT =
+            String.format(MESSAGE_INVALID_COMMAND_FORMAT, MatchCommand.MESSAGE_USAGE);
+
+    private MatchCommandParser parser = new MatchCommandParser();
+
+    @Test
+    public void parse_validArgs_returnsMatchCommand() {
+        MatchCommand expectedMatchCommand = new MatchCommand(Subject.of("MATH"), Level.of("P5"));
+        assertParseSuccess(parser, "MATH P5", expectedMatchCommand);
+        assertParseSuccess(parser, " \n math \t p5  ", expectedMatchCommand);
+    }
+
+    @Test
+    public void parse_wrongNumberOfArgs_throwsParseException() {
+        assertParseFailure(parser, "", MESSAGE_INVALID_FORMAT);
+        assertParseFailure(parser, "MATH", MESSAGE_INVALID_FORMAT);
+        assertParseFailure(parser, "MATH P5 P6", MESSAGE_INVALID_FORMAT);
+    }
+
+    @Test
+    public void parse_invalidSubjectOrLevel_throwsParseException() {
+        assertParseFailure(parser, "HISTORY P5", Subject.MESSAGE_CONSTRAINTS);
+        assertParseFailure(parser, "MATH S1", Level.MESSAGE_CONSTRAINTS);
+    }
+}
@@ -0,0 +1,39 @@
+package seedu.address.logic.parser;
+
+import static seedu.address.logic.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+import static seedu.address.logic.parser.CommandParserTestUtil.assertParseFailure;
+import static seedu.address.logic.parser.CommandParserTestUtil.assertParseSuccess;
+import static seedu.address.testutil.TypicalIndexes.INDEX_FIRST_PERSON;
+import static seedu.address.testutil.TypicalIndexes.INDEX_THIRD_PERSON;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.logic.commands.MergeCommand;
+
+public class MergeCommandParserTest {
+
+    private static final String MESSAGE_INVALID_FORMAT =
+            String.format(MESSAGE_INVALID_COMMAND_FORMAT, MergeCommand.MESSAGE_USAGE);
+
+    private MergeCommandParser parser = new MergeCommandParser();
+
+    @Test
+    public void parse_validArgs_returnsMergeCommand() {
+        assertParseSuccess(parser, "1 3", new MergeCommand(INDEX_FIRST_PERSON, INDEX_THIRD_PERSON));
+        assertParseSuccess(parser, " \n 1 \t 3  ", new MergeCommand(INDEX_FIRST_PERSON, INDEX_THIRD_PERSON));
+    }
+
+    @Test
+    public void parse_wrongNumberOfIndexes_throwsParseException() {
+        assertParseFailure(parser, "", MESSAGE_INVALID_FORMAT);
+        assertParseFailure(parser, "1", MESSAGE_INVALID_FORMAT);
+        assertParseFailure(parser, "1 2 3", MESSAGE_INVALID_FORMAT);
+    }
+
+    @Test
+    public void parse_invalidIndex_throwsParseException() {
+        assertParseFailure(parser, "1 a", MESSAGE_INVALID_FORMAT);
+        assertParseFailure(parser, "0 2", MESSAGE_INVALID_FORMAT);
+        assertParseFailure(parser, "-1 2", MESSAGE_INVALID_FORMAT);
+    }
+}
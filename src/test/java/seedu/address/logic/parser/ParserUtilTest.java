@@ -66,6 +66,19 @@ public class ParserUtilTest {
         assertEquals(INDEX_FIRST_PERSON, ParserUtil.parseIndex("  1  "));
     }
 
+    @Test
+    public void parseDuration_invalidInput_throwsParseException() {
+        assertThrows(ParseException.class, ParserUtil.MESSAGE_INVALID_DURATION, () -> ParserUtil.parseDuration("0"));
+        assertThrows(ParseException.class, ParserUtil.MESSAGE_INVALID_DURATION, () -> ParserUtil.parseDuration("1440"));
+        assertThrows(ParseException.class, ParserUtil.MESSAGE_INVALID_DURATION, () -> ParserUtil.parseDuration("1h"));
+    }
+
+    @Test
+    public void parseDuration_validInput_success() throws Exception {
+        assertEquals(1, ParserUtil.parseDuration("1"));
+        assertEquals(1439, ParserUtil.parseDuration("  1439  "));
+    }
+
     @Test
     public void parseName_null_throwsNullPointerException() {
         assertThrows(NullPointerException.class, () -> ParserUtil.parseName((String) null));
@@ -0,0 +1,69 @@
+package seedu.address.logic.parser;
+
+import static seedu.address.logic.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+import static seedu.address.logic.parser.CommandParserTestUtil.assertParseFailure;
+import static seedu.address.logic.parser.CommandParserTestUtil.assertParseSuccess;
+import static seedu.address.testutil.TypicalIndexes.INDEX_FIRST_PERSON;
+import static seedu.address.testutil.TypicalIndexes.INDEX_THIRD_PERSON;
+
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.logic.commands.ScheduleCommand;
+import seedu.address.logic.commands.ScheduleCommand.PendingLesson;
+import seedu.address.model.appointment.Appointment;
+import seedu.address.model.appointment.LessonRequest;
+
+public class ScheduleCommandParserTest {
+
+    private static final String MESSAGE_INVALID_FORMAT =
+            String.format(MESSAGE_INVALID_COMMAND_FORMAT, ScheduleCommand.MESSAGE_USAGE);
+
+    private ScheduleCommandParser parser = new ScheduleCommandParser();
+
+    @Test
+    public void parse_oneLesson_returnsScheduleCommand() {
+        LessonRequest request = new LessonRequest(60,
+                List.of(new Appointment("14:00-18:00 MON"), new Appointment("14:00-18:00 WED")));
+        ScheduleCommand expectedScheduleCommand =
+                new ScheduleCommand(List.of(new PendingLesson(INDEX_FIRST_PERSON, request)));
+        assertParseSuccess(parser, " ls/1 60 14:00-18:00 MON WED", expectedScheduleCommand);
+        assertParseSuccess(parser, " \n ls/1 \t 60 14:00-18:00 mon  wed ", expectedScheduleCommand);
+    }
+
+    @Test
+    public void parse_severalLessons_returnsScheduleCommandInOrder() {
+        ScheduleCommand expectedScheduleCommand = new ScheduleCommand(List.of(
+                new PendingLesson(INDEX_THIRD_PERSON,
+                        new LessonRequest(90, List.of(new Appointment("09:00-12:00 SAT")))),
+                new PendingLesson(INDEX_FIRST_PERSON,
+                        new LessonRequest(60, List.of(new Appointment("14:00-18:00 MON"))))));
+        assertParseSuccess(parser, " ls/3 90 09:00-12:00 SAT ls/1 60 14:00-18:00 MON", expectedScheduleCommand);
+    }
+
+    @Test
+    public void parse_invalidFormat_throwsParseException() {
+        // no lessons
+        assertParseFailure(parser, "", MESSAGE_INVALID_FORMAT);
+        assertParseFailure(parser, "1 60 14:00-18:00 MON", MESSAGE_INVALID_FORMAT);
+
+        // preamble before the lessons
+        assertParseFailure(parser, "1 ls/1 60 14:00-18:00 MON", MESSAGE_INVALID_FORMAT);
+
+        // missing window or days
+        assertParseFailure(parser, " ls/1 60 14:00-18:00", MESSAGE_INVALID_FORMAT);
+        assertParseFailure(parser, " ls/1 60 MON TUE", MESSAGE_INVALID_FORMAT);
+
+        // invalid day
+        assertParseFailure(parser, " ls/1 60 14:00-18:00 MON MONDAY", MESSAGE_INVALID_FORMAT);
+    }
+
+    @Test
+    public void parse_invalidValues_throwsParseException() {
+        assertParseFailure(parser, " ls/0 60 14:00-18:00 MON", ParserUtil.MESSAGE_INVALID_INDEX);
+        assertParseFailure(parser, " ls/1 1440 14:00-18:00 MON", ParserUtil.MESSAGE_INVALID_DURATION);
+        assertParseFailure(parser, " ls/1 60 14:00-25:00 MON", Appointment.MESSAGE_CONSTRAINTS);
+        assertParseFailure(parser, " ls/1 60 14:00-18:00 MON ls/2 60 18:00-14:00 TUE", Appointment.MESSAGE_CONSTRAINTS);
+    }
+}
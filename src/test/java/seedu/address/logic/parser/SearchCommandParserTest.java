@@ -0,0 +1,34 @@
+package seedu.address.logic.parser;
+
+import static seedu.address.logic.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+import static seedu.address.logic.parser.CommandParserTestUtil.assertParseFailure;
+import static seedu.address.logic.parser.CommandParserTestUtil.assertParseSuccess;
+
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.logic.commands.SearchCommand;
+import seedu.address.model.person.SearchKeywordsPredicate;
+
+public class SearchCommandParserTest {
+
+    private SearchCommandParser parser = new SearchCommandParser();
+
+    @Test
+    public void parse_noKeywords_throwsParseException() {
+        String expectedMessage = String.format(MESSAGE_INVALID_COMMAND_FORMAT, SearchCommand.MESSAGE_USAGE);
+        assertParseFailure(parser, "     ", expectedMessage);
+        assertParseFailure(parser, " @ , -", expectedMessage);
+    }
+
+    @Test
+    public void parse_validArgs_returnsSearchCommand() {
+        SearchCommand expectedSearchCommand =
+                new SearchCommand(new SearchKeywordsPredicate(List.of("alice", "example")));
+        assertParseSuccess(parser, "Alice example", expectedSearchCommand);
+
+        // multiple whitespaces and punctuation between keywords
+        assertParseSuccess(parser, " \n ALICE@ \t example  \t", expectedSearchCommand);
+    }
+}
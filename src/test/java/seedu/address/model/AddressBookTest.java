@@ -2,6 +2,8 @@ package seedu.address.model;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static seedu.address.logic.commands.CommandTestUtil.VALID_ADDRESS_BOB;
 import static seedu.address.logic.commands.CommandTestUtil.VALID_APPOINTMENT_FRIDAY;
@@ -9,21 +11,31 @@ import static seedu.address.logic.commands.CommandTestUtil.VALID_TAG_HUSBAND;
 import static seedu.address.testutil.Assert.assertThrows;
 import static seedu.address.testutil.TypicalPersons.ALICE;
 import static seedu.address.testutil.TypicalPersons.BENSON;
+import static seedu.address.testutil.TypicalPersons.CARL;
 import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
 
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.List;
+import java.util.Set;
 
 import org.junit.jupiter.api.Test;
 
 import javafx.collections.FXCollections;
+import javafx.collections.ListChangeListener;
 import javafx.collections.ObservableList;
 import seedu.address.model.appointment.Appointment;
+import seedu.address.model.person.LessonGroup;
+import seedu.address.model.person.Level;
 import seedu.address.model.person.Person;
+import seedu.address.model.person.PersonFilter;
+import seedu.address.model.person.SearchKeywordsPredicate;
+import seedu.address.model.person.Subject;
 import seedu.address.model.person.exceptions.DuplicatePersonException;
 import seedu.address.model.person.exceptions.PersonNotFoundException;
+import seedu.address.model.tag.Tag;
 import seedu.address.testutil.PersonBuilder;
 
 public class AddressBookTest {
@@ -60,6 +72,20 @@ public class AddressBookTest {
         assertThrows(DuplicatePersonException.class, () -> addressBook.resetData(newData));
     }
 
+    @Test
+    public void getVersion_afterModification_changes() {
+        long initialVersion = addressBook.getVersion();
+        addressBook.hasPerson(ALICE);
+        assertEquals(initialVersion, addressBook.getVersion());
+
+        addressBook.addPerson(ALICE);
+        long versionAfterAdd = addressBook.getVersion();
+        assertNotEquals(initialVersion, versionAfterAdd);
+
+        addressBook.removePerson(ALICE);
+        assertNotEquals(versionAfterAdd, addressBook.getVersion());
+    }
+
     @Test
     public void hasPerson_nullPerson_throwsNullPointerException() {
         assertThrows(NullPointerException.class, () -> addressBook.hasPerson(null));
@@ -117,6 +143,218 @@ public class AddressBookTest {
         assertThrows(PersonNotFoundException.class, () -> addressBook.removePerson(ALICE));
     }
 
+    @Test
+    public void setPerson_personWithSeveralAppointments_appointmentsSortedWithOneChange() {
+        Person alice = new PersonBuilder(ALICE).withAppointments("10:00-11:00 WED").build();
+        Person benson = new PersonBuilder(BENSON).withAppointments("09:00-10:00 MON", "14:00-15:00 FRI").build();
+        addressBook.addPerson(alice);
+        addressBook.addPerson(benson);
+        List<Integer> changes = new ArrayList<>();
+        addressBook.getAppointmentList().addListener((ListChangeListener<Appointment>) c -> changes.add(1));
+
+        Person editedBenson = new PersonBuilder(benson)
+                .withAppointments("08:00-09:00 SUN", "12:00-13:00 WED", "09:00-10:00 MON").build();
+        addressBook.setPerson(benson, editedBenson);
+
+        assertEquals(Arrays.asList(new Appointment("09:00-10:00 MON"), new Appointment("10:00-11:00 WED"),
+                new Appointment("12:00-13:00 WED"), new Appointment("08:00-09:00 SUN")),
+                addressBook.getAppointmentList());
+        assertEquals(1, changes.size());
+    }
+
+    @Test
+    public void removePerson_personWithSeveralAppointments_oneChange() {
+        Person benson = new PersonBuilder(BENSON).withAppointments("09:00-10:00 MON", "14:00-15:00 FRI").build();
+        addressBook.addPerson(ALICE);
+        addressBook.addPerson(benson);
+        List<Integer> changes = new ArrayList<>();
+        addressBook.getAppointmentList().addListener((ListChangeListener<Appointment>) c -> changes.add(1));
+
+        addressBook.removePerson(benson);
+        assertEquals(ALICE.getAppointments().asUnmodifiableObservableList(), addressBook.getAppointmentList());
+        assertEquals(1, changes.size());
+    }
+
+    @Test
+    public void mergePersons_personsWithAppointments_mergedWithOneVersionAndNoAppointmentChange() {
+        Person alice = new PersonBuilder(ALICE).withAppointments("10:00-11:00 WED").build();
+        Person benson = new PersonBuilder(BENSON).withAppointments("09:00-10:00 MON").withLevel("P5").build();
+        addressBook.setPersons(Arrays.asList(alice, benson, CARL));
+        PersonFilter p5Filter = new PersonFilter(Set.of(), Set.of(), Set.of(new Level("P5")));
+        SearchKeywordsPredicate bensonPredicate = new SearchKeywordsPredicate(List.of("benson"));
+        addressBook.getPersonsMatching(p5Filter);
+        addressBook.getPersonsMatching(bensonPredicate);
+        List<Integer> changes = new ArrayList<>();
+        addressBook.getAppointmentList().addListener((ListChangeListener<Appointment>) c -> changes.add(1));
+        long initialVersion = addressBook.getVersion();
+
+        Person mergedAlice = new PersonBuilder(alice).withAppointments("09:00-10:00 MON", "10:00-11:00 WED")
+                .withLevel("P5").build();
+        addressBook.mergePersons(alice, benson, mergedAlice);
+
+        assertEquals(Arrays.asList(mergedAlice, CARL), addressBook.getPersonList());
+        assertEquals(Arrays.asList(new Appointment("09:00-10:00 MON"), new Appointment("10:00-11:00 WED")),
+                addressBook.getAppointmentList());
+        assertEquals(0, changes.size());
+        assertEquals(initialVersion + 1, addressBook.getVersion());
+        assertEquals(Arrays.asList(mergedAlice), addressBook.getPersonsMatching(p5Filter));
+        assertEquals(Collections.emptyList(), addressBook.getPersonsMatching(bensonPredicate));
+    }
+
+    @Test
+    public void getAppointmentOwner_afterModifications_returnsCurrentOwner() {
+        Appointment monday = new Appointment("09:00-10:00 MON");
+        Appointment wednesday = new Appointment("10:00-11:00 WED");
+        Person alice = new PersonBuilder(ALICE).withAppointments("10:00-11:00 WED").build();
+        Person benson = new PersonBuilder(BENSON).withAppointments("09:00-10:00 MON").build();
+        addressBook.setPersons(Arrays.asList(alice, CARL));
+        assertEquals(alice, addressBook.getAppointmentOwner(wednesday));
+
+        addressBook.addPerson(benson);
+        assertEquals(benson, addressBook.getAppointmentOwner(monday));
+
+        Person mergedAlice = new PersonBuilder(alice).withAppointments("09:00-10:00 MON", "10:00-11:00 WED").build();
+        addressBook.mergePersons(alice, benson, mergedAlice);
+        assertEquals(mergedAlice, addressBook.getAppointmentOwner(monday));
+        assertEquals(mergedAlice, addressBook.getAppointmentOwner(wednesday));
+
+        Person editedAlice = new PersonBuilder(mergedAlice).withAppointments("10:00-11:00 WED").build();
+        addressBook.setPerson(mergedAlice, editedAlice);
+        assertNull(addressBook.getAppointmentOwner(monday));
+        assertEquals(editedAlice, addressBook.getAppointmentOwner(wednesday));
+
+        addressBook.removePerson(editedAlice);
+        assertNull(addressBook.getAppointmentOwner(wednesday));
+    }
+
+    @Test
+    public void mergePersons_personNotInAddressBook_throwsPersonNotFoundException() {
+        addressBook.addPerson(ALICE);
+        assertThrows(PersonNotFoundException.class, () -> addressBook.mergePersons(ALICE, BENSON, ALICE));
+        assertEquals(Arrays.asList(ALICE), addressBook.getPersonList());
+    }
+
+    @Test
+    public void findLessonGroups_disjointFreeTime_differentGroups() {
+        Person freeLateInWeek = new PersonBuilder().withName("Amy").withSubjects("MATH").withLevel("P5")
+                .withAppointments("08:00-22:00 MON", "08:00-22:00 TUE", "08:00-22:00 WED", "08:00-22:00 SUN")
+                .build();
+        Person freeEarlyInWeek = new PersonBuilder().withName("Bob").withSubjects("MATH").withLevel("P5")
+                .withAppointments("09:00-22:00 THU", "08:00-22:00 FRI", "08:00-22:00 SAT").build();
+        Person otherSubject = new PersonBuilder().withName("Out").withSubjects("SCIENCE").withLevel("P5")
+                .withAppointments("08:00-09:00 THU").build();
+        List<Person> persons = new ArrayList<>(List.of(freeLateInWeek, freeEarlyInWeek, otherSubject));
+        for (int i = 0; i < 5; i++) {
+            persons.add(new PersonBuilder().withName("Free " + i).withSubjects("MATH").withLevel("P5").build());
+        }
+        addressBook.setPersons(persons);
+
+        // the two have no free time in common, and the lesson of the other person takes the tutor's Thursday morning
+        List<LessonGroup> expected = List.of(
+                new LessonGroup(List.of(freeLateInWeek, persons.get(3), persons.get(4), persons.get(5),
+                        persons.get(6)), List.of(new Appointment("09:00-22:00 THU"),
+                        new Appointment("08:00-22:00 FRI"), new Appointment("08:00-22:00 SAT"))),
+                new LessonGroup(List.of(freeEarlyInWeek, persons.get(7)), List.of(new Appointment("08:00-22:00 MON"),
+                        new Appointment("08:00-22:00 TUE"), new Appointment("08:00-22:00 WED"),
+                        new Appointment("08:00-22:00 SUN"))));
+        assertEquals(expected, addressBook.findLessonGroups(new Subject("MATH"), new Level("P5")));
+    }
+
+    @Test
+    public void getPersonsMatching_afterModifications_sameAsTestingEachPerson() {
+        Person amy = new PersonBuilder().withName("Amy").withTags("friends").withSubjects("MATH").build();
+        Person bob = new PersonBuilder().withName("Bob").withSubjects("MATH", "SCIENCE").withLevel("P5").build();
+        Person cat = new PersonBuilder().withName("Cat").withTags("friends").withLevel("P5").build();
+        Person dan = new PersonBuilder().withName("Dan").withSubjects("SCIENCE").withLevel("P6").build();
+        addressBook.setPersons(Arrays.asList(amy, bob, cat));
+        List<PersonFilter> filters = Arrays.asList(
+                new PersonFilter(Set.of(new Tag("friends")), Set.of(), Set.of()),
+                new PersonFilter(Set.of(), Set.of(new Subject("MATH")), Set.of(new Level("P5"))),
+                new PersonFilter(Set.of(), Set.of(new Subject("SCIENCE")), Set.of(new Level("P5"), new Level("P6"))),
+                new PersonFilter(Set.of(new Tag("enemies")), Set.of(), Set.of()));
+        assertMatchingSameAsTestingEachPerson(filters);
+
+        addressBook.addPerson(dan);
+        assertMatchingSameAsTestingEachPerson(filters);
+
+        Person editedBob = new PersonBuilder(bob).withTags("friends").withSubjects("ENGLISH").build();
+        addressBook.setPerson(bob, editedBob);
+        assertMatchingSameAsTestingEachPerson(filters);
+
+        addressBook.removePerson(amy);
+        assertMatchingSameAsTestingEachPerson(filters);
+        assertEquals(Arrays.asList(editedBob, cat), addressBook.getPersonsMatching(filters.get(0)));
+    }
+
+    @Test
+    public void getPersonsMatchingKeywords_afterModifications_sameAsTestingEachPerson() {
+        Person amy = new PersonBuilder().withName("Amy Tan").withAddress("Clementi Ave").build();
+        Person bob = new PersonBuilder().withName("Bob Tan").withAddress("Tampines Street").build();
+        Person cat = new PersonBuilder().withName("Cat Lim").withEmail("cat@tanglin.com").build();
+        addressBook.setPersons(Arrays.asList(amy, bob, cat));
+        List<SearchKeywordsPredicate> predicates = Arrays.asList(
+                new SearchKeywordsPredicate(List.of("tan")),
+                new SearchKeywordsPredicate(List.of("ta")),
+                new SearchKeywordsPredicate(List.of("ta", "clem")),
+                new SearchKeywordsPredicate(List.of("zzz")));
+        assertKeywordsMatchingSameAsTestingEachPerson(predicates);
+
+        Person dan = new PersonBuilder().withName("Dan Tay").withAddress("Clementi Road").build();
+        addressBook.addPerson(dan);
+        assertKeywordsMatchingSameAsTestingEachPerson(predicates);
+
+        Person editedBob = new PersonBuilder(bob).withName("Bob Lee").build();
+        addressBook.setPerson(bob, editedBob);
+        assertKeywordsMatchingSameAsTestingEachPerson(predicates);
+
+        addressBook.removePerson(amy);
+        assertKeywordsMatchingSameAsTestingEachPerson(predicates);
+        assertEquals(Arrays.asList(editedBob, cat, dan), addressBook.getPersonsMatching(predicates.get(1)));
+
+        // few matches in a larger book
+        for (int i = 0; i < 40; i++) {
+            addressBook.addPerson(new PersonBuilder().withName("Extra " + i).build());
+        }
+        addressBook.setPerson(cat, new PersonBuilder(cat).withName("Cat Tan").build());
+        assertKeywordsMatchingSameAsTestingEachPerson(predicates);
+    }
+
+    @Test
+    public void getPersonsMatchingKeywords_modifiedThroughEqualPersons_sameAsTestingEachPerson() {
+        Person amy = new PersonBuilder().withName("Amy Tan").withAddress("Clementi Ave").build();
+        Person bob = new PersonBuilder().withName("Bob Tan").withAddress("Tampines Street").build();
+        Person cat = new PersonBuilder().withName("Cat Lim").withEmail("cat@tanglin.com").build();
+        addressBook.setPersons(Arrays.asList(amy, bob, cat));
+        List<SearchKeywordsPredicate> predicates = Arrays.asList(
+                new SearchKeywordsPredicate(List.of("tan")),
+                new SearchKeywordsPredicate(List.of("ta", "clem")));
+        assertKeywordsMatchingSameAsTestingEachPerson(predicates);
+
+        // persons equal to those in the address book, but not the same instances
+        Person editedBob = new PersonBuilder(bob).withName("Bob Lee").build();
+        addressBook.setPerson(new PersonBuilder(bob).build(), editedBob);
+        assertKeywordsMatchingSameAsTestingEachPerson(predicates);
+
+        addressBook.removePerson(new PersonBuilder(amy).build());
+        assertKeywordsMatchingSameAsTestingEachPerson(predicates);
+
+        Person mergedCat = new PersonBuilder(cat).withAddress("Tanjong Pagar").build();
+        addressBook.mergePersons(new PersonBuilder(cat).build(), new PersonBuilder(editedBob).build(), mergedCat);
+        assertKeywordsMatchingSameAsTestingEachPerson(predicates);
+        assertEquals(List.of(mergedCat), addressBook.getPersonsMatching(predicates.get(0)));
+    }
+
+    private void assertKeywordsMatchingSameAsTestingEachPerson(List<SearchKeywordsPredicate> predicates) {
+        for (SearchKeywordsPredicate predicate : predicates) {
+            assertEquals(addressBook.getPersonList().filtered(predicate), addressBook.getPersonsMatching(predicate));
+        }
+    }
+
+    private void assertMatchingSameAsTestingEachPerson(List<PersonFilter> filters) {
+        for (PersonFilter filter : filters) {
+            assertEquals(addressBook.getPersonList().filtered(filter), addressBook.getPersonsMatching(filter));
+        }
+    }
 
     @Test
     public void getPersonList_modifyList_throwsUnsupportedOperationException() {
@@ -9,17 +9,27 @@ import static seedu.address.testutil.TypicalAppointments.SUN_APPOINTMENT_10_TO_1
 import static seedu.address.testutil.TypicalAppointments.SUN_APPOINTMENT_11_TO_13;
 import static seedu.address.testutil.TypicalPersons.ALICE;
 import static seedu.address.testutil.TypicalPersons.BENSON;
+import static seedu.address.testutil.TypicalPersons.CARL;
 
 import java.nio.file.Path;
 import java.nio.file.Paths;
+import java.time.DayOfWeek;
 import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Set;
 
 import org.junit.jupiter.api.Test;
 
 import seedu.address.commons.core.GuiSettings;
 import seedu.address.model.appointment.Appointment;
 import seedu.address.model.person.NameContainsKeywordsPredicate;
+import seedu.address.model.person.Person;
+import seedu.address.model.person.PersonFilter;
+import seedu.address.model.person.SearchKeywordsPredicate;
+import seedu.address.model.tag.Tag;
 import seedu.address.testutil.AddressBookBuilder;
+import seedu.address.testutil.PersonBuilder;
 
 public class ModelManagerTest {
 
@@ -97,6 +107,53 @@ public class ModelManagerTest {
         assertThrows(UnsupportedOperationException.class, () -> modelManager.getFilteredPersonList().remove(0));
     }
 
+    @Test
+    public void updateFilteredPersonList_keywordsThenPersonsEdited_showsPersonsMatchingNow() {
+        modelManager = new ModelManager(new AddressBookBuilder().withPerson(ALICE).withPerson(BENSON)
+                .withPerson(CARL).build(), new UserPrefs());
+        modelManager.updateFilteredPersonList(new SearchKeywordsPredicate(List.of("meier")));
+        assertEquals(List.of(BENSON), modelManager.getFilteredPersonList());
+
+        Person carlMeier = new PersonBuilder(CARL).withName("Carl Meier").build();
+        modelManager.setPerson(CARL, carlMeier);
+        assertEquals(List.of(BENSON, carlMeier), modelManager.getFilteredPersonList());
+
+        Person bensonTan = new PersonBuilder(BENSON).withName("Benson Tan").build();
+        modelManager.setPerson(BENSON, bensonTan);
+        assertEquals(List.of(carlMeier), modelManager.getFilteredPersonList());
+
+        modelManager.deletePerson(carlMeier);
+        assertEquals(List.of(), modelManager.getFilteredPersonList());
+    }
+
+    @Test
+    public void updateFilteredPersonList_predicateAfterKeywords_showsPersonsPassingPredicate() {
+        modelManager = new ModelManager(new AddressBookBuilder().withPerson(ALICE).withPerson(BENSON)
+                .withPerson(CARL).build(), new UserPrefs());
+        modelManager.updateFilteredPersonList(new SearchKeywordsPredicate(List.of("meier")));
+        modelManager.updateFilteredPersonList(person -> person != BENSON);
+        assertEquals(List.of(ALICE, CARL), modelManager.getFilteredPersonList());
+
+        Person bensonTan = new PersonBuilder(BENSON).withName("Benson Tan").build();
+        modelManager.setPerson(BENSON, bensonTan);
+        assertEquals(List.of(ALICE, bensonTan, CARL), modelManager.getFilteredPersonList());
+    }
+
+    @Test
+    public void updateFilteredPersonList_filterThenPersonDeleted_showsPersonsMatchingNow() {
+        modelManager = new ModelManager(new AddressBookBuilder().withPerson(ALICE).withPerson(BENSON)
+                .withPerson(CARL).build(), new UserPrefs());
+        modelManager.updateFilteredPersonList(new PersonFilter(Set.of(new Tag("friends")), Collections.emptySet(),
+                Collections.emptySet()));
+        assertEquals(List.of(ALICE, BENSON), modelManager.getFilteredPersonList());
+
+        modelManager.deletePerson(ALICE);
+        assertEquals(List.of(BENSON), modelManager.getFilteredPersonList());
+
+        modelManager.updateFilteredPersonList(PREDICATE_SHOW_ALL_PERSONS);
+        assertEquals(List.of(BENSON, CARL), modelManager.getFilteredPersonList());
+    }
+
     //// tests for appointment
     @Test
     public void appointmentOverlaps_nullAppointment_throwsNullPointerException() {
@@ -114,6 +171,23 @@ public class ModelManagerTest {
         assertTrue(modelManager.appointmentsOverlap(SUN_APPOINTMENT_11_TO_13));
     }
 
+    @Test
+    public void getFilteredAppointmentsOn_personsFiltered_onlyAppointmentsOfPersonsShown() {
+        modelManager = new ModelManager(new AddressBookBuilder().withPerson(ALICE).withPerson(BENSON).build(),
+                new UserPrefs());
+        List<Appointment> bensonAppointments = List.of(new Appointment("12:00-13:00 SUN"));
+
+        modelManager.updateFilteredPersonList(new SearchKeywordsPredicate(List.of("meier")));
+        assertEquals(bensonAppointments, modelManager.getFilteredAppointmentsOn(List.of(DayOfWeek.SUNDAY)));
+        modelManager.updateFilteredPersonList(new SearchKeywordsPredicate(List.of("alice")));
+        assertEquals(List.of(), modelManager.getFilteredAppointmentsOn(List.of(DayOfWeek.SUNDAY)));
+
+        modelManager.updateFilteredPersonList(person -> person == BENSON);
+        assertEquals(bensonAppointments, modelManager.getFilteredAppointmentsOn(List.of(DayOfWeek.SUNDAY)));
+        modelManager.updateFilteredPersonList(PREDICATE_SHOW_ALL_PERSONS);
+        assertEquals(bensonAppointments, modelManager.getFilteredAppointmentsOn(List.of(DayOfWeek.SUNDAY)));
+    }
+
     @Test
     public void getFilteredAppointmentList_modifyList_throwsUnsupportedOperationException() {
         assertThrows(UnsupportedOperationException.class, () -> modelManager.getFilteredAppointmentList().remove(0));
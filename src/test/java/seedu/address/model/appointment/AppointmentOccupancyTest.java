@@ -0,0 +1,72 @@
+package seedu.address.model.appointment;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.Arrays;
+
+import org.junit.jupiter.api.Test;
+
+public class AppointmentOccupancyTest {
+
+    private final Appointment window = new Appointment("09:00-18:00 SUN");
+
+    @Test
+    public void setToUnion_twoOccupancies_minutesTakenInEither() {
+        AppointmentOccupancy first = new AppointmentOccupancy();
+        first.add(new Appointment("09:00-12:00 SUN"));
+        AppointmentOccupancy second = new AppointmentOccupancy();
+        second.add(new Appointment("11:00-13:00 SUN"));
+        second.add(new Appointment("14:00-18:00 SUN"));
+        AppointmentOccupancy union = new AppointmentOccupancy();
+        union.add(new Appointment("10:00-12:00 MON"));
+
+        union.setToUnion(first, second);
+
+        assertEquals(Arrays.asList(new Appointment("13:00-14:00 SUN")), union.getFreeSlots(window, 1));
+        assertEquals(8 * 60, union.getTakenMinutes());
+        // the occupancies united are left unchanged
+        assertEquals(3 * 60, first.getTakenMinutes());
+        assertEquals(6 * 60, second.getTakenMinutes());
+    }
+
+    @Test
+    public void addAll_copy_originalUnchanged() {
+        AppointmentOccupancy original = new AppointmentOccupancy();
+        original.add(new Appointment("09:00-12:00 SUN"));
+        AppointmentOccupancy copy = new AppointmentOccupancy(original);
+        AppointmentOccupancy other = new AppointmentOccupancy();
+        other.add(new Appointment("12:00-18:00 SUN"));
+
+        copy.addAll(other);
+
+        assertFalse(copy.hasFreeSlot(window, 1));
+        assertTrue(original.hasFreeSlot(window, 6 * 60));
+    }
+
+    @Test
+    public void hasFreeSlot_gapsInWindow_trueOnlyForGapsLongEnough() {
+        AppointmentOccupancy occupancy = new AppointmentOccupancy();
+        occupancy.add(new Appointment("08:00-10:00 SUN"));
+        occupancy.add(new Appointment("10:30-12:00 SUN"));
+        occupancy.add(new Appointment("13:00-17:00 SUN"));
+
+        // the longest gaps are 12:00-13:00 and 17:00-18:00, as the window ends at 18:00
+        assertTrue(occupancy.hasFreeSlot(window, 60));
+        assertFalse(occupancy.hasFreeSlot(window, 61));
+        assertTrue(occupancy.hasFreeSlot(new Appointment("00:00-23:59 SAT"), 23 * 60 + 59));
+    }
+
+    @Test
+    public void countFreeSlots_gapsInWindow_slotsFittingSideBySide() {
+        AppointmentOccupancy occupancy = new AppointmentOccupancy();
+        occupancy.add(new Appointment("10:00-10:30 SUN"));
+        occupancy.add(new Appointment("12:00-13:00 SUN"));
+
+        // 09:00-10:00, 10:30-12:00 and 13:00-18:00
+        assertEquals(1 + 1 + 5, occupancy.countFreeSlots(window, 60));
+        assertEquals(2 + 3 + 10, occupancy.countFreeSlots(window, 30));
+        assertEquals(0, occupancy.countFreeSlots(window, 6 * 60));
+    }
+}
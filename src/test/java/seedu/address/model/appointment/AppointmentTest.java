@@ -1,11 +1,18 @@
 package seedu.address.model.appointment;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static seedu.address.testutil.Assert.assertThrows;
 
+import java.time.DayOfWeek;
+import java.time.LocalTime;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
 
 import org.junit.jupiter.api.Test;
 
@@ -43,6 +50,11 @@ public class AppointmentTest {
         assertFalse(Appointment.isValidAppointment("22:30-26:70 MON")); // invalid range for HH and mm
         assertFalse(Appointment.isValidAppointment("23:00-22:00 MON")); // start time not before end time
         assertFalse(Appointment.isValidAppointment("23:59-23:59 MON")); // start time equals end time
+        assertFalse(Appointment.isValidAppointment("10:00-11:00 MON ")); // trailing whitespace
+        assertFalse(Appointment.isValidAppointment("10:00-11:00 MONDAY")); // day not abbreviated
+        assertFalse(Appointment.isValidAppointment("10:00-11:00 FR\u0131")); // not an ASCII letter
+        assertFalse(Appointment.isValidAppointment("1a:00-11:00 MON")); // not a digit
+        assertFalse(Appointment.isValidAppointment("10:00+11:00 MON")); // no dash between times
 
         // valid Appointments
         assertTrue(Appointment.isValidAppointment("13:59-14:00 TUE")); // matches HH:mm DAY
@@ -54,6 +66,8 @@ public class AppointmentTest {
         assertTrue(Appointment.isValidAppointment("03:15-04:30 fRI")); // DAY can be in lower and upper case
         assertTrue(Appointment.isValidAppointment("03:15-04:30 Fri")); // DAY can be in lower and upper case
         assertTrue(Appointment.isValidAppointment("03:15-04:30 fRi")); // DAY can be in lower and upper case
+        assertTrue(Appointment.isValidAppointment("03:15-04:30 \t SAT")); // any whitespace before DAY
+        assertTrue(Appointment.isValidAppointment("00:00-23:59 MON")); // whole day
 
     }
 
@@ -140,4 +154,99 @@ public class AppointmentTest {
         assertFalse(Appointment.hasOverlapping(appointments));
     }
 
+    @Test
+    public void hasOverlapping_overlapNotBetweenNeighbours_returnsTrue() {
+        List<Appointment> appointments = Arrays.asList(new Appointment("13:00-13:30 MON"),
+                new Appointment("10:00-14:00 MON"), new Appointment("11:00-12:00 MON"));
+        assertTrue(Appointment.hasOverlapping(appointments));
+    }
+
+    @Test
+    public void hasOverlapping_sameTimeOnDifferentDays_returnsFalse() {
+        List<Appointment> appointments = Arrays.asList(new Appointment("10:00-12:00 TUE"),
+                new Appointment("10:00-12:00 MON"), new Appointment("11:00-13:00 WED"));
+        assertFalse(Appointment.hasOverlapping(appointments));
+    }
+
+    @Test
+    public void findConflicts_noOverlappingAppointments_returnsEmptyList() {
+        List<Appointment> appointments = Arrays.asList(new Appointment("10:00-12:00 MON"),
+                new Appointment("12:00-13:00 MON"), new Appointment("11:00-12:00 TUE"));
+        assertEquals(Collections.emptyList(), Appointment.findConflicts(appointments));
+    }
+
+    @Test
+    public void findConflicts_overlappingAppointments_returnsEveryPair() {
+        Appointment longLesson = new Appointment("10:00-14:00 MON");
+        Appointment firstShortLesson = new Appointment("11:00-12:00 MON");
+        Appointment secondShortLesson = new Appointment("11:30-13:00 MON");
+        Appointment laterLesson = new Appointment("13:00-15:00 MON");
+        Appointment otherDayLesson = new Appointment("10:00-14:00 TUE");
+        List<Appointment> appointments = Arrays.asList(laterLesson, otherDayLesson, secondShortLesson,
+                longLesson, firstShortLesson);
+
+        List<AppointmentConflict> expected = Arrays.asList(
+                new AppointmentConflict(longLesson, firstShortLesson),
+                new AppointmentConflict(longLesson, secondShortLesson),
+                new AppointmentConflict(firstShortLesson, secondShortLesson),
+                new AppointmentConflict(longLesson, laterLesson));
+        assertEquals(expected, Appointment.findConflicts(appointments));
+    }
+
+    @Test
+    public void equals_sameSlotWrittenDifferently_returnsTrue() {
+        Appointment appointment = new Appointment("09:30-11:00 MON");
+        Appointment sameSlot = new Appointment("09:30-11:00   mon");
+        assertEquals(appointment, sameSlot);
+        assertEquals(appointment.hashCode(), sameSlot.hashCode());
+        assertEquals("09:30-11:00 MON", sameSlot.toString());
+    }
+
+    @Test
+    public void compareTo_appointmentsOnDifferentDays_orderedByDayThenStart() {
+        List<Appointment> appointments = Arrays.asList(new Appointment("08:00-09:00 SUN"),
+                new Appointment("10:00-12:00 MON"), new Appointment("10:00-11:00 MON"),
+                new Appointment("23:00-23:59 SAT"));
+        appointments.sort(null);
+        assertEquals(Arrays.asList(new Appointment("10:00-11:00 MON"), new Appointment("10:00-12:00 MON"),
+                new Appointment("23:00-23:59 SAT"), new Appointment("08:00-09:00 SUN")), appointments);
+    }
+
+    @Test
+    public void fromMinutesOfWeek_validMinutes_sameAsParsed() {
+        Appointment appointment = new Appointment("13:05-14:00 WED");
+        assertEquals(2 * Appointment.MINUTES_PER_DAY + 13 * 60 + 5, appointment.getStartMinuteOfWeek());
+        assertEquals(appointment, Appointment.fromMinutesOfWeek(appointment.getStartMinuteOfWeek(),
+                appointment.getEndMinuteOfWeek()));
+        assertEquals(DayOfWeek.WEDNESDAY, appointment.getDay());
+        assertEquals(LocalTime.of(13, 5), appointment.getStartTime());
+    }
+
+    @Test
+    public void fromMinutesOfWeek_invalidMinutes_throwsIllegalArgumentException() {
+        // ends before it starts
+        assertThrows(IllegalArgumentException.class, () -> Appointment.fromMinutesOfWeek(60, 60));
+        // ends on the next day
+        assertThrows(IllegalArgumentException.class, () -> Appointment.fromMinutesOfWeek(
+                Appointment.MINUTES_PER_DAY - 60, Appointment.MINUTES_PER_DAY + 60));
+        // beyond the end of the week
+        assertThrows(IllegalArgumentException.class, () -> Appointment.fromMinutesOfWeek(
+                Appointment.MINUTES_PER_WEEK, Appointment.MINUTES_PER_WEEK + 60));
+    }
+
+    @Test
+    public void of_sameSlot_sameInstance() {
+        Appointment appointment = Appointment.of("09:30-11:00 MON");
+        assertSame(appointment, Appointment.of("09:30-11:00  mon"));
+        assertSame(appointment, Appointment.fromMinutesOfWeek(appointment.getStartMinuteOfWeek(),
+                appointment.getEndMinuteOfWeek()));
+        assertEquals(new Appointment("09:30-11:00 MON"), appointment);
+    }
+
+    @Test
+    public void of_invalidAppointment_throwsIllegalArgumentException() {
+        assertThrows(NullPointerException.class, () -> Appointment.of(null));
+        assertThrows(IllegalArgumentException.class, () -> Appointment.of("11:00-09:30 MON"));
+    }
+
 }
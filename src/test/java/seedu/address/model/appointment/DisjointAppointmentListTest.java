@@ -5,6 +5,7 @@ import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static seedu.address.testutil.Assert.assertThrows;
 
+import java.time.DayOfWeek;
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.List;
@@ -131,6 +132,159 @@ public class DisjointAppointmentListTest {
                 .setAppointment(sundayAppointment, sundayOverlappingAppointment));
     }
 
+    @Test
+    public void overlaps_appointmentsOnSameDay_onlyIntersectingSlotsOverlap() {
+        appointmentList.setAppointments(Arrays.asList(new Appointment("08:00-09:00 SUN"), sundayAppointment,
+                new Appointment("14:00-15:00 SUN")));
+        assertTrue(appointmentList.overlaps(new Appointment("11:59-13:00 SUN")));
+        assertTrue(appointmentList.overlaps(new Appointment("07:00-16:00 SUN")));
+        assertFalse(appointmentList.overlaps(new Appointment("12:00-14:00 SUN")));
+        assertFalse(appointmentList.overlaps(new Appointment("10:00-12:00 MON")));
+    }
+
+    @Test
+    public void getOverlapping_slotSpanningSeveralAppointments_returnsThemInOrder() {
+        Appointment early = new Appointment("08:00-09:00 SUN");
+        Appointment late = new Appointment("14:00-15:00 SUN");
+        appointmentList.setAppointments(Arrays.asList(late, fridayAppointment, early, sundayAppointment));
+        assertEquals(Arrays.asList(sundayAppointment, late),
+                appointmentList.getOverlapping(new Appointment("11:00-14:30 SUN")));
+        assertEquals(Collections.emptyList(), appointmentList.getOverlapping(new Appointment("09:00-10:00 SUN")));
+    }
+
+    @Test
+    public void setAppointment_editedAppointmentIsDifferent_indexUpdated() {
+        appointmentList.add(sundayAppointment);
+        appointmentList.setAppointment(sundayAppointment, fridayAppointment);
+        assertFalse(appointmentList.overlaps(sundayAppointment));
+        assertTrue(appointmentList.overlaps(fridayAppointment));
+    }
+
+    @Test
+    public void setAppointment_overlappingAppointment_targetKept() {
+        appointmentList.add(sundayAppointment);
+        appointmentList.add(new Appointment("12:00-14:00 SUN"));
+        assertThrows(OverlappingAppointmentException.class, () -> appointmentList
+                .setAppointment(sundayAppointment, new Appointment("11:00-13:00 SUN")));
+        assertTrue(appointmentList.overlaps(new Appointment("10:00-11:00 SUN")));
+    }
+
+    @Test
+    public void addAll_overlappingAppointment_listUnchanged() {
+        appointmentList.add(sundayAppointment);
+        Appointment monday = new Appointment("10:00-12:00 MON");
+        assertThrows(OverlappingAppointmentException.class, () -> appointmentList
+                .addAll(Arrays.asList(monday, sundayOverlappingAppointment)));
+        assertFalse(appointmentList.overlaps(monday));
+        assertEquals(Collections.singletonList(sundayAppointment), appointmentList.asUnmodifiableObservableList());
+    }
+
+    @Test
+    public void remove_existingAppointment_noLongerOverlaps() {
+        appointmentList.add(sundayAppointment);
+        appointmentList.remove(sundayAppointment);
+        assertFalse(appointmentList.overlaps(sundayOverlappingAppointment));
+    }
+
+    @Test
+    public void add_appointmentsOutOfOrder_keptInOrder() {
+        appointmentList.add(sundayAppointment);
+        appointmentList.add(fridayAppointment);
+        appointmentList.add(new Appointment("08:00-09:00 SUN"));
+        assertEquals(Arrays.asList(fridayAppointment, new Appointment("08:00-09:00 SUN"), sundayAppointment),
+                appointmentList.asUnmodifiableObservableList());
+    }
+
+    @Test
+    public void setAppointment_editedAppointmentMovesPosition_keptInOrder() {
+        Appointment monday = new Appointment("10:00-12:00 MON");
+        appointmentList.setAppointments(Arrays.asList(sundayAppointment, monday));
+        appointmentList.setAppointment(monday, new Appointment("13:00-14:00 SUN"));
+        assertEquals(Arrays.asList(sundayAppointment, new Appointment("13:00-14:00 SUN")),
+                appointmentList.asUnmodifiableObservableList());
+    }
+
+    @Test
+    public void replaceAppointments_overlappingAppointment_listUnchanged() {
+        Appointment monday = new Appointment("10:00-12:00 MON");
+        appointmentList.setAppointments(Arrays.asList(sundayAppointment, monday));
+        assertThrows(OverlappingAppointmentException.class, () -> appointmentList.replaceAppointments(
+                Collections.singletonList(monday), Arrays.asList(fridayAppointment, sundayOverlappingAppointment)));
+
+        assertEquals(Arrays.asList(monday, sundayAppointment), appointmentList.asUnmodifiableObservableList());
+        assertTrue(appointmentList.overlaps(monday));
+        assertFalse(appointmentList.overlaps(fridayAppointment));
+    }
+
+    @Test
+    public void replaceAppointments_appointmentNotInList_throwsAppointmentNotFoundException() {
+        appointmentList.add(sundayAppointment);
+        assertThrows(AppointmentNotFoundException.class, () -> appointmentList.replaceAppointments(
+                Collections.singletonList(fridayAppointment), Collections.emptyList()));
+    }
+
+    @Test
+    public void getAppointmentsOn_appointmentsOnSeveralDays_returnsAppointmentsOnDayInOrder() {
+        Appointment lateSundayAppointment = new Appointment("22:00-23:59 SUN");
+        Appointment earlySundayAppointment = new Appointment("00:00-01:00 SUN");
+        appointmentList.addAll(Arrays.asList(lateSundayAppointment, fridayAppointment, sundayAppointment,
+                earlySundayAppointment));
+
+        assertEquals(Arrays.asList(earlySundayAppointment, sundayAppointment, lateSundayAppointment),
+                appointmentList.getAppointmentsOn(DayOfWeek.SUNDAY));
+        assertEquals(Arrays.asList(fridayAppointment), appointmentList.getAppointmentsOn(DayOfWeek.FRIDAY));
+        assertEquals(Collections.emptyList(), appointmentList.getAppointmentsOn(DayOfWeek.SATURDAY));
+        assertEquals(Collections.emptyList(), appointmentList.getAppointmentsOn(DayOfWeek.MONDAY));
+    }
+
+    @Test
+    public void getFreeSlots_appointmentsInAndAroundWindow_returnsGapsInWindow() {
+        appointmentList.addAll(Arrays.asList(new Appointment("08:00-10:00 SUN"), sundayAppointment,
+                new Appointment("12:30-13:00 SUN"), new Appointment("17:00-19:00 SUN"), fridayAppointment));
+        Appointment window = new Appointment("09:00-18:00 SUN");
+
+        assertEquals(Arrays.asList(new Appointment("12:00-12:30 SUN"), new Appointment("13:00-17:00 SUN")),
+                appointmentList.getFreeSlots(window, 1));
+        assertEquals(Arrays.asList(new Appointment("13:00-17:00 SUN")), appointmentList.getFreeSlots(window, 31));
+        assertEquals(Collections.emptyList(), appointmentList.getFreeSlots(window, 241));
+        assertEquals(Arrays.asList(new Appointment("00:00-23:59 SAT")),
+                appointmentList.getFreeSlots(new Appointment("00:00-23:59 SAT"), 1));
+    }
+
+    @Test
+    public void getBookedMinutes_afterChanges_minutesOfAppointmentsOnDay() {
+        appointmentList.addAll(Arrays.asList(sundayAppointment, fridayAppointment,
+                new Appointment("00:00-23:59 SAT"), new Appointment("22:00-23:59 SUN")));
+        assertEquals(120 + 119, appointmentList.getBookedMinutes(DayOfWeek.SUNDAY));
+        assertEquals(23 * 60 + 59, appointmentList.getBookedMinutes(DayOfWeek.SATURDAY));
+        assertEquals(0, appointmentList.getBookedMinutes(DayOfWeek.MONDAY));
+
+        appointmentList.replaceAppointments(Arrays.asList(sundayAppointment),
+                Arrays.asList(new Appointment("10:30-11:00 SUN"), new Appointment("09:00-10:00 MON")));
+        assertEquals(30 + 119, appointmentList.getBookedMinutes(DayOfWeek.SUNDAY));
+        assertEquals(60, appointmentList.getBookedMinutes(DayOfWeek.MONDAY));
+
+        appointmentList.remove(fridayAppointment);
+        assertEquals(0, appointmentList.getBookedMinutes(DayOfWeek.FRIDAY));
+    }
+
+    @Test
+    public void overlaps_afterRemovingAndReplacingAppointments_onlyRemainingAppointmentsTaken() {
+        appointmentList.setAppointments(Arrays.asList(sundayAppointment, fridayAppointment));
+        appointmentList.replaceAppointments(Arrays.asList(sundayAppointment, fridayAppointment),
+                Arrays.asList(sundayOverlappingAppointment));
+
+        assertFalse(appointmentList.overlaps(new Appointment("10:00-11:00 SUN")));
+        assertTrue(appointmentList.overlaps(new Appointment("10:00-11:01 SUN")));
+        assertFalse(appointmentList.overlaps(fridayAppointment));
+
+        DisjointAppointmentList copy = new DisjointAppointmentList();
+        copy.setAppointments(appointmentList);
+        appointmentList.remove(sundayOverlappingAppointment);
+        assertFalse(appointmentList.overlaps(sundayOverlappingAppointment));
+        assertTrue(copy.overlaps(sundayOverlappingAppointment));
+    }
+
     @Test
     public void setAppointments_overlappingAppointment_throwsOverlappingAppointmentException() {
         // Create a list with an overlapping appointment
@@ -0,0 +1,104 @@
+package seedu.address.model.appointment;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Optional;
+import java.util.stream.Collectors;
+
+import org.junit.jupiter.api.Test;
+
+public class TimetableSolverTest {
+
+    private final AppointmentOccupancy taken = new AppointmentOccupancy();
+
+    @Test
+    public void solve_null_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> TimetableSolver.solve(null, Collections.emptyList()));
+        assertThrows(NullPointerException.class, () -> TimetableSolver.solve(taken, null));
+    }
+
+    @Test
+    public void solve_noRequests_returnsEmptyList() {
+        assertEquals(Collections.emptyList(), TimetableSolver.solve(taken, Collections.emptyList()));
+    }
+
+    @Test
+    public void solve_requestsFit_earliestSlotsWithoutOverlaps() {
+        List<LessonRequest> requests = List.of(request(60, "14:00-16:00 MON"), request(60, "14:00-16:00 MON"));
+        assertEquals(slots("14:00-15:00 MON", "15:00-16:00 MON"), TimetableSolver.solve(taken, requests));
+    }
+
+    @Test
+    public void solve_minutesTaken_slotsAfterTakenMinutes() {
+        taken.add(new Appointment("14:00-14:40 MON"));
+        taken.add(new Appointment("09:00-18:00 TUE"));
+        List<LessonRequest> requests = List.of(request(60, "14:00-16:00 MON"), request(30, "14:00-16:00 TUE"),
+                request(30, "14:00-16:00 MON", "17:00-19:00 TUE"));
+        // lessons start after the minutes taken, or on a quarter hour
+        assertEquals(slots("14:40-15:40 MON", null, "18:00-18:30 TUE"), TimetableSolver.solve(taken, requests));
+    }
+
+    @Test
+    public void solve_notAllFit_mostLessonsScheduled() {
+        // scheduling the first lesson at its earliest slot would leave room for only one more lesson
+        List<LessonRequest> requests = List.of(request(60, "14:00-16:00 MON"), request(60, "14:00-15:00 MON"),
+                request(120, "14:00-16:00 MON"));
+        assertEquals(slots("15:00-16:00 MON", "14:00-15:00 MON", null), TimetableSolver.solve(taken, requests));
+    }
+
+    @Test
+    public void solve_asManyLessonsEitherWay_mostMinutesScheduled() {
+        List<LessonRequest> requests = List.of(request(30, "14:00-15:00 MON"), request(60, "14:00-15:00 MON"));
+        assertEquals(slots(null, "14:00-15:00 MON"), TimetableSolver.solve(taken, requests));
+    }
+
+    @Test
+    public void solve_tooManyRequests_timetableFilledWithinBudget() {
+        List<LessonRequest> requests = new ArrayList<>();
+        for (int i = 0; i < 12; i++) {
+            requests.add(request(60, "08:00-18:00 WED"));
+        }
+
+        List<Appointment> scheduled = TimetableSolver.solve(taken, requests, 200).stream()
+                .flatMap(Optional::stream)
+                .collect(Collectors.toList());
+
+        assertEquals(10, scheduled.size());
+        assertFalse(Appointment.hasOverlapping(scheduled));
+    }
+
+    @Test
+    public void solve_solvedTwice_sameSlots() {
+        List<LessonRequest> requests = new ArrayList<>();
+        for (int i = 0; i < 4; i++) {
+            requests.add(request(45, "14:00-17:00 THU", "16:00-18:00 FRI"));
+        }
+        requests.add(request(90, "16:00-17:30 THU"));
+
+        List<Optional<Appointment>> slots = TimetableSolver.solve(taken, requests);
+        assertTrue(slots.stream().allMatch(Optional::isPresent));
+        assertEquals(slots, TimetableSolver.solve(taken, requests));
+    }
+
+    private static LessonRequest request(int duration, String... windows) {
+        List<Appointment> windowList = new ArrayList<>();
+        for (String window : windows) {
+            windowList.add(new Appointment(window));
+        }
+        return new LessonRequest(duration, windowList);
+    }
+
+    private static List<Optional<Appointment>> slots(String... slots) {
+        List<Optional<Appointment>> slotList = new ArrayList<>();
+        for (String slot : slots) {
+            slotList.add(Optional.ofNullable(slot).map(Appointment::new));
+        }
+        return slotList;
+    }
+}
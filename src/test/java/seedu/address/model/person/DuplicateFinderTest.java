@@ -0,0 +1,76 @@
+package seedu.address.model.person;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static seedu.address.testutil.Assert.assertThrows;
+import static seedu.address.testutil.TypicalPersons.ALICE;
+import static seedu.address.testutil.TypicalPersons.getTypicalPersons;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.testutil.PersonBuilder;
+
+public class DuplicateFinderTest {
+
+    @Test
+    public void findDuplicates_null_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> DuplicateFinder.findDuplicates(null));
+    }
+
+    @Test
+    public void findDuplicates_noDuplicates_returnsEmptyList() {
+        assertEquals(Collections.emptyList(), DuplicateFinder.findDuplicates(Collections.emptyList()));
+        assertEquals(Collections.emptyList(), DuplicateFinder.findDuplicates(getTypicalPersons()));
+    }
+
+    @Test
+    public void findDuplicates_duplicates_returnsMostLikelyFirst() {
+        Person johnTan = new PersonBuilder().withName("John Tan").withPhone("91234567").withEmail("jt@example.com")
+                .build();
+        Person jonTan = new PersonBuilder().withName("Jon Tan").withPhone("91234567").withEmail("JT@example.com")
+                .build();
+        Person aliceTan = new PersonBuilder().withName("Alice Tan").withPhone("91234567").removeEmail().build();
+        Person alicePaulin = new PersonBuilder().withName("alice paulin").withPhone("81234567").removeEmail()
+                .build();
+        List<Person> persons = new ArrayList<>(getTypicalPersons());
+        persons.add(0, johnTan);
+        persons.add(jonTan);
+        persons.add(aliceTan);
+        persons.add(alicePaulin);
+
+        List<DuplicateCandidate> duplicates = DuplicateFinder.findDuplicates(persons);
+
+        assertEquals(2, duplicates.size());
+        DuplicateCandidate first = duplicates.get(0);
+        assertSame(johnTan, first.getFirst());
+        assertSame(jonTan, first.getSecond());
+        assertEquals(List.of("similar names", "same phone", "same email"), first.getReasons());
+        assertEquals(DuplicateFinder.NAME_WEIGHT * (1 - 1.0 / 7) + DuplicateFinder.PHONE_WEIGHT
+                + DuplicateFinder.EMAIL_WEIGHT, first.getScore(), 1e-9);
+
+        // persons sharing a phone whose names are not alike enough, like John Tan and Alice Tan, are not reported
+        DuplicateCandidate second = duplicates.get(1);
+        assertSame(ALICE, second.getFirst());
+        assertSame(alicePaulin, second.getSecond());
+        assertEquals(List.of("similar names"), second.getReasons());
+    }
+
+    @Test
+    public void findDuplicates_namesDifferingInFirstLetter_returnsDuplicates() {
+        // the names are far apart when sorted, but not when sorted by their reversed spelling
+        List<Person> persons = new ArrayList<>();
+        persons.add(new PersonBuilder().withName("Ahmad Rahman").removePhone().removeEmail().build());
+        for (int i = 0; i < 20; i++) {
+            persons.add(new PersonBuilder().withName("Bernard Lim " + i).removePhone().removeEmail().build());
+        }
+        persons.add(new PersonBuilder().withName("Chmad Rahman").removePhone().removeEmail().build());
+
+        assertEquals(1, DuplicateFinder.findDuplicates(persons).stream()
+                .filter(duplicate -> duplicate.getFirst() == persons.get(0) && duplicate.getSecond() == persons.get(21))
+                .count());
+    }
+}
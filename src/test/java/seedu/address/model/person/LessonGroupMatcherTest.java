@@ -0,0 +1,121 @@
+package seedu.address.model.person;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static seedu.address.testutil.Assert.assertThrows;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.model.appointment.Appointment;
+import seedu.address.model.appointment.AppointmentOccupancy;
+import seedu.address.testutil.PersonBuilder;
+
+public class LessonGroupMatcherTest {
+
+    private static final String[] DAYS = {"MON", "TUE", "WED", "THU", "FRI", "SAT", "SUN"};
+
+    private final AppointmentOccupancy noneTaken = new AppointmentOccupancy();
+
+    @Test
+    public void findGroups_null_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> LessonGroupMatcher.findGroups(null, noneTaken));
+        assertThrows(NullPointerException.class, () -> LessonGroupMatcher.findGroups(Collections.emptyList(), null));
+    }
+
+    @Test
+    public void findGroups_fewerThanTwoPersons_returnsEmptyList() {
+        assertEquals(Collections.emptyList(), LessonGroupMatcher.findGroups(Collections.emptyList(), noneTaken));
+        assertEquals(Collections.emptyList(), LessonGroupMatcher.findGroups(List.of(createPerson(0)), noneTaken));
+    }
+
+    @Test
+    public void findGroups_personsWithoutAppointments_groupedWithWholeTeachingHoursFree() {
+        List<Person> persons = List.of(createPerson(0), createPerson(1), createPerson(2));
+        List<Appointment> teachingHours = new ArrayList<>();
+        for (String day : DAYS) {
+            teachingHours.add(new Appointment("08:00-22:00 " + day));
+        }
+
+        assertEquals(List.of(new LessonGroup(persons, teachingHours)),
+                LessonGroupMatcher.findGroups(persons, noneTaken));
+    }
+
+    @Test
+    public void findGroups_slotsTakenInTimetable_notFree() {
+        List<Person> persons = List.of(createPerson(0), createPerson(1));
+        AppointmentOccupancy taken = new AppointmentOccupancy();
+        for (String appointment : getAppointmentsExcept("WED", "09:30")) {
+            taken.add(new Appointment(appointment));
+        }
+
+        assertEquals(List.of(new LessonGroup(persons, List.of(new Appointment("08:00-09:30 WED")))),
+                LessonGroupMatcher.findGroups(persons, taken));
+
+        // no hour free in the timetable
+        taken.add(new Appointment("08:00-09:30 WED"));
+        assertEquals(Collections.emptyList(), LessonGroupMatcher.findGroups(persons, taken));
+    }
+
+    @Test
+    public void findGroups_busyPersons_onlyGroupedWithPersonsFreeAtTheSameTime() {
+        Person busy = new PersonBuilder(createPerson(0)).withAppointments(getAppointmentsExcept("MON", "09:00"))
+                .build();
+        Person busyOnMondayMorning = new PersonBuilder(createPerson(1)).withAppointments("08:00-09:00 MON").build();
+        Person free = createPerson(2);
+
+        assertEquals(List.of(new LessonGroup(List.of(free, busy), List.of(new Appointment("08:00-09:00 MON")))),
+                LessonGroupMatcher.findGroups(List.of(free, busyOnMondayMorning, busy), noneTaken));
+    }
+
+    @Test
+    public void findGroups_morePersonsThanGroupSize_largestGroupFirst() {
+        List<Person> persons = new ArrayList<>();
+        for (int i = 0; i < LessonGroupMatcher.MAX_GROUP_SIZE + 2; i++) {
+            persons.add(createPerson(i));
+        }
+
+        List<LessonGroup> groups = LessonGroupMatcher.findGroups(persons, noneTaken);
+
+        assertEquals(2, groups.size());
+        assertEquals(persons.subList(0, LessonGroupMatcher.MAX_GROUP_SIZE), groups.get(0).getMembers());
+        assertEquals(persons.subList(LessonGroupMatcher.MAX_GROUP_SIZE, persons.size()), groups.get(1).getMembers());
+    }
+
+    @Test
+    public void findGroups_groupsOfSameSize_mostFreeTimeFirst() {
+        Person freeOnMondayMorning = new PersonBuilder(createPerson(0))
+                .withAppointments(getAppointmentsExcept("MON", "09:00")).build();
+        Person freeOnTuesdayMorning = new PersonBuilder(createPerson(1))
+                .withAppointments(getAppointmentsExcept("TUE", "10:00")).build();
+        List<Person> persons = new ArrayList<>(List.of(freeOnMondayMorning, freeOnTuesdayMorning));
+        for (int i = 2; i < 2 * LessonGroupMatcher.MAX_GROUP_SIZE; i++) {
+            persons.add(createPerson(i));
+        }
+
+        List<LessonGroup> groups = LessonGroupMatcher.findGroups(persons, noneTaken);
+
+        assertEquals(2, groups.size());
+        List<Person> tuesdayGroup = new ArrayList<>(List.of(freeOnTuesdayMorning));
+        tuesdayGroup.addAll(persons.subList(LessonGroupMatcher.MAX_GROUP_SIZE + 1, persons.size()));
+        assertEquals(new LessonGroup(tuesdayGroup, List.of(new Appointment("08:00-10:00 TUE"))), groups.get(0));
+        assertEquals(60, groups.get(1).getFreeMinutes());
+    }
+
+    /**
+     * Returns appointments taking all teaching hours except those from 08:00 to {@code freeUntil} on {@code freeDay}.
+     */
+    private static String[] getAppointmentsExcept(String freeDay, String freeUntil) {
+        String[] appointments = new String[DAYS.length];
+        for (int i = 0; i < DAYS.length; i++) {
+            appointments[i] = (DAYS[i].equals(freeDay) ? freeUntil : "08:00") + "-22:00 " + DAYS[i];
+        }
+        return appointments;
+    }
+
+    private static Person createPerson(int i) {
+        return new PersonBuilder().withName("Student " + i).withSubjects("MATH").withLevel("P5").build();
+    }
+}
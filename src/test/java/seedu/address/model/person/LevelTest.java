@@ -1,6 +1,8 @@
 package seedu.address.model.person;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
@@ -38,6 +40,13 @@ public class LevelTest {
         assertTrue(Level.isValidLevel("p1"));
     }
 
+    @Test
+    public void of_sameLevel_returnsSameInstance() {
+        assertSame(Level.of("P3"), Level.of("p3"));
+        assertEquals(new Level("P3"), Level.of("P3"));
+        assertThrows(IllegalArgumentException.class, () -> Level.of("P7"));
+    }
+
     @Test
     public void equals() {
         Level level = new Level("P1");
@@ -0,0 +1,85 @@
+package seedu.address.model.person;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.testutil.PersonBuilder;
+
+public class NameSimilarityIndexTest {
+
+    @Test
+    public void distance() {
+        assertEquals(0, NameSimilarityIndex.distance("johntan", "johntan"));
+        assertEquals(1, NameSimilarityIndex.distance("johntan", "jontan"));
+        assertEquals(1, NameSimilarityIndex.distance("johntan", "johntam"));
+        assertEquals(2, NameSimilarityIndex.distance("johntan", "ohntam"));
+        assertEquals(2, NameSimilarityIndex.distance("ab", "ba"));
+        assertEquals(3, NameSimilarityIndex.distance("", "abc"));
+    }
+
+    @Test
+    public void distance_withMaxDistance_sameAsDistanceUpToMaxDistance() {
+        List<String> words = List.of("", "a", "johntan", "jontan", "johntam", "ohntam", "tanjohn", "alicepauline",
+                "alicepaulin", "ab", "ba", "abc");
+        for (String a : words) {
+            for (String b : words) {
+                for (int maxDistance = 0; maxDistance <= 4; maxDistance++) {
+                    assertEquals(Math.min(NameSimilarityIndex.distance(a, b), maxDistance + 1),
+                            NameSimilarityIndex.distance(a, b, maxDistance), a + " " + b + " " + maxDistance);
+                }
+            }
+        }
+    }
+
+    @Test
+    public void findSimilar_afterRemovingMostNames_sameAsComparingEachName() {
+        List<Name> names = new ArrayList<>();
+        for (int i = 0; i < 200; i++) {
+            names.add(new Name("Student " + i));
+        }
+        List<Person> persons = new ArrayList<>();
+        for (Name name : names) {
+            persons.add(new PersonBuilder().withName(name.fullName).build());
+        }
+        NameSimilarityIndex index = new NameSimilarityIndex(persons);
+
+        // removing most names rebuilds the tree along the way
+        List<Name> remaining = new ArrayList<>(names);
+        for (int i = 0; i < names.size(); i += 4) {
+            for (int j = i; j < i + 3; j++) {
+                index.remove(names.get(j));
+                remaining.remove(names.get(j));
+            }
+        }
+
+        for (Name name : names) {
+            assertEquals(findSimilarByComparingEachName(remaining, name), index.findSimilar(name));
+        }
+    }
+
+    private static List<String> findSimilarByComparingEachName(List<Name> names, Name name) {
+        int maxDistance = Math.min(2, name.getNormalizedName().length() / 5);
+        List<List<String>> namesByDistance = new ArrayList<>();
+        for (int d = 0; d <= maxDistance; d++) {
+            namesByDistance.add(new ArrayList<>());
+        }
+        for (Name other : names) {
+            int distance = NameSimilarityIndex.distance(name.getNormalizedName(), other.getNormalizedName());
+            if (distance <= maxDistance) {
+                namesByDistance.get(distance).add(other.fullName);
+            }
+        }
+
+        List<String> similarNames = new ArrayList<>();
+        for (List<String> sameDistance : namesByDistance) {
+            Collections.sort(sameDistance);
+            similarNames.addAll(sameDistance);
+        }
+        return similarNames;
+    }
+}
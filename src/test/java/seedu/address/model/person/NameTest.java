@@ -1,6 +1,8 @@
 package seedu.address.model.person;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static seedu.address.testutil.Assert.assertThrows;
 
@@ -38,6 +40,21 @@ public class NameTest {
         assertTrue(Name.isValidName("David Roger Jackson Ray Jr 2nd")); // long names
     }
 
+    @Test
+    public void normalize() {
+        assertEquals("peterjack", Name.normalize("peter jack"));
+        assertEquals("peterjack", Name.normalize("  PeTer \t Jack "));
+        assertEquals("", Name.normalize(" "));
+        assertThrows(NullPointerException.class, () -> Name.normalize(null));
+    }
+
+    @Test
+    public void getNormalizedName_calledTwice_returnsSameString() {
+        Name name = new Name("Peter  Jack");
+        assertEquals("peterjack", name.getNormalizedName());
+        assertSame(name.getNormalizedName(), name.getNormalizedName());
+    }
+
     @Test
     public void equals() {
         Name name = new Name("Valid Name");
@@ -56,5 +73,15 @@ public class NameTest {
 
         // different values -> returns false
         assertFalse(name.equals(new Name("Other Valid Name")));
+
+        // different case -> returns true
+        assertTrue(name.equals(new Name("VALID name")));
+    }
+
+    @Test
+    public void hashCode_differentCase_sameHashCode() {
+        Name name = new Name("Valid Name");
+        assertEquals(name.hashCode(), new Name("VALID name").hashCode());
+        assertEquals(name.hashCode(), name.hashCode());
     }
 }
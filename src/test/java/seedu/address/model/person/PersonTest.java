@@ -28,6 +28,7 @@ public class PersonTest {
     public void asObservableList_modifyList_throwsUnsupportedOperationException() {
         Person person = new PersonBuilder().build();
         assertThrows(UnsupportedOperationException.class, () -> person.getTags().remove(0));
+        assertThrows(UnsupportedOperationException.class, () -> person.getSubjects().clear());
     }
 
     @Test
@@ -99,6 +100,14 @@ public class PersonTest {
         editedAlice = new PersonBuilder(ALICE).withTags(VALID_TAG_HUSBAND).build();
         assertFalse(ALICE.equals(editedAlice));
 
+        // different subjects -> returns false
+        editedAlice = new PersonBuilder(ALICE).withSubjects("MT").build();
+        assertFalse(ALICE.equals(editedAlice));
+
+        // same tags and subjects given in another order -> returns true
+        Person person = new PersonBuilder().withTags("a", "b").withSubjects("MATH", "ENGLISH").build();
+        assertTrue(person.equals(new PersonBuilder().withTags("b", "a").withSubjects("ENGLISH", "MATH").build()));
+
         // no appointments -> returns false
         assertFalse(ALICE.hasAppointments());
 
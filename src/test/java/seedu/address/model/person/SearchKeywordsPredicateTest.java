@@ -0,0 +1,54 @@
+package seedu.address.model.person;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.testutil.PersonBuilder;
+
+public class SearchKeywordsPredicateTest {
+
+    @Test
+    public void constructor_keywordsSplitIntoLowerCaseWords() {
+        assertEquals(List.of("alice", "example", "com"),
+                new SearchKeywordsPredicate(List.of("Alice@example.com", "ALICE")).getKeywords());
+    }
+
+    @Test
+    public void test_everyKeywordStartsWord_returnsTrue() {
+        Person person = new PersonBuilder().withName("Alice Bob").withAddress("Main Street")
+                .withEmail("alice@example.com").withNote("Likes chess").build();
+
+        // prefix of name
+        assertTrue(new SearchKeywordsPredicate(List.of("bo")).test(person));
+
+        // keywords in different fields, mixed case
+        assertTrue(new SearchKeywordsPredicate(List.of("aLi", "STR", "exam", "ches")).test(person));
+    }
+
+    @Test
+    public void test_keywordDoesNotStartWord_returnsFalse() {
+        Person person = new PersonBuilder().withName("Alice Bob").withAddress("Main Street")
+                .withEmail("alice@example.com").withNote("Likes chess").build();
+
+        // keyword in the middle of a word
+        assertFalse(new SearchKeywordsPredicate(List.of("lice")).test(person));
+
+        // only one of the keywords matches
+        assertFalse(new SearchKeywordsPredicate(List.of("alice", "carol")).test(person));
+
+        // keyword matches phone, which is not searched
+        assertFalse(new SearchKeywordsPredicate(List.of(PersonBuilder.DEFAULT_PHONE)).test(person));
+    }
+
+    @Test
+    public void toStringMethod() {
+        SearchKeywordsPredicate predicate = new SearchKeywordsPredicate(List.of("keyword"));
+        String expected = SearchKeywordsPredicate.class.getCanonicalName() + "{keywords=[keyword]}";
+        assertEquals(expected, predicate.toString());
+    }
+}
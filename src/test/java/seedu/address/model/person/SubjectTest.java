@@ -1,9 +1,14 @@
 package seedu.address.model.person;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static seedu.address.testutil.Assert.assertThrows;
 
+import java.util.List;
+import java.util.Set;
+
 import org.junit.jupiter.api.Test;
 
 public class SubjectTest {
@@ -19,6 +24,23 @@ public class SubjectTest {
         assertThrows(IllegalArgumentException.class, () -> new Subject(invalidSubject));
     }
 
+    @Test
+    public void of_sameSubject_returnsSameInstance() {
+        assertSame(Subject.of("MATH"), Subject.of(" math "));
+        assertEquals(new Subject("MATH"), Subject.of("MATH"));
+        assertThrows(IllegalArgumentException.class, () -> Subject.of("BOB"));
+    }
+
+    @Test
+    public void toBits_fromBits_roundTrip() {
+        Set<Subject> subjects = Set.of(new Subject("SCIENCE"), new Subject("ENGLISH"));
+        Set<Subject> roundTripped = Subject.fromBits(Subject.toBits(subjects));
+
+        assertEquals(subjects, roundTripped);
+        assertEquals(List.of(Subject.of("ENGLISH"), Subject.of("SCIENCE")), List.copyOf(roundTripped));
+        assertEquals(Set.of(), Subject.fromBits(Subject.toBits(Set.of())));
+    }
+
     @Test
     public void isValidSubject() {
         // null subject
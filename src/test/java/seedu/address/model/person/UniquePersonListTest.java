@@ -8,6 +8,7 @@ import static seedu.address.logic.commands.CommandTestUtil.VALID_TAG_HUSBAND;
 import static seedu.address.testutil.Assert.assertThrows;
 import static seedu.address.testutil.TypicalPersons.ALICE;
 import static seedu.address.testutil.TypicalPersons.BOB;
+import static seedu.address.testutil.TypicalPersons.CARL;
 
 import java.util.Arrays;
 import java.util.Collections;
@@ -59,6 +60,44 @@ public class UniquePersonListTest {
         assertTrue(nearDuplicates.contains(ALICE.getName().toString()));
     }
 
+    @Test
+    public void findNearDuplicates_personWithNameOneLetterApart_returnsNearDuplicates() {
+        uniquePersonList.add(new PersonBuilder().withName("John Tan").build());
+        uniquePersonList.add(new PersonBuilder().withName("Jon Tam").build());
+        uniquePersonList.add(new PersonBuilder().withName("Jonathan Tan").build());
+
+        Person jonTan = new PersonBuilder().withName("Jon Tan").build();
+        assertEquals(Arrays.asList("John Tan", "Jon Tam"), uniquePersonList.findNearDuplicates(jonTan));
+
+        // short names only match when they differ in case and whitespace
+        uniquePersonList.add(new PersonBuilder().withName("Tom").build());
+        assertEquals(Collections.emptyList(), uniquePersonList.findNearDuplicates(
+                new PersonBuilder().withName("Tim").build()));
+        assertEquals(Arrays.asList("Tom"), uniquePersonList.findNearDuplicates(
+                new PersonBuilder().withName("t om").build()));
+    }
+
+    @Test
+    public void findNearDuplicates_afterModifications_returnsCurrentNames() {
+        Person johnTan = new PersonBuilder().withName("John Tan").build();
+        Person johnTam = new PersonBuilder().withName("John Tam").build();
+        Person jonTan = new PersonBuilder().withName("Jon Tan").build();
+        uniquePersonList.add(johnTan);
+        uniquePersonList.add(ALICE);
+        assertEquals(Arrays.asList("John Tan"), uniquePersonList.findNearDuplicates(jonTan));
+
+        uniquePersonList.setPerson(johnTan, johnTam);
+        assertEquals(Collections.emptyList(), uniquePersonList.findNearDuplicates(jonTan));
+        assertEquals(Arrays.asList("John Tam"), uniquePersonList.findNearDuplicates(johnTan));
+
+        uniquePersonList.add(jonTan);
+        uniquePersonList.remove(johnTam);
+        assertEquals(Arrays.asList("Jon Tan"), uniquePersonList.findNearDuplicates(johnTan));
+
+        uniquePersonList.setPersons(Arrays.asList(johnTam));
+        assertEquals(Arrays.asList("John Tam"), uniquePersonList.findNearDuplicates(johnTan));
+    }
+
     @Test
     public void add_nullPerson_throwsNullPointerException() {
         assertThrows(NullPointerException.class, () -> uniquePersonList.add(null));
@@ -131,6 +170,40 @@ public class UniquePersonListTest {
         assertThrows(PersonNotFoundException.class, () -> uniquePersonList.remove(ALICE));
     }
 
+    @Test
+    public void contains_personWithNameInDifferentCase_returnsTrue() {
+        uniquePersonList.add(ALICE);
+        Person aliceInLowerCase = new PersonBuilder(ALICE).withName(ALICE.getName().fullName.toLowerCase()).build();
+        assertTrue(uniquePersonList.contains(aliceInLowerCase));
+    }
+
+    @Test
+    public void setPerson_editedPersonHasDifferentIdentity_previousIdentityNotContained() {
+        uniquePersonList.add(ALICE);
+        uniquePersonList.setPerson(ALICE, BOB);
+        assertFalse(uniquePersonList.contains(ALICE));
+        uniquePersonList.add(ALICE);
+        assertEquals(Arrays.asList(BOB, ALICE), uniquePersonList.asUnmodifiableObservableList());
+    }
+
+    @Test
+    public void remove_personWithSameIdentityButDifferentFields_throwsPersonNotFoundException() {
+        uniquePersonList.add(ALICE);
+        Person editedAlice = new PersonBuilder(ALICE).withAddress(VALID_ADDRESS_BOB).build();
+        assertThrows(PersonNotFoundException.class, () -> uniquePersonList.remove(editedAlice));
+    }
+
+    @Test
+    public void remove_personBeforeOthers_othersStillFound() {
+        uniquePersonList.setPersons(Arrays.asList(ALICE, BOB, CARL));
+        uniquePersonList.remove(ALICE);
+
+        Person editedCarl = new PersonBuilder(CARL).withAddress(VALID_ADDRESS_BOB).build();
+        uniquePersonList.setPerson(CARL, editedCarl);
+        uniquePersonList.remove(BOB);
+        assertEquals(Collections.singletonList(editedCarl), uniquePersonList.asUnmodifiableObservableList());
+    }
+
     @Test
     public void remove_existingPerson_removesPerson() {
         uniquePersonList.add(ALICE);
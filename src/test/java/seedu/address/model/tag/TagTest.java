@@ -1,5 +1,7 @@
 package seedu.address.model.tag;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
 import static seedu.address.testutil.Assert.assertThrows;
 
 import org.junit.jupiter.api.Test;
@@ -17,6 +19,13 @@ public class TagTest {
         assertThrows(IllegalArgumentException.class, () -> new Tag(invalidTagName));
     }
 
+    @Test
+    public void of_sameName_returnsSameTag() {
+        assertSame(Tag.of("friends"), Tag.of("friends"));
+        assertEquals(new Tag("friends"), Tag.of("friends"));
+        assertThrows(IllegalArgumentException.class, () -> Tag.of(""));
+    }
+
     @Test
     public void isValidTagName() {
         // null tag name
@@ -0,0 +1,231 @@
+package seedu.address.storage;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+import static seedu.address.testutil.TypicalPersons.ALICE;
+import static seedu.address.testutil.TypicalPersons.BENSON;
+import static seedu.address.testutil.TypicalPersons.HOON;
+import static seedu.address.testutil.TypicalPersons.JAGEN;
+import static seedu.address.testutil.TypicalPersons.KLEIN;
+import static seedu.address.testutil.TypicalPersons.LYON;
+import static seedu.address.testutil.TypicalPersons.MANFROY;
+import static seedu.address.testutil.TypicalPersons.NASIR;
+import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
+
+import java.io.ByteArrayOutputStream;
+import java.nio.ByteBuffer;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.Arrays;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import javafx.collections.FXCollections;
+import javafx.collections.ObservableList;
+import seedu.address.commons.exceptions.DataLoadingException;
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.commons.util.FileUtil;
+import seedu.address.model.AddressBook;
+import seedu.address.model.ReadOnlyAddressBook;
+import seedu.address.model.appointment.Appointment;
+import seedu.address.model.appointment.AppointmentConflict;
+import seedu.address.model.person.Person;
+import seedu.address.testutil.PersonBuilder;
+
+public class BinaryAddressBookStorageTest {
+    private static final Path TEST_DATA_FOLDER = Paths.get("src", "test", "data", "BinaryAddressBookStorageTest");
+
+    @TempDir
+    public Path testFolder;
+
+    @Test
+    public void readAddressBook_nullFilePath_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> new BinaryAddressBookStorage(null).readAddressBook(null));
+    }
+
+    @Test
+    public void readAddressBook_missingFile_emptyResult() throws Exception {
+        Path filePath = TEST_DATA_FOLDER.resolve("NonExistentFile.bin");
+        assertFalse(new BinaryAddressBookStorage(filePath).readAddressBook().isPresent());
+    }
+
+    @Test
+    public void readAddressBook_notBinaryFormat_throwsDataLoadingException() {
+        Path filePath = TEST_DATA_FOLDER.resolve("notBinaryAddressBook.bin");
+        assertThrows(DataLoadingException.class, () -> new BinaryAddressBookStorage(filePath).readAddressBook());
+    }
+
+    @Test
+    public void readAndSaveAddressBook_allInOrder_success() throws Exception {
+        Path filePath = testFolder.resolve("TempAddressBook.bin");
+        BinaryAddressBookStorage binaryAddressBookStorage = new BinaryAddressBookStorage(filePath);
+        AddressBook original = getTypicalAddressBook();
+
+        binaryAddressBookStorage.saveAddressBook(original);
+        assertEquals(original, new AddressBook(binaryAddressBookStorage.readAddressBook().get()));
+
+        // persons with missing fields, and an appointment that is not in canonical form
+        original.addPerson(JAGEN);
+        original.addPerson(KLEIN);
+        original.addPerson(LYON);
+        original.addPerson(MANFROY);
+        original.addPerson(NASIR);
+        original.addPerson(new PersonBuilder(HOON).withAppointments("06:00-07:00  sun").build());
+        binaryAddressBookStorage.saveAddressBook(original);
+        assertEquals(original, new AddressBook(binaryAddressBookStorage.readAddressBook().get()));
+    }
+
+    @Test
+    public void saveAddressBook_typicalPersons_smallerThanJson() throws Exception {
+        Path binaryFilePath = testFolder.resolve("TempAddressBook.bin");
+        Path jsonFilePath = testFolder.resolve("TempAddressBook.json");
+        new BinaryAddressBookStorage(binaryFilePath).saveAddressBook(getTypicalAddressBook());
+        new JsonAddressBookStorage(jsonFilePath).saveAddressBook(getTypicalAddressBook());
+        assertTrue(Files.size(binaryFilePath) * 2 < Files.size(jsonFilePath));
+    }
+
+    @Test
+    public void readAddressBook_truncatedFile_fallsBackToPreviousGeneration() throws Exception {
+        Path filePath = testFolder.resolve("TempAddressBook.bin");
+        BinaryAddressBookStorage binaryAddressBookStorage = new BinaryAddressBookStorage(filePath);
+        AddressBook original = getTypicalAddressBook();
+        binaryAddressBookStorage.saveAddressBook(original);
+        original.removePerson(ALICE);
+        binaryAddressBookStorage.saveAddressBook(original);
+
+        byte[] contents = Files.readAllBytes(filePath);
+        Files.write(filePath, Arrays.copyOf(contents, contents.length - 10));
+
+        assertEquals(getTypicalAddressBook(), new AddressBook(binaryAddressBookStorage.readAddressBook().get()));
+    }
+
+    @Test
+    public void readAddressBook_corruptedRecord_throwsDataLoadingException() throws Exception {
+        Path filePath = testFolder.resolve("TempAddressBook.bin");
+        new BinaryAddressBookStorage(filePath).saveAddressBook(getTypicalAddressBook());
+        byte[] contents = Files.readAllBytes(filePath);
+        contents[contents.length / 2] ^= 1;
+        Files.write(filePath, contents);
+
+        assertThrows(DataLoadingException.class, () -> new BinaryAddressBookStorage(filePath).readAddressBook());
+    }
+
+    @Test
+    public void read_overlappingAppointments_throwsIllegalValueException() throws Exception {
+        Person amy = new PersonBuilder().withName("Amy").withAppointments("09:00-10:00 MON").build();
+        Person bob = new PersonBuilder().withName("Bob").withAppointments("09:30-10:30 MON").build();
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        BinaryAddressBookFormat.write(new ReadOnlyAddressBook() {
+            @Override
+            public ObservableList<Person> getPersonList() {
+                return FXCollections.observableArrayList(amy, bob);
+            }
+
+            @Override
+            public ObservableList<Appointment> getAppointmentList() {
+                return FXCollections.observableArrayList();
+            }
+        }, out);
+        byte[] contents = out.toByteArray();
+
+        String expectedMessage = String.format(JsonSerializableAddressBook.MESSAGE_OVERLAPPING_APPOINTMENT,
+                new AppointmentConflict(new Appointment("09:00-10:00 MON"), new Appointment("09:30-10:30 MON")));
+        assertThrows(IllegalValueException.class, expectedMessage, () ->
+                BinaryAddressBookFormat.read(ByteBuffer.wrap(contents)));
+        assertThrows(IllegalValueException.class, expectedMessage, () ->
+                BinaryAddressBookFormat.readLazily(ByteBuffer.wrap(contents)));
+    }
+
+    @Test
+    public void readLazily_sameAsRead() throws Exception {
+        Path filePath = testFolder.resolve("TempAddressBook.bin");
+        AddressBook original = getTypicalAddressBook();
+        original.addPerson(NASIR);
+        new BinaryAddressBookStorage(filePath).saveAddressBook(original);
+        byte[] contents = Files.readAllBytes(filePath);
+
+        assertEquals(BinaryAddressBookFormat.read(ByteBuffer.wrap(contents)),
+                BinaryAddressBookFormat.readLazily(ByteBuffer.wrap(contents)));
+    }
+
+    @Test
+    public void readAddressBook_modifiedAfterReading_success() throws Exception {
+        Path filePath = testFolder.resolve("TempAddressBook.bin");
+        BinaryAddressBookStorage binaryAddressBookStorage = new BinaryAddressBookStorage(filePath);
+        binaryAddressBookStorage.saveAddressBook(getTypicalAddressBook());
+
+        AddressBook read = new AddressBook(binaryAddressBookStorage.readAddressBook().get());
+        ReadOnlyAddressBook snapshot = read.snapshot();
+        read.removePerson(BENSON);
+        read.addPerson(NASIR);
+
+        AddressBook expected = getTypicalAddressBook();
+        expected.removePerson(BENSON);
+        expected.addPerson(NASIR);
+        assertEquals(expected, read);
+        assertEquals(getTypicalAddressBook().getPersonList(), snapshot.getPersonList());
+
+        // later saves are unaffected by the mapping of the file that was read
+        binaryAddressBookStorage.saveAddressBook(read);
+        assertEquals(expected, new AddressBook(binaryAddressBookStorage.readAddressBook().get()));
+    }
+
+    @Test
+    public void binaryPersonRecords_repeatedAccess_samePerson() throws Exception {
+        Path filePath = testFolder.resolve("TempAddressBook.bin");
+        new BinaryAddressBookStorage(filePath).saveAddressBook(getTypicalAddressBook());
+        ReadOnlyAddressBook read = new BinaryAddressBookStorage(filePath).readAddressBook().get();
+
+        assertSame(read.getPersonList().get(1), read.getPersonList().get(1));
+        assertSame(read.getPersonList().get(1), new AddressBook(read).getPersonList().get(1));
+    }
+
+    @Test
+    public void readAddressBook_unsupportedVersion_throwsDataLoadingException() throws Exception {
+        Path filePath = testFolder.resolve("TempAddressBook.bin");
+        new BinaryAddressBookStorage(filePath).saveAddressBook(getTypicalAddressBook());
+        byte[] contents = Files.readAllBytes(filePath);
+        contents[Integer.BYTES + 3] = (byte) (BinaryAddressBookFormat.VERSION + 1);
+        Files.write(filePath, contents);
+
+        assertThrows(DataLoadingException.class, () -> new BinaryAddressBookStorage(filePath).readAddressBook());
+    }
+
+    @Test
+    public void packAppointment_roundTrip_canonicalValue() {
+        for (String value : new String[] {"00:00-00:01 MON", "09:30-11:45 WED", "23:00-23:59 SUN"}) {
+            Appointment appointment = new Appointment(value);
+            assertEquals(value, BinaryAddressBookFormat.unpackAppointment(
+                    BinaryAddressBookFormat.packAppointment(appointment)));
+        }
+    }
+
+    @Test
+    public void convert_jsonToBinaryToJson_lossless() throws Exception {
+        Path jsonFilePath = testFolder.resolve("source.json");
+        Path binaryFilePath = testFolder.resolve("converted.bin");
+        Path convertedBackPath = testFolder.resolve("convertedBack.json");
+        AddressBook original = getTypicalAddressBook();
+        original.addPerson(NASIR);
+        new JsonAddressBookStorage(jsonFilePath).saveAddressBook(original);
+
+        AddressBookConverter.convert(new JsonAddressBookStorage(jsonFilePath),
+                new BinaryAddressBookStorage(binaryFilePath));
+        AddressBookConverter.convert(new BinaryAddressBookStorage(binaryFilePath),
+                new JsonAddressBookStorage(convertedBackPath));
+
+        assertEquals(FileUtil.readFromFile(jsonFilePath), FileUtil.readFromFile(convertedBackPath));
+    }
+
+    @Test
+    public void convert_missingSource_throwsDataLoadingException() {
+        assertThrows(DataLoadingException.class, () -> AddressBookConverter.convert(
+                new JsonAddressBookStorage(testFolder.resolve("missing.json")),
+                new BinaryAddressBookStorage(testFolder.resolve("converted.bin"))));
+    }
+}
@@ -0,0 +1,124 @@
+package seedu.address.storage;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.TypicalPersons.ALICE;
+import static seedu.address.testutil.TypicalPersons.BENSON;
+import static seedu.address.testutil.TypicalPersons.CARL;
+import static seedu.address.testutil.TypicalPersons.HOON;
+import static seedu.address.testutil.TypicalPersons.IDA;
+import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import seedu.address.commons.util.FileUtil;
+import seedu.address.model.AddressBook;
+import seedu.address.model.person.Person;
+import seedu.address.testutil.PersonBuilder;
+
+public class JournalingAddressBookStorageTest {
+
+    @TempDir
+    public Path testFolder;
+
+    private Path filePath;
+    private JournalingAddressBookStorage storage;
+
+    @BeforeEach
+    public void setUp() {
+        filePath = testFolder.resolve("addressbook.json");
+        storage = new JournalingAddressBookStorage(new JsonAddressBookStorage(filePath), 5);
+    }
+
+    @Test
+    public void saveAddressBook_mutations_appendsToJournalOnly() throws Exception {
+        AddressBook original = getTypicalAddressBook();
+        storage.saveAddressBook(original);
+        String snapshot = FileUtil.readFromFile(filePath);
+        assertEquals(1, Files.readAllLines(storage.getJournalFilePath()).size());
+
+        original.addPerson(HOON);
+        storage.saveAddressBook(original);
+        Person editedBenson = new PersonBuilder(BENSON).withPhone("11111111").build();
+        original.setPerson(BENSON, editedBenson);
+        original.removePerson(ALICE);
+        storage.saveAddressBook(original);
+
+        // snapshot untouched, one line per mutation
+        assertEquals(snapshot, FileUtil.readFromFile(filePath));
+        assertEquals(4, Files.readAllLines(storage.getJournalFilePath()).size());
+
+        JournalingAddressBookStorage restarted = new JournalingAddressBookStorage(new JsonAddressBookStorage(filePath));
+        assertEquals(original, new AddressBook(restarted.readAddressBook().get()));
+    }
+
+    @Test
+    public void saveAddressBook_unchanged_writesNothing() throws Exception {
+        AddressBook original = getTypicalAddressBook();
+        storage.saveAddressBook(original);
+        storage.saveAddressBook(original);
+        assertEquals(1, Files.readAllLines(storage.getJournalFilePath()).size());
+    }
+
+    @Test
+    public void saveAddressBook_pastThreshold_compactsIntoSnapshot() throws Exception {
+        AddressBook original = getTypicalAddressBook();
+        storage.saveAddressBook(original);
+        String snapshot = FileUtil.readFromFile(filePath);
+
+        for (Person person : List.of(ALICE, BENSON, CARL)) {
+            original.removePerson(person);
+            storage.saveAddressBook(original);
+        }
+        original.addPerson(HOON);
+        original.addPerson(IDA);
+        original.addPerson(ALICE);
+        storage.saveAddressBook(original);
+
+        assertFalse(snapshot.equals(FileUtil.readFromFile(filePath)));
+        assertEquals(1, Files.readAllLines(storage.getJournalFilePath()).size());
+        assertEquals(original, new AddressBook(storage.readAddressBook().get()));
+    }
+
+    @Test
+    public void readAddressBook_journalForOtherSnapshot_ignored() throws Exception {
+        AddressBook original = getTypicalAddressBook();
+        storage.saveAddressBook(original);
+        original.addPerson(HOON);
+        storage.saveAddressBook(original);
+
+        // snapshot rewritten behind the journal's back, e.g. a compaction interrupted before the journal reset
+        AddressBook rewritten = getTypicalAddressBook();
+        rewritten.addPerson(IDA);
+        new JsonAddressBookStorage(filePath).saveAddressBook(rewritten);
+
+        assertEquals(rewritten, new AddressBook(storage.readAddressBook().get()));
+    }
+
+    @Test
+    public void readAddressBook_tornLastEntry_ignored() throws Exception {
+        AddressBook original = getTypicalAddressBook();
+        storage.saveAddressBook(original);
+        original.addPerson(HOON);
+        storage.saveAddressBook(original);
+        FileUtil.appendToFile(storage.getJournalFilePath(), "{\"type\":\"ADD\",\"pers");
+
+        assertEquals(original, new AddressBook(storage.readAddressBook().get()));
+    }
+
+    @Test
+    public void diff_reorderedPersons_notJournaled() {
+        assertTrue(JournalingAddressBookStorage.diff(List.of(ALICE, BENSON), List.of(BENSON, ALICE)).isEmpty());
+        assertTrue(JournalingAddressBookStorage.diff(List.of(ALICE), List.of(HOON, ALICE)).isEmpty());
+        assertEquals(3, JournalingAddressBookStorage.diff(List.of(ALICE, BENSON, CARL), List.of(HOON, CARL, IDA))
+                .get().size());
+    }
+
+}
@@ -14,13 +14,16 @@ import static seedu.address.testutil.TypicalPersons.NASIR;
 import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
 
 import java.io.IOException;
+import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.Paths;
+import java.util.stream.Stream;
 
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.io.TempDir;
 
 import seedu.address.commons.exceptions.DataLoadingException;
+import seedu.address.commons.util.FileUtil;
 import seedu.address.model.AddressBook;
 import seedu.address.model.ReadOnlyAddressBook;
 
@@ -91,6 +94,51 @@ public class JsonAddressBookStorageTest {
 
     }
 
+    @Test
+    public void saveAddressBook_existingFile_keepsPreviousGeneration() throws Exception {
+        Path filePath = testFolder.resolve("TempAddressBook.json");
+        Path previousGenerationPath = JsonAddressBookStorage.getPreviousGenerationPath(filePath);
+        AddressBook original = getTypicalAddressBook();
+        JsonAddressBookStorage jsonAddressBookStorage = new JsonAddressBookStorage(filePath);
+
+        jsonAddressBookStorage.saveAddressBook(original);
+        assertFalse(Files.exists(previousGenerationPath));
+        String firstGeneration = FileUtil.readFromFile(filePath);
+
+        original.addPerson(HOON);
+        jsonAddressBookStorage.saveAddressBook(original);
+        assertEquals(firstGeneration, FileUtil.readFromFile(previousGenerationPath));
+
+        // no temporary files are left behind
+        try (Stream<Path> files = Files.list(testFolder)) {
+            assertEquals(2, files.count());
+        }
+    }
+
+    @Test
+    public void readAddressBook_truncatedFile_fallsBackToPreviousGeneration() throws Exception {
+        Path filePath = testFolder.resolve("TempAddressBook.json");
+        AddressBook original = getTypicalAddressBook();
+        JsonAddressBookStorage jsonAddressBookStorage = new JsonAddressBookStorage(filePath);
+        jsonAddressBookStorage.saveAddressBook(original);
+        AddressBook updated = getTypicalAddressBook();
+        updated.addPerson(HOON);
+        jsonAddressBookStorage.saveAddressBook(updated);
+
+        String contents = FileUtil.readFromFile(filePath);
+        FileUtil.writeToFile(filePath, contents.substring(0, contents.length() / 2));
+
+        assertEquals(original, new AddressBook(jsonAddressBookStorage.readAddressBook().get()));
+    }
+
+    @Test
+    public void readAddressBook_bothGenerationsUnreadable_throwDataLoadingException() throws Exception {
+        Path filePath = testFolder.resolve("TempAddressBook.json");
+        FileUtil.writeToFile(filePath, "{");
+        FileUtil.writeToFile(JsonAddressBookStorage.getPreviousGenerationPath(filePath), "{");
+        assertThrows(DataLoadingException.class, () -> new JsonAddressBookStorage(filePath).readAddressBook());
+    }
+
     @Test
     public void saveAddressBook_nullAddressBook_throwsNullPointerException() {
         assertThrows(NullPointerException.class, () -> saveAddressBook(null, "SomeFile.json"));
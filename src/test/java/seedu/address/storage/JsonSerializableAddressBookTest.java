@@ -3,14 +3,25 @@ package seedu.address.storage;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static seedu.address.testutil.Assert.assertThrows;
 
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
 import java.nio.file.Path;
 import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.List;
 
 import org.junit.jupiter.api.Test;
 
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParser;
+
 import seedu.address.commons.exceptions.IllegalValueException;
 import seedu.address.commons.util.JsonUtil;
 import seedu.address.model.AddressBook;
+import seedu.address.model.appointment.Appointment;
+import seedu.address.model.appointment.AppointmentConflict;
+import seedu.address.model.person.Person;
+import seedu.address.testutil.PersonBuilder;
 import seedu.address.testutil.TypicalPersons;
 
 public class JsonSerializableAddressBookTest {
@@ -44,4 +55,139 @@ public class JsonSerializableAddressBookTest {
                 dataFromFile::toModelType);
     }
 
+    @Test
+    public void toModelType_duplicateNamesDifferingInCase_throwsIllegalValueException() {
+        JsonSerializableAddressBook data = toSerializable(new PersonBuilder().withName("Amy Bee").build(),
+                new PersonBuilder().withName("amy bee").build());
+        assertThrows(IllegalValueException.class, JsonSerializableAddressBook.MESSAGE_DUPLICATE_PERSON,
+                data::toModelType);
+    }
+
+    @Test
+    public void toModelType_overlappingAppointmentsOfDifferentPersons_throwsIllegalValueException() {
+        JsonSerializableAddressBook data = toSerializable(
+                new PersonBuilder().withName("Amy").withAppointments("09:00-10:00 MON").build(),
+                new PersonBuilder().withName("Bob").withAppointments("11:00-12:00 MON").build(),
+                new PersonBuilder().withName("Cat").withAppointments("09:30-10:30 MON").build());
+        assertThrows(IllegalValueException.class, getOverlappingMessage("09:00-10:00 MON", "09:30-10:30 MON"),
+                data::toModelType);
+    }
+
+    @Test
+    public void toModelType_overlappingAppointmentsOfSamePerson_throwsIllegalValueException() {
+        JsonSerializableAddressBook data = toSerializable(
+                new PersonBuilder().withName("Amy").withAppointments("09:00-10:00 TUE", "09:59-11:00 TUE").build());
+        assertThrows(IllegalValueException.class, getOverlappingMessage("09:00-10:00 TUE", "09:59-11:00 TUE"),
+                data::toModelType);
+    }
+
+    @Test
+    public void toModelType_firstViolationAmongPersonsReported() {
+        Person amy = new PersonBuilder().withName("Amy").withAppointments("09:00-10:00 MON").build();
+        Person overlappingBob = new PersonBuilder().withName("Bob").withAppointments("09:30-10:30 MON").build();
+        Person overlappingAmy = new PersonBuilder().withName("Amy").withAppointments("09:30-10:30 MON").build();
+        Person otherAmy = new PersonBuilder().withName("Amy").build();
+
+        // the stored appointments are left out, as they would be found to overlap before the persons are checked
+
+        // a person who is both a duplicate and has overlapping appointments
+        assertThrows(IllegalValueException.class, JsonSerializableAddressBook.MESSAGE_DUPLICATE_PERSON,
+                toSerializableWithoutAppointments(amy, overlappingAmy)::toModelType);
+
+        // an overlap before a duplicate
+        assertThrows(IllegalValueException.class, getOverlappingMessage("09:00-10:00 MON", "09:30-10:30 MON"),
+                toSerializableWithoutAppointments(amy, overlappingBob, otherAmy)::toModelType);
+
+        // a duplicate before an overlap
+        assertThrows(IllegalValueException.class, JsonSerializableAddressBook.MESSAGE_DUPLICATE_PERSON,
+                toSerializableWithoutAppointments(amy, otherAmy, overlappingBob)::toModelType);
+    }
+
+    @Test
+    public void toModelType_appointmentsNotMatchingPersons_throwsIllegalValueException() {
+        Person amy = new PersonBuilder().withName("Amy").withAppointments("09:00-10:00 MON").build();
+        JsonSerializableAddressBook data = new JsonSerializableAddressBook(List.of(new JsonAdaptedPerson(amy)),
+                List.of(new JsonAdaptedAppointment("10:00-11:00 MON")));
+        assertThrows(IllegalValueException.class, JsonSerializableAddressBook.MESSAGE_APPOINTMENTS_PERSONS_MISMATCH,
+                data::toModelType);
+    }
+
+    @Test
+    public void toModelType_overlappingStoredAppointments_throwsIllegalValueException() {
+        JsonSerializableAddressBook data = new JsonSerializableAddressBook(List.of(),
+                List.of(new JsonAdaptedAppointment("09:00-10:00 SUN"), new JsonAdaptedAppointment("08:00-09:01 SUN")));
+        assertThrows(IllegalValueException.class, getOverlappingMessage("08:00-09:01 SUN", "09:00-10:00 SUN"),
+                data::toModelType);
+    }
+
+    @Test
+    public void read_typicalPersonsFile_success() throws Exception {
+        try (JsonParser parser = JsonUtil.createParser(TYPICAL_PERSONS_FILE)) {
+            assertEquals(TypicalPersons.getTypicalAddressBook(), JsonSerializableAddressBook.read(parser));
+        }
+    }
+
+    @Test
+    public void read_invalidPersonFile_throwsIllegalValueException() throws Exception {
+        try (JsonParser parser = JsonUtil.createParser(INVALID_PERSON_FILE)) {
+            assertThrows(IllegalValueException.class, () -> JsonSerializableAddressBook.read(parser));
+        }
+    }
+
+    @Test
+    public void read_duplicatePersons_throwsIllegalValueException() throws Exception {
+        try (JsonParser parser = JsonUtil.createParser(DUPLICATE_PERSON_FILE)) {
+            assertThrows(IllegalValueException.class, JsonSerializableAddressBook.MESSAGE_DUPLICATE_PERSON, () ->
+                    JsonSerializableAddressBook.read(parser));
+        }
+    }
+
+    @Test
+    public void write_typicalPersons_sameAsJsonString() throws Exception {
+        AddressBook typicalPersonsAddressBook = TypicalPersons.getTypicalAddressBook();
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        try (JsonGenerator generator = JsonUtil.createGenerator(out)) {
+            JsonSerializableAddressBook.write(typicalPersonsAddressBook, generator);
+        }
+        assertEquals(JsonUtil.toJsonString(new JsonSerializableAddressBook(typicalPersonsAddressBook)),
+                out.toString(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * Returns the serializable form of {@code persons} together with their appointments in sorted order.
+     */
+    private static JsonSerializableAddressBook toSerializable(Person... persons) {
+        List<JsonAdaptedPerson> adaptedPersons = new ArrayList<>();
+        List<JsonAdaptedAppointment> adaptedAppointments = new ArrayList<>();
+        for (Person person : persons) {
+            adaptedPersons.add(new JsonAdaptedPerson(person));
+            person.getAppointments().forEach(appointment ->
+                    adaptedAppointments.add(new JsonAdaptedAppointment(appointment)));
+        }
+        adaptedAppointments.sort((first, second) -> {
+            try {
+                return first.toModelType().compareTo(second.toModelType());
+            } catch (IllegalValueException e) {
+                throw new AssertionError(e);
+            }
+        });
+        return new JsonSerializableAddressBook(adaptedPersons, adaptedAppointments);
+    }
+
+    private static JsonSerializableAddressBook toSerializableWithoutAppointments(Person... persons) {
+        List<JsonAdaptedPerson> adaptedPersons = new ArrayList<>();
+        for (Person person : persons) {
+            adaptedPersons.add(new JsonAdaptedPerson(person));
+        }
+        return new JsonSerializableAddressBook(adaptedPersons, List.of());
+    }
+
+    /**
+     * Returns the error message for a data file in which the appointments {@code first} and {@code second} clash.
+     */
+    private static String getOverlappingMessage(String first, String second) {
+        return String.format(JsonSerializableAddressBook.MESSAGE_OVERLAPPING_APPOINTMENT,
+                new AppointmentConflict(new Appointment(first), new Appointment(second)));
+    }
+
 }
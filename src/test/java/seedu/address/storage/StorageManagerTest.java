@@ -2,9 +2,14 @@ package seedu.address.storage;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static seedu.address.testutil.TypicalPersons.HOON;
 import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
 
+import java.io.IOException;
 import java.nio.file.Path;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
 
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -60,6 +65,65 @@ public class StorageManagerTest {
         assertEquals(original, new AddressBook(retrieved));
     }
 
+    @Test
+    public void addressBookBackgroundSave_flush_writesLatestSnapshot() throws Exception {
+        JsonAddressBookStorage addressBookStorage = new JsonAddressBookStorage(getTempFilePath("background"));
+        StorageManager backgroundStorageManager = new StorageManager(addressBookStorage,
+                new JsonUserPrefsStorage(getTempFilePath("prefs")), true);
+
+        AddressBook original = getTypicalAddressBook();
+        backgroundStorageManager.saveAddressBook(new AddressBook(original));
+        original.addPerson(HOON);
+        backgroundStorageManager.saveAddressBook(new AddressBook(original));
+        backgroundStorageManager.flushAddressBook();
+
+        assertEquals(original, new AddressBook(addressBookStorage.readAddressBook().get()));
+    }
+
+    @Test
+    public void addressBookBackgroundSave_failure_reportedToHandler() throws Exception {
+        IOException dummyException = new IOException("dummy");
+        JsonAddressBookStorage failingStorage = new JsonAddressBookStorage(getTempFilePath("failing")) {
+            @Override
+            public void saveAddressBook(ReadOnlyAddressBook addressBook, Path filePath) throws IOException {
+                throw dummyException;
+            }
+        };
+        StorageManager backgroundStorageManager = new StorageManager(failingStorage,
+                new JsonUserPrefsStorage(getTempFilePath("prefs")), true);
+        CompletableFuture<ReadOnlyAddressBook> reportedAddressBook = new CompletableFuture<>();
+        CompletableFuture<IOException> reportedFailure = new CompletableFuture<>();
+        backgroundStorageManager.setSaveFailureHandler((addressBook, e) -> {
+            reportedAddressBook.complete(addressBook);
+            reportedFailure.complete(e);
+        });
+
+        AddressBook addressBook = getTypicalAddressBook();
+        backgroundStorageManager.saveAddressBook(addressBook);
+
+        assertSame(dummyException, reportedFailure.get(5, TimeUnit.SECONDS));
+        assertSame(addressBook, reportedAddressBook.get(5, TimeUnit.SECONDS));
+    }
+
+    @Test
+    public void addressBookBackgroundSave_runtimeFailure_reportedToHandler() throws Exception {
+        IllegalStateException dummyException = new IllegalStateException("dummy");
+        JsonAddressBookStorage failingStorage = new JsonAddressBookStorage(getTempFilePath("failing")) {
+            @Override
+            public void saveAddressBook(ReadOnlyAddressBook addressBook, Path filePath) {
+                throw dummyException;
+            }
+        };
+        StorageManager backgroundStorageManager = new StorageManager(failingStorage,
+                new JsonUserPrefsStorage(getTempFilePath("prefs")), true);
+        CompletableFuture<IOException> reportedFailure = new CompletableFuture<>();
+        backgroundStorageManager.setSaveFailureHandler((addressBook, e) -> reportedFailure.complete(e));
+
+        backgroundStorageManager.saveAddressBook(getTypicalAddressBook());
+
+        assertSame(dummyException, reportedFailure.get(5, TimeUnit.SECONDS).getCause());
+    }
+
     @Test
     public void getAddressBookFilePath() {
         assertNotNull(storageManager.getAddressBookFilePath());
@@ -45,7 +45,7 @@ public class PersonUtil {
             s -> sb.append(PREFIX_TAG + s.tagName + " ")
         );
         person.getAppointments().asUnmodifiableObservableList().forEach(
-                s -> sb.append(PREFIX_APPOINTMENT + s.value + " ")
+                s -> sb.append(PREFIX_APPOINTMENT + s.toString() + " ")
         );
         person.getSubjects().stream().forEach(
                 s -> sb.append(PREFIX_SUBJECT + s.getSubject() + " ")
@@ -77,7 +77,7 @@ public class PersonUtil {
             if (appointments.isEmpty()) {
                 sb.append(PREFIX_APPOINTMENT);
             } else {
-                appointments.forEach(s -> sb.append(PREFIX_APPOINTMENT).append(s.value).append(" "));
+                appointments.forEach(s -> sb.append(PREFIX_APPOINTMENT).append(s.toString()).append(" "));
             }
         }
         return sb.toString();